@@ -0,0 +1,22 @@
+package name.sample.graphs;
+
+/**
+ * A {@link WeightedEdge} whose weight is a primitive {@code double}.
+ * <p/>
+ * Weight is stored unboxed, {@link #getWeight()} boxes it on every call, so prefer {@link #getWeightAsDouble()}.
+ *
+ * @param <Vertex> graph vertex type
+ */
+public interface DoubleWeightedEdge<Vertex> extends WeightedEdge<Vertex, Double> {
+    /**
+     * Weight of the edge as a primitive value.
+     *
+     * @return edge weight
+     */
+    double getWeightAsDouble();
+
+    @Override
+    default Double getWeight() {
+        return getWeightAsDouble();
+    }
+}
@@ -0,0 +1,52 @@
+package name.sample.graphs;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A {@link WeightedGraph} whose edge weights are primitive {@code double} values.
+ * <p/>
+ * Edges of such a graph are {@link DoubleWeightedEdge}s, and weights may be read without boxing. Searches given
+ * {@link #WEIGHT} as their weight function read weights through {@link #forEachNeighborAsDouble} as well.
+ *
+ * @param <V> graph vertex type
+ */
+public interface DoubleWeightedGraph<V> extends WeightedGraph<V, Double> {
+
+    /**
+     * Weight function taking edge weights as they are, recognized by
+     * {@link #forEachNeighbor(Object, ToDoubleFunction, DoubleNeighborConsumer)} to pass primitive weights.
+     */
+    ToDoubleFunction<Double> WEIGHT = Double::doubleValue;
+
+    /**
+     * Retrieve weight of an edge going from vertex A to vertex B.
+     *
+     * @param a            first vertex
+     * @param b            second vertex
+     * @param defaultValue value to return if there is no such edge
+     * @return edge weight or default value
+     */
+    double getWeightAsDouble(V a, V b, double defaultValue);
+
+    /**
+     * Perform an action for each vertex adjacent to specified vertex through an outgoing edge, passing edge weight
+     * without boxing.
+     *
+     * @param vertex   vertex to look up
+     * @param consumer action to perform, accepts adjacent vertex and weight of the edge leading to it
+     */
+    void forEachNeighborAsDouble(V vertex, DoubleNeighborConsumer<? super V> consumer);
+
+    /**
+     * Reads primitive weights through {@link #forEachNeighborAsDouble} when given {@link #WEIGHT}.
+     */
+    @Override
+    default void forEachNeighbor(final V vertex, final ToDoubleFunction<? super Double> weight,
+                                 final DoubleNeighborConsumer<? super V> consumer) {
+        if (weight == WEIGHT) {
+            forEachNeighborAsDouble(vertex, consumer);
+        } else {
+            WeightedGraph.super.forEachNeighbor(vertex, weight, consumer);
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package name.sample.graphs;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -22,15 +26,100 @@ public interface Graph<V, E extends Edge<V>> {
 
     /**
      * Retrieve all edges in the graph.
+     * <p/>
+     * Implementations may return a view backed by the graph, use {@link #copyEdges()} to get an independent copy.
      *
      * @return a set of objects of {@link Edge} type
      */
     Collection<E> getEdges();
 
+    /**
+     * Retrieve a copy of all edges in the graph, not affected by later changes of the graph.
+     *
+     * @return a new set of objects of {@link Edge} type
+     */
+    default Set<E> copyEdges() {
+        return new HashSet<>(getEdges());
+    }
+
     /**
      * Retrieve all edges that are going out of specified node.
      *
      * @return a set of objects of {@link Edge} type
      */
     Collection<E> getOutgoingEdges(V vertex);
+
+    /**
+     * Retrieve all edges going into a vertex. In an undirected graph these are its edges oriented towards it.
+     * <p/>
+     * Default implementation looks up an edge from every vertex of the graph, see {@link #hasIncomingEdgeIndex()}.
+     *
+     * @param vertex vertex to retrieve incoming edges of
+     * @return a collection of edges with vertex B equal to specified vertex
+     */
+    default Collection<E> getIncomingEdges(final V vertex) {
+        Objects.requireNonNull(vertex);
+        final List<E> result = new ArrayList<>();
+        for (final V source : getVertices()) {
+            final E edge = getEdge(source, vertex);
+            if (edge != null) {
+                result.add(edge);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Retrieve an edge going from vertex A to vertex B.
+     *
+     * @param a first vertex
+     * @param b second vertex
+     * @return an edge or null if there is no such edge
+     */
+    default E getEdge(final V a, final V b) {
+        for (final E edge : getOutgoingEdges(a)) {
+            if (edge.getNodeB().equals(b)) {
+                return edge;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Perform an action for each vertex adjacent to specified vertex through an outgoing edge.
+     * <p/>
+     * Implementations should not allocate {@link Edge} objects or iterators, which makes this method preferable to
+     * {@link #getOutgoingEdges(Object)} in traversal loops.
+     *
+     * @param vertex   vertex to look up
+     * @param consumer action to perform
+     */
+    default void forEachNeighbor(final V vertex, final NeighborConsumer<? super V> consumer) {
+        for (final E edge : getOutgoingEdges(vertex)) {
+            consumer.accept(edge.getNodeB());
+        }
+    }
+
+    /**
+     * Quick check whether a path between two vertices may exist, path finders call it to reject a query without a
+     * search. Implementations must answer in constant time and may return false only when there is definitely no
+     * path, the default never rules a path out.
+     *
+     * @param source      source vertex
+     * @param destination destination vertex
+     * @return false if there is no path from source to destination, true if there may be one
+     */
+    default boolean mayHavePath(final V source, final V destination) {
+        return true;
+    }
+
+    /**
+     * Whether {@link #getIncomingEdges(Object)} finds incoming edges of a vertex without scanning the whole graph,
+     * path finders searching backwards from a destination need it. The default scans, so it returns false.
+     *
+     * @return true if incoming edges are looked up in time proportional to their number
+     */
+    default boolean hasIncomingEdgeIndex() {
+        return false;
+    }
 }
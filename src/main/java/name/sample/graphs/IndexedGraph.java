@@ -0,0 +1,78 @@
+package name.sample.graphs;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * A {@link Graph} that stores adjacency by dense vertex ids assigned by a {@link VertexIndex}.
+ * <p/>
+ * Algorithms may traverse such a graph by ids using arrays and bit sets instead of hash based collections and
+ * translate ids back to vertices only to build the result.
+ *
+ * @param <V> type of graph vertex
+ * @param <E> type of graph Edge, must be an implementation of {@link Edge} interface.
+ */
+public interface IndexedGraph<V, E extends Edge<V>> extends Graph<V, E> {
+
+    /**
+     * Retrieve index that assigns ids to vertices of this graph.
+     * <p/>
+     * The index is owned by the graph, callers must not put vertices into it.
+     *
+     * @return vertex index
+     */
+    VertexIndex<V> getVertexIndex();
+
+    /**
+     * Retrieve number of edges going out of a vertex.
+     *
+     * @param id vertex id
+     * @return number of outgoing edges
+     */
+    int getOutDegree(int id);
+
+    /**
+     * Perform an action for each vertex adjacent to specified vertex through an outgoing edge.
+     *
+     * @param id       vertex id
+     * @param consumer action to perform, accepts ids of adjacent vertices
+     */
+    void forEachNeighborId(int id, IntConsumer consumer);
+
+    /**
+     * Whether this graph can enumerate vertices adjacent through incoming edges by id, see
+     * {@link #findIncomingNeighborId(int, IntPredicate)}.
+     *
+     * @return true if incoming neighbors are available
+     */
+    default boolean hasIncomingNeighborIds() {
+        return false;
+    }
+
+    /**
+     * Find a vertex adjacent to specified vertex through an incoming edge and matching a predicate. Enumeration stops
+     * at the first match, which lets bottom-up traversals skip the rest of the incoming edges.
+     *
+     * @param id        vertex id
+     * @param predicate predicate to test ids of adjacent vertices with
+     * @return id of the first matching vertex, or -1 if none matches
+     * @throws UnsupportedOperationException if {@link #hasIncomingNeighborIds()} is false
+     */
+    default int findIncomingNeighborId(final int id, final IntPredicate predicate) {
+        throw new UnsupportedOperationException("incoming neighbors are not available");
+    }
+
+    /**
+     * Perform an action for each vertex adjacent to specified vertex through an incoming edge.
+     *
+     * @param id       vertex id
+     * @param consumer action to perform, accepts ids of adjacent vertices
+     * @throws UnsupportedOperationException if {@link #hasIncomingNeighborIds()} is false
+     */
+    default void forEachIncomingNeighborId(final int id, final IntConsumer consumer) {
+        findIncomingNeighborId(id, neighbor -> {
+            consumer.accept(neighbor);
+            return false;
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package name.sample.graphs;
+
+/**
+ * A {@link WeightedEdge} whose weight is a primitive {@code long}.
+ * <p/>
+ * Weight is stored unboxed, {@link #getWeight()} boxes it on every call, so prefer {@link #getWeightAsLong()}.
+ *
+ * @param <Vertex> graph vertex type
+ */
+public interface LongWeightedEdge<Vertex> extends WeightedEdge<Vertex, Long> {
+    /**
+     * Weight of the edge as a primitive value.
+     *
+     * @return edge weight
+     */
+    long getWeightAsLong();
+
+    @Override
+    default Long getWeight() {
+        return getWeightAsLong();
+    }
+}
@@ -0,0 +1,30 @@
+package name.sample.graphs;
+
+/**
+ * A {@link WeightedGraph} whose edge weights are primitive {@code long} values.
+ * <p/>
+ * Edges of such a graph are {@link LongWeightedEdge}s, and weights may be read without boxing.
+ *
+ * @param <V> graph vertex type
+ */
+public interface LongWeightedGraph<V> extends WeightedGraph<V, Long> {
+
+    /**
+     * Retrieve weight of an edge going from vertex A to vertex B.
+     *
+     * @param a            first vertex
+     * @param b            second vertex
+     * @param defaultValue value to return if there is no such edge
+     * @return edge weight or default value
+     */
+    long getWeightAsLong(V a, V b, long defaultValue);
+
+    /**
+     * Perform an action for each vertex adjacent to specified vertex through an outgoing edge, passing edge weight
+     * without boxing.
+     *
+     * @param vertex   vertex to look up
+     * @param consumer action to perform, accepts adjacent vertex and weight of the edge leading to it
+     */
+    void forEachNeighborAsLong(V vertex, LongNeighborConsumer<? super V> consumer);
+}
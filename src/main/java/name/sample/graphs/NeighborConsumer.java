@@ -0,0 +1,17 @@
+package name.sample.graphs;
+
+/**
+ * An operation that accepts a vertex adjacent to another vertex, used to traverse a {@link Graph} without
+ * allocating {@link Edge} objects.
+ *
+ * @param <V> graph vertex type
+ */
+@FunctionalInterface
+public interface NeighborConsumer<V> {
+    /**
+     * Performs this operation on an adjacent vertex.
+     *
+     * @param neighbor adjacent vertex
+     */
+    void accept(V neighbor);
+}
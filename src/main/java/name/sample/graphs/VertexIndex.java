@@ -0,0 +1,113 @@
+package name.sample.graphs;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Assigns each distinct vertex a dense {@code int} id.
+ * <p/>
+ * Ids are assigned sequentially starting from zero in order vertices are put and never change, so graph
+ * implementations may store adjacency by id and algorithms may use plain arrays indexed by id instead of hash based
+ * collections keyed by vertex.
+ * <p/>
+ * This class is thread safe, lookups are lock free.
+ *
+ * @param <V> graph vertex type
+ */
+public final class VertexIndex<V> {
+
+    private final ConcurrentMap<V, Integer> ids;
+    private volatile Object[] vertices;
+    private volatile int size;
+
+    public VertexIndex() {
+        this(16);
+    }
+
+    public VertexIndex(final int expectedSize) {
+        ids = new ConcurrentHashMap<>(expectedSize);
+        vertices = new Object[Math.max(expectedSize, 1)];
+    }
+
+    /**
+     * Add a vertex to the index if not exists.
+     *
+     * @param vertex vertex to add
+     * @return id of the vertex
+     */
+    public int putVertex(final V vertex) {
+        Objects.requireNonNull(vertex);
+        final Integer existing = ids.get(vertex);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (this) {
+            final Integer concurrent = ids.get(vertex);
+            if (concurrent != null) {
+                return concurrent;
+            }
+            final int id = size;
+            if (id == vertices.length) {
+                vertices = Arrays.copyOf(vertices, id * 2);
+            }
+            vertices[id] = vertex;
+            // vertex must be readable by id before the id is published
+            size = id + 1;
+            ids.put(vertex, id);
+            return id;
+        }
+    }
+
+    /**
+     * Retrieve id of a vertex.
+     *
+     * @param vertex vertex to look up
+     * @return id of the vertex or -1 if vertex is not indexed
+     */
+    public int indexOf(final Object vertex) {
+        final Integer id = vertex == null ? null : ids.get(vertex);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Retrieve vertex by its id.
+     *
+     * @param id vertex id
+     * @return vertex instance
+     * @throws IndexOutOfBoundsException if there is no vertex with such id
+     */
+    @SuppressWarnings("unchecked")
+    public V getVertex(final int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("id: " + id + ", size: " + size);
+        }
+        return (V) vertices[id];
+    }
+
+    /**
+     * Retrieve number of indexed vertices, which is also an upper bound (exclusive) of assigned ids.
+     *
+     * @return number of vertices
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieve all indexed vertices.
+     *
+     * @return an unmodifiable view of indexed vertices
+     */
+    public Set<V> getVertices() {
+        return Collections.unmodifiableSet(ids.keySet());
+    }
+
+    @Override
+    public String toString() {
+        return "VertexIndex{size=" + size + "}";
+    }
+}
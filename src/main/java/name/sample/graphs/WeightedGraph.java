@@ -1,5 +1,7 @@
 package name.sample.graphs;
 
+import java.util.function.ToDoubleFunction;
+
 /**
  * A weighted graph is a {@link Graph} in which each edge has an associated "weight" object.
  *
@@ -7,4 +9,29 @@ package name.sample.graphs;
  * @param <W> graph edge weight type
  */
 public interface WeightedGraph<V, W> extends Graph<V, WeightedEdge<V, W>> {
+
+    /**
+     * Perform an action for each vertex adjacent to specified vertex through an outgoing edge.
+     *
+     * @param vertex   vertex to look up
+     * @param consumer action to perform, accepts adjacent vertex and weight of the edge leading to it
+     */
+    default void forEachNeighbor(final V vertex, final WeightedNeighborConsumer<? super V, ? super W> consumer) {
+        for (final WeightedEdge<V, W> edge : getOutgoingEdges(vertex)) {
+            consumer.accept(edge.getNodeB(), edge.getWeight());
+        }
+    }
+
+    /**
+     * Perform an action for each vertex adjacent to specified vertex through an outgoing edge, passing edge weight
+     * as a primitive {@code double}.
+     *
+     * @param vertex   vertex to look up
+     * @param weight   converts edge weight to a {@code double}
+     * @param consumer action to perform, accepts adjacent vertex and weight of the edge leading to it
+     */
+    default void forEachNeighbor(final V vertex, final ToDoubleFunction<? super W> weight,
+                                 final DoubleNeighborConsumer<? super V> consumer) {
+        forEachNeighbor(vertex, (V neighbor, W value) -> consumer.accept(neighbor, weight.applyAsDouble(value)));
+    }
 }
@@ -0,0 +1,18 @@
+package name.sample.graphs;
+
+/**
+ * An operation that accepts a vertex adjacent to another vertex and weight of the edge connecting them.
+ *
+ * @param <V> graph vertex type
+ * @param <W> graph edge weight type
+ */
+@FunctionalInterface
+public interface WeightedNeighborConsumer<V, W> {
+    /**
+     * Performs this operation on an adjacent vertex.
+     *
+     * @param neighbor adjacent vertex
+     * @param weight   weight of the edge leading to the adjacent vertex
+     */
+    void accept(V neighbor, W weight);
+}
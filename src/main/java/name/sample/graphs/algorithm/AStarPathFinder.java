@@ -0,0 +1,175 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.DoubleNeighborConsumer;
+import name.sample.graphs.Edge;
+import name.sample.graphs.IndexedGraph;
+import name.sample.graphs.VertexIndex;
+import name.sample.graphs.WeightedGraph;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A* search finding paths with the minimum total weight, guided by a {@link Heuristic} estimate of the remaining
+ * distance to the destination.
+ * <p/>
+ * Vertices are expanded in order of their distance from the source plus the estimate, so with a good estimate the
+ * search heads towards the destination instead of growing a ball around the source. The search runs over dense ids
+ * with the same per thread arrays and {@link IndexedDoubleHeap} as {@link DijkstraPathFinder}. A vertex reached again
+ * by a shorter path after it was expanded is expanded again, so paths are the lightest ones for any admissible
+ * heuristic, a consistent one expands each vertex at most once.
+ * <p/>
+ * The finder counts searches and expanded vertices over its lifetime, the counters may be read at any time.
+ *
+ * @param <Vertex> type of vertex
+ * @param <W>      type of edge weight
+ */
+public class AStarPathFinder<Vertex, W> implements PathFinder<Vertex> {
+
+    private final WeightedGraph<Vertex, W> graph;
+    private final ToDoubleFunction<? super W> weight;
+    private final Heuristic<? super Vertex> heuristic;
+    private final AtomicLong searches = new AtomicLong();
+    private final AtomicLong expanded = new AtomicLong();
+
+    /**
+     * @param graph     graph to search
+     * @param weight    converts edge weight to a non-negative {@code double}
+     * @param heuristic admissible estimate of the remaining distance in the same unit as converted weights
+     */
+    public AStarPathFinder(final WeightedGraph<Vertex, W> graph, final ToDoubleFunction<? super W> weight,
+                           final Heuristic<? super Vertex> heuristic) {
+        this.graph = Objects.requireNonNull(graph);
+        this.weight = Objects.requireNonNull(weight);
+        this.heuristic = Objects.requireNonNull(heuristic);
+    }
+
+    /**
+     * @throws IllegalArgumentException if an edge with a negative or NaN weight is reached
+     */
+    @Override
+    public List<Edge<Vertex>> getPath(final Vertex source, final Vertex destination) {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(destination);
+        if (!graph.mayHavePath(source, destination)) {
+            return Collections.emptyList();
+        }
+        final Set<Vertex> vertices = graph.getVertices();
+        if (source.equals(destination) || !vertices.contains(source) || !vertices.contains(destination)) {
+            return Collections.emptyList();
+        }
+        final Search search = new Search(destination);
+        try {
+            final int from = search.idOf(source);
+            final int to = search.idOf(destination);
+            if (from < 0 || to < 0) {
+                return Collections.emptyList();
+            }
+            search.scratch.label(from, 0, from);
+            search.scratch.heap.insertOrDecrease(from, heuristic.estimate(source, destination));
+            if (!search.run(to)) {
+                return Collections.emptyList();
+            }
+            final List<Edge<Vertex>> result = new ArrayList<>();
+            final int[] parent = search.scratch.parent;
+            for (int id = to; id != from; id = parent[id]) {
+                result.add(graph.getEdge(search.index.getVertex(parent[id]), search.index.getVertex(id)));
+            }
+            Collections.reverse(result);
+            return result;
+        } finally {
+            searches.incrementAndGet();
+            expanded.addAndGet(search.expanded);
+            search.scratch.release();
+        }
+    }
+
+    /**
+     * @return number of searches performed by this finder
+     */
+    public long getSearchCount() {
+        return searches.get();
+    }
+
+    /**
+     * @return number of vertices expanded by all searches of this finder
+     */
+    public long getExpandedCount() {
+        return expanded.get();
+    }
+
+    @Override
+    public String toString() {
+        return "AStarPathFinder{" + graph.toString() + "}";
+    }
+
+    /**
+     * A single search over the scratch space of the current thread, also serves as a neighbor consumer so that no
+     * objects are allocated per vertex.
+     */
+    private final class Search implements DoubleNeighborConsumer<Vertex> {
+
+        final SearchScratch scratch = SearchScratch.acquire();
+        // ids of an indexed graph are fixed, other graphs get ids assigned by this search
+        final VertexIndex<Vertex> index;
+        final boolean shared;
+        final Vertex destination;
+        int current;
+        double currentDistance;
+        long expanded;
+
+        Search(final Vertex destination) {
+            this.destination = destination;
+            if (graph instanceof IndexedGraph) {
+                index = ((IndexedGraph<Vertex, ?>) graph).getVertexIndex();
+                shared = true;
+            } else {
+                index = new VertexIndex<>();
+                shared = false;
+            }
+        }
+
+        int idOf(final Vertex vertex) {
+            return shared ? index.indexOf(vertex) : index.putVertex(vertex);
+        }
+
+        /**
+         * Expands vertices in order of their estimated total distance until the destination is settled.
+         *
+         * @param to id of the destination
+         * @return true if the destination was reached
+         */
+        boolean run(final int to) {
+            final IndexedDoubleHeap heap = scratch.heap;
+            while (!heap.isEmpty()) {
+                final int id = heap.poll();
+                scratch.settle(id);
+                if (id == to) {
+                    return true;
+                }
+                ++expanded;
+                current = id;
+                currentDistance = scratch.distance[id];
+                graph.forEachNeighbor(index.getVertex(id), weight, this);
+            }
+            return false;
+        }
+
+        @Override
+        public void accept(final Vertex neighbor, final double length) {
+            if (!(length >= 0)) {
+                throw new IllegalArgumentException("edge weight must be non-negative: " + length);
+            }
+            final int id = idOf(neighbor);
+            if (id < 0) {
+                return;
+            }
+            final double candidate = currentDistance + length;
+            if (!scratch.isLabeled(id) || candidate < scratch.distance[id]) {
+                scratch.label(id, candidate, current);
+                scratch.heap.insertOrDecrease(id, candidate + heuristic.estimate(neighbor, destination));
+            }
+        }
+    }
+}
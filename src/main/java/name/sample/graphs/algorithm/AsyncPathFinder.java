@@ -0,0 +1,169 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.Edge;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * An asynchronous facade running path queries of a {@link PathFinder} on an {@link Executor}.
+ * <p/>
+ * Queries submitted together and sharing a source vertex are answered by a single
+ * {@link PathFinder#getPaths(Object, Collection)} call. A query with a deadline fails with a
+ * {@link TimeoutException} once the deadline passes, queries that are all done before their traversal starts are not
+ * traversed at all. A traversal that has already started is not interrupted.
+ * <p/>
+ * By default queries run on virtual threads when the runtime supports them, otherwise on the common
+ * {@link ForkJoinPool}.
+ *
+ * @param <Vertex> type of graph vertexes
+ */
+public class AsyncPathFinder<Vertex> implements AutoCloseable {
+
+    private final PathFinder<Vertex> finder;
+    private final Executor executor;
+    private final ExecutorService owned;
+
+    public AsyncPathFinder(final PathFinder<Vertex> finder) {
+        this.finder = Objects.requireNonNull(finder);
+        this.owned = newVirtualThreadExecutor();
+        this.executor = owned != null ? owned : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * @param finder   path finder answering queries
+     * @param executor executor running queries, it is not shut down by {@link #close()}
+     */
+    public AsyncPathFinder(final PathFinder<Vertex> finder, final Executor executor) {
+        this.finder = Objects.requireNonNull(finder);
+        this.executor = Objects.requireNonNull(executor);
+        this.owned = null;
+    }
+
+    /**
+     * Find a path asynchronously.
+     *
+     * @param source      source vertex to start with
+     * @param destination destination vertex to go to
+     * @return a future completed with the path, an empty list if there is no path
+     */
+    public CompletableFuture<List<Edge<Vertex>>> getPathAsync(final Vertex source, final Vertex destination) {
+        return getPathAsync(PathQuery.of(source, destination));
+    }
+
+    /**
+     * Find a path asynchronously.
+     *
+     * @param query query to answer
+     * @return a future completed with the path, an empty list if there is no path
+     */
+    public CompletableFuture<List<Edge<Vertex>>> getPathAsync(final PathQuery<Vertex> query) {
+        return getPaths(Collections.singletonList(query)).get(query);
+    }
+
+    /**
+     * Find paths for several queries asynchronously, queries sharing a source are answered by one traversal.
+     *
+     * @param queries queries to answer
+     * @return an unmodifiable map of a future of each query in the order of queries, equal queries share a future
+     */
+    public Map<PathQuery<Vertex>, CompletableFuture<List<Edge<Vertex>>>> getPaths(
+            final Collection<PathQuery<Vertex>> queries) {
+        final Map<PathQuery<Vertex>, CompletableFuture<List<Edge<Vertex>>>> futures = new LinkedHashMap<>();
+        final Map<Vertex, List<PathQuery<Vertex>>> bySource = new LinkedHashMap<>();
+        for (final PathQuery<Vertex> query : queries) {
+            if (futures.containsKey(Objects.requireNonNull(query))) {
+                continue;
+            }
+            final CompletableFuture<List<Edge<Vertex>>> future = new CompletableFuture<>();
+            futures.put(query, future);
+            bySource.computeIfAbsent(query.getSource(), (k) -> new ArrayList<>()).add(query);
+            if (query.hasDeadline()) {
+                Deadlines.schedule(query, future);
+            }
+        }
+        for (final Map.Entry<Vertex, List<PathQuery<Vertex>>> group : bySource.entrySet()) {
+            try {
+                executor.execute(() -> run(group.getKey(), group.getValue(), futures));
+            } catch (RejectedExecutionException e) {
+                group.getValue().forEach(query -> futures.get(query).completeExceptionally(e));
+            }
+        }
+        // running queries still read the map, callers get a copy of their own
+        return Collections.unmodifiableMap(new LinkedHashMap<>(futures));
+    }
+
+    private void run(final Vertex source, final List<PathQuery<Vertex>> queries,
+                     final Map<PathQuery<Vertex>, CompletableFuture<List<Edge<Vertex>>>> futures) {
+        final List<PathQuery<Vertex>> pending = new ArrayList<>(queries.size());
+        final Set<Vertex> destinations = new LinkedHashSet<>();
+        for (final PathQuery<Vertex> query : queries) {
+            if (!futures.get(query).isDone()) {
+                pending.add(query);
+                destinations.add(query.getDestination());
+            }
+        }
+        try {
+            if (destinations.size() == 1) {
+                final List<Edge<Vertex>> path = finder.getPath(source, destinations.iterator().next());
+                pending.forEach(query -> futures.get(query).complete(path));
+            } else if (!destinations.isEmpty()) {
+                final Map<Vertex, List<Edge<Vertex>>> paths = finder.getPaths(source, destinations);
+                pending.forEach(query -> futures.get(query).complete(paths.get(query.getDestination())));
+            }
+        } catch (RuntimeException | Error e) {
+            pending.forEach(query -> futures.get(query).completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Shut down the executor if it was created by this finder, running queries are completed.
+     */
+    @Override
+    public void close() {
+        if (owned != null) {
+            owned.shutdown();
+        }
+    }
+
+    /**
+     * Creates an executor starting a virtual thread per task, available since Java 21.
+     *
+     * @return a new executor, or null if virtual threads are not supported
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncPathFinder{" + finder.toString() + "}";
+    }
+
+    /**
+     * A shared timer failing queries with expired deadlines.
+     */
+    private static final class Deadlines {
+
+        private static final ScheduledThreadPoolExecutor TIMER = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "path-query-deadlines");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        static {
+            TIMER.setRemoveOnCancelPolicy(true);
+        }
+
+        static void schedule(final PathQuery<?> query, final CompletableFuture<?> future) {
+            final ScheduledFuture<?> timeout = TIMER.schedule(
+                    () -> future.completeExceptionally(new TimeoutException("deadline passed for " + query)),
+                    Math.max(0, query.remainingNanos()), TimeUnit.NANOSECONDS);
+            future.whenComplete((result, error) -> timeout.cancel(false));
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.Graph;
+import name.sample.graphs.IndexedGraph;
+import name.sample.graphs.NeighborConsumer;
+import name.sample.graphs.VertexIndex;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * An implementation of a breadth first search finding paths with the minimum number of edges.
+ * <p/>
+ * For an {@link IndexedGraph} the search runs level by level over dense vertex ids with bit set frontiers and
+ * switches direction as the frontier grows and shrinks. A top-down step scans outgoing edges of the frontier, a
+ * bottom-up step lets every unvisited vertex look for a parent in the frontier among its incoming neighbors and
+ * stop at the first one found. Bottom-up steps pay off on low diameter graphs where a few middle levels hold most of
+ * the vertices, they are used only if the graph {@link IndexedGraph#hasIncomingNeighborIds() provides} incoming
+ * neighbors. Other graphs are searched top-down with hash based collections.
+ *
+ * @param <Vertex> type of vertex
+ */
+public class BfsPathFinder<Vertex> implements PathFinder<Vertex> {
+
+    // switch to bottom-up once the frontier has more than 1/ALPHA of edges of unvisited vertices
+    private static final int ALPHA = 14;
+    // switch back to top-down once the frontier has less than 1/BETA of all vertices
+    private static final int BETA = 24;
+
+    private final Graph<Vertex, ? extends Edge<Vertex>> graph;
+    private final int alpha;
+    private final int beta;
+
+    public BfsPathFinder(final Graph<Vertex, ? extends Edge<Vertex>> graph) {
+        this(graph, ALPHA, BETA);
+    }
+
+    /**
+     * @param graph graph to search
+     * @param alpha frontier edge ratio to switch to bottom-up steps at
+     * @param beta  frontier vertex ratio to switch back to top-down steps at
+     */
+    BfsPathFinder(final Graph<Vertex, ? extends Edge<Vertex>> graph, final int alpha, final int beta) {
+        this.graph = Objects.requireNonNull(graph);
+        this.alpha = alpha;
+        this.beta = beta;
+    }
+
+    @Override
+    public List<Edge<Vertex>> getPath(final Vertex source, final Vertex destination) {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(destination);
+        if (!graph.mayHavePath(source, destination)) {
+            return Collections.emptyList();
+        }
+        return getPaths(source, Collections.singleton(destination)).get(destination);
+    }
+
+    /**
+     * Finds paths to all destinations with a single search that stops after the level discovering the last of them.
+     */
+    @Override
+    public Map<Vertex, List<Edge<Vertex>>> getPaths(final Vertex source,
+                                                    final Collection<? extends Vertex> destinations) {
+        Objects.requireNonNull(source);
+        destinations.forEach(Objects::requireNonNull);
+        if (graph instanceof IndexedGraph) {
+            return getIndexedPaths((IndexedGraph<Vertex, ? extends Edge<Vertex>>) graph, source, destinations);
+        }
+        final Set<Vertex> remaining = new HashSet<>(destinations);
+        remaining.remove(source);
+        final Map<Vertex, Vertex> parent = remaining.isEmpty()
+                ? Collections.emptyMap() : search(source, remaining);
+        final Map<Vertex, List<Edge<Vertex>>> result = new HashMap<>();
+        for (final Vertex destination : destinations) {
+            result.put(destination, destination.equals(source) || !parent.containsKey(destination)
+                    ? Collections.emptyList() : unwindParent(parent, source, destination));
+        }
+        return result;
+    }
+
+    /**
+     * Searches top-down until all remaining destinations are discovered or all reachable vertices are visited.
+     *
+     * @param source    vertex to start from
+     * @param remaining destinations not discovered yet, emptied as they are discovered
+     * @return parent of each discovered vertex
+     */
+    private Map<Vertex, Vertex> search(final Vertex source, final Set<Vertex> remaining) {
+        final Map<Vertex, Vertex> parent = new HashMap<>();
+        final Deque<Vertex> queue = new ArrayDeque<>();
+        final Discovery discovery = new Discovery(parent, queue, remaining);
+        parent.put(source, source);
+        queue.add(source);
+        while (!queue.isEmpty() && !remaining.isEmpty()) {
+            discovery.current = queue.poll();
+            graph.forEachNeighbor(discovery.current, discovery);
+        }
+        return parent;
+    }
+
+    /**
+     * Same search as {@link #getPaths(Object, Collection)} performed over vertex ids of an indexed graph.
+     *
+     * @param indexed      graph to search
+     * @param source       source vertex to start with
+     * @param destinations destination vertices to go to
+     * @return paths to each of destinations, an empty list for unreachable ones
+     */
+    private Map<Vertex, List<Edge<Vertex>>> getIndexedPaths(final IndexedGraph<Vertex, ? extends Edge<Vertex>> indexed,
+                                                            final Vertex source,
+                                                            final Collection<? extends Vertex> destinations) {
+        final VertexIndex<Vertex> index = indexed.getVertexIndex();
+        final int from = index.indexOf(source);
+        final Map<Vertex, List<Edge<Vertex>>> result = new HashMap<>();
+        final BitSet targets = new BitSet();
+        for (final Vertex destination : destinations) {
+            result.put(destination, Collections.emptyList());
+            final int to = index.indexOf(destination);
+            if (to >= 0) {
+                targets.set(to);
+            }
+        }
+        if (from >= 0) {
+            // a path from source to itself is empty, there is nothing to search for
+            targets.clear(from);
+        }
+        if (from < 0 || targets.isEmpty()) {
+            return result;
+        }
+        final IdSearch search = new IdSearch(indexed, from, targets);
+        search.run(alpha, beta);
+        for (final Vertex destination : destinations) {
+            final int to = index.indexOf(destination);
+            // vertices put into the index after the search started were not reached by it
+            if (to >= 0 && to != from && to < search.vertexCount && search.parent[to] >= 0) {
+                result.put(destination, unwindParent(indexed, search.parent, from, to));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Restores path found from provided records.
+     *
+     * @param parent      parent of each discovered vertex
+     * @param source      node to restore path from
+     * @param destination node to restore path to
+     * @return a new {@link List} of {@link Edge}s of vertices representing path found
+     */
+    private List<Edge<Vertex>> unwindParent(final Map<Vertex, Vertex> parent, final Vertex source,
+                                            final Vertex destination) {
+        final List<Edge<Vertex>> result = new ArrayList<>();
+        Vertex current = destination;
+        while (!current.equals(source)) {
+            final Vertex from = parent.get(current);
+            result.add(graph.getEdge(from, current));
+            current = from;
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Restores path found from parent ids, looking up actual edges of the graph.
+     *
+     * @param indexed     graph being searched
+     * @param parent      parent id of each discovered vertex id
+     * @param source      id to restore path from
+     * @param destination id to restore path to
+     * @return a new {@link List} of {@link Edge}s of vertices representing path found
+     */
+    private List<Edge<Vertex>> unwindParent(final IndexedGraph<Vertex, ? extends Edge<Vertex>> indexed,
+                                            final int[] parent, final int source, final int destination) {
+        final VertexIndex<Vertex> index = indexed.getVertexIndex();
+        final List<Edge<Vertex>> result = new ArrayList<>();
+        for (int current = destination; current != source; current = parent[current]) {
+            result.add(indexed.getEdge(index.getVertex(parent[current]), index.getVertex(current)));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "BfsPathFinder{" + graph.toString() + "}";
+    }
+
+    /**
+     * Neighbor consumer of a top-down search over vertices, records parents of newly discovered vertices.
+     */
+    private final class Discovery implements NeighborConsumer<Vertex> {
+
+        final Map<Vertex, Vertex> parent;
+        final Deque<Vertex> queue;
+        final Set<Vertex> remaining;
+        Vertex current;
+
+        Discovery(final Map<Vertex, Vertex> parent, final Deque<Vertex> queue, final Set<Vertex> remaining) {
+            this.parent = parent;
+            this.queue = queue;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public void accept(final Vertex neighbor) {
+            if (parent.putIfAbsent(neighbor, current) == null) {
+                queue.add(neighbor);
+                remaining.remove(neighbor);
+            }
+        }
+    }
+
+    /**
+     * Mutable state of a direction-optimizing search over vertex ids.
+     */
+    static final class IdSearch implements IntConsumer {
+
+        final IndexedGraph<?, ?> graph;
+        final int vertexCount;
+        final int[] parent;
+        final BitSet visited;
+        final BitSet remaining;
+        final IntPredicate inFrontier = this::inFrontier;
+        BitSet frontier;
+        BitSet next;
+        // number of vertices and outgoing edges of the next frontier
+        int nextSize;
+        long nextEdges;
+        // edges examined so far, for both directions
+        long examined;
+        int bottomUpSteps;
+        int current;
+
+        /**
+         * @param graph   graph to search
+         * @param source  id to start from
+         * @param targets ids to find, emptied as they are discovered
+         */
+        IdSearch(final IndexedGraph<?, ?> graph, final int source, final BitSet targets) {
+            this.graph = graph;
+            this.vertexCount = graph.getVertexIndex().size();
+            this.parent = new int[vertexCount];
+            Arrays.fill(parent, -1);
+            this.visited = new BitSet(vertexCount);
+            this.remaining = targets;
+            this.frontier = new BitSet(vertexCount);
+            this.next = new BitSet(vertexCount);
+            parent[source] = source;
+            visited.set(source);
+            frontier.set(source);
+        }
+
+        /**
+         * Runs the search level by level until all targets are discovered or the frontier is empty.
+         */
+        void run(final int alpha, final int beta) {
+            final boolean bottomUpAvailable = graph.hasIncomingNeighborIds();
+            // edges going out of unvisited vertices, the cost of a bottom-up step is bounded by it
+            long unexplored = 0;
+            if (bottomUpAvailable) {
+                for (int id = 0; id < vertexCount; ++id) {
+                    unexplored += graph.getOutDegree(id);
+                }
+            }
+            int frontierSize = 1;
+            long frontierEdges = graph.getOutDegree(frontier.nextSetBit(0));
+            boolean bottomUp = false;
+            while (frontierSize > 0 && !remaining.isEmpty()) {
+                unexplored -= frontierEdges;
+                if (bottomUpAvailable) {
+                    if (!bottomUp && frontierEdges * alpha > unexplored) {
+                        bottomUp = true;
+                    } else if (bottomUp && (long) frontierSize * beta < vertexCount) {
+                        bottomUp = false;
+                    }
+                }
+                nextSize = 0;
+                nextEdges = 0;
+                if (bottomUp) {
+                    stepBottomUp();
+                    ++bottomUpSteps;
+                } else {
+                    stepTopDown();
+                }
+                final BitSet swap = frontier;
+                frontier = next;
+                next = swap;
+                next.clear();
+                frontierSize = nextSize;
+                frontierEdges = nextEdges;
+            }
+        }
+
+        private void stepTopDown() {
+            for (int id = frontier.nextSetBit(0); id >= 0; id = frontier.nextSetBit(id + 1)) {
+                current = id;
+                graph.forEachNeighborId(id, this);
+            }
+        }
+
+        /**
+         * Discovers a neighbor of the current vertex during a top-down step.
+         */
+        @Override
+        public void accept(final int neighbor) {
+            ++examined;
+            if (!visited.get(neighbor)) {
+                discover(neighbor, current);
+            }
+        }
+
+        private void stepBottomUp() {
+            for (int id = visited.nextClearBit(0); id < vertexCount; id = visited.nextClearBit(id + 1)) {
+                final int found = graph.findIncomingNeighborId(id, inFrontier);
+                if (found >= 0) {
+                    discover(id, found);
+                }
+            }
+        }
+
+        private boolean inFrontier(final int id) {
+            ++examined;
+            return frontier.get(id);
+        }
+
+        private void discover(final int id, final int from) {
+            visited.set(id);
+            parent[id] = from;
+            next.set(id);
+            ++nextSize;
+            nextEdges += graph.getOutDegree(id);
+            remaining.clear(id);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.Graph;
+import name.sample.graphs.IndexedGraph;
+import name.sample.graphs.VertexIndex;
+
+import java.util.*;
+
+/**
+ * A breadth first search running from both ends of a query at once, finds paths with the minimum number of edges.
+ * <p/>
+ * The forward search follows outgoing edges from the source, the backward search follows incoming edges from the
+ * destination. Each step expands a whole level of the side with the smaller frontier, the search stops after the
+ * first level where the sides meet. On a graph where a ball of radius d holds much more than twice as many vertices
+ * as a ball of radius d/2, this explores far fewer vertices than a single-ended search.
+ * <p/>
+ * An {@link IndexedGraph} providing {@link IndexedGraph#hasIncomingNeighborIds() incoming neighbors} is searched
+ * over dense ids with plain arrays. Other graphs are searched with hash based collections, backward steps use
+ * {@link Graph#getIncomingEdges(Object)}. A graph without an {@link Graph#hasIncomingEdgeIndex() incoming edge index}
+ * would scan all vertices for every backward step, so it is searched by a forward {@link BfsPathFinder} instead.
+ *
+ * @param <Vertex> type of vertex
+ */
+public class BidirectionalBfsPathFinder<Vertex> implements PathFinder<Vertex> {
+
+    private final Graph<Vertex, ? extends Edge<Vertex>> graph;
+    private final PathFinder<Vertex> fallback;
+
+    public BidirectionalBfsPathFinder(final Graph<Vertex, ? extends Edge<Vertex>> graph) {
+        this.graph = Objects.requireNonNull(graph);
+        this.fallback = graph.hasIncomingEdgeIndex() ? null : new BfsPathFinder<>(graph);
+    }
+
+    @Override
+    public List<Edge<Vertex>> getPath(final Vertex source, final Vertex destination) {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(destination);
+        if (fallback != null) {
+            return fallback.getPath(source, destination);
+        }
+        if (!graph.mayHavePath(source, destination)) {
+            return Collections.emptyList();
+        }
+        if (graph instanceof IndexedGraph
+                && ((IndexedGraph<Vertex, ? extends Edge<Vertex>>) graph).hasIncomingNeighborIds()) {
+            return getIndexedPath((IndexedGraph<Vertex, ? extends Edge<Vertex>>) graph, source, destination);
+        }
+        final Set<Vertex> vertices = graph.getVertices();
+        if (source.equals(destination) || !vertices.contains(source) || !vertices.contains(destination)) {
+            return Collections.emptyList();
+        }
+        final Map<Vertex, Vertex> forward = new HashMap<>();
+        final Map<Vertex, Vertex> backward = new HashMap<>();
+        forward.put(source, source);
+        backward.put(destination, destination);
+        List<Vertex> forwardFrontier = Collections.singletonList(source);
+        List<Vertex> backwardFrontier = Collections.singletonList(destination);
+        Vertex meeting = null;
+        while (meeting == null && !forwardFrontier.isEmpty() && !backwardFrontier.isEmpty()) {
+            final List<Vertex> next = new ArrayList<>();
+            final boolean forwardStep = forwardFrontier.size() <= backwardFrontier.size();
+            // every vertex met during one level lies on a shortest path, the first one is as good as any
+            if (forwardStep) {
+                for (final Vertex current : forwardFrontier) {
+                    for (final Edge<Vertex> edge : graph.getOutgoingEdges(current)) {
+                        meeting = discover(forward, backward, next, edge.getNodeB(), current, meeting);
+                    }
+                }
+                forwardFrontier = next;
+            } else {
+                for (final Vertex current : backwardFrontier) {
+                    for (final Edge<Vertex> edge : graph.getIncomingEdges(current)) {
+                        meeting = discover(backward, forward, next, edge.getNodeA(), current, meeting);
+                    }
+                }
+                backwardFrontier = next;
+            }
+        }
+        if (meeting == null) {
+            return Collections.emptyList();
+        }
+        final List<Edge<Vertex>> result = new ArrayList<>();
+        for (Vertex current = meeting; !current.equals(source); current = forward.get(current)) {
+            result.add(graph.getEdge(forward.get(current), current));
+        }
+        Collections.reverse(result);
+        for (Vertex current = meeting; !current.equals(destination); current = backward.get(current)) {
+            result.add(graph.getEdge(current, backward.get(current)));
+        }
+        return result;
+    }
+
+    private Vertex discover(final Map<Vertex, Vertex> parent, final Map<Vertex, Vertex> other,
+                            final List<Vertex> next, final Vertex neighbor, final Vertex current,
+                            final Vertex meeting) {
+        if (parent.putIfAbsent(neighbor, current) != null) {
+            return meeting;
+        }
+        next.add(neighbor);
+        return meeting == null && other.containsKey(neighbor) ? neighbor : meeting;
+    }
+
+    /**
+     * Same search as {@link #getPath(Object, Object)} performed over vertex ids of an indexed graph.
+     *
+     * @param indexed     graph to search
+     * @param source      source vertex to start with
+     * @param destination destination vertex to go to
+     * @return a new {@link List} of {@link Edge}s representing path found or an empty list
+     */
+    private List<Edge<Vertex>> getIndexedPath(final IndexedGraph<Vertex, ? extends Edge<Vertex>> indexed,
+                                              final Vertex source, final Vertex destination) {
+        final VertexIndex<Vertex> index = indexed.getVertexIndex();
+        final int from = index.indexOf(source);
+        final int to = index.indexOf(destination);
+        if (from < 0 || to < 0 || from == to) {
+            return Collections.emptyList();
+        }
+        final IdSearch search = new IdSearch(indexed, Math.max(index.size(), Math.max(from, to) + 1), from, to);
+        final int meeting = search.run();
+        if (meeting < 0) {
+            return Collections.emptyList();
+        }
+        final List<Edge<Vertex>> result = new ArrayList<>();
+        for (int current = meeting; current != from; current = search.forward[current]) {
+            result.add(indexed.getEdge(index.getVertex(search.forward[current]), index.getVertex(current)));
+        }
+        Collections.reverse(result);
+        for (int current = meeting; current != to; current = search.backward[current]) {
+            result.add(indexed.getEdge(index.getVertex(current), index.getVertex(search.backward[current])));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "BidirectionalBfsPathFinder{" + graph.toString() + "}";
+    }
+
+    /**
+     * Mutable state of a bidirectional search over vertex ids.
+     */
+    private static final class IdSearch {
+
+        final IndexedGraph<?, ?> graph;
+        // parent of each vertex discovered by the forward search and child of each one discovered by the backward
+        final int[] forward;
+        final int[] backward;
+        int[] forwardFrontier;
+        int[] backwardFrontier;
+        int forwardSize;
+        int backwardSize;
+        int[] next = new int[16];
+        int nextSize;
+        int meeting = -1;
+
+        IdSearch(final IndexedGraph<?, ?> graph, final int vertexCount, final int source, final int destination) {
+            this.graph = graph;
+            this.forward = new int[vertexCount];
+            this.backward = new int[vertexCount];
+            Arrays.fill(forward, -1);
+            Arrays.fill(backward, -1);
+            forward[source] = source;
+            backward[destination] = destination;
+            forwardFrontier = new int[]{source};
+            backwardFrontier = new int[]{destination};
+            forwardSize = 1;
+            backwardSize = 1;
+        }
+
+        /**
+         * @return id where the searches met, or -1 if there is no path
+         */
+        int run() {
+            while (meeting < 0 && forwardSize > 0 && backwardSize > 0) {
+                nextSize = 0;
+                if (forwardSize <= backwardSize) {
+                    for (int i = 0; i < forwardSize; ++i) {
+                        final int current = forwardFrontier[i];
+                        graph.forEachNeighborId(current, neighbor -> discover(forward, backward, neighbor, current));
+                    }
+                    final int[] swap = forwardFrontier;
+                    forwardFrontier = next;
+                    forwardSize = nextSize;
+                    next = swap;
+                } else {
+                    for (int i = 0; i < backwardSize; ++i) {
+                        final int current = backwardFrontier[i];
+                        graph.forEachIncomingNeighborId(current,
+                                neighbor -> discover(backward, forward, neighbor, current));
+                    }
+                    final int[] swap = backwardFrontier;
+                    backwardFrontier = next;
+                    backwardSize = nextSize;
+                    next = swap;
+                }
+            }
+            return meeting;
+        }
+
+        private void discover(final int[] parent, final int[] other, final int neighbor, final int current) {
+            if (parent[neighbor] >= 0) {
+                return;
+            }
+            parent[neighbor] = current;
+            if (nextSize == next.length) {
+                next = Arrays.copyOf(next, nextSize * 2);
+            }
+            next[nextSize++] = neighbor;
+            if (meeting < 0 && other[neighbor] >= 0) {
+                meeting = neighbor;
+            }
+        }
+    }
+}
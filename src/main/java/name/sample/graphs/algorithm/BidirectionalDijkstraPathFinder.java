@@ -0,0 +1,176 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.DoubleNeighborConsumer;
+import name.sample.graphs.Edge;
+import name.sample.graphs.Graph;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A Dijkstra search running from both ends of a query at once, finds paths with the minimum total weight.
+ * <p/>
+ * The forward search settles vertices in order of distance from the source following outgoing edges, the backward
+ * search settles them in order of distance to the destination following incoming edges, each step advances the side
+ * with the smaller tentative distance. Whenever an edge reaches a vertex already labeled by the other side the
+ * path through it becomes a candidate, the search stops once the smallest distances of both queues add up to at least
+ * the best candidate.
+ * <p/>
+ * Backward steps use {@link Graph#getIncomingEdges(Object)}. A graph without an
+ * {@link Graph#hasIncomingEdgeIndex() incoming edge index} would scan all vertices for every backward step, so it is
+ * searched by a forward {@link DijkstraPathFinder} instead. Edge weights are converted to non-negative
+ * {@code double} values by a function passed to the constructor.
+ *
+ * @param <Vertex> type of vertex
+ * @param <W>      type of edge weight
+ */
+public class BidirectionalDijkstraPathFinder<Vertex, W> implements PathFinder<Vertex> {
+
+    private final WeightedGraph<Vertex, W> graph;
+    private final ToDoubleFunction<? super W> weight;
+    private final PathFinder<Vertex> fallback;
+
+    /**
+     * @param graph  graph to search
+     * @param weight converts edge weight to a non-negative {@code double}
+     */
+    public BidirectionalDijkstraPathFinder(final WeightedGraph<Vertex, W> graph,
+                                           final ToDoubleFunction<? super W> weight) {
+        this.graph = Objects.requireNonNull(graph);
+        this.weight = Objects.requireNonNull(weight);
+        this.fallback = graph.hasIncomingEdgeIndex() ? null : new DijkstraPathFinder<>(graph, weight);
+    }
+
+    /**
+     * @throws IllegalArgumentException if an edge with a negative or NaN weight is reached
+     */
+    @Override
+    public List<Edge<Vertex>> getPath(final Vertex source, final Vertex destination) {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(destination);
+        if (fallback != null) {
+            return fallback.getPath(source, destination);
+        }
+        if (!graph.mayHavePath(source, destination)) {
+            return Collections.emptyList();
+        }
+        final Set<Vertex> vertices = graph.getVertices();
+        if (source.equals(destination) || !vertices.contains(source) || !vertices.contains(destination)) {
+            return Collections.emptyList();
+        }
+        final Meeting meeting = new Meeting();
+        final Side forward = new Side(source, meeting);
+        final Side backward = new Side(destination, meeting);
+        forward.other = backward;
+        backward.other = forward;
+        while (!forward.queue.isEmpty() && !backward.queue.isEmpty()) {
+            final double forwardTop = forward.queue.peek().distance;
+            final double backwardTop = backward.queue.peek().distance;
+            if (forwardTop + backwardTop >= meeting.length) {
+                break;
+            }
+            final Side side = forwardTop <= backwardTop ? forward : backward;
+            final Entry<Vertex> entry = side.queue.poll();
+            if (entry.distance > side.distance.get(entry.vertex)) {
+                // a stale entry of a vertex reached again by a shorter path
+                continue;
+            }
+            side.current = entry.vertex;
+            side.currentDistance = entry.distance;
+            if (side == forward) {
+                graph.forEachNeighbor(entry.vertex, weight, side);
+            } else {
+                for (final WeightedEdge<Vertex, W> edge : graph.getIncomingEdges(entry.vertex)) {
+                    side.accept(edge.getNodeA(), weight.applyAsDouble(edge.getWeight()));
+                }
+            }
+        }
+        if (meeting.vertex == null) {
+            return Collections.emptyList();
+        }
+        final List<Edge<Vertex>> result = new ArrayList<>();
+        for (Vertex current = meeting.vertex; !current.equals(source); current = forward.parent.get(current)) {
+            result.add(graph.getEdge(forward.parent.get(current), current));
+        }
+        Collections.reverse(result);
+        for (Vertex current = meeting.vertex; !current.equals(destination); current = backward.parent.get(current)) {
+            result.add(graph.getEdge(current, backward.parent.get(current)));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "BidirectionalDijkstraPathFinder{" + graph.toString() + "}";
+    }
+
+    /**
+     * One direction of the search, also serves as a neighbor consumer so that no objects are allocated per vertex.
+     */
+    private final class Side implements DoubleNeighborConsumer<Vertex> {
+
+        final Map<Vertex, Double> distance = new HashMap<>();
+        final Map<Vertex, Vertex> parent = new HashMap<>();
+        final PriorityQueue<Entry<Vertex>> queue =
+                new PriorityQueue<>(Comparator.comparingDouble((Entry<Vertex> entry) -> entry.distance));
+        final Meeting meeting;
+        Side other;
+        Vertex current;
+        double currentDistance;
+
+        Side(final Vertex start, final Meeting meeting) {
+            this.meeting = meeting;
+            distance.put(start, 0.0);
+            parent.put(start, start);
+            queue.add(new Entry<>(start, 0));
+        }
+
+        @Override
+        public void accept(final Vertex neighbor, final double length) {
+            if (!(length >= 0)) {
+                throw new IllegalArgumentException("edge weight must be non-negative: " + length);
+            }
+            final double candidate = currentDistance + length;
+            final Double known = distance.get(neighbor);
+            final double reached;
+            if (known == null || candidate < known) {
+                distance.put(neighbor, candidate);
+                parent.put(neighbor, current);
+                queue.add(new Entry<>(neighbor, candidate));
+                reached = candidate;
+            } else {
+                reached = known;
+            }
+            final Double remaining = other.distance.get(neighbor);
+            if (remaining != null && reached + remaining < meeting.length) {
+                meeting.vertex = neighbor;
+                meeting.length = reached + remaining;
+            }
+        }
+    }
+
+    /**
+     * The best path found so far, through a vertex labeled by both sides.
+     */
+    private final class Meeting {
+
+        Vertex vertex;
+        double length = Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * A queued vertex with its tentative distance.
+     */
+    private static final class Entry<Vertex> {
+
+        final Vertex vertex;
+        final double distance;
+
+        Entry(final Vertex vertex, final double distance) {
+            this.vertex = vertex;
+            this.distance = distance;
+        }
+    }
+}
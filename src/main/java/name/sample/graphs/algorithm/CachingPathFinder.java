@@ -0,0 +1,244 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.Edge;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link PathFinder} decorator remembering paths of recent queries.
+ * <p/>
+ * Each path is stored with the modification count of the graph read before it was found, see
+ * {@code MutableWeightedGraph#getModificationCount()}, and is served only while the count is unchanged, so any change
+ * of the graph invalidates all paths at once without scanning the cache. Pass {@code () -> 0} for a graph that never
+ * changes.
+ * <p/>
+ * The cache holds at most the specified number of paths in segments selected by query hash, each one with its own
+ * lock and least recently used eviction, so concurrent queries rarely contend, small caches have a single segment.
+ * Paths are returned as unmodifiable lists shared by all callers. Hits, misses and evictions are counted.
+ *
+ * @param <Vertex> type of vertex
+ */
+public class CachingPathFinder<Vertex> implements PathFinder<Vertex> {
+
+    private static final int SEGMENTS = 16;
+    // a smaller segment would evict too early when queries are spread unevenly among segments
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+
+    private final PathFinder<Vertex> finder;
+    private final LongSupplier modifications;
+    private final Segment<Vertex>[] segments;
+
+    /**
+     * @param finder        finder searching paths missing in the cache
+     * @param modifications modification count of the graph searched by the finder
+     * @param capacity      maximum number of paths kept
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public CachingPathFinder(final PathFinder<Vertex> finder, final LongSupplier modifications, final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.finder = Objects.requireNonNull(finder);
+        this.modifications = Objects.requireNonNull(modifications);
+        final int count = Math.min(SEGMENTS, Integer.highestOneBit(Math.max(1, capacity / MIN_SEGMENT_CAPACITY)));
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; ++i) {
+            segments[i] = new Segment<>(capacity / count + (i < capacity % count ? 1 : 0));
+        }
+    }
+
+    @Override
+    public List<Edge<Vertex>> getPath(final Vertex source, final Vertex destination) {
+        final Query<Vertex> query = new Query<>(Objects.requireNonNull(source), Objects.requireNonNull(destination));
+        final Segment<Vertex> segment = segments[spread(query.hashCode()) & (segments.length - 1)];
+        final long modification = modifications.getAsLong();
+        final List<Edge<Vertex>> cached = segment.get(query, modification);
+        if (cached != null) {
+            return cached;
+        }
+        final List<Edge<Vertex>> result = Collections.unmodifiableList(finder.getPath(source, destination));
+        segment.put(query, modification, result);
+        return result;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Drop all cached paths.
+     */
+    public void invalidateAll() {
+        for (final Segment<Vertex> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * @return number of paths currently cached, including ones the graph has changed since
+     */
+    public int size() {
+        int result = 0;
+        for (final Segment<Vertex> segment : segments) {
+            result += segment.size();
+        }
+        return result;
+    }
+
+    /**
+     * @return number of queries served from the cache
+     */
+    public long getHitCount() {
+        long result = 0;
+        for (final Segment<Vertex> segment : segments) {
+            result += segment.hits;
+        }
+        return result;
+    }
+
+    /**
+     * @return number of queries passed to the underlying finder, including ones with a path outdated by a change
+     */
+    public long getMissCount() {
+        long result = 0;
+        for (final Segment<Vertex> segment : segments) {
+            result += segment.misses;
+        }
+        return result;
+    }
+
+    /**
+     * @return number of paths dropped to make room for newer ones
+     */
+    public long getEvictionCount() {
+        long result = 0;
+        for (final Segment<Vertex> segment : segments) {
+            result += segment.evictions;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CachingPathFinder{" + finder.toString() + "}";
+    }
+
+    /**
+     * Part of the cache guarded by its own lock, keeps entries in access order.
+     */
+    private static final class Segment<Vertex> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<Query<Vertex>, Cached<Vertex>> entries;
+        // written under the lock, read without it for statistics
+        volatile long hits;
+        volatile long misses;
+        volatile long evictions;
+
+        Segment(final int capacity) {
+            entries = new LinkedHashMap<Query<Vertex>, Cached<Vertex>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Query<Vertex>, Cached<Vertex>> eldest) {
+                    if (size() > capacity) {
+                        ++evictions;
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        List<Edge<Vertex>> get(final Query<Vertex> query, final long modification) {
+            lock.lock();
+            try {
+                final Cached<Vertex> cached = entries.get(query);
+                if (cached != null && cached.modification == modification) {
+                    ++hits;
+                    return cached.path;
+                }
+                ++misses;
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(final Query<Vertex> query, final long modification, final List<Edge<Vertex>> path) {
+            lock.lock();
+            try {
+                final Cached<Vertex> cached = entries.get(query);
+                // a concurrent query may have stored a path found after a later change
+                if (cached == null || cached.modification <= modification) {
+                    entries.put(query, new Cached<>(modification, path));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                entries.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * A source and destination pair.
+     */
+    private static final class Query<Vertex> {
+
+        final Vertex source;
+        final Vertex destination;
+
+        Query(final Vertex source, final Vertex destination) {
+            this.source = source;
+            this.destination = destination;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Query)) {
+                return false;
+            }
+            final Query<?> query = (Query<?>) o;
+            return source.equals(query.source) && destination.equals(query.destination);
+        }
+
+        @Override
+        public int hashCode() {
+            return source.hashCode() * 31 + destination.hashCode();
+        }
+    }
+
+    /**
+     * A path with the modification count it was found at.
+     */
+    private static final class Cached<Vertex> {
+
+        final long modification;
+        final List<Edge<Vertex>> path;
+
+        Cached(final long modification, final List<Edge<Vertex>> path) {
+            this.modification = modification;
+            this.path = path;
+        }
+    }
+}
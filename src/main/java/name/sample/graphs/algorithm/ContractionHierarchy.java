@@ -0,0 +1,439 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.VertexIndex;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A contraction hierarchy of a weighted graph, answers shortest path queries with a search visiting a tiny part of
+ * the graph.
+ * <p/>
+ * {@link #build(WeightedGraph, ToDoubleFunction) Preprocessing} removes vertices one by one, least important first,
+ * and adds a shortcut between two neighbors of a removed vertex whenever the path through it may be the only
+ * shortest one. The importance of a vertex is the number of shortcuts its removal adds minus the number of edges it
+ * removes plus the number of its neighbors already removed, which keeps the hierarchy sparse and even. A query runs
+ * a Dijkstra search from both ends that follows only edges and shortcuts leading to vertices removed later, the
+ * searches meet at the most important vertex of the shortest path. Shortcuts of the path found are unpacked back
+ * into edges of the graph.
+ * <p/>
+ * The hierarchy is a snapshot of the graph at the time it was built, later changes of the graph are not reflected,
+ * so it suits graphs that change rarely. It is immutable and may be queried by any number of threads.
+ *
+ * @param <V> type of vertex
+ * @param <W> type of edge weight
+ */
+public final class ContractionHierarchy<V, W> implements PathFinder<V> {
+
+    // number of vertices a witness search may settle before a shortcut is added anyway
+    private static final int WITNESS_LIMIT = 256;
+
+    private final VertexIndex<V> index;
+    // edges of the graph by number, arcs standing for an edge keep -1 - number instead of a middle vertex
+    private final WeightedEdge<V, W>[] edges;
+    // arcs leading from each vertex to a vertex removed later
+    private final Arcs up;
+    // arcs leading to each vertex from a vertex removed later, heads are the sources
+    private final Arcs down;
+    private final int shortcutCount;
+
+    private ContractionHierarchy(final VertexIndex<V> index, final WeightedEdge<V, W>[] edges, final Arcs up,
+                                 final Arcs down, final int shortcutCount) {
+        this.index = index;
+        this.edges = edges;
+        this.up = up;
+        this.down = down;
+        this.shortcutCount = shortcutCount;
+    }
+
+    /**
+     * Preprocess a graph into a hierarchy, of two parallel edges only the lighter one is kept, loops are ignored.
+     *
+     * @param graph  graph to preprocess
+     * @param weight converts edge weight to a non-negative {@code double}
+     * @return a new hierarchy of the graph
+     * @throws IllegalArgumentException if the graph has an edge with a negative or NaN weight
+     */
+    public static <V, W> ContractionHierarchy<V, W> build(final WeightedGraph<V, W> graph,
+                                                          final ToDoubleFunction<? super W> weight) {
+        Objects.requireNonNull(weight);
+        final Set<V> vertices = graph.getVertices();
+        final VertexIndex<V> index = new VertexIndex<>(vertices.size());
+        vertices.forEach(index::putVertex);
+        final int count = index.size();
+        final List<WeightedEdge<V, W>> edges = new ArrayList<>();
+        final Contraction contraction = new Contraction(count);
+        for (int id = 0; id < count; ++id) {
+            for (final WeightedEdge<V, W> edge : graph.getOutgoingEdges(index.getVertex(id))) {
+                final double length = weight.applyAsDouble(edge.getWeight());
+                if (!(length >= 0)) {
+                    throw new IllegalArgumentException("edge weight must be non-negative: " + length);
+                }
+                final int head = index.indexOf(edge.getNodeB());
+                if (head != id && contraction.link(id, head, length, -1 - edges.size())) {
+                    edges.add(edge);
+                }
+            }
+        }
+        contraction.run();
+        return new ContractionHierarchy<>(index, toArray(edges), Arcs.of(contraction.up),
+                Arcs.of(contraction.down), contraction.shortcuts);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <V, W> WeightedEdge<V, W>[] toArray(final List<WeightedEdge<V, W>> edges) {
+        return edges.toArray(new WeightedEdge[0]);
+    }
+
+    /**
+     * @return number of shortcuts added by preprocessing
+     */
+    public int getShortcutCount() {
+        return shortcutCount;
+    }
+
+    @Override
+    public List<Edge<V>> getPath(final V source, final V destination) {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(destination);
+        final int from = index.indexOf(source);
+        final int to = index.indexOf(destination);
+        if (from < 0 || to < 0 || from == to) {
+            return Collections.emptyList();
+        }
+        final SearchScratch forward = SearchScratch.acquire();
+        final SearchScratch backward = SearchScratch.acquire();
+        try {
+            forward.label(from, 0, -1);
+            forward.heap.insertOrDecrease(from, 0);
+            backward.label(to, 0, -1);
+            backward.heap.insertOrDecrease(to, 0);
+            int meeting = -1;
+            double best = Double.POSITIVE_INFINITY;
+            while (true) {
+                final boolean forwardOpen = !forward.heap.isEmpty() && forward.heap.peekKey() < best;
+                final boolean backwardOpen = !backward.heap.isEmpty() && backward.heap.peekKey() < best;
+                if (!forwardOpen && !backwardOpen) {
+                    break;
+                }
+                final boolean forwardStep = forwardOpen
+                        && (!backwardOpen || forward.heap.peekKey() <= backward.heap.peekKey());
+                final SearchScratch side = forwardStep ? forward : backward;
+                final SearchScratch other = forwardStep ? backward : forward;
+                final int id = side.heap.poll();
+                side.settle(id);
+                if (other.isLabeled(id) && side.distance[id] + other.distance[id] < best) {
+                    best = side.distance[id] + other.distance[id];
+                    meeting = id;
+                }
+                (forwardStep ? up : down).relax(id, side);
+            }
+            if (meeting < 0) {
+                return Collections.emptyList();
+            }
+            final List<Edge<V>> result = new ArrayList<>();
+            final List<Integer> arcs = new ArrayList<>();
+            for (int arc = forward.parent[meeting]; arc >= 0; arc = forward.parent[up.tails[arc]]) {
+                arcs.add(arc);
+            }
+            for (int i = arcs.size() - 1; i >= 0; --i) {
+                unpack(up.tails[arcs.get(i)], up.heads[arcs.get(i)], up.middles[arcs.get(i)], result);
+            }
+            for (int arc = backward.parent[meeting]; arc >= 0; arc = backward.parent[down.tails[arc]]) {
+                unpack(down.heads[arc], down.tails[arc], down.middles[arc], result);
+            }
+            return result;
+        } finally {
+            backward.release();
+            forward.release();
+        }
+    }
+
+    /**
+     * Append edges of an arc to a path, replacing shortcuts with the two arcs through their middle vertex.
+     */
+    private void unpack(final int tail, final int head, final int middle, final List<Edge<V>> result) {
+        final Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[]{tail, head, middle});
+        while (!stack.isEmpty()) {
+            final int[] arc = stack.pop();
+            if (arc[2] < 0) {
+                result.add(edges[-1 - arc[2]]);
+                continue;
+            }
+            // the middle vertex was removed before both ends, so both halves are kept with it
+            final int second = up.find(arc[2], arc[1]);
+            final int first = down.find(arc[2], arc[0]);
+            stack.push(new int[]{arc[2], arc[1], up.middles[second]});
+            stack.push(new int[]{arc[0], arc[2], down.middles[first]});
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ContractionHierarchy{" + index.size() + ", " + shortcutCount + "}";
+    }
+
+    /**
+     * Arcs of all vertices in a compressed sparse row layout, each arc keeps its weight and either the middle vertex of
+     * a shortcut or the number of an edge.
+     */
+    private static final class Arcs {
+
+        final int[] offsets;
+        final int[] tails;
+        final int[] heads;
+        final double[] weights;
+        final int[] middles;
+
+        private Arcs(final int vertexCount, final int arcCount) {
+            offsets = new int[vertexCount + 1];
+            tails = new int[arcCount];
+            heads = new int[arcCount];
+            weights = new double[arcCount];
+            middles = new int[arcCount];
+        }
+
+        static Arcs of(final Adjacency[] adjacency) {
+            int total = 0;
+            for (final Adjacency arcs : adjacency) {
+                total += arcs.size;
+            }
+            final Arcs result = new Arcs(adjacency.length, total);
+            int position = 0;
+            for (int id = 0; id < adjacency.length; ++id) {
+                final Adjacency arcs = adjacency[id];
+                result.offsets[id] = position;
+                Arrays.fill(result.tails, position, position + arcs.size, id);
+                System.arraycopy(arcs.heads, 0, result.heads, position, arcs.size);
+                System.arraycopy(arcs.weights, 0, result.weights, position, arcs.size);
+                System.arraycopy(arcs.middles, 0, result.middles, position, arcs.size);
+                position += arcs.size;
+            }
+            result.offsets[adjacency.length] = position;
+            return result;
+        }
+
+        int find(final int tail, final int head) {
+            for (int arc = offsets[tail]; arc < offsets[tail + 1]; ++arc) {
+                if (heads[arc] == head) {
+                    return arc;
+                }
+            }
+            throw new IllegalStateException("no arc from " + tail + " to " + head);
+        }
+
+        /**
+         * Relax arcs of a settled vertex, parents of labeled vertices are the arcs reaching them.
+         */
+        void relax(final int id, final SearchScratch scratch) {
+            final double base = scratch.distance[id];
+            for (int arc = offsets[id]; arc < offsets[id + 1]; ++arc) {
+                final int head = heads[arc];
+                final double candidate = base + weights[arc];
+                if (!scratch.isLabeled(head) || candidate < scratch.distance[head]) {
+                    scratch.label(head, candidate, arc);
+                    scratch.heap.insertOrDecrease(head, candidate);
+                }
+            }
+        }
+    }
+
+    /**
+     * Growable arcs of one vertex, at most one arc per head.
+     */
+    private static final class Adjacency {
+
+        int[] heads = new int[4];
+        double[] weights = new double[4];
+        int[] middles = new int[4];
+        int size;
+
+        int indexOf(final int head) {
+            for (int i = 0; i < size; ++i) {
+                if (heads[i] == head) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * @return true if there was no arc to the head or it was heavier
+         */
+        boolean put(final int head, final double weight, final int middle) {
+            final int i = indexOf(head);
+            if (i >= 0) {
+                if (weights[i] <= weight) {
+                    return false;
+                }
+                weights[i] = weight;
+                middles[i] = middle;
+                return true;
+            }
+            if (size == heads.length) {
+                heads = Arrays.copyOf(heads, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+                middles = Arrays.copyOf(middles, size * 2);
+            }
+            heads[size] = head;
+            weights[size] = weight;
+            middles[size] = middle;
+            ++size;
+            return true;
+        }
+
+        void remove(final int head) {
+            final int i = indexOf(head);
+            if (i >= 0) {
+                --size;
+                heads[i] = heads[size];
+                weights[i] = weights[size];
+                middles[i] = middles[size];
+            }
+        }
+    }
+
+    /**
+     * Mutable state of preprocessing. Arcs of vertices not yet removed are kept in both directions, when a vertex is
+     * removed its arcs become its part of the hierarchy and are dropped from its neighbors.
+     */
+    private static final class Contraction {
+
+        final Adjacency[] outgoing;
+        final Adjacency[] incoming;
+        final Adjacency[] up;
+        final Adjacency[] down;
+        final boolean[] removed;
+        // number of removed neighbors of each vertex
+        final int[] depth;
+        int shortcuts;
+
+        Contraction(final int count) {
+            outgoing = new Adjacency[count];
+            incoming = new Adjacency[count];
+            up = new Adjacency[count];
+            down = new Adjacency[count];
+            removed = new boolean[count];
+            depth = new int[count];
+            for (int id = 0; id < count; ++id) {
+                outgoing[id] = new Adjacency();
+                incoming[id] = new Adjacency();
+            }
+        }
+
+        boolean link(final int tail, final int head, final double weight, final int middle) {
+            if (!outgoing[tail].put(head, weight, middle)) {
+                return false;
+            }
+            incoming[head].put(tail, weight, middle);
+            return true;
+        }
+
+        void run() {
+            final int count = removed.length;
+            final IndexedDoubleHeap queue = new IndexedDoubleHeap(count);
+            for (int id = 0; id < count; ++id) {
+                queue.insertOrDecrease(id, priority(id));
+            }
+            while (!queue.isEmpty()) {
+                final int id = queue.poll();
+                // priorities of remaining vertices are updated lazily, the vertex goes back if it got less important
+                final double current = priority(id);
+                if (!queue.isEmpty() && current > queue.peekKey()) {
+                    queue.insertOrDecrease(id, current);
+                    continue;
+                }
+                contract(id);
+            }
+        }
+
+        private double priority(final int id) {
+            return contract(id, false) - outgoing[id].size - incoming[id].size + depth[id];
+        }
+
+        private void contract(final int id) {
+            shortcuts += contract(id, true);
+            removed[id] = true;
+            up[id] = outgoing[id];
+            down[id] = incoming[id];
+            for (int i = 0; i < up[id].size; ++i) {
+                incoming[up[id].heads[i]].remove(id);
+                ++depth[up[id].heads[i]];
+            }
+            for (int i = 0; i < down[id].size; ++i) {
+                outgoing[down[id].heads[i]].remove(id);
+                ++depth[down[id].heads[i]];
+            }
+            outgoing[id] = null;
+            incoming[id] = null;
+        }
+
+        /**
+         * Find shortcuts needed to remove a vertex: for every pair of its neighbors, a path through the vertex unless
+         * a local search finds a path avoiding it that is not longer.
+         *
+         * @param id  vertex to remove
+         * @param add true to add shortcuts, false just to count them
+         * @return number of shortcuts needed
+         */
+        private int contract(final int id, final boolean add) {
+            final Adjacency in = incoming[id];
+            final Adjacency out = outgoing[id];
+            double longest = 0;
+            for (int i = 0; i < out.size; ++i) {
+                longest = Math.max(longest, out.weights[i]);
+            }
+            int result = 0;
+            for (int i = 0; i < in.size; ++i) {
+                final int tail = in.heads[i];
+                final double first = in.weights[i];
+                final SearchScratch witness = SearchScratch.acquire();
+                try {
+                    search(witness, tail, id, first + longest);
+                    for (int j = 0; j < out.size; ++j) {
+                        final int head = out.heads[j];
+                        final double length = first + out.weights[j];
+                        if (head == tail || witness.isLabeled(head) && witness.distance[head] <= length) {
+                            continue;
+                        }
+                        ++result;
+                        if (add) {
+                            link(tail, head, length, id);
+                        }
+                    }
+                } finally {
+                    witness.release();
+                }
+            }
+            return result;
+        }
+
+        /**
+         * A Dijkstra search among remaining vertices except one, bounded by distance and the number of settled
+         * vertices. Distances it labels are upper bounds of shortest ones, which is all a witness needs.
+         */
+        private void search(final SearchScratch scratch, final int source, final int excluded, final double limit) {
+            scratch.label(source, 0, -1);
+            scratch.heap.insertOrDecrease(source, 0);
+            int settled = 0;
+            while (!scratch.heap.isEmpty() && scratch.heap.peekKey() <= limit && settled < WITNESS_LIMIT) {
+                final int id = scratch.heap.poll();
+                scratch.settle(id);
+                ++settled;
+                final Adjacency arcs = outgoing[id];
+                for (int i = 0; i < arcs.size; ++i) {
+                    final int head = arcs.heads[i];
+                    final double candidate = scratch.distance[id] + arcs.weights[i];
+                    if (head != excluded && (!scratch.isLabeled(head) || candidate < scratch.distance[head])) {
+                        scratch.label(head, candidate, id);
+                        scratch.heap.insertOrDecrease(head, candidate);
+                    }
+                }
+            }
+        }
+    }
+}
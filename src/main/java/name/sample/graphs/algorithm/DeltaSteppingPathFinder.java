@@ -0,0 +1,354 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.VertexIndex;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Delta-stepping single source shortest paths, relaxes edges of many vertices in parallel.
+ * <p/>
+ * Vertices are kept in buckets of width delta by tentative distance and buckets are processed in order. Within a
+ * bucket, light edges, at most delta heavy, of all its vertices are relaxed in parallel, repeatedly as long as vertices
+ * fall back into the bucket, then heavy edges of all vertices settled in the bucket are relaxed in parallel once.
+ * Distances live in a primitive array updated with compare-and-set, so relaxations never lock. Parents are assigned
+ * after distances are final, which keeps the tree consistent whatever order relaxations raced in.
+ * <p/>
+ * Each search copies adjacency of the graph into arrays by dense id, in parallel as well, and runs all parallel
+ * steps in the specified {@link ForkJoinPool}. A search settles the whole graph, so the finder suits one to many
+ * computations, {@link #getShortestPathTree(Object)} keeps the result for any number of lookups. Edge weights are
+ * converted to non-negative {@code double} values by a function passed to the constructor.
+ *
+ * @param <Vertex> type of vertex
+ * @param <W>      type of edge weight
+ */
+public class DeltaSteppingPathFinder<Vertex, W> implements PathFinder<Vertex> {
+
+    private static final long INFINITY = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+
+    private final WeightedGraph<Vertex, W> graph;
+    private final ToDoubleFunction<? super W> weight;
+    private final double delta;
+    private final ForkJoinPool pool;
+
+    /**
+     * Create a finder choosing delta for every search as the maximum edge weight divided by the average degree, and
+     * running in the common pool.
+     *
+     * @param graph  graph to search
+     * @param weight converts edge weight to a non-negative {@code double}
+     */
+    public DeltaSteppingPathFinder(final WeightedGraph<Vertex, W> graph, final ToDoubleFunction<? super W> weight) {
+        this(graph, weight, Double.NaN, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param graph  graph to search
+     * @param weight converts edge weight to a non-negative {@code double}
+     * @param delta  bucket width, smaller values give less parallelism and less redundant work, NaN to choose it
+     *               from the graph
+     * @param pool   pool running parallel steps
+     */
+    public DeltaSteppingPathFinder(final WeightedGraph<Vertex, W> graph, final ToDoubleFunction<? super W> weight,
+                                   final double delta, final ForkJoinPool pool) {
+        if (delta <= 0 || delta == Double.POSITIVE_INFINITY) {
+            throw new IllegalArgumentException("delta must be positive and finite: " + delta);
+        }
+        this.graph = Objects.requireNonNull(graph);
+        this.weight = Objects.requireNonNull(weight);
+        this.delta = delta;
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * Computes shortest paths from the source to all vertices and returns the one to the destination.
+     *
+     * @throws IllegalArgumentException if the graph has an edge with a negative or NaN weight
+     */
+    @Override
+    public List<Edge<Vertex>> getPath(final Vertex source, final Vertex destination) {
+        Objects.requireNonNull(destination);
+        return getShortestPathTree(source).getPath(destination);
+    }
+
+    /**
+     * Finds paths to all destinations with a single search.
+     *
+     * @throws IllegalArgumentException if the graph has an edge with a negative or NaN weight
+     */
+    @Override
+    public Map<Vertex, List<Edge<Vertex>>> getPaths(final Vertex source,
+                                                    final Collection<? extends Vertex> destinations) {
+        final ShortestPathTree<Vertex> tree = getShortestPathTree(source);
+        final Map<Vertex, List<Edge<Vertex>>> result = new HashMap<>();
+        for (final Vertex destination : destinations) {
+            result.put(destination, tree.getPath(Objects.requireNonNull(destination)));
+        }
+        return result;
+    }
+
+    /**
+     * Finds shortest paths to all vertices reachable from a source.
+     *
+     * @param source source vertex to start with
+     * @return shortest paths from the source, empty if the source is not in the graph
+     * @throws IllegalArgumentException if the graph has an edge with a negative or NaN weight
+     * @throws ConcurrentModificationException if an edge on a path was removed during the search
+     */
+    public ShortestPathTree<Vertex> getShortestPathTree(final Vertex source) {
+        Objects.requireNonNull(source);
+        final Set<Vertex> vertices = graph.getVertices();
+        if (!vertices.contains(source)) {
+            final VertexIndex<Vertex> index = new VertexIndex<>();
+            return new ShortestPathTree<>(graph, index, index.putVertex(source), new double[]{0}, new int[]{0});
+        }
+        final VertexIndex<Vertex> index = new VertexIndex<>(vertices.size());
+        vertices.forEach(index::putVertex);
+        final Search search = new Search(index);
+        final int from = index.indexOf(source);
+        search.run(from);
+        final double[] distance = new double[search.size];
+        for (int id = 0; id < distance.length; ++id) {
+            distance[id] = Double.longBitsToDouble(search.distance.get(id));
+        }
+        return new ShortestPathTree<>(graph, index, from, distance, search.parents(from, distance));
+    }
+
+    @Override
+    public String toString() {
+        return "DeltaSteppingPathFinder{" + graph.toString() + "}";
+    }
+
+    /**
+     * State of a single search.
+     */
+    private final class Search {
+
+        final int size;
+        // arcs of each vertex by id
+        final int[][] heads;
+        final double[][] lengths;
+        // raw bits of non-negative doubles compare the same as the doubles
+        final AtomicLongArray distance;
+        final double width;
+        // distance each vertex had when its light edges were last relaxed
+        final double[] relaxed;
+        final TreeMap<Long, IntList> buckets = new TreeMap<>();
+
+        Search(final VertexIndex<Vertex> index) {
+            size = index.size();
+            heads = new int[size][];
+            lengths = new double[size][];
+            pool.submit(() -> IntStream.range(0, size).parallel().forEach(id -> {
+                final Collection<WeightedEdge<Vertex, W>> edges = graph.getOutgoingEdges(index.getVertex(id));
+                final int[] targets = new int[edges.size()];
+                final double[] values = new double[edges.size()];
+                int count = 0;
+                for (final WeightedEdge<Vertex, W> edge : edges) {
+                    final double length = weight.applyAsDouble(edge.getWeight());
+                    if (!(length >= 0)) {
+                        throw new IllegalArgumentException("edge weight must be non-negative: " + length);
+                    }
+                    final int target = index.indexOf(edge.getNodeB());
+                    if (target >= 0 && count < targets.length) {
+                        targets[count] = target;
+                        values[count] = length;
+                        ++count;
+                    }
+                }
+                heads[id] = count == targets.length ? targets : Arrays.copyOf(targets, count);
+                lengths[id] = count == values.length ? values : Arrays.copyOf(values, count);
+            })).join();
+            distance = new AtomicLongArray(size);
+            for (int id = 0; id < size; ++id) {
+                distance.set(id, INFINITY);
+            }
+            relaxed = new double[size];
+            Arrays.fill(relaxed, Double.POSITIVE_INFINITY);
+            width = Double.isNaN(delta) ? chooseWidth() : delta;
+        }
+
+        private double chooseWidth() {
+            double heaviest = 0;
+            long arcs = 0;
+            for (int id = 0; id < size; ++id) {
+                arcs += heads[id].length;
+                for (final double length : lengths[id]) {
+                    heaviest = Math.max(heaviest, length);
+                }
+            }
+            final double result = arcs == 0 ? 1 : heaviest * size / arcs;
+            return result > 0 && result < Double.POSITIVE_INFINITY ? result : 1;
+        }
+
+        void run(final int source) {
+            distance.set(source, 0);
+            add(source);
+            while (!buckets.isEmpty()) {
+                final long bucket = buckets.firstKey();
+                final IntList settled = new IntList();
+                IntList entries;
+                while ((entries = buckets.remove(bucket)) != null) {
+                    final int[] frontier = frontier(entries, bucket);
+                    settled.addAll(frontier);
+                    distribute(relax(frontier, true));
+                }
+                distribute(relax(settled.toArray(), false));
+            }
+        }
+
+        /**
+         * Keeps vertices of a bucket that still belong to it and improved since their light edges were relaxed.
+         */
+        private int[] frontier(final IntList entries, final long bucket) {
+            final IntList result = new IntList();
+            for (int i = 0; i < entries.size; ++i) {
+                final int id = entries.values[i];
+                final double value = Double.longBitsToDouble(distance.get(id));
+                if (value < relaxed[id] && bucketOf(value) == bucket) {
+                    relaxed[id] = value;
+                    result.add(id);
+                }
+            }
+            return result.toArray();
+        }
+
+        /**
+         * Relaxes light or heavy arcs of vertices in parallel.
+         *
+         * @return vertices whose distance decreased, possibly repeated
+         */
+        private int[] relax(final int[] frontier, final boolean light) {
+            if (frontier.length == 0) {
+                return frontier;
+            }
+            return pool.submit(() -> IntStream.of(frontier).parallel().flatMap(id -> {
+                final double base = Double.longBitsToDouble(distance.get(id));
+                final int[] targets = heads[id];
+                final double[] values = lengths[id];
+                IntStream.Builder improved = null;
+                for (int i = 0; i < targets.length; ++i) {
+                    if ((values[i] <= width) == light && lower(targets[i], base + values[i])) {
+                        if (improved == null) {
+                            improved = IntStream.builder();
+                        }
+                        improved.add(targets[i]);
+                    }
+                }
+                return improved == null ? null : improved.build();
+            }).toArray()).join();
+        }
+
+        /**
+         * Lowers tentative distance of a vertex without locking.
+         *
+         * @return true if the candidate was smaller
+         */
+        private boolean lower(final int id, final double candidate) {
+            final long bits = Double.doubleToRawLongBits(candidate);
+            long current;
+            do {
+                current = distance.get(id);
+                if (current <= bits) {
+                    return false;
+                }
+            } while (!distance.compareAndSet(id, current, bits));
+            return true;
+        }
+
+        private void distribute(final int[] improved) {
+            for (final int id : improved) {
+                add(id);
+            }
+        }
+
+        private void add(final int id) {
+            buckets.computeIfAbsent(bucketOf(Double.longBitsToDouble(distance.get(id))), (k) -> new IntList())
+                    .add(id);
+        }
+
+        private long bucketOf(final double value) {
+            return (long) Math.floor(value / width);
+        }
+
+        /**
+         * Picks a parent of every reached vertex among neighbors the vertex is reached through by a shortest path.
+         * Neighbors at a smaller distance are taken in parallel, vertices reached only through edges adding no
+         * distance get their parents by a breadth first pass from vertices already having one.
+         */
+        int[] parents(final int source, final double[] values) {
+            final AtomicIntegerArray parent = new AtomicIntegerArray(size);
+            for (int id = 0; id < size; ++id) {
+                parent.set(id, -1);
+            }
+            parent.set(source, source);
+            pool.submit(() -> IntStream.range(0, size).parallel().forEach(id -> {
+                final int[] targets = heads[id];
+                for (int i = 0; i < targets.length; ++i) {
+                    final int target = targets[i];
+                    if (values[id] < values[target] && values[id] + lengths[id][i] == values[target]) {
+                        parent.compareAndSet(target, -1, id);
+                    }
+                }
+            })).join();
+            final int[] result = new int[size];
+            final IntList queue = new IntList();
+            boolean orphans = false;
+            for (int id = 0; id < size; ++id) {
+                result[id] = parent.get(id);
+                if (result[id] >= 0) {
+                    queue.add(id);
+                } else if (values[id] != Double.POSITIVE_INFINITY) {
+                    orphans = true;
+                }
+            }
+            for (int i = 0; orphans && i < queue.size; ++i) {
+                final int id = queue.values[i];
+                final int[] targets = heads[id];
+                for (int j = 0; j < targets.length; ++j) {
+                    final int target = targets[j];
+                    if (result[target] < 0 && values[id] + lengths[id][j] == values[target]) {
+                        result[target] = id;
+                        queue.add(target);
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Growable array of {@code int} values.
+     */
+    private static final class IntList {
+
+        int[] values = new int[8];
+        int size;
+
+        void add(final int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(final int[] array) {
+            if (size + array.length > values.length) {
+                values = Arrays.copyOf(values, Math.max(size + array.length, size * 2));
+            }
+            System.arraycopy(array, 0, values, size, array.length);
+            size += array.length;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -2,11 +2,19 @@ package name.sample.graphs.algorithm;
 
 import name.sample.graphs.Edge;
 import name.sample.graphs.Graph;
+import name.sample.graphs.IndexedGraph;
+import name.sample.graphs.NeighborConsumer;
+import name.sample.graphs.VertexIndex;
 
 import java.util.*;
+import java.util.function.IntConsumer;
 
 /**
  * An implementation of a depth first traversal used to find a path from source to destination.
+ * <p/>
+ * Traversal uses {@link Graph#forEachNeighbor(Object, NeighborConsumer)}, so no {@link Edge} objects are touched
+ * until the resulting path is built. For an {@link IndexedGraph} traversal runs over dense vertex ids using a bit set
+ * and plain arrays.
  *
  * @param <Vertex> type of vertex
  */
@@ -22,25 +30,140 @@ public class DftPathFinder<Vertex> implements PathFinder<Vertex> {
     public List<Edge<Vertex>> getPath(Vertex source, Vertex destination) {
         Objects.requireNonNull(source);
         Objects.requireNonNull(destination);
-        final Map<Vertex, Edge<Vertex>> parent = new HashMap<>();
+        if (!graph.mayHavePath(source, destination)) {
+            return Collections.emptyList();
+        }
+        if (graph instanceof IndexedGraph) {
+            return getIndexedPath((IndexedGraph<Vertex, ? extends Edge<Vertex>>) graph, source, destination);
+        }
+        final Traversal traversal = traverse(new Traversal(source, destination, null));
+        return traversal.found ? unwindParent(traversal.parent, source, destination) : Collections.emptyList();
+    }
+
+    /**
+     * Finds paths to all destinations with a single traversal that stops once all of them are discovered.
+     */
+    @Override
+    public Map<Vertex, List<Edge<Vertex>>> getPaths(final Vertex source,
+                                                    final Collection<? extends Vertex> destinations) {
+        Objects.requireNonNull(source);
+        destinations.forEach(Objects::requireNonNull);
+        if (graph instanceof IndexedGraph) {
+            return getIndexedPaths((IndexedGraph<Vertex, ? extends Edge<Vertex>>) graph, source, destinations);
+        }
+        final Set<Vertex> remaining = new HashSet<>(destinations);
+        remaining.remove(source);
+        final Map<Vertex, Vertex> parent = remaining.isEmpty()
+                ? Collections.emptyMap() : traverse(new Traversal(source, null, remaining)).parent;
+        final Map<Vertex, List<Edge<Vertex>>> result = new HashMap<>();
+        for (final Vertex destination : destinations) {
+            result.put(destination, destination.equals(source) || !parent.containsKey(destination)
+                    ? Collections.emptyList() : unwindParent(parent, source, destination));
+        }
+        return result;
+    }
+
+    /**
+     * Runs a traversal until its destinations are found or all reachable vertices are visited.
+     *
+     * @param traversal traversal to run
+     * @return the same traversal
+     */
+    private Traversal traverse(final Traversal traversal) {
         final Set<Vertex> visited = new HashSet<>();
-        final Stack<Vertex> open = new Stack<>();
-        open.push(source);
-        while (!open.isEmpty()) {
-            final Vertex current = open.pop();
-            if (!visited.contains(current)) {
-                visited.add(current);
-                final Collection<? extends Edge<Vertex>> outgoing = graph.getOutgoingEdges(current);
-                for (final Edge<Vertex> edge : outgoing) {
-                    open.push(edge.getNodeB());
-                    parent.putIfAbsent(edge.getNodeB(), edge);
-                    if (edge.getNodeB().equals(destination)) {
-                        return unwindParent(parent, source, destination);
-                    }
+        while (!traversal.open.isEmpty()) {
+            final Vertex current = traversal.open.pop();
+            if (visited.add(current)) {
+                traversal.current = current;
+                graph.forEachNeighbor(current, traversal);
+                if (traversal.found) {
+                    break;
                 }
             }
         }
-        return Collections.emptyList();
+        return traversal;
+    }
+
+    /**
+     * Same traversal as {@link #getPath(Object, Object)} performed over vertex ids of an indexed graph.
+     *
+     * @param indexed     graph to traverse
+     * @param source      source vertex to start with
+     * @param destination destination vertex to go to
+     * @return a new {@link List} of {@link Edge}s representing path found or an empty list
+     */
+    private List<Edge<Vertex>> getIndexedPath(final IndexedGraph<Vertex, ? extends Edge<Vertex>> indexed,
+                                              final Vertex source, final Vertex destination) {
+        final VertexIndex<Vertex> index = indexed.getVertexIndex();
+        final int from = index.indexOf(source);
+        final int to = index.indexOf(destination);
+        if (from < 0 || to < 0) {
+            return Collections.emptyList();
+        }
+        final IdTraversal traversal = traverse(indexed, new IdTraversal(index.size(), from, to, null));
+        return traversal.found ? unwindParent(indexed, traversal.parent, from, to) : Collections.emptyList();
+    }
+
+    /**
+     * Same traversal as {@link #getPaths(Object, Collection)} performed over vertex ids of an indexed graph.
+     *
+     * @param indexed      graph to traverse
+     * @param source       source vertex to start with
+     * @param destinations destination vertices to go to
+     * @return paths to each of destinations, an empty list for unreachable ones
+     */
+    private Map<Vertex, List<Edge<Vertex>>> getIndexedPaths(final IndexedGraph<Vertex, ? extends Edge<Vertex>> indexed,
+                                                            final Vertex source,
+                                                            final Collection<? extends Vertex> destinations) {
+        final VertexIndex<Vertex> index = indexed.getVertexIndex();
+        final int from = index.indexOf(source);
+        final Map<Vertex, List<Edge<Vertex>>> result = new HashMap<>();
+        final BitSet targets = new BitSet();
+        for (final Vertex destination : destinations) {
+            result.put(destination, Collections.emptyList());
+            final int to = index.indexOf(destination);
+            if (to >= 0) {
+                targets.set(to);
+            }
+        }
+        if (from >= 0) {
+            // a path from source to itself is empty, there is nothing to search for
+            targets.clear(from);
+        }
+        if (from < 0 || targets.isEmpty()) {
+            return result;
+        }
+        final IdTraversal traversal = traverse(indexed, new IdTraversal(index.size(), from, -1, targets));
+        for (final Vertex destination : destinations) {
+            final int to = index.indexOf(destination);
+            if (to >= 0 && to != from && traversal.parent[to] >= 0) {
+                result.put(destination, unwindParent(indexed, traversal.parent, from, to));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Runs a traversal over vertex ids until its destinations are found or all reachable vertices are visited.
+     *
+     * @param indexed   graph to traverse
+     * @param traversal traversal to run
+     * @return the same traversal
+     */
+    private static IdTraversal traverse(final IndexedGraph<?, ?> indexed, final IdTraversal traversal) {
+        final IntConsumer discover = traversal::discover;
+        while (traversal.size > 0) {
+            final int current = traversal.open[--traversal.size];
+            if (!traversal.visited.get(current)) {
+                traversal.visited.set(current);
+                traversal.current = current;
+                indexed.forEachNeighborId(current, discover);
+                if (traversal.found) {
+                    break;
+                }
+            }
+        }
+        return traversal;
     }
 
     /**
@@ -51,15 +174,123 @@ public class DftPathFinder<Vertex> implements PathFinder<Vertex> {
      * @param destination node to restore path to
      * @return a new {@link List} of {@link Edge}s of vertices representing path found
      */
-    private List<Edge<Vertex>> unwindParent(final Map<Vertex, Edge<Vertex>> parent, final Vertex source,
+    private List<Edge<Vertex>> unwindParent(final Map<Vertex, Vertex> parent, final Vertex source,
                                             final Vertex destination) {
         final List<Edge<Vertex>> result = new ArrayList<>();
         Vertex current = destination;
         while (!current.equals(source)) {
-            final Edge<Vertex> from = parent.get(current);
-            result.add(0, from);
-            current = from.getNodeA();
+            final Vertex from = parent.get(current);
+            result.add(graph.getEdge(from, current));
+            current = from;
         }
+        Collections.reverse(result);
         return result;
     }
+
+    /**
+     * Restores path found from parent ids, looking up actual edges of the graph.
+     *
+     * @param indexed     graph being traversed
+     * @param parent      parent id of each visited vertex id
+     * @param source      id to restore path from
+     * @param destination id to restore path to
+     * @return a new {@link List} of {@link Edge}s of vertices representing path found
+     */
+    private List<Edge<Vertex>> unwindParent(final IndexedGraph<Vertex, ? extends Edge<Vertex>> indexed,
+                                            final int[] parent, final int source, final int destination) {
+        final VertexIndex<Vertex> index = indexed.getVertexIndex();
+        final List<Edge<Vertex>> result = new ArrayList<>();
+        for (int current = destination; current != source; current = parent[current]) {
+            result.add(indexed.getEdge(index.getVertex(parent[current]), index.getVertex(current)));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Mutable state of a traversal, also serves as a neighbor consumer so that no objects are allocated per vertex.
+     */
+    private final class Traversal implements NeighborConsumer<Vertex> {
+
+        final Map<Vertex, Vertex> parent = new HashMap<>();
+        final Deque<Vertex> open = new ArrayDeque<>();
+        final Vertex destination;
+        final Set<Vertex> remaining;
+        Vertex current;
+        boolean found;
+
+        /**
+         * @param source      vertex to start from
+         * @param destination single destination, or null if several destinations are searched
+         * @param remaining   destinations not discovered yet when several destinations are searched, or null
+         */
+        Traversal(final Vertex source, final Vertex destination, final Set<Vertex> remaining) {
+            this.destination = destination;
+            this.remaining = remaining;
+            open.push(source);
+        }
+
+        @Override
+        public void accept(final Vertex neighbor) {
+            if (found) {
+                return;
+            }
+            open.push(neighbor);
+            parent.putIfAbsent(neighbor, current);
+            if (remaining == null ? neighbor.equals(destination) : remaining.remove(neighbor) && remaining.isEmpty()) {
+                found = true;
+            }
+        }
+    }
+
+    /**
+     * Mutable state of a traversal over vertex ids.
+     */
+    private static final class IdTraversal {
+
+        final BitSet visited;
+        final int[] parent;
+        final int source;
+        final int destination;
+        final BitSet remaining;
+        int[] open = new int[16];
+        int size;
+        int current;
+        boolean found;
+
+        /**
+         * @param vertexCount number of ids
+         * @param source      id to start from
+         * @param destination single destination id, or -1 if several destinations are searched
+         * @param remaining   destination ids not discovered yet when several destinations are searched, or null
+         */
+        IdTraversal(final int vertexCount, final int source, final int destination, final BitSet remaining) {
+            this.visited = new BitSet(vertexCount);
+            this.parent = new int[vertexCount];
+            Arrays.fill(parent, -1);
+            this.source = source;
+            this.destination = destination;
+            this.remaining = remaining;
+            open[size++] = source;
+        }
+
+        void discover(final int neighbor) {
+            if (found) {
+                return;
+            }
+            if (size == open.length) {
+                open = Arrays.copyOf(open, size * 2);
+            }
+            open[size++] = neighbor;
+            if (parent[neighbor] < 0 && neighbor != source) {
+                parent[neighbor] = current;
+            }
+            if (remaining == null) {
+                found = neighbor == destination;
+            } else if (remaining.get(neighbor)) {
+                remaining.clear(neighbor);
+                found = remaining.isEmpty();
+            }
+        }
+    }
 }
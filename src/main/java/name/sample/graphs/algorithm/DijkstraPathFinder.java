@@ -0,0 +1,229 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.DoubleNeighborConsumer;
+import name.sample.graphs.DoubleWeightedGraph;
+import name.sample.graphs.Edge;
+import name.sample.graphs.IndexedGraph;
+import name.sample.graphs.VertexIndex;
+import name.sample.graphs.WeightedGraph;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Dijkstra search finding paths with the minimum total weight.
+ * <p/>
+ * Vertices are labeled with dense ids, the ids of an {@link IndexedGraph} or ids assigned in order of discovery for
+ * other graphs, and the search keeps distances and parents in plain arrays ordered by an
+ * {@link IndexedDoubleHeap} with decrease-key. The arrays and the heap are kept per thread and reused by later
+ * searches of any finder, a search touches only entries it labels, so it costs nothing for the rest of the graph.
+ * <p/>
+ * {@link #getPath(Object, Object)} and {@link #getPaths(Object, Collection)} stop as soon as their destinations are
+ * settled, {@link #getShortestPathTree(Object)} runs to completion and keeps the result for any number of lookups.
+ * Edge weights are converted to non-negative {@code double} values by a function passed to the constructor, a
+ * {@link DoubleWeightedGraph} searched with {@link DoubleWeightedGraph#WEIGHT} hands them over without boxing.
+ *
+ * @param <Vertex> type of vertex
+ * @param <W>      type of edge weight
+ */
+public class DijkstraPathFinder<Vertex, W> implements PathFinder<Vertex> {
+
+    private final WeightedGraph<Vertex, W> graph;
+    private final ToDoubleFunction<? super W> weight;
+
+    /**
+     * @param graph  graph to search
+     * @param weight converts edge weight to a non-negative {@code double}
+     */
+    public DijkstraPathFinder(final WeightedGraph<Vertex, W> graph, final ToDoubleFunction<? super W> weight) {
+        this.graph = Objects.requireNonNull(graph);
+        this.weight = Objects.requireNonNull(weight);
+    }
+
+    /**
+     * @throws IllegalArgumentException if an edge with a negative or NaN weight is reached
+     * @throws ConcurrentModificationException if an edge on a path was removed during the search
+     */
+    @Override
+    public List<Edge<Vertex>> getPath(final Vertex source, final Vertex destination) {
+        Objects.requireNonNull(destination);
+        if (!graph.mayHavePath(source, destination)) {
+            return Collections.emptyList();
+        }
+        return getPaths(source, Collections.singleton(destination)).get(destination);
+    }
+
+    /**
+     * Finds paths to all destinations with a single search that stops once all of them are settled.
+     *
+     * @throws IllegalArgumentException if an edge with a negative or NaN weight is reached
+     * @throws ConcurrentModificationException if an edge on a path was removed during the search
+     */
+    @Override
+    public Map<Vertex, List<Edge<Vertex>>> getPaths(final Vertex source,
+                                                    final Collection<? extends Vertex> destinations) {
+        Objects.requireNonNull(source);
+        destinations.forEach(Objects::requireNonNull);
+        final Map<Vertex, List<Edge<Vertex>>> result = new HashMap<>();
+        for (final Vertex destination : destinations) {
+            result.put(destination, Collections.emptyList());
+        }
+        if (!graph.getVertices().contains(source)) {
+            return result;
+        }
+        final Search search = new Search();
+        try {
+            final int from = search.start(source);
+            final BitSet targets = new BitSet();
+            final Set<Vertex> vertices = graph.getVertices();
+            for (final Vertex destination : destinations) {
+                final int to = vertices.contains(destination) ? search.target(destination) : -1;
+                if (to >= 0 && to != from) {
+                    targets.set(to);
+                }
+            }
+            if (targets.isEmpty()) {
+                return result;
+            }
+            search.run(targets);
+            for (final Vertex destination : destinations) {
+                final int to = search.idOf(destination);
+                if (to >= 0 && to != from && search.scratch.isSettled(to)) {
+                    result.put(destination, search.unwind(from, to));
+                }
+            }
+            return result;
+        } finally {
+            search.finish();
+        }
+    }
+
+    /**
+     * Finds shortest paths to all vertices reachable from a source with a single search.
+     *
+     * @param source source vertex to start with
+     * @return shortest paths from the source, empty if the source is not in the graph
+     * @throws IllegalArgumentException if an edge with a negative or NaN weight is reached
+     * @throws ConcurrentModificationException if an edge on a path was removed during the search
+     */
+    public ShortestPathTree<Vertex> getShortestPathTree(final Vertex source) {
+        Objects.requireNonNull(source);
+        final Search search = new Search();
+        try {
+            if (!graph.getVertices().contains(source)) {
+                final VertexIndex<Vertex> index = new VertexIndex<>();
+                return new ShortestPathTree<>(graph, index, index.putVertex(source), new double[]{0},
+                        new int[]{0});
+            }
+            final int from = search.start(source);
+            search.run(null);
+            final SearchScratch scratch = search.scratch;
+            final int count = search.index.size();
+            final double[] distance = new double[count];
+            final int[] parent = new int[count];
+            for (int id = 0; id < count; ++id) {
+                distance[id] = scratch.isSettled(id) ? scratch.distance[id] : Double.POSITIVE_INFINITY;
+                parent[id] = scratch.isSettled(id) ? scratch.parent[id] : -1;
+            }
+            return new ShortestPathTree<>(graph, search.index, from, distance, parent);
+        } finally {
+            search.finish();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DijkstraPathFinder{" + graph.toString() + "}";
+    }
+
+    /**
+     * A single search over the scratch space of the current thread, also serves as a neighbor consumer so that no
+     * objects are allocated per vertex.
+     */
+    private final class Search implements DoubleNeighborConsumer<Vertex> {
+
+        final SearchScratch scratch;
+        // ids of an indexed graph are fixed, other graphs get ids assigned by this search
+        final VertexIndex<Vertex> index;
+        final boolean shared;
+        int current;
+        double currentDistance;
+
+        Search() {
+            scratch = SearchScratch.acquire();
+            if (graph instanceof IndexedGraph) {
+                index = ((IndexedGraph<Vertex, ?>) graph).getVertexIndex();
+                shared = true;
+            } else {
+                index = new VertexIndex<>();
+                shared = false;
+            }
+        }
+
+        int idOf(final Vertex vertex) {
+            return index.indexOf(vertex);
+        }
+
+        int target(final Vertex destination) {
+            return shared ? index.indexOf(destination) : index.putVertex(destination);
+        }
+
+        int start(final Vertex source) {
+            final int id = shared ? index.indexOf(source) : index.putVertex(source);
+            scratch.label(id, 0, id);
+            scratch.heap.insertOrDecrease(id, 0);
+            return id;
+        }
+
+        /**
+         * Settles vertices in order of distance until all targets are settled or the heap is empty.
+         *
+         * @param targets ids to settle, emptied as they are settled, null to settle all reachable vertices
+         */
+        void run(final BitSet targets) {
+            final IndexedDoubleHeap heap = scratch.heap;
+            while (!heap.isEmpty()) {
+                final int id = heap.poll();
+                scratch.settle(id);
+                if (targets != null && targets.get(id)) {
+                    targets.clear(id);
+                    if (targets.isEmpty()) {
+                        break;
+                    }
+                }
+                current = id;
+                currentDistance = scratch.distance[id];
+                graph.forEachNeighbor(index.getVertex(id), weight, this);
+            }
+        }
+
+        @Override
+        public void accept(final Vertex neighbor, final double length) {
+            if (!(length >= 0)) {
+                throw new IllegalArgumentException("edge weight must be non-negative: " + length);
+            }
+            final int id = shared ? index.indexOf(neighbor) : index.putVertex(neighbor);
+            if (id < 0 || scratch.isSettled(id)) {
+                return;
+            }
+            final double candidate = currentDistance + length;
+            if (!scratch.isLabeled(id) || candidate < scratch.distance[id]) {
+                scratch.label(id, candidate, current);
+                scratch.heap.insertOrDecrease(id, candidate);
+            }
+        }
+
+        List<Edge<Vertex>> unwind(final int source, final int destination) {
+            final List<Edge<Vertex>> result = new ArrayList<>();
+            for (int id = destination; id != source; id = scratch.parent[id]) {
+                result.add(ShortestPathTree.edge(graph, index.getVertex(scratch.parent[id]), index.getVertex(id)));
+            }
+            Collections.reverse(result);
+            return result;
+        }
+
+        void finish() {
+            scratch.release();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package name.sample.graphs.algorithm;
+
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Estimate of the remaining distance from a vertex to a destination, guides an {@link AStarPathFinder}.
+ * <p/>
+ * A heuristic is admissible if it never overestimates the total weight of the lightest path, in which case A* finds
+ * paths with the minimum total weight. It is consistent if in addition the estimate never drops by more than the weight
+ * of an edge followed, in which case every vertex is expanded at most once. The geometric heuristics provided here
+ * are consistent whenever the weight of every edge is at least the distance between its endpoints in the same unit.
+ *
+ * @param <V> type of vertex
+ */
+@FunctionalInterface
+public interface Heuristic<V> {
+
+    /**
+     * Mean radius of the Earth in meters.
+     */
+    double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    /**
+     * @param vertex      vertex to estimate distance from
+     * @param destination destination of the search
+     * @return non-negative estimate of the total weight of the lightest path from the vertex to the destination
+     */
+    double estimate(V vertex, V destination);
+
+    /**
+     * @return heuristic estimating every distance as zero, turns A* into Dijkstra search
+     */
+    static <V> Heuristic<V> zero() {
+        return (vertex, destination) -> 0;
+    }
+
+    /**
+     * @param x first coordinate of a vertex
+     * @param y second coordinate of a vertex
+     * @return straight line distance between vertices on a plane
+     */
+    static <V> Heuristic<V> euclidean(final ToDoubleFunction<? super V> x, final ToDoubleFunction<? super V> y) {
+        Objects.requireNonNull(x);
+        Objects.requireNonNull(y);
+        return (vertex, destination) -> Math.hypot(x.applyAsDouble(vertex) - x.applyAsDouble(destination),
+                y.applyAsDouble(vertex) - y.applyAsDouble(destination));
+    }
+
+    /**
+     * @param latitude  latitude of a vertex in degrees
+     * @param longitude longitude of a vertex in degrees
+     * @return great circle distance between vertices in meters
+     */
+    static <V> Heuristic<V> haversine(final ToDoubleFunction<? super V> latitude,
+                                      final ToDoubleFunction<? super V> longitude) {
+        return haversine(latitude, longitude, EARTH_RADIUS_METERS);
+    }
+
+    /**
+     * @param latitude  latitude of a vertex in degrees
+     * @param longitude longitude of a vertex in degrees
+     * @param radius    radius of the sphere in the unit of edge weights
+     * @return great circle distance between vertices on a sphere
+     */
+    static <V> Heuristic<V> haversine(final ToDoubleFunction<? super V> latitude,
+                                      final ToDoubleFunction<? super V> longitude, final double radius) {
+        Objects.requireNonNull(latitude);
+        Objects.requireNonNull(longitude);
+        if (!(radius > 0)) {
+            throw new IllegalArgumentException("radius must be positive: " + radius);
+        }
+        return (vertex, destination) -> {
+            final double phi1 = Math.toRadians(latitude.applyAsDouble(vertex));
+            final double phi2 = Math.toRadians(latitude.applyAsDouble(destination));
+            final double sinPhi = Math.sin((phi2 - phi1) / 2);
+            final double sinLambda = Math.sin(Math.toRadians(
+                    longitude.applyAsDouble(destination) - longitude.applyAsDouble(vertex)) / 2);
+            final double h = sinPhi * sinPhi + Math.cos(phi1) * Math.cos(phi2) * sinLambda * sinLambda;
+            return 2 * radius * Math.asin(Math.min(1, Math.sqrt(h)));
+        };
+    }
+}
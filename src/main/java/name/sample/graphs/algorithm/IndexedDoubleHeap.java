@@ -0,0 +1,150 @@
+package name.sample.graphs.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * A d-ary min heap of dense {@code int} ids keyed by primitive {@code double} values, supports decrease-key.
+ * <p/>
+ * Each id is in the heap at most once, its position is tracked so that its key can be decreased in place. A wider
+ * heap is shallower than a binary one, so decrease-key, the most frequent operation of Dijkstra search, does fewer
+ * swaps while removals compare more children per level within the same cache line. Nothing is allocated once the
+ * arrays have grown to the largest id used, so an instance may be reused by many searches.
+ */
+final class IndexedDoubleHeap {
+
+    private static final int ARITY = 4;
+
+    // ids in heap order
+    private int[] heap;
+    // key of each id in heap order
+    private double[] keys;
+    // position of each id in the heap, -1 if it is not there
+    private int[] positions;
+    private int size;
+
+    IndexedDoubleHeap(final int capacity) {
+        heap = new int[Math.max(capacity, 16)];
+        keys = new double[heap.length];
+        positions = new int[heap.length];
+        Arrays.fill(positions, -1);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(final int id) {
+        return id < positions.length && positions[id] >= 0;
+    }
+
+    /**
+     * @return key of the id with the smallest key, the heap must not be empty
+     */
+    double peekKey() {
+        return keys[0];
+    }
+
+    /**
+     * Insert an id or decrease its key if it is already in the heap with a greater key.
+     *
+     * @param id  non-negative id
+     * @param key new key
+     * @return true if the id was inserted or its key was decreased
+     */
+    boolean insertOrDecrease(final int id, final double key) {
+        if (id >= positions.length) {
+            final int capacity = Math.max(id + 1, positions.length * 2);
+            final int from = positions.length;
+            positions = Arrays.copyOf(positions, capacity);
+            Arrays.fill(positions, from, capacity, -1);
+        }
+        int position = positions[id];
+        if (position >= 0) {
+            if (key >= keys[position]) {
+                return false;
+            }
+        } else {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 2);
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            position = size++;
+        }
+        siftUp(position, id, key);
+        return true;
+    }
+
+    /**
+     * Remove the id with the smallest key, the heap must not be empty.
+     *
+     * @return removed id
+     */
+    int poll() {
+        final int result = heap[0];
+        positions[result] = -1;
+        --size;
+        if (size > 0) {
+            siftDown(0, heap[size], keys[size]);
+        }
+        return result;
+    }
+
+    /**
+     * Remove all ids, takes time proportional to the number of ids in the heap.
+     */
+    void clear() {
+        for (int position = 0; position < size; ++position) {
+            positions[heap[position]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int position, final int id, final double key) {
+        while (position > 0) {
+            final int parent = (position - 1) / ARITY;
+            if (keys[parent] <= key) {
+                break;
+            }
+            move(heap[parent], keys[parent], position);
+            position = parent;
+        }
+        move(id, key, position);
+    }
+
+    private void siftDown(int position, final int id, final double key) {
+        while (true) {
+            final int first = position * ARITY + 1;
+            if (first >= size) {
+                break;
+            }
+            final int last = Math.min(first + ARITY, size);
+            int smallest = first;
+            for (int child = first + 1; child < last; ++child) {
+                if (keys[child] < keys[smallest]) {
+                    smallest = child;
+                }
+            }
+            if (keys[smallest] >= key) {
+                break;
+            }
+            move(heap[smallest], keys[smallest], position);
+            position = smallest;
+        }
+        move(id, key, position);
+    }
+
+    private void move(final int id, final double key, final int position) {
+        heap[position] = id;
+        keys[position] = key;
+        positions[id] = position;
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedDoubleHeap{" + size + "}";
+    }
+}
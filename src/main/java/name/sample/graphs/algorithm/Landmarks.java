@@ -0,0 +1,353 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.VertexIndex;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * ALT distance oracle: distances from and to a few landmark vertices give lower and upper bounds of the distance
+ * between any two vertices by the triangle inequality, the lower bounds guide an A* search.
+ * <p/>
+ * Landmarks are picked far apart, each one is the vertex the most edges away from all landmarks picked before, and a
+ * Dijkstra search from and to each of them is run on the executor passed to
+ * {@link #build(WeightedGraph, ToDoubleFunction, int, Executor) build}. Distances are kept in two arrays of
+ * {@code count * V} doubles, grouped by vertex so that bounds of a vertex are read from one place.
+ * <p/>
+ * Bounds are a snapshot of the graph at the time the landmarks were built, vertices added later get trivial bounds.
+ * Paths are searched in the live graph, they stay the lightest ones as long as no path got lighter since then, rebuild
+ * the landmarks after such changes. Bounds are immutable and may be used by any number of threads.
+ *
+ * @param <V> type of vertex
+ * @param <W> type of edge weight
+ */
+public final class Landmarks<V, W> implements PathFinder<V> {
+
+    // some virtual machines reserve a few header words in an array
+    private static final int MAX_TABLE_SIZE = Integer.MAX_VALUE - 8;
+
+    private final VertexIndex<V> index;
+    private final int[] landmarks;
+    // distance from each landmark to each vertex and from each vertex to each landmark, at id * count + landmark
+    private final double[] from;
+    private final double[] to;
+    private final AStarPathFinder<V, W> finder;
+
+    private Landmarks(final WeightedGraph<V, W> graph, final ToDoubleFunction<? super W> weight,
+                      final VertexIndex<V> index, final int[] landmarks, final double[] from, final double[] to) {
+        this.index = index;
+        this.landmarks = landmarks;
+        this.from = from;
+        this.to = to;
+        this.finder = new AStarPathFinder<>(graph, weight, this::getLowerBound);
+    }
+
+    /**
+     * Pick landmarks of a graph and compute their distances in the common pool.
+     *
+     * @see #build(WeightedGraph, ToDoubleFunction, int, Executor)
+     */
+    public static <V, W> Landmarks<V, W> build(final WeightedGraph<V, W> graph,
+                                               final ToDoubleFunction<? super W> weight, final int count) {
+        return build(graph, weight, count, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Pick landmarks of a graph and compute their distances.
+     *
+     * @param graph    graph to search
+     * @param weight   converts edge weight to a non-negative {@code double}
+     * @param count    number of landmarks, fewer are picked if the graph has fewer vertices
+     * @param executor executor running the searches from and to each landmark
+     * @return new landmarks of the graph
+     * @throws IllegalArgumentException if count is negative, the distance tables of so many landmarks would not fit
+     *                                  in an array, or the graph has an edge with a negative or NaN weight
+     */
+    public static <V, W> Landmarks<V, W> build(final WeightedGraph<V, W> graph,
+                                               final ToDoubleFunction<? super W> weight, final int count,
+                                               final Executor executor) {
+        Objects.requireNonNull(weight);
+        Objects.requireNonNull(executor);
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative: " + count);
+        }
+        final Set<V> vertices = graph.getVertices();
+        final VertexIndex<V> index = new VertexIndex<>(vertices.size());
+        vertices.forEach(index::putVertex);
+        final int size = index.size();
+        final List<WeightedEdge<V, W>> edges = new ArrayList<>();
+        for (int id = 0; id < size; ++id) {
+            for (final WeightedEdge<V, W> edge : graph.getOutgoingEdges(index.getVertex(id))) {
+                final double length = weight.applyAsDouble(edge.getWeight());
+                if (!(length >= 0)) {
+                    throw new IllegalArgumentException("edge weight must be non-negative: " + length);
+                }
+                edges.add(edge);
+            }
+        }
+        final Arcs forward = new Arcs(size, edges.size());
+        final Arcs backward = new Arcs(size, edges.size());
+        for (final WeightedEdge<V, W> edge : edges) {
+            final int tail = index.indexOf(edge.getNodeA());
+            final int head = index.indexOf(edge.getNodeB());
+            forward.count(tail);
+            backward.count(head);
+        }
+        forward.allocate();
+        backward.allocate();
+        for (final WeightedEdge<V, W> edge : edges) {
+            final int tail = index.indexOf(edge.getNodeA());
+            final int head = index.indexOf(edge.getNodeB());
+            final double length = weight.applyAsDouble(edge.getWeight());
+            forward.add(tail, head, length);
+            backward.add(head, tail, length);
+        }
+        // distances are indexed by id * count + landmark, which must not overflow
+        if ((long) Math.min(count, size) * size > MAX_TABLE_SIZE) {
+            throw new IllegalArgumentException("too many landmarks for " + size + " vertices: " + count);
+        }
+        final int[] landmarks = pick(forward, backward, Math.min(count, size));
+        final int k = landmarks.length;
+        final double[] from = new double[k * size];
+        final double[] to = new double[k * size];
+        final CompletableFuture<?>[] tasks = new CompletableFuture<?>[k * 2];
+        for (int l = 0; l < k; ++l) {
+            final int landmark = l;
+            tasks[l * 2] = CompletableFuture.runAsync(
+                    () -> forward.distances(landmarks[landmark], from, landmark, k), executor);
+            tasks[l * 2 + 1] = CompletableFuture.runAsync(
+                    () -> backward.distances(landmarks[landmark], to, landmark, k), executor);
+        }
+        CompletableFuture.allOf(tasks).join();
+        return new Landmarks<>(graph, weight, index, landmarks, from, to);
+    }
+
+    /**
+     * Farthest point selection by the number of edges: the first landmark is the vertex farthest from vertex 0, every
+     * next one is the vertex farthest from all landmarks picked before, unreachable vertices counting as the farthest.
+     * A vertex is never picked twice.
+     */
+    private static int[] pick(final Arcs forward, final Arcs backward, final int count) {
+        final int size = forward.offsets.length - 1;
+        final int[] result = new int[count];
+        final int[] hops = new int[size];
+        Arrays.fill(hops, Integer.MAX_VALUE);
+        final int[] queue = new int[size];
+        final boolean[] picked = new boolean[size];
+        int start = 0;
+        for (int l = 0; l < count; ++l) {
+            // the first search only finds a starting point far from vertex 0, it is not a landmark itself
+            if (l == 0) {
+                hop(forward, backward, 0, hops, queue);
+                start = farthest(hops, picked);
+                Arrays.fill(hops, Integer.MAX_VALUE);
+            }
+            result[l] = start;
+            picked[start] = true;
+            hop(forward, backward, start, hops, queue);
+            start = farthest(hops, picked);
+            if (start < 0) {
+                return Arrays.copyOf(result, l + 1);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Breadth first search following edges in both directions, lowers the number of edges from the source.
+     */
+    private static void hop(final Arcs forward, final Arcs backward, final int source, final int[] hops,
+                            final int[] queue) {
+        final int[] level = new int[hops.length];
+        Arrays.fill(level, -1);
+        level[source] = 0;
+        queue[0] = source;
+        int tail = 1;
+        for (int head = 0; head < tail; ++head) {
+            final int current = queue[head];
+            hops[current] = Math.min(hops[current], level[current]);
+            for (final Arcs arcs : new Arcs[]{forward, backward}) {
+                for (int arc = arcs.offsets[current]; arc < arcs.offsets[current + 1]; ++arc) {
+                    final int next = arcs.heads[arc];
+                    if (level[next] < 0) {
+                        level[next] = level[current] + 1;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the vertex not picked yet with the most hops, -1 if all vertices are picked
+     */
+    private static int farthest(final int[] hops, final boolean[] picked) {
+        int result = -1;
+        for (int id = 0; id < hops.length; ++id) {
+            if (!picked[id] && (result < 0 || hops[id] > hops[result])) {
+                result = id;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return landmark vertices
+     */
+    public List<V> getLandmarks() {
+        final List<V> result = new ArrayList<>(landmarks.length);
+        for (final int landmark : landmarks) {
+            result.add(index.getVertex(landmark));
+        }
+        return result;
+    }
+
+    /**
+     * Lower bound of the distance between two vertices, takes time proportional to the number of landmarks.
+     *
+     * @param source      source vertex
+     * @param destination destination vertex
+     * @return a value not greater than the total weight of the lightest path, infinity if there is no path, zero if
+     * either vertex is unknown
+     */
+    public double getLowerBound(final V source, final V destination) {
+        final int s = index.indexOf(Objects.requireNonNull(source));
+        final int t = index.indexOf(Objects.requireNonNull(destination));
+        if (s < 0 || t < 0 || s == t) {
+            return 0;
+        }
+        final int k = landmarks.length;
+        double result = 0;
+        for (int l = 0; l < k; ++l) {
+            // d(s, t) >= d(L, t) - d(L, s), and t is unreachable from s if L reaches s but not t
+            final double fromS = from[s * k + l];
+            if (fromS != Double.POSITIVE_INFINITY) {
+                result = Math.max(result, from[t * k + l] - fromS);
+            }
+            // d(s, t) >= d(s, L) - d(t, L), and t is unreachable from s if t reaches L but s does not
+            final double toT = to[t * k + l];
+            if (toT != Double.POSITIVE_INFINITY) {
+                result = Math.max(result, to[s * k + l] - toT);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Upper bound of the distance between two vertices, takes time proportional to the number of landmarks.
+     *
+     * @param source      source vertex
+     * @param destination destination vertex
+     * @return a value not less than the total weight of the lightest path, infinity if no path through a landmark is
+     * known
+     */
+    public double getUpperBound(final V source, final V destination) {
+        final int s = index.indexOf(Objects.requireNonNull(source));
+        final int t = index.indexOf(Objects.requireNonNull(destination));
+        if (s < 0 || t < 0) {
+            return s == t && source.equals(destination) ? 0 : Double.POSITIVE_INFINITY;
+        }
+        if (s == t) {
+            return 0;
+        }
+        final int k = landmarks.length;
+        double result = Double.POSITIVE_INFINITY;
+        for (int l = 0; l < k; ++l) {
+            result = Math.min(result, to[s * k + l] + from[t * k + l]);
+        }
+        return result;
+    }
+
+    /**
+     * Find a path with an A* search guided by the lower bounds, queries with an infinite lower bound are rejected
+     * without a search.
+     */
+    @Override
+    public List<Edge<V>> getPath(final V source, final V destination) {
+        if (getLowerBound(source, destination) == Double.POSITIVE_INFINITY) {
+            return Collections.emptyList();
+        }
+        return finder.getPath(source, destination);
+    }
+
+    /**
+     * @return number of vertices expanded by all searches
+     */
+    public long getExpandedCount() {
+        return finder.getExpandedCount();
+    }
+
+    @Override
+    public String toString() {
+        return "Landmarks{" + getLandmarks() + "}";
+    }
+
+    /**
+     * Arcs of all vertices in a compressed sparse row layout, filled by counting arcs of each vertex first.
+     */
+    private static final class Arcs {
+
+        final int[] offsets;
+        final int[] heads;
+        final double[] weights;
+        // next free position of each vertex while arcs are added
+        private int[] cursor;
+
+        Arcs(final int vertexCount, final int arcCount) {
+            offsets = new int[vertexCount + 1];
+            heads = new int[arcCount];
+            weights = new double[arcCount];
+        }
+
+        void count(final int tail) {
+            ++offsets[tail + 1];
+        }
+
+        void allocate() {
+            for (int id = 1; id < offsets.length; ++id) {
+                offsets[id] += offsets[id - 1];
+            }
+            cursor = Arrays.copyOf(offsets, offsets.length - 1);
+        }
+
+        /**
+         * Adds an arc after arcs of all vertices were counted and allocated.
+         */
+        void add(final int tail, final int head, final double weight) {
+            final int position = cursor[tail]++;
+            heads[position] = head;
+            weights[position] = weight;
+        }
+
+        /**
+         * Dijkstra search from a source storing distances of all vertices into one column of a vertex major table.
+         */
+        void distances(final int source, final double[] table, final int column, final int columns) {
+            final int size = offsets.length - 1;
+            final double[] distance = new double[size];
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            final IndexedDoubleHeap heap = new IndexedDoubleHeap(size);
+            distance[source] = 0;
+            heap.insertOrDecrease(source, 0);
+            while (!heap.isEmpty()) {
+                final int id = heap.poll();
+                for (int arc = offsets[id]; arc < offsets[id + 1]; ++arc) {
+                    final double candidate = distance[id] + weights[arc];
+                    if (candidate < distance[heads[arc]]) {
+                        distance[heads[arc]] = candidate;
+                        heap.insertOrDecrease(heads[arc], candidate);
+                    }
+                }
+            }
+            for (int id = 0; id < size; ++id) {
+                table[id * columns + column] = distance[id];
+            }
+        }
+    }
+}
@@ -2,7 +2,10 @@ package name.sample.graphs.algorithm;
 
 import name.sample.graphs.Edge;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -19,4 +22,22 @@ public interface PathFinder<Vertex> {
      * @return a {@link Set} of {@link Edge}s that represent path from source to destination
      */
     List<Edge<Vertex>> getPath(final Vertex source, final Vertex destination);
+
+    /**
+     * Retrieves paths from one source vertex to each of several destination vertices.
+     * <p/>
+     * Implementations may serve all destinations with a single traversal, by default paths are found one by one.
+     *
+     * @param source       source vertex to start with
+     * @param destinations destination vertices to go to
+     * @return a {@link Map} from each destination to its path, an empty list if destination is not reachable
+     */
+    default Map<Vertex, List<Edge<Vertex>>> getPaths(final Vertex source,
+                                                     final Collection<? extends Vertex> destinations) {
+        final Map<Vertex, List<Edge<Vertex>>> result = new HashMap<>();
+        for (final Vertex destination : destinations) {
+            result.put(destination, getPath(source, destination));
+        }
+        return result;
+    }
 }
@@ -0,0 +1,95 @@
+package name.sample.graphs.algorithm;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A request for a path between two vertices, optionally with a deadline.
+ * <p/>
+ * A deadline is fixed when a query is created, a query not answered by then fails with a
+ * {@link java.util.concurrent.TimeoutException}.
+ *
+ * @param <Vertex> type of graph vertexes
+ */
+public final class PathQuery<Vertex> {
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final Vertex source;
+    private final Vertex destination;
+    private final long deadline;
+
+    private PathQuery(final Vertex source, final Vertex destination, final long deadline) {
+        this.source = Objects.requireNonNull(source);
+        this.destination = Objects.requireNonNull(destination);
+        this.deadline = deadline;
+    }
+
+    /**
+     * Create a query without a deadline.
+     *
+     * @param source      source vertex to start with
+     * @param destination destination vertex to go to
+     * @param <Vertex>    type of graph vertexes
+     * @return a new query
+     */
+    public static <Vertex> PathQuery<Vertex> of(final Vertex source, final Vertex destination) {
+        return new PathQuery<>(source, destination, NO_DEADLINE);
+    }
+
+    /**
+     * Create a query that has to be answered within specified time from now.
+     *
+     * @param source      source vertex to start with
+     * @param destination destination vertex to go to
+     * @param timeout     time to answer the query
+     * @param unit        unit of the timeout
+     * @param <Vertex>    type of graph vertexes
+     * @return a new query
+     */
+    public static <Vertex> PathQuery<Vertex> of(final Vertex source, final Vertex destination, final long timeout,
+                                                final TimeUnit unit) {
+        return new PathQuery<>(source, destination, System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    public Vertex getSource() {
+        return source;
+    }
+
+    public Vertex getDestination() {
+        return destination;
+    }
+
+    boolean hasDeadline() {
+        return deadline != NO_DEADLINE;
+    }
+
+    /**
+     * @return nanoseconds left until the deadline, may be negative
+     */
+    long remainingNanos() {
+        return deadline - System.nanoTime();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PathQuery)) {
+            return false;
+        }
+        final PathQuery<?> query = (PathQuery<?>) o;
+        return deadline == query.deadline && source.equals(query.source) && destination.equals(query.destination);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, destination, deadline);
+    }
+
+    @Override
+    public String toString() {
+        return "PathQuery{source=" + source + ", destination=" + destination + "}";
+    }
+}
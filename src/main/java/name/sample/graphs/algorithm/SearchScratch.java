@@ -0,0 +1,80 @@
+package name.sample.graphs.algorithm;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Reusable arrays of label setting searches running on one thread: distances and parents by dense vertex id and a
+ * heap ordering the ids.
+ * <p/>
+ * Entries are valid only if their stamp equals the generation of the current search, starting a search just
+ * increments the generation instead of clearing the arrays, so a search costs nothing for vertices it never labels.
+ */
+final class SearchScratch {
+
+    // released spaces of each thread, a search using two spaces or nested in another one takes more than one
+    private static final ThreadLocal<ArrayDeque<SearchScratch>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    final IndexedDoubleHeap heap = new IndexedDoubleHeap(16);
+    double[] distance = new double[16];
+    int[] parent = new int[16];
+    // generation an entry was labeled in, and negated generation once it is settled
+    private int[] stamp = new int[16];
+    private int generation;
+
+    private SearchScratch() {
+    }
+
+    /**
+     * Takes a scratch space of the current thread for a new search, one that is not used by another search on the
+     * same thread.
+     *
+     * @return scratch space to be {@link #release() released} by the same thread when the search is over
+     */
+    static SearchScratch acquire() {
+        final SearchScratch pooled = POOL.get().pollLast();
+        final SearchScratch result = pooled == null ? new SearchScratch() : pooled;
+        if (++result.generation == Integer.MAX_VALUE) {
+            Arrays.fill(result.stamp, 0);
+            result.generation = 1;
+        }
+        return result;
+    }
+
+    void release() {
+        heap.clear();
+        POOL.get().addLast(this);
+    }
+
+    boolean isLabeled(final int id) {
+        return id < stamp.length && (stamp[id] == generation || stamp[id] == -generation);
+    }
+
+    boolean isSettled(final int id) {
+        return id < stamp.length && stamp[id] == -generation;
+    }
+
+    /**
+     * Sets distance and parent of an id, a settled id becomes labeled again.
+     */
+    void label(final int id, final double value, final int from) {
+        if (id >= stamp.length) {
+            final int capacity = Math.max(id + 1, stamp.length * 2);
+            distance = Arrays.copyOf(distance, capacity);
+            parent = Arrays.copyOf(parent, capacity);
+            stamp = Arrays.copyOf(stamp, capacity);
+        }
+        distance[id] = value;
+        parent[id] = from;
+        stamp[id] = generation;
+    }
+
+    void settle(final int id) {
+        stamp[id] = -generation;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchScratch{" + generation + "}";
+    }
+}
@@ -0,0 +1,119 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.Graph;
+import name.sample.graphs.VertexIndex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Shortest paths from one source vertex to every vertex reachable from it, the result of a single search that can
+ * serve any number of lookups.
+ * <p/>
+ * The tree keeps distances and the edge leading to each reached vertex by dense vertex id. Edges are looked up once
+ * when the tree is built, so paths keep matching distances however the graph changes later. The tree itself is
+ * immutable.
+ *
+ * @param <V> type of vertex
+ */
+public final class ShortestPathTree<V> {
+
+    private final VertexIndex<V> index;
+    private final int source;
+    private final double[] distance;
+    private final int[] parent;
+    private final Edge<V>[] edges;
+
+    /**
+     * @param graph    graph the tree was built for
+     * @param index    index assigning the ids used by arrays
+     * @param source   id of the source vertex
+     * @param distance distance of each id, infinity for unreachable ids
+     * @param parent   parent id of each reachable id, the source is its own parent
+     * @throws ConcurrentModificationException if an edge of the tree was removed from the graph after the search
+     */
+    ShortestPathTree(final Graph<V, ? extends Edge<V>> graph, final VertexIndex<V> index, final int source,
+                     final double[] distance, final int[] parent) {
+        this.index = index;
+        this.source = source;
+        this.distance = distance;
+        this.parent = parent;
+        this.edges = newArray(distance.length);
+        for (int id = 0; id < distance.length; ++id) {
+            if (id != source && distance[id] != Double.POSITIVE_INFINITY) {
+                edges[id] = edge(graph, index.getVertex(parent[id]), index.getVertex(id));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Edge<V>[] newArray(final int length) {
+        return (Edge<V>[]) new Edge<?>[length];
+    }
+
+    /**
+     * Looks up an edge a search went through.
+     *
+     * @throws ConcurrentModificationException if the edge was removed since
+     */
+    static <V> Edge<V> edge(final Graph<V, ? extends Edge<V>> graph, final V a, final V b) {
+        final Edge<V> edge = graph.getEdge(a, b);
+        if (edge == null) {
+            throw new ConcurrentModificationException("edge from " + a + " to " + b + " was removed during search");
+        }
+        return edge;
+    }
+
+    public V getSource() {
+        return index.getVertex(source);
+    }
+
+    private int idOf(final V vertex) {
+        final int id = index.indexOf(Objects.requireNonNull(vertex));
+        return id >= 0 && id < distance.length && distance[id] != Double.POSITIVE_INFINITY ? id : -1;
+    }
+
+    /**
+     * @param vertex vertex to look up
+     * @return true if there is a path from the source to the vertex, the source is reachable from itself
+     */
+    public boolean isReachable(final V vertex) {
+        return idOf(vertex) >= 0;
+    }
+
+    /**
+     * @param vertex vertex to look up
+     * @return total weight of the shortest path from the source to the vertex, infinity if it is not reachable
+     */
+    public double getDistance(final V vertex) {
+        final int id = idOf(vertex);
+        return id < 0 ? Double.POSITIVE_INFINITY : distance[id];
+    }
+
+    /**
+     * @param vertex vertex to look up
+     * @return edges of the shortest path from the source to the vertex, an empty list if it is not reachable or it
+     * is the source
+     */
+    public List<Edge<V>> getPath(final V vertex) {
+        final int id = idOf(vertex);
+        if (id < 0) {
+            return Collections.emptyList();
+        }
+        final List<Edge<V>> result = new ArrayList<>();
+        for (int current = id; current != source; current = parent[current]) {
+            result.add(edges[current]);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ShortestPathTree{" + getSource() + "}";
+    }
+}
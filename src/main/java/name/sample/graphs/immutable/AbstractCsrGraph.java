@@ -0,0 +1,316 @@
+package name.sample.graphs.immutable;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.Graph;
+import name.sample.graphs.IndexedGraph;
+import name.sample.graphs.NeighborConsumer;
+import name.sample.graphs.VertexIndex;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * A base class for read-only graphs stored in a compressed sparse row (CSR) layout.
+ * <p/>
+ * Vertices are numbered densely from zero by a {@link VertexIndex}, outgoing edges of vertex {@code i} occupy positions
+ * {@code offsets[i]} (inclusive) to {@code offsets[i + 1]} (exclusive) of the {@code targets} array.
+ * {@link Edge} objects are not stored, they are materialized on demand.
+ * <p/>
+ * In an undirected graph every edge is stored once for each of its endpoints, so outgoing edges of a vertex are also
+ * its incoming edges. A directed graph builds a transposed copy of its arrays on the first request for incoming
+ * neighbors, any graph builds it on the first request for incoming edges.
+ *
+ * @param <V> graph vertex type
+ * @param <E> graph edge type
+ */
+abstract class AbstractCsrGraph<V, E extends Edge<V>> implements IndexedGraph<V, E> {
+
+    final VertexIndex<V> index;
+    final int[] offsets;
+    final int[] targets;
+    final boolean directed;
+    // offsets, sources and positions in the targets array of incoming edges, built on demand
+    private volatile int[][] transposed;
+
+    AbstractCsrGraph(final VertexIndex<V> index, final int[] offsets, final int[] targets, final boolean directed) {
+        this.index = index;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.directed = directed;
+    }
+
+    /**
+     * Materializes an edge stored at specified position of the targets array.
+     *
+     * @param source   dense id of the edge source vertex
+     * @param position position of the edge in the targets array
+     * @return a new {@link Edge} instance
+     */
+    abstract E edgeAt(int source, int position);
+
+    /**
+     * Whether edges of this graph have a direction.
+     *
+     * @return true for a directed graph, false otherwise
+     */
+    public boolean isDirected() {
+        return directed;
+    }
+
+    final V vertexAt(final int id) {
+        return index.getVertex(id);
+    }
+
+    @Override
+    public VertexIndex<V> getVertexIndex() {
+        return index;
+    }
+
+    @Override
+    public int getOutDegree(final int id) {
+        return offsets[id + 1] - offsets[id];
+    }
+
+    @Override
+    public void forEachNeighborId(final int id, final IntConsumer consumer) {
+        for (int position = offsets[id]; position < offsets[id + 1]; ++position) {
+            consumer.accept(targets[position]);
+        }
+    }
+
+    @Override
+    public boolean hasIncomingNeighborIds() {
+        return true;
+    }
+
+    @Override
+    public boolean hasIncomingEdgeIndex() {
+        return true;
+    }
+
+    @Override
+    public int findIncomingNeighborId(final int id, final IntPredicate predicate) {
+        final int[] incomingOffsets;
+        final int[] sources;
+        if (directed) {
+            final int[][] incoming = transposed();
+            incomingOffsets = incoming[0];
+            sources = incoming[1];
+        } else {
+            incomingOffsets = offsets;
+            sources = targets;
+        }
+        for (int position = incomingOffsets[id]; position < incomingOffsets[id + 1]; ++position) {
+            if (predicate.test(sources[position])) {
+                return sources[position];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Builds incoming edge arrays with a counting sort of edges by target. Concurrent callers may build them more than
+     * once, all copies are equal.
+     *
+     * @return offsets of incoming edges of each id, their source ids and their positions in the targets array
+     */
+    private int[][] transposed() {
+        int[][] result = transposed;
+        if (result == null) {
+            final int count = offsets.length - 1;
+            final int[] incomingOffsets = new int[count + 1];
+            for (final int target : targets) {
+                ++incomingOffsets[target + 1];
+            }
+            for (int id = 0; id < count; ++id) {
+                incomingOffsets[id + 1] += incomingOffsets[id];
+            }
+            final int[] next = Arrays.copyOf(incomingOffsets, count);
+            final int[] sources = new int[targets.length];
+            final int[] positions = new int[targets.length];
+            for (int source = 0; source < count; ++source) {
+                for (int position = offsets[source]; position < offsets[source + 1]; ++position) {
+                    final int slot = next[targets[position]]++;
+                    sources[slot] = source;
+                    positions[slot] = position;
+                }
+            }
+            result = new int[][]{incomingOffsets, sources, positions};
+            transposed = result;
+        }
+        return result;
+    }
+
+    @Override
+    public Set<V> getVertices() {
+        return index.getVertices();
+    }
+
+    @Override
+    public Collection<E> getEdges() {
+        final List<E> result = new ArrayList<>(directed ? targets.length : targets.length / 2 + 1);
+        for (int source = 0; source < offsets.length - 1; ++source) {
+            for (int position = offsets[source]; position < offsets[source + 1]; ++position) {
+                // an undirected edge is stored for both endpoints, report it only once
+                if (directed || source <= targets[position]) {
+                    result.add(edgeAt(source, position));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Materializes incoming edges out of transposed arrays, built on the first call.
+     */
+    @Override
+    public Collection<E> getIncomingEdges(final V vertex) {
+        Objects.requireNonNull(vertex);
+        final int target = index.indexOf(vertex);
+        if (target < 0) {
+            return Collections.emptyList();
+        }
+        final int[][] incoming = transposed();
+        final int from = incoming[0][target];
+        final int size = incoming[0][target + 1] - from;
+        return new AbstractList<E>() {
+            @Override
+            public E get(final int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+                }
+                return edgeAt(incoming[1][from + index], incoming[2][from + index]);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public E getEdge(final V a, final V b) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        final int source = index.indexOf(a);
+        final int target = index.indexOf(b);
+        if (source >= 0 && target >= 0) {
+            for (int position = offsets[source]; position < offsets[source + 1]; ++position) {
+                if (targets[position] == target) {
+                    return edgeAt(source, position);
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final NeighborConsumer<? super V> consumer) {
+        Objects.requireNonNull(vertex);
+        final int source = index.indexOf(vertex);
+        if (source >= 0) {
+            for (int position = offsets[source]; position < offsets[source + 1]; ++position) {
+                consumer.accept(vertexAt(targets[position]));
+            }
+        }
+    }
+
+    @Override
+    public Collection<E> getOutgoingEdges(final V vertex) {
+        Objects.requireNonNull(vertex);
+        final int source = index.indexOf(vertex);
+        if (source < 0) {
+            return Collections.emptyList();
+        }
+        final int from = offsets[source];
+        final int size = offsets[source + 1] - from;
+        return new AbstractList<E>() {
+            @Override
+            public E get(final int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+                }
+                return edgeAt(source, from + index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Builds CSR arrays out of an existing graph.
+     * <p/>
+     * Source graph is traversed once, edges leading to vertices that were not present when traversal started
+     * are ignored, so a graph that is being modified concurrently results in a weakly consistent copy.
+     *
+     * @param <V> graph vertex type
+     * @param <E> graph edge type
+     */
+    static final class Builder<V, E extends Edge<V>> {
+
+        final VertexIndex<V> index;
+        final int[] offsets;
+        int[] targets = new int[16];
+        Object[] payload;
+        int size;
+
+        Builder(final Graph<V, ? extends E> graph, final boolean withPayload) {
+            Objects.requireNonNull(graph);
+            final Set<V> vertices = graph.getVertices();
+            index = new VertexIndex<>(vertices.size());
+            for (final V vertex : vertices) {
+                index.putVertex(vertex);
+            }
+            offsets = new int[index.size() + 1];
+            payload = withPayload ? new Object[targets.length] : null;
+        }
+
+        /**
+         * Copies adjacency of all vertices.
+         *
+         * @param graph     graph to copy edges from
+         * @param extractor extracts an additional per edge object, used only if payload was requested
+         */
+        void copy(final Graph<V, ? extends E> graph, final Function<? super E, ?> extractor) {
+            final int count = offsets.length - 1;
+            for (int source = 0; source < count; ++source) {
+                offsets[source] = size;
+                for (final E edge : graph.getOutgoingEdges(index.getVertex(source))) {
+                    final int target = index.indexOf(edge.getNodeB());
+                    if (target >= 0) {
+                        append(target, payload == null ? null : extractor.apply(edge));
+                    }
+                }
+            }
+            offsets[count] = size;
+        }
+
+        private void append(final int target, final Object value) {
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, size * 2);
+                if (payload != null) {
+                    payload = Arrays.copyOf(payload, size * 2);
+                }
+            }
+            targets[size] = target;
+            if (payload != null) {
+                payload[size] = value;
+            }
+            ++size;
+        }
+
+        int[] targets() {
+            return Arrays.copyOf(targets, size);
+        }
+
+        Object[] payload() {
+            return Arrays.copyOf(payload, size);
+        }
+    }
+}
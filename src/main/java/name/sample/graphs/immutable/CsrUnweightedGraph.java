@@ -0,0 +1,50 @@
+package name.sample.graphs.immutable;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.Graph;
+import name.sample.graphs.UnweightedGraph;
+import name.sample.graphs.VertexIndex;
+import name.sample.graphs.mutable.edges.ImmutableDirectedUnweightedEdge;
+import name.sample.graphs.mutable.edges.ImmutableUndirectedUnweightedEdge;
+
+/**
+ * A read-only unweighted graph stored in a compressed sparse row layout.
+ * <p/>
+ * Adjacency is kept in two primitive arrays, which takes a fraction of memory used by map based mutable graphs
+ * and makes traversals cache friendly. Use it for graphs that are built once and queried many times.
+ *
+ * @param <V> graph vertex type
+ */
+public final class CsrUnweightedGraph<V> extends AbstractCsrGraph<V, Edge<V>> implements UnweightedGraph<V> {
+
+    private CsrUnweightedGraph(final VertexIndex<V> index, final int[] offsets, final int[] targets,
+                               final boolean directed) {
+        super(index, offsets, targets, directed);
+    }
+
+    /**
+     * Creates a read-only copy of a graph.
+     *
+     * @param graph    graph to copy
+     * @param directed whether edges of the graph have a direction
+     * @param <V>      graph vertex type
+     * @return a new immutable graph
+     */
+    public static <V> CsrUnweightedGraph<V> copyOf(final Graph<V, ? extends Edge<V>> graph, final boolean directed) {
+        final Builder<V, Edge<V>> builder = new Builder<>(graph, false);
+        builder.copy(graph, null);
+        return new CsrUnweightedGraph<>(builder.index, builder.offsets, builder.targets(), directed);
+    }
+
+    @Override
+    Edge<V> edgeAt(final int source, final int position) {
+        final V a = vertexAt(source);
+        final V b = vertexAt(targets[position]);
+        return directed ? new ImmutableDirectedUnweightedEdge<>(a, b) : new ImmutableUndirectedUnweightedEdge<>(a, b);
+    }
+
+    @Override
+    public String toString() {
+        return "CsrUnweightedGraph{}";
+    }
+}
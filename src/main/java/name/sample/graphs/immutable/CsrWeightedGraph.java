@@ -0,0 +1,94 @@
+package name.sample.graphs.immutable;
+
+import name.sample.graphs.DoubleNeighborConsumer;
+import name.sample.graphs.Graph;
+import name.sample.graphs.VertexIndex;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.WeightedNeighborConsumer;
+import name.sample.graphs.mutable.edges.ImmutableDirectedWeightedEdge;
+import name.sample.graphs.mutable.edges.ImmutableUndirectedWeightedEdge;
+
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A read-only weighted graph stored in a compressed sparse row layout.
+ * <p/>
+ * Adjacency is kept in two primitive arrays and weights in a parallel object array, which takes a fraction of
+ * memory used by map based mutable graphs and makes traversals cache friendly. Use it for graphs that are built
+ * once and queried many times.
+ *
+ * @param <V> graph vertex type
+ * @param <W> graph edge weight type
+ */
+public final class CsrWeightedGraph<V, W> extends AbstractCsrGraph<V, WeightedEdge<V, W>>
+        implements WeightedGraph<V, W> {
+
+    private final Object[] weights;
+
+    private CsrWeightedGraph(final VertexIndex<V> index, final int[] offsets, final int[] targets,
+                             final Object[] weights, final boolean directed) {
+        super(index, offsets, targets, directed);
+        this.weights = weights;
+    }
+
+    /**
+     * Creates a read-only copy of a graph.
+     *
+     * @param graph    graph to copy
+     * @param directed whether edges of the graph have a direction
+     * @param <V>      graph vertex type
+     * @param <W>      graph edge weight type
+     * @return a new immutable graph
+     */
+    public static <V, W> CsrWeightedGraph<V, W> copyOf(final Graph<V, ? extends WeightedEdge<V, W>> graph,
+                                                       final boolean directed) {
+        final Builder<V, WeightedEdge<V, W>> builder = new Builder<>(graph, true);
+        builder.copy(graph, WeightedEdge::getWeight);
+        return new CsrWeightedGraph<>(builder.index, builder.offsets, builder.targets(),
+                builder.payload(), directed);
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final WeightedNeighborConsumer<? super V, ? super W> consumer) {
+        Objects.requireNonNull(vertex);
+        final int source = index.indexOf(vertex);
+        if (source >= 0) {
+            for (int position = offsets[source]; position < offsets[source + 1]; ++position) {
+                consumer.accept(vertexAt(targets[position]), weightAt(position));
+            }
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final ToDoubleFunction<? super W> weight,
+                                final DoubleNeighborConsumer<? super V> consumer) {
+        Objects.requireNonNull(vertex);
+        final int source = index.indexOf(vertex);
+        if (source >= 0) {
+            for (int position = offsets[source]; position < offsets[source + 1]; ++position) {
+                consumer.accept(vertexAt(targets[position]), weight.applyAsDouble(weightAt(position)));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private W weightAt(final int position) {
+        return (W) weights[position];
+    }
+
+    @Override
+    WeightedEdge<V, W> edgeAt(final int source, final int position) {
+        final V a = vertexAt(source);
+        final V b = vertexAt(targets[position]);
+        final W weight = weightAt(position);
+        return directed ? new ImmutableDirectedWeightedEdge<>(a, b, weight)
+                : new ImmutableUndirectedWeightedEdge<>(a, b, weight);
+    }
+
+    @Override
+    public String toString() {
+        return "CsrWeightedGraph{}";
+    }
+}
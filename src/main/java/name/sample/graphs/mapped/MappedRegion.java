@@ -0,0 +1,87 @@
+package name.sample.graphs.mapped;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A contiguous file region mapped into memory as an array of fixed size primitive elements.
+ * <p/>
+ * A single {@link MappedByteBuffer} can not exceed 2GB, so the region is mapped as a sequence of chunks, each
+ * holding a power of two number of elements. Elements are addressed by {@code long} indexes.
+ */
+final class MappedRegion {
+
+    /**
+     * Default binary logarithm of the size of a single chunk in bytes, chunks of 1GB.
+     */
+    static final int DEFAULT_CHUNK_SHIFT = 30;
+
+    private final MappedByteBuffer[] chunks;
+    private final int elementShift;
+    private final int indexShift;
+    private final long indexMask;
+
+    /**
+     * Maps a region of a file.
+     *
+     * @param channel      file channel to map
+     * @param mode         mapping mode
+     * @param position     position of the region in the file, in bytes
+     * @param count        number of elements in the region
+     * @param elementShift binary logarithm of element size in bytes
+     * @param chunkShift   binary logarithm of chunk size in bytes
+     * @param order        byte order of elements
+     * @throws IOException if mapping failed
+     */
+    MappedRegion(final FileChannel channel, final FileChannel.MapMode mode, final long position, final long count,
+                 final int elementShift, final int chunkShift, final ByteOrder order) throws IOException {
+        this.elementShift = elementShift;
+        this.indexShift = chunkShift - elementShift;
+        this.indexMask = (1L << indexShift) - 1;
+        final long chunkElements = 1L << indexShift;
+        final int chunkCount = (int) ((count + chunkElements - 1) / chunkElements);
+        chunks = new MappedByteBuffer[chunkCount];
+        for (int i = 0; i < chunkCount; ++i) {
+            final long elements = Math.min(chunkElements, count - i * chunkElements);
+            final MappedByteBuffer chunk = channel.map(mode, position + ((i * chunkElements) << elementShift),
+                    elements << elementShift);
+            chunk.order(order);
+            chunks[i] = chunk;
+        }
+    }
+
+    int getInt(final long index) {
+        return chunks[(int) (index >>> indexShift)].getInt((int) (index & indexMask) << elementShift);
+    }
+
+    long getLong(final long index) {
+        return chunks[(int) (index >>> indexShift)].getLong((int) (index & indexMask) << elementShift);
+    }
+
+    double getDouble(final long index) {
+        return chunks[(int) (index >>> indexShift)].getDouble((int) (index & indexMask) << elementShift);
+    }
+
+    void putInt(final long index, final int value) {
+        chunks[(int) (index >>> indexShift)].putInt((int) (index & indexMask) << elementShift, value);
+    }
+
+    void putLong(final long index, final long value) {
+        chunks[(int) (index >>> indexShift)].putLong((int) (index & indexMask) << elementShift, value);
+    }
+
+    void putDouble(final long index, final double value) {
+        chunks[(int) (index >>> indexShift)].putDouble((int) (index & indexMask) << elementShift, value);
+    }
+
+    /**
+     * Writes changes made to the region to the storage device.
+     */
+    void force() {
+        for (final MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package name.sample.graphs.mapped;
+
+import name.sample.graphs.primitive.IntDoubleConsumer;
+import name.sample.graphs.primitive.IntGraphs;
+import name.sample.graphs.primitive.WeightedIntGraph;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * A read-only weighted graph stored off-heap in a memory mapped file.
+ * <p/>
+ * Vertices are dense ids from zero (inclusive) to {@link #getVertexCount()} (exclusive). The file holds adjacency in
+ * a compressed sparse row layout: an offsets array, a neighbor ids array and a parallel weights array. Neighbors of
+ * each vertex are sorted, so edge lookups use binary search.
+ * <p/>
+ * Opening a file only maps it, nothing is read into the heap, so graphs larger than the heap may be used and pages
+ * are shared between processes mapping the same file. Use {@link IntGraphs#asWeightedGraph(WeightedIntGraph)} to
+ * access it through the generic graph interfaces.
+ * <p/>
+ * This class is thread safe.
+ */
+public final class MappedWeightedIntGraph implements WeightedIntGraph, Closeable {
+
+    private static final int MAGIC = 0x53475246;
+    private static final int VERSION = 1;
+    private static final int FLAG_DIRECTED = 1;
+    private static final int FLAG_LITTLE_ENDIAN = 2;
+    private static final int HEADER_SIZE = 64;
+
+    private final FileChannel channel;
+    private final boolean directed;
+    private final int vertexCount;
+    private final MappedRegion offsets;
+    private final MappedRegion targets;
+    private final MappedRegion weights;
+
+    private MappedWeightedIntGraph(final FileChannel channel, final int chunkShift) throws IOException {
+        this.channel = channel;
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new IOException("unexpected end of file while reading header");
+            }
+        }
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IOException("not a graph file");
+        }
+        final int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("unsupported graph file version: " + version);
+        }
+        final int flags = header.getInt();
+        header.getInt();
+        final long vertices = header.getLong();
+        final long entries = header.getLong();
+        if (vertices < 0 || vertices >= Integer.MAX_VALUE || entries < 0
+                || channel.size() < size(vertices, entries)) {
+            throw new IOException("graph file is corrupted");
+        }
+        final ByteOrder order = (flags & FLAG_LITTLE_ENDIAN) != 0 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+        this.directed = (flags & FLAG_DIRECTED) != 0;
+        this.vertexCount = (int) vertices;
+        final FileChannel.MapMode mode = FileChannel.MapMode.READ_ONLY;
+        this.offsets = new MappedRegion(channel, mode, offsetsPosition(), vertices + 1, 3, chunkShift, order);
+        this.targets = new MappedRegion(channel, mode, targetsPosition(vertices), entries, 2, chunkShift, order);
+        this.weights = new MappedRegion(channel, mode, weightsPosition(vertices, entries), entries, 3, chunkShift,
+                order);
+    }
+
+    /**
+     * Maps a graph file into memory.
+     *
+     * @param path path to a file created by {@link #write(Path, WeightedIntGraph)}
+     * @return a new graph backed by the file
+     * @throws IOException if file can not be read or has unexpected format
+     */
+    public static MappedWeightedIntGraph open(final Path path) throws IOException {
+        return open(path, MappedRegion.DEFAULT_CHUNK_SHIFT);
+    }
+
+    static MappedWeightedIntGraph open(final Path path, final int chunkShift) throws IOException {
+        final FileChannel channel = FileChannel.open(Objects.requireNonNull(path), StandardOpenOption.READ);
+        try {
+            return new MappedWeightedIntGraph(channel, chunkShift);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Stores a graph into a file that can later be opened by {@link #open(Path)}.
+     * <p/>
+     * Vertices of the graph must be non-negative, the stored graph will contain all vertices from zero to the
+     * largest vertex of the graph. Existing file is overwritten.
+     *
+     * @param path  path to a file to write
+     * @param graph graph to store
+     * @throws IOException              if file can not be written
+     * @throws IllegalArgumentException if a vertex is negative or too large for the vertex count to fit in an int
+     */
+    public static void write(final Path path, final WeightedIntGraph graph) throws IOException {
+        write(path, graph, MappedRegion.DEFAULT_CHUNK_SHIFT);
+    }
+
+    static void write(final Path path, final WeightedIntGraph graph, final int chunkShift) throws IOException {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(graph);
+        final int[] vertices = graph.getVertices();
+        long max = -1;
+        long entries = 0;
+        for (final int vertex : vertices) {
+            if (vertex < 0) {
+                throw new IllegalArgumentException("vertex must not be negative: " + vertex);
+            }
+            max = Math.max(max, vertex);
+            entries += graph.getOutDegree(vertex);
+        }
+        final long vertexCount = max + 1;
+        // the same limit as open, it also keeps the int vertex loop below from overflowing
+        if (vertexCount >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("vertex is too large: " + max);
+        }
+        final ByteOrder order = ByteOrder.nativeOrder();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt((graph.isDirected() ? FLAG_DIRECTED : 0)
+                            | (order == ByteOrder.LITTLE_ENDIAN ? FLAG_LITTLE_ENDIAN : 0))
+                    .putInt(0)
+                    .putLong(vertexCount)
+                    .putLong(entries);
+            header.rewind();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            // extend file to its final size before mapping
+            channel.write(ByteBuffer.allocate(1), size(vertexCount, entries) - 1);
+            final FileChannel.MapMode mode = FileChannel.MapMode.READ_WRITE;
+            final MappedRegion offsets = new MappedRegion(channel, mode, offsetsPosition(), vertexCount + 1, 3,
+                    chunkShift, order);
+            final MappedRegion targets = new MappedRegion(channel, mode, targetsPosition(vertexCount), entries, 2,
+                    chunkShift, order);
+            final MappedRegion weights = new MappedRegion(channel, mode, weightsPosition(vertexCount, entries),
+                    entries, 3, chunkShift, order);
+            final SortedAdjacency adjacency = new SortedAdjacency();
+            long position = 0;
+            for (int vertex = 0; vertex < vertexCount; ++vertex) {
+                offsets.putLong(vertex, position);
+                adjacency.load(graph, vertex);
+                for (int i = 0; i < adjacency.size; ++i) {
+                    final int slot = adjacency.order[i];
+                    targets.putInt(position, adjacency.targets[slot]);
+                    weights.putDouble(position, adjacency.weights[slot]);
+                    ++position;
+                }
+            }
+            if (position != entries) {
+                throw new IllegalStateException("graph was modified while being written");
+            }
+            offsets.putLong(vertexCount, position);
+            offsets.force();
+            targets.force();
+            weights.force();
+        }
+    }
+
+    private static long offsetsPosition() {
+        return HEADER_SIZE;
+    }
+
+    private static long targetsPosition(final long vertexCount) {
+        return offsetsPosition() + ((vertexCount + 1) << 3);
+    }
+
+    private static long weightsPosition(final long vertexCount, final long entries) {
+        // keep weights aligned to their size
+        return (targetsPosition(vertexCount) + (entries << 2) + 7) & ~7L;
+    }
+
+    private static long size(final long vertexCount, final long entries) {
+        return weightsPosition(vertexCount, entries) + (entries << 3);
+    }
+
+    @Override
+    public boolean isDirected() {
+        return directed;
+    }
+
+    @Override
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    @Override
+    public int[] getVertices() {
+        final int[] result = new int[vertexCount];
+        Arrays.setAll(result, i -> i);
+        return result;
+    }
+
+    @Override
+    public boolean containsVertex(final int vertex) {
+        return vertex >= 0 && vertex < vertexCount;
+    }
+
+    @Override
+    public boolean containsEdge(final int a, final int b) {
+        return find(a, b) >= 0;
+    }
+
+    @Override
+    public double getWeight(final int a, final int b) {
+        final long position = find(a, b);
+        return position < 0 ? Double.NaN : weights.getDouble(position);
+    }
+
+    @Override
+    public int getOutDegree(final int vertex) {
+        return containsVertex(vertex) ? (int) (offsets.getLong(vertex + 1) - offsets.getLong(vertex)) : 0;
+    }
+
+    @Override
+    public int[] getNeighbors(final int vertex) {
+        final int[] result = new int[getOutDegree(vertex)];
+        if (result.length > 0) {
+            final long from = offsets.getLong(vertex);
+            for (int i = 0; i < result.length; ++i) {
+                result[i] = targets.getInt(from + i);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void forEachVertex(final IntConsumer consumer) {
+        for (int vertex = 0; vertex < vertexCount; ++vertex) {
+            consumer.accept(vertex);
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(final int vertex, final IntConsumer consumer) {
+        if (containsVertex(vertex)) {
+            final long to = offsets.getLong(vertex + 1);
+            for (long position = offsets.getLong(vertex); position < to; ++position) {
+                consumer.accept(targets.getInt(position));
+            }
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(final int vertex, final IntDoubleConsumer consumer) {
+        if (containsVertex(vertex)) {
+            final long to = offsets.getLong(vertex + 1);
+            for (long position = offsets.getLong(vertex); position < to; ++position) {
+                consumer.accept(targets.getInt(position), weights.getDouble(position));
+            }
+        }
+    }
+
+    /**
+     * Finds position of an edge using binary search over sorted neighbors.
+     *
+     * @param a first vertex
+     * @param b second vertex
+     * @return position of the edge or -1 if there is no such edge
+     */
+    private long find(final int a, final int b) {
+        if (!containsVertex(a)) {
+            return -1;
+        }
+        long low = offsets.getLong(a);
+        long high = offsets.getLong(a + 1) - 1;
+        while (low <= high) {
+            final long middle = (low + high) >>> 1;
+            final int target = targets.getInt(middle);
+            if (target < b) {
+                low = middle + 1;
+            } else if (target > b) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Closes the underlying file. Mapped memory is released once the graph becomes unreachable.
+     *
+     * @throws IOException if closing failed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return "MappedWeightedIntGraph{}";
+    }
+
+    /**
+     * Reusable buffers holding adjacency of a single vertex sorted by neighbor id.
+     */
+    private static final class SortedAdjacency {
+
+        int[] targets = new int[16];
+        double[] weights = new double[16];
+        int[] order = new int[16];
+        long[] keys = new long[16];
+        int size;
+
+        void load(final WeightedIntGraph graph, final int vertex) {
+            size = 0;
+            graph.forEachNeighbor(vertex, this::append);
+            // neighbor ids are non-negative, so packed keys sort by neighbor id
+            for (int i = 0; i < size; ++i) {
+                keys[i] = ((long) targets[i] << 32) | i;
+            }
+            Arrays.sort(keys, 0, size);
+            for (int i = 0; i < size; ++i) {
+                order[i] = (int) keys[i];
+            }
+        }
+
+        private void append(final int target, final double weight) {
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+                order = Arrays.copyOf(order, size * 2);
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            targets[size] = target;
+            weights[size] = weight;
+            ++size;
+        }
+    }
+}
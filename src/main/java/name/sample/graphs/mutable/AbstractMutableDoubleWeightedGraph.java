@@ -0,0 +1,56 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.DoubleNeighborConsumer;
+import name.sample.graphs.DoubleWeightedEdge;
+import name.sample.graphs.DoubleWeightedGraph;
+import name.sample.graphs.WeightedEdge;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A base class for mutable graphs storing {@link DoubleWeightedEdge}s.
+ *
+ * @param <V> graph vertex type
+ */
+abstract class AbstractMutableDoubleWeightedGraph<V> extends AbstractMutableWeightedGraph<V, Double>
+        implements MutableDoubleWeightedGraph<V> {
+
+    AbstractMutableDoubleWeightedGraph(final boolean directed, final boolean indexIncoming,
+                                       final boolean trackComponents) {
+        super(directed, indexIncoming, trackComponents);
+    }
+
+    @Override
+    public void putEdge(final V a, final V b, final Double weight) {
+        putEdgeAsDouble(a, b, Objects.requireNonNull(weight).doubleValue());
+    }
+
+    @Override
+    public double getWeightAsDouble(final V a, final V b, final double defaultValue) {
+        final WeightedEdge<V, Double> edge = getEdge(a, b);
+        return edge == null ? defaultValue : ((DoubleWeightedEdge<V>) edge).getWeightAsDouble();
+    }
+
+    @Override
+    public void forEachNeighborAsDouble(final V vertex, final DoubleNeighborConsumer<? super V> consumer) {
+        Objects.requireNonNull(vertex);
+        final Map<V, WeightedEdge<V, Double>> adjacency = data.get(vertex);
+        if (adjacency != null) {
+            for (final Map.Entry<V, WeightedEdge<V, Double>> entry : adjacency.entrySet()) {
+                consumer.accept(entry.getKey(), ((DoubleWeightedEdge<V>) entry.getValue()).getWeightAsDouble());
+            }
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final ToDoubleFunction<? super Double> weight,
+                                final DoubleNeighborConsumer<? super V> consumer) {
+        if (weight == DoubleWeightedGraph.WEIGHT) {
+            forEachNeighborAsDouble(vertex, consumer);
+        } else {
+            super.forEachNeighbor(vertex, weight, consumer);
+        }
+    }
+}
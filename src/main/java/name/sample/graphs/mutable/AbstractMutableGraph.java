@@ -0,0 +1,565 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.Graph;
+import name.sample.graphs.NeighborConsumer;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A base class for mutable graphs storing outgoing edges of each vertex in a map keyed by adjacent vertex.
+ * <p/>
+ * In an undirected graph each edge is stored once and referenced from adjacency maps of both its vertices. Edge
+ * objects are oriented from vertex A to vertex B as they were put, when an edge is read through adjacency of
+ * vertex B a reversed copy is created on demand. Both adjacencies of an undirected edge are changed under striped
+ * locks of its two vertices, so concurrent writers of an edge and its reverse always agree on the shared edge.
+ *
+ * @param <V> graph vertex type
+ * @param <E> graph edge type
+ */
+abstract class AbstractMutableGraph<V, E extends Edge<V>> implements Graph<V, E> {
+
+    final ConcurrentMap<V, Map<V, E>> data = new ConcurrentHashMap<>();
+    // incoming edges of each vertex keyed by source vertex, maintained only for indexed directed graphs
+    final ConcurrentMap<V, Map<V, E>> incoming;
+    final AtomicLong edgeCount = new AtomicLong();
+    // incremented after each change is applied, so a reader seeing the old count may have seen the change too
+    final AtomicLong modifications = new AtomicLong();
+    final boolean directed;
+    // maintained only for undirected graphs tracking them, merged after an edge is stored
+    final ConnectedComponents<V> components;
+    // guard both adjacencies of an undirected edge, an edge and its reverse take the same locks
+    private final LockStripes pairs;
+    final GraphEventBus<V, E> events = new GraphEventBus<>();
+    private final Collection<E> edges = new EdgeView();
+
+    /**
+     * @param directed        whether edges have a direction from vertex A to vertex B
+     * @param indexIncoming   whether a directed graph maintains an index of incoming edges, adjacency of an
+     *                        undirected graph already serves as one
+     * @param trackComponents whether an undirected graph maintains its connected components
+     */
+    AbstractMutableGraph(final boolean directed, final boolean indexIncoming, final boolean trackComponents) {
+        this.directed = directed;
+        this.incoming = directed && indexIncoming ? new ConcurrentHashMap<>() : null;
+        this.components = !directed && trackComponents ? new ConnectedComponents<>(this) : null;
+        this.pairs = directed ? null : new LockStripes(LockStripes.defaultConcurrency());
+    }
+
+    /**
+     * Creates an edge with the same weight going in the opposite direction. Undirected graphs must override it.
+     *
+     * @param edge edge to reverse
+     * @return a new edge instance going from vertex B to vertex A of specified edge
+     */
+    E reverse(final E edge) {
+        throw new UnsupportedOperationException("directed edges are never reversed");
+    }
+
+    /**
+     * Presents an edge stored in adjacency of a vertex as an edge going out of that vertex.
+     *
+     * @param vertex vertex adjacency of which stores the edge
+     * @param stored stored edge
+     * @return an edge with vertex A equal to specified vertex
+     */
+    final E orient(final V vertex, final E stored) {
+        return directed || stored.getNodeA().equals(vertex) ? stored : reverse(stored);
+    }
+
+    /**
+     * Stores an edge, adding its vertices if necessary. An undirected edge is stored in adjacency of both vertices
+     * under the locks of both vertices, so concurrently putting an edge and its reverse leaves the same edge in both
+     * adjacencies and counts it once. An edge of a vertex removed concurrently is not stored, and nothing is
+     * indexed, merged or published for it.
+     *
+     * @param edge edge to store
+     */
+    @SuppressWarnings("unchecked")
+    final void link(final E edge) {
+        final V a = edge.getNodeA();
+        final V b = edge.getNodeB();
+        putVertex(a);
+        putVertex(b);
+        if (directed) {
+            if (put(edge)) {
+                modifications.incrementAndGet();
+            }
+            return;
+        }
+        // edges replaced in adjacency of vertex A and of vertex B
+        final Object[] replaced = new Object[2];
+        pairs.lockWrite(a, b);
+        try {
+            // a concurrent removal of vertex A takes its adjacency out of data after this put, then clears it
+            final Map<V, E> stored = data.computeIfPresent(a, (k, v) -> {
+                replaced[0] = v.put(b, edge);
+                return v;
+            });
+            if (stored == null) {
+                return;
+            }
+            if (!a.equals(b) && data.computeIfPresent(b, (k, v) -> {
+                replaced[1] = v.put(a, edge);
+                return v;
+            }) == null) {
+                // vertex B was removed, its removal clears whatever edge adjacency of vertex A had before
+                if (replaced[0] == null) {
+                    stored.remove(b);
+                } else {
+                    stored.put(b, (E) replaced[0]);
+                }
+                return;
+            }
+            final boolean replacedA = counted(a, (E) replaced[0]);
+            final boolean replacedB = counted(b, (E) replaced[1]);
+            edgeCount.addAndGet(1 - (replacedA ? 1 : 0) - (replacedB ? 1 : 0));
+            // published under the pair lock, so events of the same edge keep the order of its changes
+            if (events.isActive()) {
+                final Object previous = replacedA ? replaced[0] : replacedB ? replaced[1] : null;
+                events.publish(GraphEvent.edgePut(edge, (E) previous));
+            }
+        } finally {
+            pairs.unlockWrite(a, b);
+        }
+        if (components != null) {
+            components.union(a, b);
+        }
+        modifications.incrementAndGet();
+    }
+
+    /**
+     * Stores a directed edge and publishes its event while holding the entry of vertex A in data, so events of the
+     * same edge keep the order of its changes.
+     *
+     * @param edge edge to store
+     * @return true if the edge was stored, false if vertex A was removed concurrently
+     */
+    private boolean put(final E edge) {
+        final V a = edge.getNodeA();
+        final V b = edge.getNodeB();
+        return data.computeIfPresent(a, (k, v) -> {
+            if (incoming != null) {
+                incoming.computeIfAbsent(b, (key) -> new ConcurrentHashMap<>()).put(a, edge);
+            }
+            final E previous = v.put(b, edge);
+            if (previous == null) {
+                edgeCount.incrementAndGet();
+            }
+            if (events.isActive()) {
+                events.publish(GraphEvent.edgePut(edge, previous));
+            }
+            return v;
+        }) != null;
+    }
+
+    /**
+     * Stores a batch of edges, adding their vertices if necessary.
+     * <p/>
+     * Edges are grouped by the vertex whose adjacency they go to and every group is filled by a single task, so
+     * adjacency maps are not contended. Tasks run in parallel in the {@link java.util.concurrent.ForkJoinPool} of
+     * the calling thread, or in the common pool. When a batch has several edges between the same vertices the
+     * last one in encounter order is kept, the same as with a sequence of {@link #link(Edge)} calls. A batch must not
+     * race with other writers of the same undirected edges, its two adjacencies are filled by different tasks.
+     *
+     * @param edges edges to store
+     */
+    final void linkAll(final Stream<? extends E> edges) {
+        final Map<V, List<E>> groups;
+        if (directed) {
+            groups = edges.parallel().collect(Collectors.groupingBy(Edge::getNodeA));
+        } else {
+            // an undirected edge goes to both adjacencies, each vertex gets the edges in the same relative order
+            groups = edges.parallel()
+                    .flatMap(edge -> edge.getNodeA().equals(edge.getNodeB())
+                            ? Stream.of(new AbstractMap.SimpleImmutableEntry<V, E>(edge.getNodeA(), edge))
+                            : Stream.of(new AbstractMap.SimpleImmutableEntry<V, E>(edge.getNodeA(), edge),
+                            new AbstractMap.SimpleImmutableEntry<V, E>(edge.getNodeB(), edge)))
+                    .collect(Collectors.groupingBy(Map.Entry::getKey,
+                            Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+        }
+        groups.entrySet().parallelStream().forEach(group -> {
+            final V vertex = group.getKey();
+            putVertex(vertex);
+            final Map<V, E> adjacency = data.get(vertex);
+            for (final E edge : group.getValue()) {
+                final V a = edge.getNodeA();
+                final V b = edge.getNodeB();
+                if (directed) {
+                    if (!data.containsKey(b)) {
+                        putVertex(b);
+                    }
+                    put(edge);
+                    continue;
+                }
+                // the first put of a new edge returns null in adjacencies of both its vertices, count it once
+                final E previous = adjacency.put(a.equals(vertex) ? b : a, edge);
+                if (a.equals(vertex)) {
+                    if (previous == null) {
+                        edgeCount.incrementAndGet();
+                    }
+                    if (components != null) {
+                        components.union(a, b);
+                    }
+                    if (events.isActive()) {
+                        events.publish(GraphEvent.edgePut(edge, previous));
+                    }
+                }
+            }
+        });
+        modifications.incrementAndGet();
+    }
+
+    @Override
+    public Set<V> getVertices() {
+        return data.keySet();
+    }
+
+    /**
+     * Retrieve all edges in the graph.
+     * <p/>
+     * Returned collection is a lazy view backed by the graph, its size is maintained on every change and its
+     * streams are splittable, so it can be processed in parallel. The view is weakly consistent, it never throws
+     * {@link ConcurrentModificationException} and may or may not reflect changes made during iteration.
+     *
+     * @return a view of all edges
+     */
+    @Override
+    public Collection<E> getEdges() {
+        return edges;
+    }
+
+    @Override
+    public Collection<E> getOutgoingEdges(final V vertex) {
+        Objects.requireNonNull(vertex);
+        final Collection<E> stored = data.getOrDefault(vertex, Collections.emptyMap()).values();
+        if (directed) {
+            return stored;
+        }
+        return new AbstractCollection<E>() {
+            @Override
+            public Iterator<E> iterator() {
+                final Iterator<E> iterator = stored.iterator();
+                return new Iterator<E>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public E next() {
+                        return orient(vertex, iterator.next());
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return stored.size();
+            }
+        };
+    }
+
+    /**
+     * Retrieve all edges going into a vertex.
+     * <p/>
+     * An undirected graph and a directed graph with the incoming edge index find them in adjacency of the vertex,
+     * other directed graphs scan adjacency of all vertices.
+     *
+     * @param vertex vertex to retrieve incoming edges of
+     * @return a collection of edges with vertex B equal to specified vertex
+     */
+    @Override
+    public Collection<E> getIncomingEdges(final V vertex) {
+        Objects.requireNonNull(vertex);
+        if (incoming != null) {
+            return Collections.unmodifiableCollection(incoming.getOrDefault(vertex, Collections.emptyMap()).values());
+        }
+        if (directed) {
+            return data.values().stream()
+                    .map(adjacency -> adjacency.get(vertex))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+        return data.getOrDefault(vertex, Collections.emptyMap()).entrySet().stream()
+                .map(entry -> orient(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public E getEdge(final V a, final V b) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        final E stored = data.getOrDefault(a, Collections.emptyMap()).get(b);
+        return stored == null ? null : orient(a, stored);
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final NeighborConsumer<? super V> consumer) {
+        Objects.requireNonNull(vertex);
+        final Map<V, E> adjacency = data.get(vertex);
+        if (adjacency != null) {
+            for (final V neighbor : adjacency.keySet()) {
+                consumer.accept(neighbor);
+            }
+        }
+    }
+
+    public void putVertex(final V vertex) {
+        Objects.requireNonNull(vertex);
+        if (!data.containsKey(vertex) && data.putIfAbsent(vertex, new ConcurrentHashMap<>()) == null) {
+            if (components != null) {
+                components.add(vertex);
+            }
+            modifications.incrementAndGet();
+            if (events.isActive()) {
+                events.publish(GraphEvent.vertexAdded(vertex));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public boolean removeEdge(final V a, final V b) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        final Object[] removed = new Object[1];
+        final boolean[] dropped = new boolean[1];
+        if (!directed) {
+            pairs.lockWrite(a, b);
+        }
+        try {
+            // published while holding the entry of vertex A, so events of the same edge keep the order of changes
+            data.computeIfPresent(a, (k, v) -> {
+                removed[0] = v.remove(b);
+                dropped[0] = removed[0] != null && drop(a, b, (E) removed[0]);
+                if (dropped[0]) {
+                    edgeCount.decrementAndGet();
+                    if (events.isActive()) {
+                        events.publish(GraphEvent.edgeRemoved(orient(a, (E) removed[0])));
+                    }
+                }
+                return v;
+            });
+        } finally {
+            if (!directed) {
+                pairs.unlockWrite(a, b);
+            }
+        }
+        if (dropped[0]) {
+            if (components != null) {
+                components.invalidate();
+            }
+            modifications.incrementAndGet();
+        }
+        return removed[0] != null;
+    }
+
+    /**
+     * Removes a vertex with all its edges. Edges going out of the vertex are found in its adjacency, edges going
+     * into it in adjacency of its neighbors for an undirected graph, in the incoming edge index for an indexed
+     * directed graph, and by a scan of all adjacencies otherwise.
+     *
+     * @param vertex vertex to remove
+     * @return true if the vertex was removed, false if it did not exist
+     */
+    public boolean removeVertex(final V vertex) {
+        Objects.requireNonNull(vertex);
+        final Map<V, E> adjacency = data.remove(vertex);
+        if (adjacency == null) {
+            return false;
+        }
+        if (directed) {
+            for (final Map.Entry<V, E> entry : adjacency.entrySet()) {
+                drop(vertex, entry.getKey(), entry.getValue());
+                removed(entry.getValue());
+            }
+            final Set<V> sources;
+            if (incoming != null) {
+                final Map<V, E> indexed = incoming.remove(vertex);
+                sources = indexed == null ? Collections.emptySet() : indexed.keySet();
+            } else {
+                sources = data.keySet();
+            }
+            for (final V source : sources) {
+                // removed while holding the entry of the source, as edges are put
+                data.computeIfPresent(source, (k, v) -> {
+                    final E edge = v.remove(vertex);
+                    if (edge != null) {
+                        removed(edge);
+                    }
+                    return v;
+                });
+            }
+        } else {
+            // an edge being put concurrently is either complete or rolled back by the time the pair is locked
+            for (final V neighbor : adjacency.keySet()) {
+                pairs.lockWrite(vertex, neighbor);
+                try {
+                    final E edge = adjacency.remove(neighbor);
+                    if (edge != null && drop(vertex, neighbor, edge)) {
+                        removed(orient(vertex, edge));
+                    }
+                } finally {
+                    pairs.unlockWrite(vertex, neighbor);
+                }
+            }
+            if (components != null) {
+                components.invalidate();
+            }
+        }
+        modifications.incrementAndGet();
+        if (events.isActive()) {
+            events.publish(GraphEvent.vertexRemoved(vertex));
+        }
+        return true;
+    }
+
+    private void removed(final E edge) {
+        edgeCount.decrementAndGet();
+        if (events.isActive()) {
+            events.publish(GraphEvent.edgeRemoved(edge));
+        }
+    }
+
+    public long getModificationCount() {
+        return modifications.get();
+    }
+
+    /**
+     * Answered from connected components if the graph tracks them, while they are being rebuilt after a removal any
+     * path may exist.
+     */
+    @Override
+    public boolean mayHavePath(final V source, final V destination) {
+        return components == null || components.mayBeConnected(source, destination);
+    }
+
+    /**
+     * Only a directed graph constructed without the incoming edge index scans for incoming edges.
+     */
+    @Override
+    public boolean hasIncomingEdgeIndex() {
+        return !directed || incoming != null;
+    }
+
+    /**
+     * Register a listener receiving all later changes of the graph.
+     *
+     * @param listener listener to add
+     */
+    public void addGraphListener(final GraphListener<V, E> listener) {
+        events.addListener(listener);
+    }
+
+    /**
+     * Unregister a listener, it may still receive a batch already being delivered.
+     *
+     * @param listener listener to remove
+     * @return true if the listener was registered
+     */
+    public boolean removeGraphListener(final GraphListener<V, E> listener) {
+        return events.removeListener(listener);
+    }
+
+    /**
+     * Removes the other side of an edge already removed from adjacency of vertex A: the shared edge in adjacency of
+     * vertex B of an undirected graph, or the incoming edge index entry of a directed graph.
+     *
+     * @param a    vertex the edge was removed from
+     * @param b    other vertex of the edge
+     * @param edge removed edge
+     * @return true if the edge was counted by either adjacency, then it is gone from the graph
+     */
+    private boolean drop(final V a, final V b, final E edge) {
+        if (directed) {
+            final Map<V, E> sources = incoming == null || a.equals(b) ? null : incoming.get(b);
+            if (sources != null) {
+                sources.remove(a);
+            }
+            return true;
+        }
+        final Map<V, E> other = a.equals(b) ? null : data.get(b);
+        final boolean[] unlinked = new boolean[1];
+        if (other != null) {
+            // adjacency of a vertex B removed and put again may hold a new edge, equal to the removed one
+            other.computeIfPresent(a, (k, stored) -> {
+                unlinked[0] = stored == edge;
+                return unlinked[0] ? null : stored;
+            });
+        }
+        return counted(a, edge) || unlinked[0] && counted(b, edge);
+    }
+
+    /**
+     * An undirected edge is counted in adjacency of its vertex A only, the one {@link #getEdges()} reports it from.
+     * Racing removals of both vertices of an edge thus drop it once.
+     *
+     * @param vertex vertex whose adjacency stores the edge
+     * @param edge   stored edge or null
+     * @return true if the edge is counted in adjacency of specified vertex
+     */
+    private boolean counted(final V vertex, final E edge) {
+        return edge != null && (directed || edge.getNodeA().equals(vertex));
+    }
+
+    /**
+     * A lazy view of all edges of the graph.
+     */
+    private final class EdgeView extends AbstractCollection<E> {
+
+        @Override
+        public int size() {
+            return (int) Math.min(Integer.MAX_VALUE, edgeCount.get());
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return edgeCount.get() == 0;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            if (!(o instanceof Edge)) {
+                return false;
+            }
+            final Edge<?> edge = (Edge<?>) o;
+            final Map<V, E> adjacency = data.get(edge.getNodeA());
+            final E stored = adjacency == null ? null : adjacency.get(edge.getNodeB());
+            return stored != null && stored.equals(edge);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return stream().iterator();
+        }
+
+        @Override
+        public Spliterator<E> spliterator() {
+            return stream().spliterator();
+        }
+
+        @Override
+        public Stream<E> stream() {
+            return edges(data.entrySet().stream());
+        }
+
+        @Override
+        public Stream<E> parallelStream() {
+            return edges(data.entrySet().parallelStream());
+        }
+
+        private Stream<E> edges(final Stream<Map.Entry<V, Map<V, E>>> adjacency) {
+            if (directed) {
+                return adjacency.flatMap(entry -> entry.getValue().values().stream());
+            }
+            // an undirected edge is shared by both its vertices, report it from the adjacency of its vertex A only
+            return adjacency.flatMap(entry -> entry.getValue().values().stream()
+                    .filter(edge -> edge.getNodeA().equals(entry.getKey())));
+        }
+    }
+}
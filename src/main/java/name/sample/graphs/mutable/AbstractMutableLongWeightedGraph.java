@@ -0,0 +1,44 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.LongNeighborConsumer;
+import name.sample.graphs.LongWeightedEdge;
+import name.sample.graphs.WeightedEdge;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A base class for mutable graphs storing {@link LongWeightedEdge}s.
+ *
+ * @param <V> graph vertex type
+ */
+abstract class AbstractMutableLongWeightedGraph<V> extends AbstractMutableWeightedGraph<V, Long>
+        implements MutableLongWeightedGraph<V> {
+
+    AbstractMutableLongWeightedGraph(final boolean directed, final boolean indexIncoming,
+                                     final boolean trackComponents) {
+        super(directed, indexIncoming, trackComponents);
+    }
+
+    @Override
+    public void putEdge(final V a, final V b, final Long weight) {
+        putEdgeAsLong(a, b, Objects.requireNonNull(weight).longValue());
+    }
+
+    @Override
+    public long getWeightAsLong(final V a, final V b, final long defaultValue) {
+        final WeightedEdge<V, Long> edge = getEdge(a, b);
+        return edge == null ? defaultValue : ((LongWeightedEdge<V>) edge).getWeightAsLong();
+    }
+
+    @Override
+    public void forEachNeighborAsLong(final V vertex, final LongNeighborConsumer<? super V> consumer) {
+        Objects.requireNonNull(vertex);
+        final Map<V, WeightedEdge<V, Long>> adjacency = data.get(vertex);
+        if (adjacency != null) {
+            for (final Map.Entry<V, WeightedEdge<V, Long>> entry : adjacency.entrySet()) {
+                consumer.accept(entry.getKey(), ((LongWeightedEdge<V>) entry.getValue()).getWeightAsLong());
+            }
+        }
+    }
+}
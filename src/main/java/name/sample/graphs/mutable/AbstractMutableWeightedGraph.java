@@ -0,0 +1,60 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.DoubleNeighborConsumer;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedNeighborConsumer;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * A base class for mutable weighted graphs, reads weights straight from stored edges during traversals.
+ *
+ * @param <V> graph vertex type
+ * @param <W> graph edge weight type
+ */
+abstract class AbstractMutableWeightedGraph<V, W> extends AbstractMutableGraph<V, WeightedEdge<V, W>>
+        implements MutableWeightedGraph<V, W> {
+
+    AbstractMutableWeightedGraph(final boolean directed, final boolean indexIncoming, final boolean trackComponents) {
+        super(directed, indexIncoming, trackComponents);
+    }
+
+    /**
+     * Converts an edge to the edge type stored by this graph. Edges already of that type are returned as is.
+     *
+     * @param edge edge to convert
+     * @return an edge with the same vertices and weight
+     */
+    abstract WeightedEdge<V, W> adopt(WeightedEdge<V, W> edge);
+
+    @Override
+    public void putEdges(final Stream<? extends WeightedEdge<V, W>> edges) {
+        linkAll(edges.map(this::adopt));
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final WeightedNeighborConsumer<? super V, ? super W> consumer) {
+        Objects.requireNonNull(vertex);
+        final Map<V, WeightedEdge<V, W>> adjacency = data.get(vertex);
+        if (adjacency != null) {
+            for (final Map.Entry<V, WeightedEdge<V, W>> entry : adjacency.entrySet()) {
+                consumer.accept(entry.getKey(), entry.getValue().getWeight());
+            }
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final ToDoubleFunction<? super W> weight,
+                                final DoubleNeighborConsumer<? super V> consumer) {
+        Objects.requireNonNull(vertex);
+        final Map<V, WeightedEdge<V, W>> adjacency = data.get(vertex);
+        if (adjacency != null) {
+            for (final Map.Entry<V, WeightedEdge<V, W>> entry : adjacency.entrySet()) {
+                consumer.accept(entry.getKey(), weight.applyAsDouble(entry.getValue().getWeight()));
+            }
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.mutable.edges.ImmutableDirectedWeightedEdge;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An asynchronous write-behind stage in front of a {@link MutableWeightedGraph}.
+ * <p/>
+ * Producers put edges into a lock-free queue and return immediately. A single drain task running on an
+ * {@link Executor} takes queued edges in batches, keeps only the last update of every (a, b) pair and stores each
+ * batch with one {@link MutableWeightedGraph#putEdges(java.util.stream.Stream)} call, which groups edges by source
+ * vertex. Many small writes become a few large ones, under a locking decorator a batch takes the lock once.
+ * <p/>
+ * The queue is bounded, {@link #putEdge(Object, Object, Object)} blocks and
+ * {@link #tryPutEdge(Object, Object, Object)} fails while it is full. Use {@link #flush()} to wait until earlier
+ * edges are visible in the graph. A batch that failed to be stored, or edges dropped because the executor rejected
+ * the drain task, are reported once, by the next flush, and later edges are stored as usual.
+ * <p/>
+ * Producers running in the executor of the drain task must not block in {@link #putEdge(Object, Object, Object)}:
+ * once all its threads wait for room in the queue, the drain task never runs. This includes producers running in
+ * the common pool with the default executor, give the writer a dedicated executor in that case.
+ *
+ * @param <V> graph vertex type
+ * @param <W> graph edge weight type
+ */
+public class CoalescingGraphWriter<V, W> implements AutoCloseable {
+
+    private final MutableWeightedGraph<V, W> graph;
+    private final Executor executor;
+    private final int capacity;
+    private final Queue<WeightedEdge<V, W>> queue = new ConcurrentLinkedQueue<>();
+    private final Semaphore permits;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final Object appliedMonitor = new Object();
+    // edges stored or dropped, guarded by the monitor
+    private long applied;
+    private Throwable failure;
+    private volatile boolean closed;
+
+    /**
+     * Drains in the common pool, see the class description for the restriction on producers running there.
+     *
+     * @param graph graph to write to
+     */
+    public CoalescingGraphWriter(final MutableWeightedGraph<V, W> graph) {
+        this(graph, ForkJoinPool.commonPool(), 1 << 16);
+    }
+
+    /**
+     * @param graph    graph to write to
+     * @param executor executor running the drain task
+     * @param capacity maximum number of queued edges, also the maximum batch size
+     */
+    public CoalescingGraphWriter(final MutableWeightedGraph<V, W> graph, final Executor executor,
+                                 final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.graph = Objects.requireNonNull(graph);
+        this.executor = Objects.requireNonNull(executor);
+        this.capacity = capacity;
+        this.permits = new Semaphore(capacity);
+    }
+
+    /**
+     * Queue an edge between vertexes 'a' and 'b' with specified 'weight' object, waiting while the queue is full.
+     *
+     * @param a      first vertex
+     * @param b      second vertex
+     * @param weight edge weight
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void putEdge(final V a, final V b, final W weight) throws InterruptedException {
+        final WeightedEdge<V, W> edge = edge(a, b, weight);
+        permits.acquire();
+        enqueue(edge);
+    }
+
+    /**
+     * Queue an edge between vertexes 'a' and 'b' with specified 'weight' object if the queue is not full.
+     *
+     * @param a      first vertex
+     * @param b      second vertex
+     * @param weight edge weight
+     * @return true if the edge was queued, false if the queue is full
+     */
+    public boolean tryPutEdge(final V a, final V b, final W weight) {
+        final WeightedEdge<V, W> edge = edge(a, b, weight);
+        if (!permits.tryAcquire()) {
+            return false;
+        }
+        enqueue(edge);
+        return true;
+    }
+
+    /**
+     * Wait until all edges queued before this call are stored in the graph.
+     *
+     * @throws InterruptedException       if interrupted while waiting
+     * @throws IllegalStateException      if storing a batch failed since the previous flush, the cause is the
+     *                                    original exception
+     * @throws RejectedExecutionException if the executor rejected the drain task of edges still queued
+     */
+    public void flush() throws InterruptedException {
+        final long target = submitted.get();
+        // edges queued while a rejected drain task was being handled are left for the next one
+        schedule();
+        synchronized (appliedMonitor) {
+            while (applied < target) {
+                appliedMonitor.wait();
+            }
+            reportFailure();
+        }
+    }
+
+    /**
+     * Wait until all edges queued before this call are stored in the graph, but not longer than specified timeout.
+     *
+     * @param timeout maximum time to wait
+     * @param unit    unit of the timeout
+     * @return true if all edges were stored, false if the timeout elapsed
+     * @throws InterruptedException       if interrupted while waiting
+     * @throws IllegalStateException      if storing a batch failed since the previous flush, the cause is the
+     *                                    original exception
+     * @throws RejectedExecutionException if the executor rejected the drain task of edges still queued
+     */
+    public boolean flush(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long target = submitted.get();
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        schedule();
+        synchronized (appliedMonitor) {
+            while (applied < target) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(appliedMonitor, remaining);
+            }
+            reportFailure();
+        }
+        return true;
+    }
+
+    /**
+     * Throws and forgets the first failure since the previous report, called under the monitor.
+     */
+    private void reportFailure() {
+        if (failure != null) {
+            final Throwable error = failure;
+            failure = null;
+            throw new IllegalStateException("failed to store queued edges", error);
+        }
+    }
+
+    /**
+     * @return number of queued edges not yet taken by the drain task
+     */
+    public int getPendingCount() {
+        return capacity - permits.availablePermits();
+    }
+
+    /**
+     * @return number of queued edges dropped because a later edge between the same vertices replaced them
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * Stop accepting edges and wait until all queued edges are stored.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private WeightedEdge<V, W> edge(final V a, final V b, final W weight) {
+        if (closed) {
+            throw new IllegalStateException("writer is closed");
+        }
+        return new ImmutableDirectedWeightedEdge<>(Objects.requireNonNull(a), Objects.requireNonNull(b), weight);
+    }
+
+    private void enqueue(final WeightedEdge<V, W> edge) {
+        // counted before it is queued, so a flush never waits for fewer edges than were queued before it
+        submitted.incrementAndGet();
+        queue.offer(edge);
+        schedule();
+    }
+
+    private void schedule() {
+        if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // nothing will drain the queue, drop queued edges so that flush does not wait for them forever
+                int dropped = 0;
+                while (queue.poll() != null) {
+                    ++dropped;
+                }
+                permits.release(dropped);
+                settle(dropped, e);
+                draining.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            final Map<Pair<V>, WeightedEdge<V, W>> batch = new LinkedHashMap<>();
+            WeightedEdge<V, W> edge;
+            while ((edge = queue.poll()) != null) {
+                int taken = 0;
+                do {
+                    // re-inserting moves the pair to the end, so pairs are stored in order of their last update
+                    final Pair<V> pair = new Pair<>(edge.getNodeA(), edge.getNodeB());
+                    if (batch.remove(pair) != null) {
+                        coalesced.incrementAndGet();
+                    }
+                    batch.put(pair, edge);
+                    ++taken;
+                } while (taken < capacity && (edge = queue.poll()) != null);
+                permits.release(taken);
+                apply(batch.values(), taken);
+                batch.clear();
+            }
+        } finally {
+            draining.set(false);
+        }
+        // an edge queued after the last poll but before the flag was reset has to be drained by a new task
+        schedule();
+    }
+
+    private void apply(final Collection<WeightedEdge<V, W>> batch, final int taken) {
+        Throwable error = null;
+        try {
+            graph.putEdges(batch.stream());
+        } catch (RuntimeException | Error e) {
+            error = e;
+        }
+        settle(taken, error);
+    }
+
+    /**
+     * Count edges taken from the queue as done, whether they were stored or not.
+     */
+    private void settle(final int taken, final Throwable error) {
+        synchronized (appliedMonitor) {
+            applied += taken;
+            if (error != null && failure == null) {
+                failure = error;
+            }
+            appliedMonitor.notifyAll();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CoalescingGraphWriter{" + graph.toString() + "}";
+    }
+
+    /**
+     * An ordered pair of vertices identifying updates of the same edge.
+     */
+    private static final class Pair<V> {
+
+        private final V a;
+        private final V b;
+
+        private Pair(final V a, final V b) {
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Pair)) {
+                return false;
+            }
+            final Pair<?> pair = (Pair<?>) o;
+            return a.equals(pair.a) && b.equals(pair.b);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * a.hashCode() + b.hashCode();
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package name.sample.graphs.mutable;
 
+import name.sample.graphs.DoubleNeighborConsumer;
+import name.sample.graphs.NeighborConsumer;
 import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.WeightedNeighborConsumer;
 
 import java.util.*;
+import java.util.function.ToDoubleFunction;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A concurrent decorator for a {@link MutableWeightedGraph} implementation.
@@ -40,7 +47,7 @@ public class ConcurrentMutableWeightedGraph<V, W> implements MutableWeightedGrap
     public Collection<WeightedEdge<V, W>> getEdges() {
         readLock.lock();
         try {
-            return implementation.getEdges();
+            return implementation.copyEdges();
         } finally {
             readLock.unlock();
         }
@@ -57,6 +64,58 @@ public class ConcurrentMutableWeightedGraph<V, W> implements MutableWeightedGrap
         }
     }
 
+    @Override
+    public Collection<WeightedEdge<V, W>> getIncomingEdges(final V vertex) {
+        readLock.lock();
+        try {
+            // an indexed implementation returns a live view, it must not be read after the lock is released
+            return new ArrayList<>(implementation.getIncomingEdges(vertex));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public WeightedEdge<V, W> getEdge(final V a, final V b) {
+        readLock.lock();
+        try {
+            return implementation.getEdge(a, b);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final NeighborConsumer<? super V> consumer) {
+        readLock.lock();
+        try {
+            implementation.forEachNeighbor(vertex, consumer);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final WeightedNeighborConsumer<? super V, ? super W> consumer) {
+        readLock.lock();
+        try {
+            implementation.forEachNeighbor(vertex, consumer);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final ToDoubleFunction<? super W> weight,
+                                final DoubleNeighborConsumer<? super V> consumer) {
+        readLock.lock();
+        try {
+            implementation.forEachNeighbor(vertex, weight, consumer);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
     @Override
     public void putVertex(final V vertex) {
         writeLock.lock();
@@ -77,6 +136,87 @@ public class ConcurrentMutableWeightedGraph<V, W> implements MutableWeightedGrap
         }
     }
 
+    @Override
+    public boolean removeEdge(final V a, final V b) {
+        writeLock.lock();
+        try {
+            return implementation.removeEdge(a, b);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean removeVertex(final V vertex) {
+        writeLock.lock();
+        try {
+            return implementation.removeVertex(vertex);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Listeners are registered with the wrapped graph, events are produced while the lock is held.
+     *
+     * @param listener listener to add
+     */
+    @Override
+    public void addGraphListener(final GraphListener<V, WeightedEdge<V, W>> listener) {
+        implementation.addGraphListener(listener);
+    }
+
+    @Override
+    public boolean removeGraphListener(final GraphListener<V, WeightedEdge<V, W>> listener) {
+        return implementation.removeGraphListener(listener);
+    }
+
+    @Override
+    public long getModificationCount() {
+        return implementation.getModificationCount();
+    }
+
+    /**
+     * Answered by the wrapped graph without the lock, mutable graphs maintain connected components thread safely.
+     */
+    @Override
+    public boolean mayHavePath(final V source, final V destination) {
+        return implementation.mayHavePath(source, destination);
+    }
+
+    @Override
+    public boolean hasIncomingEdgeIndex() {
+        return implementation.hasIncomingEdgeIndex();
+    }
+
+    /**
+     * Add all specified edges under a single write lock, readers see either none or all of them.
+     * <p/>
+     * The batch is collected before the lock is taken, so the lock is held only while edges are stored.
+     *
+     * @param edges edges to add
+     */
+    @Override
+    public void putEdges(final Stream<? extends WeightedEdge<V, W>> edges) {
+        final List<? extends WeightedEdge<V, W>> batch = edges.collect(Collectors.toList());
+        writeLock.lock();
+        try {
+            implementation.putEdges(batch.stream());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public WeightedGraph<V, W> freeze() {
+        readLock.lock();
+        try {
+            return implementation.freeze();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
     @Override
     public String toString() {
         return "ConcurrentMutableWeightedGraph{" + implementation.toString() + "}";
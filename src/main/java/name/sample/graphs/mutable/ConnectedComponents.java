@@ -0,0 +1,325 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.Graph;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Connected components of an undirected graph, maintained incrementally as vertices and edges are added. Graphs
+ * track them only when asked to at construction.
+ * <p/>
+ * Components form a union-find forest with union by rank and path halving. Lookups are lock free, path halving only
+ * ever moves a vertex closer to its root, so concurrent lookups never break the forest. Adding a vertex and merging
+ * two components take a lock, adding edges inside a component does not.
+ * <p/>
+ * A union-find forest cannot split, removing an edge or a vertex marks the components stale instead. Stale
+ * components answer {@link Graph#mayHavePath} with "maybe" and get rebuilt in the common pool, the
+ * public methods of this class rebuild them on the calling thread. A rebuild scans the graph without the lock,
+ * changes made meanwhile are logged and replayed before the rebuilt forest replaces the old one. The graph merges
+ * components after an edge is stored, so a rebuild never misses it, and a lookup racing with the addition of an edge
+ * may not see it yet.
+ *
+ * @param <V> graph vertex type
+ */
+public final class ConnectedComponents<V> {
+
+    private final Graph<V, ? extends Edge<V>> graph;
+    // guards changes of the forest and the log
+    private final ReentrantLock lock = new ReentrantLock();
+    // taken by one rebuild at a time, never by writers
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile Forest<V> forest = new Forest<>();
+    private volatile boolean stale;
+    // pairs of vertices merged while a rebuild scans the graph, a vertex added alone is logged as a pair with itself
+    private volatile List<V> log;
+
+    /**
+     * @param graph undirected graph to rebuild components from after removals
+     */
+    ConnectedComponents(final Graph<V, ? extends Edge<V>> graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * Add a vertex as a component of its own if it is not known yet.
+     *
+     * @param vertex vertex to add
+     */
+    void add(final V vertex) {
+        // a rebuild starting after this check finds the vertex in the graph
+        if (log == null && forest.nodes.containsKey(vertex)) {
+            return;
+        }
+        lock.lock();
+        try {
+            forest.add(vertex);
+            record(vertex, vertex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Merge components of two vertices, adding the vertices if necessary.
+     *
+     * @param a first vertex
+     * @param b second vertex
+     */
+    void union(final V a, final V b) {
+        // a rebuild starting after this check finds the edge in the graph
+        if (log == null) {
+            final Forest<V> current = forest;
+            final Node<V> nodeA = current.nodes.get(a);
+            final Node<V> nodeB = current.nodes.get(b);
+            if (nodeA != null && nodeB != null && find(nodeA) == find(nodeB)) {
+                return;
+            }
+        }
+        lock.lock();
+        try {
+            forest.union(forest.add(a), forest.add(b));
+            record(a, b);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(final V a, final V b) {
+        final List<V> pending = log;
+        if (pending != null) {
+            pending.add(a);
+            pending.add(b);
+        }
+    }
+
+    /**
+     * Mark components outdated after an edge or a vertex was removed from the graph.
+     */
+    void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * Check used by path finders, never waits for a rebuild.
+     *
+     * @param a first vertex
+     * @param b second vertex
+     * @return false if the vertices are known to be disconnected, true if they may be connected
+     */
+    boolean mayBeConnected(final V a, final V b) {
+        if (stale) {
+            rebuildLater();
+            return true;
+        }
+        // while a rebuild scans the graph the old forest knows all edges, removed ones may only add connections
+        return connected(forest, a, b);
+    }
+
+    private void rebuildLater() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                ForkJoinPool.commonPool().execute(() -> {
+                    try {
+                        rebuild();
+                    } finally {
+                        scheduled.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+            }
+        }
+    }
+
+    private Forest<V> current() {
+        if (stale) {
+            rebuild();
+        }
+        return forest;
+    }
+
+    private void rebuild() {
+        rebuildLock.lock();
+        try {
+            if (!stale) {
+                return;
+            }
+            lock.lock();
+            try {
+                // removals after this point mark components stale again
+                stale = false;
+                log = new ArrayList<>();
+            } finally {
+                lock.unlock();
+            }
+            final Forest<V> rebuilt = new Forest<>();
+            boolean scanned = false;
+            try {
+                for (final V vertex : graph.getVertices()) {
+                    rebuilt.add(vertex);
+                }
+                for (final Edge<V> edge : graph.getEdges()) {
+                    rebuilt.union(rebuilt.add(edge.getNodeA()), rebuilt.add(edge.getNodeB()));
+                }
+                scanned = true;
+            } finally {
+                lock.lock();
+                try {
+                    if (scanned) {
+                        final List<V> pending = log;
+                        for (int i = 0; i < pending.size(); i += 2) {
+                            rebuilt.union(rebuilt.add(pending.get(i)), rebuilt.add(pending.get(i + 1)));
+                        }
+                        forest = rebuilt;
+                    } else {
+                        // a partial forest could miss connections, keep the old one and try again later
+                        stale = true;
+                    }
+                    log = null;
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private static <V> Node<V> find(Node<V> node) {
+        Node<V> parent = node.parent;
+        while (parent != node) {
+            final Node<V> grandparent = parent.parent;
+            node.parent = grandparent;
+            node = grandparent;
+            parent = node.parent;
+        }
+        return node;
+    }
+
+    /**
+     * @param a first vertex
+     * @param b second vertex
+     * @return true if both vertices are in the graph and there is a path between them
+     */
+    public boolean connected(final V a, final V b) {
+        return connected(current(), a, b);
+    }
+
+    private static <V> boolean connected(final Forest<V> forest, final V a, final V b) {
+        final Node<V> nodeA = forest.nodes.get(Objects.requireNonNull(a));
+        final Node<V> nodeB = forest.nodes.get(Objects.requireNonNull(b));
+        return nodeA != null && nodeB != null && find(nodeA) == find(nodeB);
+    }
+
+    /**
+     * Representative vertex of the component of a vertex, the same for all vertices of a component until it is
+     * merged with another one.
+     *
+     * @param vertex vertex to look up
+     * @return representative vertex, or null if the vertex is not in the graph
+     */
+    public V componentOf(final V vertex) {
+        final Node<V> node = current().nodes.get(Objects.requireNonNull(vertex));
+        return node == null ? null : find(node).vertex;
+    }
+
+    /**
+     * @return number of connected components
+     */
+    public int getComponentCount() {
+        return current().count;
+    }
+
+    /**
+     * @param vertex vertex to look up
+     * @return number of vertices in the component of a vertex, zero if the vertex is not in the graph
+     */
+    public int getComponentSize(final V vertex) {
+        final Node<V> node = current().nodes.get(Objects.requireNonNull(vertex));
+        return node == null ? 0 : find(node).size;
+    }
+
+    /**
+     * @return a new map from the representative vertex of each component to the number of its vertices
+     */
+    public Map<V, Integer> getComponentSizes() {
+        final Map<V, Integer> result = new HashMap<>();
+        for (final Node<V> node : current().nodes.values()) {
+            final Node<V> root = find(node);
+            result.put(root.vertex, root.size);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectedComponents{" + getComponentCount() + "}";
+    }
+
+    /**
+     * A union-find forest, changed only under the lock.
+     */
+    private static final class Forest<V> {
+
+        final ConcurrentMap<V, Node<V>> nodes = new ConcurrentHashMap<>();
+        volatile int count;
+
+        Node<V> add(final V vertex) {
+            Node<V> node = nodes.get(vertex);
+            if (node == null) {
+                node = new Node<>(vertex);
+                nodes.put(vertex, node);
+                ++count;
+            }
+            return node;
+        }
+
+        void union(final Node<V> a, final Node<V> b) {
+            Node<V> rootA = find(a);
+            Node<V> rootB = find(b);
+            if (rootA == rootB) {
+                return;
+            }
+            if (rootA.rank < rootB.rank) {
+                final Node<V> swap = rootA;
+                rootA = rootB;
+                rootB = swap;
+            }
+            // size of the new root is set before it becomes reachable from the other component
+            rootA.size += rootB.size;
+            if (rootA.rank == rootB.rank) {
+                ++rootA.rank;
+            }
+            rootB.parent = rootA;
+            --count;
+        }
+    }
+
+    /**
+     * A vertex in the forest, rank and size are meaningful only for roots.
+     */
+    private static final class Node<V> {
+
+        final V vertex;
+        volatile Node<V> parent;
+        int rank;
+        volatile int size = 1;
+
+        Node(final V vertex) {
+            this.vertex = vertex;
+            this.parent = this;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package name.sample.graphs.mutable;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * A bounded ring buffer for many producers and a single consumer.
+ * <p/>
+ * A producer claims a sequence number with a single atomic increment, writes its slot and publishes it by storing
+ * the sequence number in the slot's marker. The consumer takes slots in sequence order while their markers are
+ * published, so elements of one producer are consumed in the order they were put. Producers wait while the ring
+ * is full, no element is ever dropped.
+ *
+ * @param <T> element type
+ */
+final class EventRing<T> {
+
+    private final Object[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // written only by the consumer, slots before it are free
+    private volatile long head;
+
+    /**
+     * @param capacity number of slots, rounded up to a power of two
+     */
+    EventRing(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        final int size = Integer.highestOneBit(Math.min(capacity, 1 << 30) * 2 - 1);
+        this.slots = new Object[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; ++i) {
+            published.set(i, -1);
+        }
+        this.mask = size - 1;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Put an element, waiting while the ring is full.
+     *
+     * @param element element to put
+     */
+    void put(final T element) {
+        final long sequence = tail.getAndIncrement();
+        while (sequence - head >= slots.length) {
+            Thread.yield();
+        }
+        final int slot = (int) sequence & mask;
+        slots[slot] = element;
+        published.set(slot, sequence);
+    }
+
+    /**
+     * @return whether the next element to consume is published, called by the consumer only
+     */
+    boolean isReadable() {
+        final long sequence = head;
+        return published.get((int) sequence & mask) == sequence;
+    }
+
+    /**
+     * Consume published elements in sequence order, called by the consumer only.
+     *
+     * @param consumer consumer of elements
+     * @param limit    maximum number of elements to consume
+     * @return number of consumed elements
+     */
+    @SuppressWarnings("unchecked")
+    int drain(final Consumer<? super T> consumer, final int limit) {
+        long sequence = head;
+        int count = 0;
+        while (count < limit) {
+            final int slot = (int) sequence & mask;
+            if (published.get(slot) != sequence) {
+                break;
+            }
+            final T element = (T) slots[slot];
+            slots[slot] = null;
+            consumer.accept(element);
+            ++sequence;
+            ++count;
+            head = sequence;
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "EventRing{" + slots.length + "}";
+    }
+}
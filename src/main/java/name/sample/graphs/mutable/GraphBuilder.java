@@ -0,0 +1,132 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.mutable.edges.ImmutableDirectedWeightedEdge;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A builder loading large batches of edges into a {@link MutableWeightedGraph}.
+ * <p/>
+ * Edges are collected first and stored with a single {@link MutableWeightedGraph#putEdges(Stream)} call, which
+ * partitions them by vertex and fills adjacencies in parallel on the configured {@link ForkJoinPool}. The graph is
+ * returned only when all edges are stored.
+ * <p/>
+ * A builder is not thread safe, to load edges from several threads pass a parallel stream to
+ * {@link #putEdges(Stream)}. Each stream is consumed only by {@link #build()}.
+ *
+ * @param <V> graph vertex type
+ * @param <W> graph edge weight type
+ */
+public final class GraphBuilder<V, W> {
+
+    private final Supplier<? extends MutableWeightedGraph<V, W>> factory;
+    private final List<V> vertices = new ArrayList<>();
+    // added streams and runs of single edges in call order
+    private final List<Stream<? extends WeightedEdge<V, W>>> sources = new ArrayList<>();
+    // single edges added since the last stream, a source already, its stream binds to the list when consumed
+    private List<WeightedEdge<V, W>> edges;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * Create a builder.
+     *
+     * @param factory creates an empty graph to load edges into, e.g. {@code MutableDirectedWeightedGraph::new}
+     */
+    public GraphBuilder(final Supplier<? extends MutableWeightedGraph<V, W>> factory) {
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    /**
+     * Set a pool to store edges in, by default the common pool is used.
+     *
+     * @param pool pool running the parallel load
+     * @return this builder
+     */
+    public GraphBuilder<V, W> withPool(final ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+        return this;
+    }
+
+    /**
+     * Add a vertex, mostly useful for a non-adjacent vertex.
+     *
+     * @param vertex vertex to add
+     * @return this builder
+     */
+    public GraphBuilder<V, W> putVertex(final V vertex) {
+        vertices.add(Objects.requireNonNull(vertex));
+        return this;
+    }
+
+    /**
+     * Add an edge between vertexes 'a' and 'b' with specified 'weight' object.
+     *
+     * @param a      first vertex
+     * @param b      second vertex
+     * @param weight edge weight
+     * @return this builder
+     */
+    public GraphBuilder<V, W> putEdge(final V a, final V b, final W weight) {
+        if (edges == null) {
+            edges = new ArrayList<>();
+            sources.add(edges.stream());
+        }
+        edges.add(new ImmutableDirectedWeightedEdge<>(Objects.requireNonNull(a), Objects.requireNonNull(b), weight));
+        return this;
+    }
+
+    /**
+     * Add a stream of edges. The stream is consumed by {@link #build()}, a parallel stream is consumed in parallel.
+     *
+     * @param edges edges to add
+     * @return this builder
+     */
+    public GraphBuilder<V, W> putEdges(final Stream<? extends WeightedEdge<V, W>> edges) {
+        sources.add(Objects.requireNonNull(edges));
+        this.edges = null;
+        return this;
+    }
+
+    /**
+     * Create a graph and store all added vertices and edges in it.
+     * <p/>
+     * When several edges connect the same vertices, the last one added is kept.
+     *
+     * @return a new graph
+     */
+    public MutableWeightedGraph<V, W> build() {
+        final MutableWeightedGraph<V, W> graph = Objects.requireNonNull(factory.get());
+        vertices.forEach(graph::putVertex);
+        final Stream<? extends WeightedEdge<V, W>> batch = concat(sources, 0, sources.size());
+        // parallel streams started by a pool worker run in the pool of that worker
+        pool.submit(() -> graph.putEdges(batch)).join();
+        return graph;
+    }
+
+    /**
+     * Concatenates streams in encounter order as a balanced tree, so many sources do not nest deeply, and a parallel
+     * source is still consumed in parallel.
+     */
+    private static <E> Stream<? extends E> concat(final List<Stream<? extends E>> streams, final int from,
+                                                  final int to) {
+        if (to - from == 0) {
+            return Stream.empty();
+        }
+        if (to - from == 1) {
+            return streams.get(from);
+        }
+        final int middle = (from + to) >>> 1;
+        return Stream.concat(concat(streams, from, middle), concat(streams, middle, to));
+    }
+
+    @Override
+    public String toString() {
+        return "GraphBuilder{}";
+    }
+}
@@ -0,0 +1,91 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.Edge;
+
+import java.util.Objects;
+
+/**
+ * A single change of a mutable graph delivered to a {@link GraphListener}.
+ * <p/>
+ * Vertex events carry the vertex, edge events carry the edge as it is stored after the change, or as it was stored
+ * before a removal. An update of an existing edge also carries the edge it replaced.
+ *
+ * @param <V> graph vertex type
+ * @param <E> graph edge type
+ */
+public final class GraphEvent<V, E extends Edge<V>> {
+
+    /**
+     * Kind of a change.
+     */
+    public enum Type {
+        VERTEX_ADDED,
+        VERTEX_REMOVED,
+        EDGE_ADDED,
+        EDGE_UPDATED,
+        EDGE_REMOVED
+    }
+
+    private final Type type;
+    private final V vertex;
+    private final E edge;
+    private final E previousEdge;
+
+    private GraphEvent(final Type type, final V vertex, final E edge, final E previousEdge) {
+        this.type = type;
+        this.vertex = vertex;
+        this.edge = edge;
+        this.previousEdge = previousEdge;
+    }
+
+    static <V, E extends Edge<V>> GraphEvent<V, E> vertexAdded(final V vertex) {
+        return new GraphEvent<>(Type.VERTEX_ADDED, Objects.requireNonNull(vertex), null, null);
+    }
+
+    static <V, E extends Edge<V>> GraphEvent<V, E> vertexRemoved(final V vertex) {
+        return new GraphEvent<>(Type.VERTEX_REMOVED, Objects.requireNonNull(vertex), null, null);
+    }
+
+    /**
+     * @param edge         stored edge
+     * @param previousEdge edge it replaced, or null if the edge is new
+     */
+    static <V, E extends Edge<V>> GraphEvent<V, E> edgePut(final E edge, final E previousEdge) {
+        return new GraphEvent<>(previousEdge == null ? Type.EDGE_ADDED : Type.EDGE_UPDATED, null,
+                Objects.requireNonNull(edge), previousEdge);
+    }
+
+    static <V, E extends Edge<V>> GraphEvent<V, E> edgeRemoved(final E edge) {
+        return new GraphEvent<>(Type.EDGE_REMOVED, null, Objects.requireNonNull(edge), null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return added or removed vertex, null for edge events
+     */
+    public V getVertex() {
+        return vertex;
+    }
+
+    /**
+     * @return added, updated or removed edge, null for vertex events
+     */
+    public E getEdge() {
+        return edge;
+    }
+
+    /**
+     * @return edge replaced by an update, null for other events
+     */
+    public E getPreviousEdge() {
+        return previousEdge;
+    }
+
+    @Override
+    public String toString() {
+        return "GraphEvent{" + type + ", " + (vertex != null ? vertex : edge) + "}";
+    }
+}
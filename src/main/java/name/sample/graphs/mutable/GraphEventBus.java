@@ -0,0 +1,111 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.Edge;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Delivers changes of a graph to its {@link GraphListener}s.
+ * <p/>
+ * Writers put events into an {@link EventRing} and return, a single drain task takes them in batches and passes
+ * each batch to every listener. Drain tasks run on a shared pool of daemon threads rather than on a pool writers may
+ * be running on, so writers waiting for room in the ring never starve the task that makes room.
+ * <p/>
+ * While there are no listeners {@link #isActive()} is false and graphs do not create events at all.
+ *
+ * @param <V> graph vertex type
+ * @param <E> graph edge type
+ */
+final class GraphEventBus<V, E extends Edge<V>> {
+
+    private static final int CAPACITY = 1 << 12;
+    private static final int BATCH = 1 << 8;
+
+    private static final ExecutorService DISPATCHER = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "graph-events");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<GraphListener<V, E>> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile EventRing<GraphEvent<V, E>> ring;
+    private volatile boolean active;
+
+    boolean isActive() {
+        return active;
+    }
+
+    synchronized void addListener(final GraphListener<V, E> listener) {
+        Objects.requireNonNull(listener);
+        if (ring == null) {
+            ring = new EventRing<>(CAPACITY);
+        }
+        listeners.add(listener);
+        active = true;
+    }
+
+    synchronized boolean removeListener(final GraphListener<V, E> listener) {
+        final boolean removed = listeners.remove(listener);
+        active = !listeners.isEmpty();
+        return removed;
+    }
+
+    /**
+     * Queue an event, waiting while the ring is full. Does nothing until a listener is added.
+     *
+     * @param event event to deliver
+     */
+    void publish(final GraphEvent<V, E> event) {
+        final EventRing<GraphEvent<V, E>> events = ring;
+        if (events == null) {
+            return;
+        }
+        events.put(event);
+        if (!draining.get()) {
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        if (ring.isReadable() && draining.compareAndSet(false, true)) {
+            DISPATCHER.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        final EventRing<GraphEvent<V, E>> events = ring;
+        final List<GraphEvent<V, E>> batch = new ArrayList<>(BATCH);
+        final List<GraphEvent<V, E>> view = Collections.unmodifiableList(batch);
+        try {
+            while (events.drain(batch::add, BATCH) > 0) {
+                for (final GraphListener<V, E> listener : listeners) {
+                    try {
+                        listener.onEvents(view);
+                    } catch (RuntimeException e) {
+                        // one failing listener must not stop delivery to others
+                        final Thread thread = Thread.currentThread();
+                        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                    }
+                }
+                batch.clear();
+            }
+        } finally {
+            draining.set(false);
+        }
+        // an event published after the last drain but before the flag was reset has to be drained by a new task
+        schedule();
+    }
+
+    @Override
+    public String toString() {
+        return "GraphEventBus{" + listeners.size() + "}";
+    }
+}
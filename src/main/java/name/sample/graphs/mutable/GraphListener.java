@@ -0,0 +1,31 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.Edge;
+
+import java.util.List;
+
+/**
+ * A consumer of changes of a mutable graph, lets derived structures be maintained incrementally instead of by
+ * rescanning the whole graph.
+ * <p/>
+ * Events are delivered asynchronously in batches, off the threads changing the graph. A listener sees events of a
+ * single writer in the order they happened, events of concurrent writers are interleaved in some order, but events
+ * of the same edge always follow the order of its changes. A batch is delivered after the changes it describes are
+ * applied, but the graph may have changed further by then.
+ * <p/>
+ * Events are buffered in a bounded ring, writers wait while it is full. A listener must not change the graph it
+ * listens to, nor wait for a writer of that graph, or it may deadlock with a writer waiting for room in the ring.
+ *
+ * @param <V> graph vertex type
+ * @param <E> graph edge type
+ */
+@FunctionalInterface
+public interface GraphListener<V, E extends Edge<V>> {
+
+    /**
+     * Consume a batch of changes.
+     *
+     * @param events changes in order, the list is valid only during the call
+     */
+    void onEvents(List<GraphEvent<V, E>> events);
+}
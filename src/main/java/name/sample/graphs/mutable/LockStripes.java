@@ -0,0 +1,109 @@
+package name.sample.graphs.mutable;
+
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A fixed set of read-write locks, each vertex is guarded by a lock chosen by its hash code.
+ * <p/>
+ * Several locks are always taken in the order of their indexes, so callers taking locks only through this class
+ * never deadlock.
+ */
+final class LockStripes {
+
+    private final ReadWriteLock[] locks;
+    private final int mask;
+
+    /**
+     * @param concurrency expected number of concurrently writing threads, rounded up to a power of two
+     */
+    LockStripes(final int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+        final int size = Integer.highestOneBit(Math.min(concurrency, 1 << 16) * 2 - 1);
+        this.locks = new ReadWriteLock[size];
+        for (int i = 0; i < size; ++i) {
+            locks[i] = new ReentrantReadWriteLock(false);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return a number of stripes large enough for all available processors to write without collisions
+     */
+    static int defaultConcurrency() {
+        return 4 * Runtime.getRuntime().availableProcessors();
+    }
+
+    int indexOf(final Object vertex) {
+        final int h = Objects.requireNonNull(vertex).hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    Lock readLock(final Object vertex) {
+        return locks[indexOf(vertex)].readLock();
+    }
+
+    Lock writeLock(final Object vertex) {
+        return locks[indexOf(vertex)].writeLock();
+    }
+
+    /**
+     * Take write locks of both vertices, a single lock if they share a stripe.
+     */
+    void lockWrite(final Object a, final Object b) {
+        final int i = indexOf(a);
+        final int j = indexOf(b);
+        locks[Math.min(i, j)].writeLock().lock();
+        if (i != j) {
+            locks[Math.max(i, j)].writeLock().lock();
+        }
+    }
+
+    void unlockWrite(final Object a, final Object b) {
+        final int i = indexOf(a);
+        final int j = indexOf(b);
+        if (i != j) {
+            locks[Math.max(i, j)].writeLock().unlock();
+        }
+        locks[Math.min(i, j)].writeLock().unlock();
+    }
+
+    /**
+     * Take all read locks, blocks writers of all vertices.
+     */
+    void lockAllRead() {
+        for (final ReadWriteLock lock : locks) {
+            lock.readLock().lock();
+        }
+    }
+
+    void unlockAllRead() {
+        for (int i = locks.length - 1; i >= 0; --i) {
+            locks[i].readLock().unlock();
+        }
+    }
+
+    /**
+     * Take all write locks, blocks readers and writers of all vertices.
+     */
+    void lockAllWrite() {
+        for (final ReadWriteLock lock : locks) {
+            lock.writeLock().lock();
+        }
+    }
+
+    void unlockAllWrite() {
+        for (int i = locks.length - 1; i >= 0; --i) {
+            locks[i].writeLock().unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LockStripes{" + locks.length + "}";
+    }
+}
@@ -0,0 +1,58 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.DoubleWeightedEdge;
+import name.sample.graphs.Edge;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.immutable.CsrWeightedGraph;
+import name.sample.graphs.mutable.edges.ImmutableDirectedDoubleWeightedEdge;
+
+/**
+ * A directed weighted graph implementation with primitive {@code double} weights.
+ * <p/>
+ * In a directed graph all {@link Edge}s have a direction from vertex A to vertex B.
+ * <p/>
+ * Weights are stored unboxed in the edges, use {@link #forEachNeighborAsDouble} to read them without boxing.
+ *
+ * @param <V> graph vertex type
+ */
+public class MutableDirectedDoubleWeightedGraph<V> extends AbstractMutableDoubleWeightedGraph<V> {
+
+    public MutableDirectedDoubleWeightedGraph() {
+        this(false);
+    }
+
+    /**
+     * @param indexIncoming whether to maintain an index of incoming edges, it makes {@link #getIncomingEdges} and
+     *                      {@link #removeVertex} proportional to the number of edges of the vertex instead of the
+     *                      number of vertices in the graph at the cost of memory and slower puts
+     */
+    public MutableDirectedDoubleWeightedGraph(final boolean indexIncoming) {
+        super(true, indexIncoming, false);
+    }
+
+    @Override
+    WeightedEdge<V, Double> adopt(final WeightedEdge<V, Double> edge) {
+        if (edge instanceof ImmutableDirectedDoubleWeightedEdge) {
+            return edge;
+        }
+        final double weight = edge instanceof DoubleWeightedEdge
+                ? ((DoubleWeightedEdge<V>) edge).getWeightAsDouble() : edge.getWeight();
+        return new ImmutableDirectedDoubleWeightedEdge<>(edge.getNodeA(), edge.getNodeB(), weight);
+    }
+
+    @Override
+    public void putEdgeAsDouble(final V a, final V b, final double weight) {
+        link(new ImmutableDirectedDoubleWeightedEdge<>(a, b, weight));
+    }
+
+    @Override
+    public WeightedGraph<V, Double> freeze() {
+        return CsrWeightedGraph.copyOf(this, true);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableDirectedDoubleWeightedGraph{}";
+    }
+}
@@ -0,0 +1,58 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.LongWeightedEdge;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.immutable.CsrWeightedGraph;
+import name.sample.graphs.mutable.edges.ImmutableDirectedLongWeightedEdge;
+
+/**
+ * A directed weighted graph implementation with primitive {@code long} weights.
+ * <p/>
+ * In a directed graph all {@link Edge}s have a direction from vertex A to vertex B.
+ * <p/>
+ * Weights are stored unboxed in the edges, use {@link #forEachNeighborAsLong} to read them without boxing.
+ *
+ * @param <V> graph vertex type
+ */
+public class MutableDirectedLongWeightedGraph<V> extends AbstractMutableLongWeightedGraph<V> {
+
+    public MutableDirectedLongWeightedGraph() {
+        this(false);
+    }
+
+    /**
+     * @param indexIncoming whether to maintain an index of incoming edges, it makes {@link #getIncomingEdges} and
+     *                      {@link #removeVertex} proportional to the number of edges of the vertex instead of the
+     *                      number of vertices in the graph at the cost of memory and slower puts
+     */
+    public MutableDirectedLongWeightedGraph(final boolean indexIncoming) {
+        super(true, indexIncoming, false);
+    }
+
+    @Override
+    WeightedEdge<V, Long> adopt(final WeightedEdge<V, Long> edge) {
+        if (edge instanceof ImmutableDirectedLongWeightedEdge) {
+            return edge;
+        }
+        final long weight = edge instanceof LongWeightedEdge
+                ? ((LongWeightedEdge<V>) edge).getWeightAsLong() : edge.getWeight();
+        return new ImmutableDirectedLongWeightedEdge<>(edge.getNodeA(), edge.getNodeB(), weight);
+    }
+
+    @Override
+    public void putEdgeAsLong(final V a, final V b, final long weight) {
+        link(new ImmutableDirectedLongWeightedEdge<>(a, b, weight));
+    }
+
+    @Override
+    public WeightedGraph<V, Long> freeze() {
+        return CsrWeightedGraph.copyOf(this, true);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableDirectedLongWeightedGraph{}";
+    }
+}
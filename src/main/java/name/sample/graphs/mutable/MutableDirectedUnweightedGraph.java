@@ -1,12 +1,11 @@
 package name.sample.graphs.mutable;
 
 import name.sample.graphs.Edge;
+import name.sample.graphs.UnweightedGraph;
+import name.sample.graphs.immutable.CsrUnweightedGraph;
 import name.sample.graphs.mutable.edges.ImmutableDirectedUnweightedEdge;
 
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A directed unweighted graph implementation.
@@ -17,45 +16,36 @@ import java.util.stream.Collectors;
  *
  * @param <V> graph vertex type
  */
-public class MutableDirectedUnweightedGraph<V> implements MutableUnweightedGraph<V> {
+public class MutableDirectedUnweightedGraph<V> extends AbstractMutableGraph<V, Edge<V>>
+        implements MutableUnweightedGraph<V> {
 
-    private final ConcurrentMap<V, Map<V, Edge<V>>> data = new ConcurrentHashMap<>();
-
-    @Override
-    public Set<V> getVertices() {
-        return data.keySet();
+    public MutableDirectedUnweightedGraph() {
+        this(false);
     }
 
-    @Override
-    public Collection<Edge<V>> getEdges() {
-        return data.values()
-                .stream()
-                .map(Map::values)
-                .flatMap(Collection::stream)
-                .collect(Collectors.toSet());
+    /**
+     * @param indexIncoming whether to maintain an index of incoming edges, it makes {@link #getIncomingEdges} and
+     *                      {@link #removeVertex} proportional to the number of edges of the vertex instead of the
+     *                      number of vertices in the graph at the cost of memory and slower puts
+     */
+    public MutableDirectedUnweightedGraph(final boolean indexIncoming) {
+        super(true, indexIncoming, false);
     }
 
     @Override
-    public Collection<Edge<V>> getOutgoingEdges(final V vertex) {
-        Objects.requireNonNull(vertex);
-        return data.getOrDefault(vertex, Collections.emptyMap()).values();
+    public void putEdge(V a, V b) {
+        link(new ImmutableDirectedUnweightedEdge<>(a, b));
     }
 
     @Override
-    public void putVertex(final V vertex) {
-        Objects.requireNonNull(vertex);
-        data.computeIfAbsent(vertex, (k) -> new ConcurrentHashMap<>());
+    public void putEdges(final Stream<? extends Edge<V>> edges) {
+        linkAll(edges.map(edge -> edge instanceof ImmutableDirectedUnweightedEdge
+                ? edge : new ImmutableDirectedUnweightedEdge<>(edge.getNodeA(), edge.getNodeB())));
     }
 
     @Override
-    public void putEdge(V a, V b) {
-        putVertex(a);
-        putVertex(b);
-        final Edge<V> edge = new ImmutableDirectedUnweightedEdge<>(a, b);
-        data.computeIfPresent(edge.getNodeA(), (k, v) -> {
-            v.put(edge.getNodeB(), edge);
-            return v;
-        });
+    public UnweightedGraph<V> freeze() {
+        return CsrUnweightedGraph.copyOf(this, true);
     }
 
     @Override
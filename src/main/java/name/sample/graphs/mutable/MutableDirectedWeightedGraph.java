@@ -2,13 +2,10 @@ package name.sample.graphs.mutable;
 
 import name.sample.graphs.Edge;
 import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.immutable.CsrWeightedGraph;
 import name.sample.graphs.mutable.edges.ImmutableDirectedWeightedEdge;
 
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
-
 /**
  * A directed unweighted graph implementation.
  * <p/>
@@ -19,45 +16,37 @@ import java.util.stream.Collectors;
  * @param <V> graph vertex type
  * @param <W> graph edge weight type
  */
-public class MutableDirectedWeightedGraph<V, W> implements MutableWeightedGraph<V, W> {
-
-    private final ConcurrentMap<V, Map<V, WeightedEdge<V, W>>> data = new ConcurrentHashMap<>();
+public class MutableDirectedWeightedGraph<V, W> extends AbstractMutableWeightedGraph<V, W> {
 
-    @Override
-    public Set<V> getVertices() {
-        return data.keySet();
+    public MutableDirectedWeightedGraph() {
+        this(false);
     }
 
-    @Override
-    public Collection<WeightedEdge<V, W>> getEdges() {
-        return data.values()
-                .stream()
-                .map(Map::values)
-                .flatMap(Collection::stream)
-                .collect(Collectors.toSet());
+    /**
+     * @param indexIncoming whether to maintain an index of incoming edges, it makes {@link #getIncomingEdges} and
+     *                      {@link #removeVertex} proportional to the number of edges of the vertex instead of the
+     *                      number of vertices in the graph at the cost of memory and slower puts
+     */
+    public MutableDirectedWeightedGraph(final boolean indexIncoming) {
+        super(true, indexIncoming, false);
     }
 
     @Override
-    public Collection<WeightedEdge<V, W>> getOutgoingEdges(final V vertex) {
-        Objects.requireNonNull(vertex);
-        return data.getOrDefault(vertex, Collections.emptyMap()).values();
+    WeightedEdge<V, W> adopt(final WeightedEdge<V, W> edge) {
+        if (edge instanceof ImmutableDirectedWeightedEdge) {
+            return edge;
+        }
+        return new ImmutableDirectedWeightedEdge<>(edge.getNodeA(), edge.getNodeB(), edge.getWeight());
     }
 
     @Override
-    public void putVertex(final V vertex) {
-        Objects.requireNonNull(vertex);
-        data.computeIfAbsent(vertex, (k) -> new ConcurrentHashMap<>());
+    public void putEdge(V a, V b, W weight) {
+        link(new ImmutableDirectedWeightedEdge<>(a, b, weight));
     }
 
     @Override
-    public void putEdge(V a, V b, W weight) {
-        putVertex(a);
-        putVertex(b);
-        final WeightedEdge<V, W> edge = new ImmutableDirectedWeightedEdge<>(a, b, weight);
-        data.computeIfPresent(edge.getNodeA(), (k, v) -> {
-            v.put(edge.getNodeB(), edge);
-            return v;
-        });
+    public WeightedGraph<V, W> freeze() {
+        return CsrWeightedGraph.copyOf(this, true);
     }
 
     @Override
@@ -0,0 +1,23 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.DoubleWeightedGraph;
+import name.sample.graphs.Graph;
+
+/**
+ * A generic interface for representing a mutable {@link Graph} structure with primitive {@code double} edge weights.
+ *
+ * @param <V> type of graph vertex
+ */
+public interface MutableDoubleWeightedGraph<V> extends MutableWeightedGraph<V, Double>, DoubleWeightedGraph<V> {
+
+    /**
+     * Add an edge between vertexes 'a' and 'b' with specified primitive weight.
+     * <p/>
+     * Same as {@link #putEdge(Object, Object, Object)}, but does not box the weight.
+     *
+     * @param a      first vertex
+     * @param b      second vertex
+     * @param weight edge weight
+     */
+    void putEdgeAsDouble(V a, V b, double weight);
+}
@@ -0,0 +1,23 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.LongWeightedGraph;
+import name.sample.graphs.Graph;
+
+/**
+ * A generic interface for representing a mutable {@link Graph} structure with primitive {@code long} edge weights.
+ *
+ * @param <V> type of graph vertex
+ */
+public interface MutableLongWeightedGraph<V> extends MutableWeightedGraph<V, Long>, LongWeightedGraph<V> {
+
+    /**
+     * Add an edge between vertexes 'a' and 'b' with specified primitive weight.
+     * <p/>
+     * Same as {@link #putEdge(Object, Object, Object)}, but does not box the weight.
+     *
+     * @param a      first vertex
+     * @param b      second vertex
+     * @param weight edge weight
+     */
+    void putEdgeAsLong(V a, V b, long weight);
+}
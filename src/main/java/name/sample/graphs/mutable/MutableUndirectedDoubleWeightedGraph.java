@@ -0,0 +1,74 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.DoubleWeightedEdge;
+import name.sample.graphs.Edge;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.immutable.CsrWeightedGraph;
+import name.sample.graphs.mutable.edges.ImmutableUndirectedDoubleWeightedEdge;
+
+/**
+ * An undirected weighted graph implementation with primitive {@code double} weights.
+ * <p/>
+ * In an undirected graph all {@link Edge}s connect vertex A to vertex B both ways.
+ * <p/>
+ * Weights are stored unboxed in the edges, use {@link #forEachNeighborAsDouble} to read them without boxing.
+ *
+ * @param <V> graph vertex type
+ */
+public class MutableUndirectedDoubleWeightedGraph<V> extends AbstractMutableDoubleWeightedGraph<V> {
+
+    public MutableUndirectedDoubleWeightedGraph() {
+        this(false);
+    }
+
+    /**
+     * @param trackComponents whether to maintain {@link #getConnectedComponents() connected components}, they let
+     *                        path finders reject queries between disconnected vertices without a search at the cost
+     *                        of memory and puts serialized on merging components
+     */
+    public MutableUndirectedDoubleWeightedGraph(final boolean trackComponents) {
+        super(false, false, trackComponents);
+    }
+
+    @Override
+    WeightedEdge<V, Double> reverse(final WeightedEdge<V, Double> edge) {
+        return new ImmutableUndirectedDoubleWeightedEdge<>(edge.getNodeB(), edge.getNodeA(),
+                ((DoubleWeightedEdge<V>) edge).getWeightAsDouble());
+    }
+
+    /**
+     * Connected components maintained as edges are put, for checks whether two vertices are connected in constant
+     * time.
+     *
+     * @return live connected components of this graph, null if the graph was created without tracking them
+     */
+    public ConnectedComponents<V> getConnectedComponents() {
+        return components;
+    }
+
+    @Override
+    WeightedEdge<V, Double> adopt(final WeightedEdge<V, Double> edge) {
+        if (edge instanceof ImmutableUndirectedDoubleWeightedEdge) {
+            return edge;
+        }
+        final double weight = edge instanceof DoubleWeightedEdge
+                ? ((DoubleWeightedEdge<V>) edge).getWeightAsDouble() : edge.getWeight();
+        return new ImmutableUndirectedDoubleWeightedEdge<>(edge.getNodeA(), edge.getNodeB(), weight);
+    }
+
+    @Override
+    public void putEdgeAsDouble(final V a, final V b, final double weight) {
+        link(new ImmutableUndirectedDoubleWeightedEdge<>(a, b, weight));
+    }
+
+    @Override
+    public WeightedGraph<V, Double> freeze() {
+        return CsrWeightedGraph.copyOf(this, false);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableUndirectedDoubleWeightedGraph{}";
+    }
+}
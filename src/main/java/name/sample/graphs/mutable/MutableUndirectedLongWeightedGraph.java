@@ -0,0 +1,74 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.LongWeightedEdge;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.immutable.CsrWeightedGraph;
+import name.sample.graphs.mutable.edges.ImmutableUndirectedLongWeightedEdge;
+
+/**
+ * An undirected weighted graph implementation with primitive {@code long} weights.
+ * <p/>
+ * In an undirected graph all {@link Edge}s connect vertex A to vertex B both ways.
+ * <p/>
+ * Weights are stored unboxed in the edges, use {@link #forEachNeighborAsLong} to read them without boxing.
+ *
+ * @param <V> graph vertex type
+ */
+public class MutableUndirectedLongWeightedGraph<V> extends AbstractMutableLongWeightedGraph<V> {
+
+    public MutableUndirectedLongWeightedGraph() {
+        this(false);
+    }
+
+    /**
+     * @param trackComponents whether to maintain {@link #getConnectedComponents() connected components}, they let
+     *                        path finders reject queries between disconnected vertices without a search at the cost
+     *                        of memory and puts serialized on merging components
+     */
+    public MutableUndirectedLongWeightedGraph(final boolean trackComponents) {
+        super(false, false, trackComponents);
+    }
+
+    @Override
+    WeightedEdge<V, Long> reverse(final WeightedEdge<V, Long> edge) {
+        return new ImmutableUndirectedLongWeightedEdge<>(edge.getNodeB(), edge.getNodeA(),
+                ((LongWeightedEdge<V>) edge).getWeightAsLong());
+    }
+
+    /**
+     * Connected components maintained as edges are put, for checks whether two vertices are connected in constant
+     * time.
+     *
+     * @return live connected components of this graph, null if the graph was created without tracking them
+     */
+    public ConnectedComponents<V> getConnectedComponents() {
+        return components;
+    }
+
+    @Override
+    WeightedEdge<V, Long> adopt(final WeightedEdge<V, Long> edge) {
+        if (edge instanceof ImmutableUndirectedLongWeightedEdge) {
+            return edge;
+        }
+        final long weight = edge instanceof LongWeightedEdge
+                ? ((LongWeightedEdge<V>) edge).getWeightAsLong() : edge.getWeight();
+        return new ImmutableUndirectedLongWeightedEdge<>(edge.getNodeA(), edge.getNodeB(), weight);
+    }
+
+    @Override
+    public void putEdgeAsLong(final V a, final V b, final long weight) {
+        link(new ImmutableUndirectedLongWeightedEdge<>(a, b, weight));
+    }
+
+    @Override
+    public WeightedGraph<V, Long> freeze() {
+        return CsrWeightedGraph.copyOf(this, false);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableUndirectedLongWeightedGraph{}";
+    }
+}
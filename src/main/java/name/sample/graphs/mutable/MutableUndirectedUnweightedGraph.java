@@ -1,12 +1,11 @@
 package name.sample.graphs.mutable;
 
 import name.sample.graphs.Edge;
+import name.sample.graphs.UnweightedGraph;
+import name.sample.graphs.immutable.CsrUnweightedGraph;
 import name.sample.graphs.mutable.edges.ImmutableUndirectedUnweightedEdge;
 
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A directed unweighted graph implementation.
@@ -17,47 +16,51 @@ import java.util.stream.Collectors;
  *
  * @param <V> graph vertex type
  */
-public class MutableUndirectedUnweightedGraph<V> implements MutableUnweightedGraph<V> {
+public class MutableUndirectedUnweightedGraph<V> extends AbstractMutableGraph<V, Edge<V>>
+        implements MutableUnweightedGraph<V> {
 
-    private final ConcurrentMap<V, Map<V, Edge<V>>> data = new ConcurrentHashMap<>();
+    public MutableUndirectedUnweightedGraph() {
+        this(false);
+    }
 
-    @Override
-    public Set<V> getVertices() {
-        return data.keySet();
+    /**
+     * @param trackComponents whether to maintain {@link #getConnectedComponents() connected components}, they let
+     *                        path finders reject queries between disconnected vertices without a search at the cost
+     *                        of memory and puts serialized on merging components
+     */
+    public MutableUndirectedUnweightedGraph(final boolean trackComponents) {
+        super(false, false, trackComponents);
     }
 
     @Override
-    public Collection<Edge<V>> getEdges() {
-        return data.values()
-                .stream()
-                .map(Map::values)
-                .flatMap(Collection::stream)
-                .collect(Collectors.toSet());
+    Edge<V> reverse(final Edge<V> edge) {
+        return new ImmutableUndirectedUnweightedEdge<>(edge.getNodeB(), edge.getNodeA());
+    }
+
+    /**
+     * Connected components maintained as edges are put, for checks whether two vertices are connected in constant
+     * time.
+     *
+     * @return live connected components of this graph, null if the graph was created without tracking them
+     */
+    public ConnectedComponents<V> getConnectedComponents() {
+        return components;
     }
 
     @Override
-    public Collection<Edge<V>> getOutgoingEdges(final V vertex) {
-        return data.getOrDefault(vertex, Collections.emptyMap()).values();
+    public void putEdge(final V a, final V b) {
+        link(new ImmutableUndirectedUnweightedEdge<>(a, b));
     }
 
     @Override
-    public void putVertex(final V vertex) {
-        Objects.requireNonNull(vertex);
-        data.computeIfAbsent(vertex, (k) -> new ConcurrentHashMap<>());
+    public void putEdges(final Stream<? extends Edge<V>> edges) {
+        linkAll(edges.map(edge -> edge instanceof ImmutableUndirectedUnweightedEdge
+                ? edge : new ImmutableUndirectedUnweightedEdge<>(edge.getNodeA(), edge.getNodeB())));
     }
 
     @Override
-    public void putEdge(final V a, final V b) {
-        putVertex(a);
-        putVertex(b);
-        data.computeIfPresent(a, (k, v) -> {
-            v.put(b, new ImmutableUndirectedUnweightedEdge<>(a, b));
-            return v;
-        });
-        data.computeIfPresent(b, (k, v) -> {
-            v.put(a, new ImmutableUndirectedUnweightedEdge<>(b, a));
-            return v;
-        });
+    public UnweightedGraph<V> freeze() {
+        return CsrUnweightedGraph.copyOf(this, false);
     }
 
     @Override
@@ -3,11 +3,8 @@ package name.sample.graphs.mutable;
 import name.sample.graphs.mutable.edges.ImmutableUndirectedWeightedEdge;
 import name.sample.graphs.Edge;
 import name.sample.graphs.WeightedEdge;
-
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.immutable.CsrWeightedGraph;
 
 /**
  * An undirected unweighted graph implementation.
@@ -19,47 +16,52 @@ import java.util.stream.Collectors;
  * @param <V> graph vertex type
  * @param <W> graph edge weight type
  */
-public class MutableUndirectedWeightedGraph<V, W> implements MutableWeightedGraph<V, W> {
+public class MutableUndirectedWeightedGraph<V, W> extends AbstractMutableWeightedGraph<V, W> {
 
-    private final ConcurrentMap<V, Map<V, WeightedEdge<V, W>>> data = new ConcurrentHashMap<>();
+    public MutableUndirectedWeightedGraph() {
+        this(false);
+    }
 
-    @Override
-    public Set<V> getVertices() {
-        return data.keySet();
+    /**
+     * @param trackComponents whether to maintain {@link #getConnectedComponents() connected components}, they let
+     *                        path finders reject queries between disconnected vertices without a search at the cost
+     *                        of memory and puts serialized on merging components
+     */
+    public MutableUndirectedWeightedGraph(final boolean trackComponents) {
+        super(false, false, trackComponents);
     }
 
     @Override
-    public Collection<WeightedEdge<V, W>> getEdges() {
-        return data.values()
-                .stream()
-                .map(Map::values)
-                .flatMap(Collection::stream)
-                .collect(Collectors.toSet());
+    WeightedEdge<V, W> reverse(final WeightedEdge<V, W> edge) {
+        return new ImmutableUndirectedWeightedEdge<>(edge.getNodeB(), edge.getNodeA(), edge.getWeight());
     }
 
-    @Override
-    public Collection<WeightedEdge<V, W>> getOutgoingEdges(final V vertex) {
-        return data.getOrDefault(vertex, Collections.emptyMap()).values();
+    /**
+     * Connected components maintained as edges are put, for checks whether two vertices are connected in constant
+     * time.
+     *
+     * @return live connected components of this graph, null if the graph was created without tracking them
+     */
+    public ConnectedComponents<V> getConnectedComponents() {
+        return components;
     }
 
     @Override
-    public void putVertex(final V vertex) {
-        Objects.requireNonNull(vertex);
-        data.computeIfAbsent(vertex, (k) -> new ConcurrentHashMap<>());
+    WeightedEdge<V, W> adopt(final WeightedEdge<V, W> edge) {
+        if (edge instanceof ImmutableUndirectedWeightedEdge) {
+            return edge;
+        }
+        return new ImmutableUndirectedWeightedEdge<>(edge.getNodeA(), edge.getNodeB(), edge.getWeight());
     }
 
     @Override
     public void putEdge(V a, V b, W weight) {
-        putVertex(a);
-        putVertex(b);
-        data.computeIfPresent(a, (k, v) -> {
-            v.put(b, new ImmutableUndirectedWeightedEdge<>(a, b, weight));
-            return v;
-        });
-        data.computeIfPresent(b, (k, v) -> {
-            v.put(a, new ImmutableUndirectedWeightedEdge<>(b, a, weight));
-            return v;
-        });
+        link(new ImmutableUndirectedWeightedEdge<>(a, b, weight));
+    }
+
+    @Override
+    public WeightedGraph<V, W> freeze() {
+        return CsrWeightedGraph.copyOf(this, false);
     }
 
     @Override
@@ -3,6 +3,10 @@ package name.sample.graphs.mutable;
 import name.sample.graphs.Edge;
 import name.sample.graphs.Graph;
 import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A generic interface for representing a mutable weighted {@link Graph} structure.
@@ -12,7 +16,7 @@ import name.sample.graphs.WeightedEdge;
  * @param <V> type of graph vertex
  * @param <W> type of graph Edge, must be an implementation of {@link Edge} interface.
  */
-public interface MutableWeightedGraph<V, W> extends Graph<V, WeightedEdge<V, W>> {
+public interface MutableWeightedGraph<V, W> extends WeightedGraph<V, W> {
 
     /**
      * Add a vertex to a graph if not exists. If exists, vertex will not be added again.
@@ -31,4 +35,75 @@ public interface MutableWeightedGraph<V, W> extends Graph<V, WeightedEdge<V, W>>
      */
     void putEdge(V a, V b, W weight);
 
+    /**
+     * Remove an edge going from vertex 'a' to vertex 'b', in an undirected graph the edge between them.
+     *
+     * @param a first vertex
+     * @param b second vertex
+     * @return true if the edge was removed, false if it did not exist
+     */
+    boolean removeEdge(V a, V b);
+
+    /**
+     * Remove a vertex together with all edges going into and out of it.
+     *
+     * @param vertex vertex to remove
+     * @return true if the vertex was removed, false if it did not exist
+     */
+    boolean removeVertex(V vertex);
+
+    /**
+     * Register a listener receiving all later changes of the graph in batches, off the threads changing it.
+     *
+     * @param listener listener to add
+     * @see GraphListener
+     */
+    void addGraphListener(GraphListener<V, WeightedEdge<V, W>> listener);
+
+    /**
+     * Unregister a listener, it may still receive a batch already being delivered.
+     *
+     * @param listener listener to remove
+     * @return true if the listener was registered
+     */
+    boolean removeGraphListener(GraphListener<V, WeightedEdge<V, W>> listener);
+
+    /**
+     * Number of changes made to the graph so far, grows after every change is applied. A result computed from the
+     * graph is still current as long as the count read before computing it is unchanged.
+     *
+     * @return modification count
+     */
+    long getModificationCount();
+
+    /**
+     * Add all specified edges, same as calling {@link #putEdge(Object, Object, Object)} for each of them in order.
+     *
+     * @param edges edges to add
+     */
+    default void putEdges(final Iterable<? extends WeightedEdge<V, W>> edges) {
+        putEdges(StreamSupport.stream(edges.spliterator(), false));
+    }
+
+    /**
+     * Add all specified edges, same as calling {@link #putEdge(Object, Object, Object)} for each of them in order.
+     * <p/>
+     * Implementations may add edges in parallel, so other threads may see only a part of the batch until the method
+     * returns.
+     *
+     * @param edges edges to add
+     */
+    default void putEdges(final Stream<? extends WeightedEdge<V, W>> edges) {
+        edges.sequential().forEachOrdered(edge -> putEdge(edge.getNodeA(), edge.getNodeB(), edge.getWeight()));
+    }
+
+    /**
+     * Create an immutable snapshot of a graph optimized for reading.
+     * <p/>
+     * Snapshot does not reflect changes made to a graph after it was created.
+     *
+     * @return a new read-only graph with the same vertices and edges
+     */
+    WeightedGraph<V, W> freeze();
+
 }
@@ -0,0 +1,59 @@
+package name.sample.graphs.mutable;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * A {@link StampedLock} running reads optimistically.
+ * <p/>
+ * A read first runs without locking and its result is accepted if no write happened meanwhile. Otherwise it runs
+ * once more under a read lock. Reads must therefore have no side effects and must tolerate seeing the guarded state
+ * in the middle of a write, any {@link RuntimeException} thrown by an invalidated attempt is discarded.
+ */
+final class OptimisticLock {
+
+    private final StampedLock lock = new StampedLock();
+
+    <R> R read(final Supplier<R> reader) {
+        final long optimistic = lock.tryOptimisticRead();
+        if (optimistic != 0) {
+            try {
+                final R result = reader.get();
+                if (lock.validate(optimistic)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(optimistic)) {
+                    throw e;
+                }
+            }
+        }
+        final long stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    long readLock() {
+        return lock.readLock();
+    }
+
+    void unlockRead(final long stamp) {
+        lock.unlockRead(stamp);
+    }
+
+    long writeLock() {
+        return lock.writeLock();
+    }
+
+    void unlockWrite(final long stamp) {
+        lock.unlockWrite(stamp);
+    }
+
+    @Override
+    public String toString() {
+        return "OptimisticLock{}";
+    }
+}
@@ -0,0 +1,212 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.DoubleNeighborConsumer;
+import name.sample.graphs.NeighborConsumer;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.WeightedNeighborConsumer;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A concurrent decorator for a {@link MutableWeightedGraph} implementation optimized for read dominated workloads.
+ * <p/>
+ * Uses a {@link java.util.concurrent.locks.StampedLock}. Reads returning a value run optimistically without writing
+ * to the lock and are retried under a read lock only if a write happened meanwhile, so readers do not contend on a
+ * shared reader count. Returned collections are copies made during the read. Traversal methods accepting a consumer
+ * can not be retried and take a read lock, use {@link #read(Function)} to run a whole traversal optimistically.
+ * <p/>
+ * Decorated implementation must tolerate reads concurrent with a write, as all map-backed graphs of this package do.
+ *
+ * @param <V> graph vertex type
+ * @param <W> graph edge weight type
+ */
+public class OptimisticMutableWeightedGraph<V, W> implements MutableWeightedGraph<V, W> {
+
+    private final MutableWeightedGraph<V, W> implementation;
+    private final OptimisticLock lock = new OptimisticLock();
+
+    public OptimisticMutableWeightedGraph(final MutableWeightedGraph<V, W> implementation) {
+        this.implementation = Objects.requireNonNull(implementation);
+    }
+
+    /**
+     * Run a read-only computation over the decorated graph under a single optimistic stamp.
+     * <p/>
+     * The computation runs without locking first, if a write happens meanwhile its result is discarded and it runs
+     * once more under a read lock. It must not modify the graph, must have no other side effects and must not let
+     * live collections of the graph escape.
+     *
+     * @param traversal computation to run, e.g. {@code g -> new DftPathFinder<>(g).getPath(a, b)}
+     * @param <R>       result type
+     * @return result of a run that observed no concurrent writes
+     */
+    public <R> R read(final Function<? super WeightedGraph<V, W>, ? extends R> traversal) {
+        Objects.requireNonNull(traversal);
+        return lock.read(() -> traversal.apply(implementation));
+    }
+
+    @Override
+    public Set<V> getVertices() {
+        return lock.read(() -> new HashSet<>(implementation.getVertices()));
+    }
+
+    @Override
+    public Collection<WeightedEdge<V, W>> getEdges() {
+        return lock.read(implementation::copyEdges);
+    }
+
+    @Override
+    public Collection<WeightedEdge<V, W>> getOutgoingEdges(final V vertex) {
+        return lock.read(() -> new ArrayList<>(implementation.getOutgoingEdges(vertex)));
+    }
+
+    @Override
+    public Collection<WeightedEdge<V, W>> getIncomingEdges(final V vertex) {
+        return lock.read(() -> new ArrayList<>(implementation.getIncomingEdges(vertex)));
+    }
+
+    @Override
+    public WeightedEdge<V, W> getEdge(final V a, final V b) {
+        return lock.read(() -> implementation.getEdge(a, b));
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final NeighborConsumer<? super V> consumer) {
+        final long stamp = lock.readLock();
+        try {
+            implementation.forEachNeighbor(vertex, consumer);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final WeightedNeighborConsumer<? super V, ? super W> consumer) {
+        final long stamp = lock.readLock();
+        try {
+            implementation.forEachNeighbor(vertex, consumer);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final ToDoubleFunction<? super W> weight,
+                                final DoubleNeighborConsumer<? super V> consumer) {
+        final long stamp = lock.readLock();
+        try {
+            implementation.forEachNeighbor(vertex, weight, consumer);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void putVertex(final V vertex) {
+        final long stamp = lock.writeLock();
+        try {
+            implementation.putVertex(vertex);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void putEdge(final V a, final V b, final W weight) {
+        final long stamp = lock.writeLock();
+        try {
+            implementation.putEdge(a, b, weight);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean removeEdge(final V a, final V b) {
+        final long stamp = lock.writeLock();
+        try {
+            return implementation.removeEdge(a, b);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean removeVertex(final V vertex) {
+        final long stamp = lock.writeLock();
+        try {
+            return implementation.removeVertex(vertex);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Listeners are registered with the wrapped graph, events are produced while the lock is held.
+     *
+     * @param listener listener to add
+     */
+    @Override
+    public void addGraphListener(final GraphListener<V, WeightedEdge<V, W>> listener) {
+        implementation.addGraphListener(listener);
+    }
+
+    @Override
+    public boolean removeGraphListener(final GraphListener<V, WeightedEdge<V, W>> listener) {
+        return implementation.removeGraphListener(listener);
+    }
+
+    @Override
+    public long getModificationCount() {
+        return implementation.getModificationCount();
+    }
+
+    /**
+     * Answered by the wrapped graph without the lock, mutable graphs maintain connected components thread safely.
+     */
+    @Override
+    public boolean mayHavePath(final V source, final V destination) {
+        return implementation.mayHavePath(source, destination);
+    }
+
+    @Override
+    public boolean hasIncomingEdgeIndex() {
+        return implementation.hasIncomingEdgeIndex();
+    }
+
+    /**
+     * Add all specified edges under a single write lock, readers see either none or all of them.
+     *
+     * @param edges edges to add
+     */
+    @Override
+    public void putEdges(final Stream<? extends WeightedEdge<V, W>> edges) {
+        final List<? extends WeightedEdge<V, W>> batch = edges.collect(Collectors.toList());
+        final long stamp = lock.writeLock();
+        try {
+            implementation.putEdges(batch.stream());
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public WeightedGraph<V, W> freeze() {
+        final long stamp = lock.readLock();
+        try {
+            return implementation.freeze();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OptimisticMutableWeightedGraph{" + implementation.toString() + "}";
+    }
+}
@@ -0,0 +1,115 @@
+package name.sample.graphs.mutable;
+
+/**
+ * A persistent array indexed by dense non-negative ids, stored as a radix trie with 32 slots per node.
+ * <p/>
+ * Setting an element copies only the path from the root to the element, the rest of the trie is shared with the
+ * previous version. Nodes created with the same edit token may be changed in place, so a writer can apply a batch
+ * of changes without copying paths again. Once a version is published the token must be dropped and never used
+ * again, nodes of a published version are never changed.
+ *
+ * @param <T> element type
+ */
+final class PersistentVector<T> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(new Node(null), 0);
+
+    private final Node root;
+    private final int shift;
+
+    private PersistentVector(final Node root, final int shift) {
+        this.root = root;
+        this.shift = shift;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * @param id element id
+     * @return element with specified id, or null if it was never set
+     */
+    @SuppressWarnings("unchecked")
+    T get(final int id) {
+        if (id < 0 || (shift < Integer.SIZE - BITS && id >>> (shift + BITS) != 0)) {
+            return null;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.slots[(id >>> level) & MASK];
+            if (node == null) {
+                return null;
+            }
+        }
+        return (T) node.slots[id & MASK];
+    }
+
+    /**
+     * Set an element.
+     *
+     * @param id    element id, non-negative
+     * @param value new element
+     * @param edit  edit token of the current writer
+     * @return a vector with the element set, may be this vector if it was changed in place
+     */
+    PersistentVector<T> set(final int id, final T value, final Object edit) {
+        if (id < 0) {
+            throw new IndexOutOfBoundsException("negative id: " + id);
+        }
+        Node newRoot = root;
+        int newShift = shift;
+        while (newShift < Integer.SIZE - BITS && id >>> (newShift + BITS) != 0) {
+            final Node parent = new Node(edit);
+            parent.slots[0] = newRoot;
+            newRoot = parent;
+            newShift += BITS;
+        }
+        newRoot = set(newRoot, newShift, id, value, edit);
+        return newRoot == root && newShift == shift ? this : new PersistentVector<>(newRoot, newShift);
+    }
+
+    private static Node set(final Node node, final int level, final int id, final Object value, final Object edit) {
+        final Node result = node.editable(edit);
+        final int slot = (id >>> level) & MASK;
+        if (level == 0) {
+            result.slots[slot] = value;
+        } else {
+            final Node child = (Node) result.slots[slot];
+            result.slots[slot] = set(child == null ? new Node(edit) : child, level - BITS, id, value, edit);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "PersistentVector{}";
+    }
+
+    private static final class Node {
+
+        private final Object edit;
+        private final Object[] slots;
+
+        private Node(final Object edit) {
+            this(edit, new Object[WIDTH]);
+        }
+
+        private Node(final Object edit, final Object[] slots) {
+            this.edit = edit;
+            this.slots = slots;
+        }
+
+        /**
+         * @return this node if it belongs to specified writer, a copy otherwise
+         */
+        private Node editable(final Object edit) {
+            return edit != null && this.edit == edit ? this : new Node(edit, slots.clone());
+        }
+    }
+}
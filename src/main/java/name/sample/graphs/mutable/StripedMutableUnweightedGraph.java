@@ -0,0 +1,219 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.NeighborConsumer;
+import name.sample.graphs.UnweightedGraph;
+
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A concurrent decorator for a {@link MutableUnweightedGraph} implementation guarding each vertex with one of a fixed
+ * set of read-write locks.
+ * <p/>
+ * Unlike a graph guarded by a single lock, like {@link ConcurrentMutableWeightedGraph}, writes touching different
+ * vertices proceed in parallel. Putting an edge locks both its vertices, reading adjacency of a vertex locks that
+ * vertex only. Methods reading the whole graph lock all vertices. All returned collections are copies made under
+ * the lock, so they are consistent and never change afterwards.
+ * <p/>
+ * Decorated implementation must tolerate concurrent changes of different vertices, as all map-backed graphs of this
+ * package do. Consumers passed to traversal methods run under a read lock and must not modify the graph.
+ *
+ * @param <V> graph vertex type
+ */
+public class StripedMutableUnweightedGraph<V> implements MutableUnweightedGraph<V> {
+
+    private final MutableUnweightedGraph<V> implementation;
+    private final LockStripes stripes;
+
+    public StripedMutableUnweightedGraph(final MutableUnweightedGraph<V> implementation) {
+        this(implementation, LockStripes.defaultConcurrency());
+    }
+
+    /**
+     * @param implementation graph to decorate
+     * @param concurrency    expected number of concurrently writing threads
+     */
+    public StripedMutableUnweightedGraph(final MutableUnweightedGraph<V> implementation, final int concurrency) {
+        this.implementation = Objects.requireNonNull(implementation);
+        this.stripes = new LockStripes(concurrency);
+    }
+
+    @Override
+    public Set<V> getVertices() {
+        stripes.lockAllRead();
+        try {
+            return new HashSet<>(implementation.getVertices());
+        } finally {
+            stripes.unlockAllRead();
+        }
+    }
+
+    @Override
+    public Collection<Edge<V>> getEdges() {
+        stripes.lockAllRead();
+        try {
+            return implementation.copyEdges();
+        } finally {
+            stripes.unlockAllRead();
+        }
+    }
+
+    @Override
+    public Collection<Edge<V>> getOutgoingEdges(final V vertex) {
+        final Lock lock = stripes.readLock(vertex);
+        lock.lock();
+        try {
+            return new ArrayList<>(implementation.getOutgoingEdges(vertex));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Collection<Edge<V>> getIncomingEdges(final V vertex) {
+        // every change of an edge locks both its vertices, so the lock of the target guards all incoming edges
+        final Lock lock = stripes.readLock(vertex);
+        lock.lock();
+        try {
+            return new ArrayList<>(implementation.getIncomingEdges(vertex));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Edge<V> getEdge(final V a, final V b) {
+        final Lock lock = stripes.readLock(a);
+        lock.lock();
+        try {
+            return implementation.getEdge(a, b);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final NeighborConsumer<? super V> consumer) {
+        final Lock lock = stripes.readLock(vertex);
+        lock.lock();
+        try {
+            implementation.forEachNeighbor(vertex, consumer);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void putVertex(final V vertex) {
+        final Lock lock = stripes.writeLock(vertex);
+        lock.lock();
+        try {
+            implementation.putVertex(vertex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void putEdge(final V a, final V b) {
+        stripes.lockWrite(a, b);
+        try {
+            implementation.putEdge(a, b);
+        } finally {
+            stripes.unlockWrite(a, b);
+        }
+    }
+
+    @Override
+    public boolean removeEdge(final V a, final V b) {
+        stripes.lockWrite(a, b);
+        try {
+            return implementation.removeEdge(a, b);
+        } finally {
+            stripes.unlockWrite(a, b);
+        }
+    }
+
+    /**
+     * Remove a vertex with all its edges locking all vertices, since its neighbors are not known in advance.
+     *
+     * @param vertex vertex to remove
+     * @return true if the vertex was removed, false if it did not exist
+     */
+    @Override
+    public boolean removeVertex(final V vertex) {
+        stripes.lockAllWrite();
+        try {
+            return implementation.removeVertex(vertex);
+        } finally {
+            stripes.unlockAllWrite();
+        }
+    }
+
+    /**
+     * Listeners are registered with the wrapped graph, events are produced while the lock is held.
+     *
+     * @param listener listener to add
+     */
+    @Override
+    public void addGraphListener(final GraphListener<V, Edge<V>> listener) {
+        implementation.addGraphListener(listener);
+    }
+
+    @Override
+    public boolean removeGraphListener(final GraphListener<V, Edge<V>> listener) {
+        return implementation.removeGraphListener(listener);
+    }
+
+    @Override
+    public long getModificationCount() {
+        return implementation.getModificationCount();
+    }
+
+    /**
+     * Answered by the wrapped graph without the lock, mutable graphs maintain connected components thread safely.
+     */
+    @Override
+    public boolean mayHavePath(final V source, final V destination) {
+        return implementation.mayHavePath(source, destination);
+    }
+
+    @Override
+    public boolean hasIncomingEdgeIndex() {
+        return implementation.hasIncomingEdgeIndex();
+    }
+
+    /**
+     * Add all specified edges locking all vertices once, readers see either none or all of them.
+     *
+     * @param edges edges to add
+     */
+    @Override
+    public void putEdges(final Stream<? extends Edge<V>> edges) {
+        final List<? extends Edge<V>> batch = edges.collect(Collectors.toList());
+        stripes.lockAllWrite();
+        try {
+            implementation.putEdges(batch.stream());
+        } finally {
+            stripes.unlockAllWrite();
+        }
+    }
+
+    @Override
+    public UnweightedGraph<V> freeze() {
+        stripes.lockAllRead();
+        try {
+            return implementation.freeze();
+        } finally {
+            stripes.unlockAllRead();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StripedMutableUnweightedGraph{" + implementation.toString() + "}";
+    }
+}
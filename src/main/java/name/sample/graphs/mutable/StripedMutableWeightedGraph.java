@@ -0,0 +1,246 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.DoubleNeighborConsumer;
+import name.sample.graphs.NeighborConsumer;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.WeightedNeighborConsumer;
+
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A concurrent decorator for a {@link MutableWeightedGraph} implementation guarding each vertex with one of a fixed
+ * set of read-write locks.
+ * <p/>
+ * Unlike a graph guarded by a single lock, like {@link ConcurrentMutableWeightedGraph}, writes touching different
+ * vertices proceed in parallel. Putting an edge locks both its vertices, reading adjacency of a vertex locks that
+ * vertex only. Methods reading the whole graph lock all vertices. All returned collections are copies made under
+ * the lock, so they are consistent and never change afterwards.
+ * <p/>
+ * Decorated implementation must tolerate concurrent changes of different vertices, as all map-backed graphs of this
+ * package do. Consumers passed to traversal methods run under a read lock and must not modify the graph.
+ *
+ * @param <V> graph vertex type
+ * @param <W> graph edge weight type
+ */
+public class StripedMutableWeightedGraph<V, W> implements MutableWeightedGraph<V, W> {
+
+    private final MutableWeightedGraph<V, W> implementation;
+    private final LockStripes stripes;
+
+    public StripedMutableWeightedGraph(final MutableWeightedGraph<V, W> implementation) {
+        this(implementation, LockStripes.defaultConcurrency());
+    }
+
+    /**
+     * @param implementation graph to decorate
+     * @param concurrency    expected number of concurrently writing threads
+     */
+    public StripedMutableWeightedGraph(final MutableWeightedGraph<V, W> implementation, final int concurrency) {
+        this.implementation = Objects.requireNonNull(implementation);
+        this.stripes = new LockStripes(concurrency);
+    }
+
+    @Override
+    public Set<V> getVertices() {
+        stripes.lockAllRead();
+        try {
+            return new HashSet<>(implementation.getVertices());
+        } finally {
+            stripes.unlockAllRead();
+        }
+    }
+
+    @Override
+    public Collection<WeightedEdge<V, W>> getEdges() {
+        stripes.lockAllRead();
+        try {
+            return implementation.copyEdges();
+        } finally {
+            stripes.unlockAllRead();
+        }
+    }
+
+    @Override
+    public Collection<WeightedEdge<V, W>> getOutgoingEdges(final V vertex) {
+        final Lock lock = stripes.readLock(vertex);
+        lock.lock();
+        try {
+            return new ArrayList<>(implementation.getOutgoingEdges(vertex));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Collection<WeightedEdge<V, W>> getIncomingEdges(final V vertex) {
+        // every change of an edge locks both its vertices, so the lock of the target guards all incoming edges
+        final Lock lock = stripes.readLock(vertex);
+        lock.lock();
+        try {
+            return new ArrayList<>(implementation.getIncomingEdges(vertex));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public WeightedEdge<V, W> getEdge(final V a, final V b) {
+        final Lock lock = stripes.readLock(a);
+        lock.lock();
+        try {
+            return implementation.getEdge(a, b);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final NeighborConsumer<? super V> consumer) {
+        final Lock lock = stripes.readLock(vertex);
+        lock.lock();
+        try {
+            implementation.forEachNeighbor(vertex, consumer);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final WeightedNeighborConsumer<? super V, ? super W> consumer) {
+        final Lock lock = stripes.readLock(vertex);
+        lock.lock();
+        try {
+            implementation.forEachNeighbor(vertex, consumer);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final ToDoubleFunction<? super W> weight,
+                                final DoubleNeighborConsumer<? super V> consumer) {
+        final Lock lock = stripes.readLock(vertex);
+        lock.lock();
+        try {
+            implementation.forEachNeighbor(vertex, weight, consumer);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void putVertex(final V vertex) {
+        final Lock lock = stripes.writeLock(vertex);
+        lock.lock();
+        try {
+            implementation.putVertex(vertex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void putEdge(final V a, final V b, final W weight) {
+        stripes.lockWrite(a, b);
+        try {
+            implementation.putEdge(a, b, weight);
+        } finally {
+            stripes.unlockWrite(a, b);
+        }
+    }
+
+    @Override
+    public boolean removeEdge(final V a, final V b) {
+        stripes.lockWrite(a, b);
+        try {
+            return implementation.removeEdge(a, b);
+        } finally {
+            stripes.unlockWrite(a, b);
+        }
+    }
+
+    /**
+     * Remove a vertex with all its edges locking all vertices, since its neighbors are not known in advance.
+     *
+     * @param vertex vertex to remove
+     * @return true if the vertex was removed, false if it did not exist
+     */
+    @Override
+    public boolean removeVertex(final V vertex) {
+        stripes.lockAllWrite();
+        try {
+            return implementation.removeVertex(vertex);
+        } finally {
+            stripes.unlockAllWrite();
+        }
+    }
+
+    /**
+     * Listeners are registered with the wrapped graph, events are produced while the lock is held.
+     *
+     * @param listener listener to add
+     */
+    @Override
+    public void addGraphListener(final GraphListener<V, WeightedEdge<V, W>> listener) {
+        implementation.addGraphListener(listener);
+    }
+
+    @Override
+    public boolean removeGraphListener(final GraphListener<V, WeightedEdge<V, W>> listener) {
+        return implementation.removeGraphListener(listener);
+    }
+
+    @Override
+    public long getModificationCount() {
+        return implementation.getModificationCount();
+    }
+
+    /**
+     * Answered by the wrapped graph without the lock, mutable graphs maintain connected components thread safely.
+     */
+    @Override
+    public boolean mayHavePath(final V source, final V destination) {
+        return implementation.mayHavePath(source, destination);
+    }
+
+    @Override
+    public boolean hasIncomingEdgeIndex() {
+        return implementation.hasIncomingEdgeIndex();
+    }
+
+    /**
+     * Add all specified edges locking all vertices once, readers see either none or all of them.
+     *
+     * @param edges edges to add
+     */
+    @Override
+    public void putEdges(final Stream<? extends WeightedEdge<V, W>> edges) {
+        final List<? extends WeightedEdge<V, W>> batch = edges.collect(Collectors.toList());
+        stripes.lockAllWrite();
+        try {
+            implementation.putEdges(batch.stream());
+        } finally {
+            stripes.unlockAllWrite();
+        }
+    }
+
+    @Override
+    public WeightedGraph<V, W> freeze() {
+        stripes.lockAllRead();
+        try {
+            return implementation.freeze();
+        } finally {
+            stripes.unlockAllRead();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StripedMutableWeightedGraph{" + implementation.toString() + "}";
+    }
+}
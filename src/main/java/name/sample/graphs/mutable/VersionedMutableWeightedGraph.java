@@ -0,0 +1,379 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.DoubleNeighborConsumer;
+import name.sample.graphs.NeighborConsumer;
+import name.sample.graphs.VertexIndex;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.WeightedNeighborConsumer;
+import name.sample.graphs.mutable.edges.ImmutableDirectedWeightedEdge;
+import name.sample.graphs.mutable.edges.ImmutableUndirectedWeightedEdge;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A thread safe weighted graph keeping every state it passes through as an immutable {@link WeightedGraphVersion}.
+ * <p/>
+ * Readers pin a version with {@link #snapshot()} and traverse it without any locks, they never observe a change
+ * made in the middle of a traversal. Writers are serialized, every change builds the next version sharing all
+ * untouched adjacencies with the previous one and publishes it atomically. Changing a vertex copies its adjacency
+ * and a path of at most seven small nodes of a persistent trie, {@link #putEdges(Stream)} copies each of them at
+ * most once for the whole batch.
+ * <p/>
+ * Read methods of the graph itself read the latest version, each call is consistent on its own.
+ * <p/>
+ * A removed vertex keeps its id, so the vertex index and arrays sized by it grow with every distinct vertex ever put.
+ * Once removed vertices hold more ids than live ones, {@link #removeVertex(Object)} renumbers live vertices densely
+ * under a new index. Versions published earlier keep the index they were built with.
+ *
+ * @param <V> graph vertex type
+ * @param <W> graph edge weight type
+ */
+public class VersionedMutableWeightedGraph<V, W> implements MutableWeightedGraph<V, W> {
+
+    // ids of removed vertices tolerated before live vertices are renumbered, no matter how few of them are live
+    private static final int COMPACTION_THRESHOLD = 64;
+
+    // replaced by compaction, guarded by writeLock
+    private VertexIndex<V> index = new VertexIndex<>();
+    private final boolean directed;
+    private final Object writeLock = new Object();
+    private volatile WeightedGraphVersion<V, W> current;
+    private final GraphEventBus<V, WeightedEdge<V, W>> events = new GraphEventBus<>();
+
+    // state of the version being built, guarded by writeLock
+    private PersistentVector<WeightedGraphVersion.Adjacency<V, W>> working;
+    private int vertexCount;
+    private long edgeCount;
+    private Object edit;
+    // events of the version being built, delivered once it is published
+    private final List<GraphEvent<V, WeightedEdge<V, W>>> pending = new ArrayList<>();
+
+    /**
+     * @param directed whether edges have a direction from vertex A to vertex B
+     */
+    public VersionedMutableWeightedGraph(final boolean directed) {
+        this.directed = directed;
+        this.current = new WeightedGraphVersion<>(index, PersistentVector.empty(), 0, 0, 0, directed, 0);
+    }
+
+    /**
+     * Retrieve the latest version of the graph.
+     *
+     * @return an immutable version not affected by later changes
+     */
+    public WeightedGraphVersion<V, W> snapshot() {
+        return current;
+    }
+
+    @Override
+    public Set<V> getVertices() {
+        return current.getVertices();
+    }
+
+    @Override
+    public Collection<WeightedEdge<V, W>> getEdges() {
+        return current.getEdges();
+    }
+
+    @Override
+    public Collection<WeightedEdge<V, W>> getOutgoingEdges(final V vertex) {
+        return current.getOutgoingEdges(vertex);
+    }
+
+    @Override
+    public Collection<WeightedEdge<V, W>> getIncomingEdges(final V vertex) {
+        return current.getIncomingEdges(vertex);
+    }
+
+    @Override
+    public boolean hasIncomingEdgeIndex() {
+        return current.hasIncomingEdgeIndex();
+    }
+
+    @Override
+    public WeightedEdge<V, W> getEdge(final V a, final V b) {
+        return current.getEdge(a, b);
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final NeighborConsumer<? super V> consumer) {
+        current.forEachNeighbor(vertex, consumer);
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final WeightedNeighborConsumer<? super V, ? super W> consumer) {
+        current.forEachNeighbor(vertex, consumer);
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final ToDoubleFunction<? super W> weight,
+                                final DoubleNeighborConsumer<? super V> consumer) {
+        current.forEachNeighbor(vertex, weight, consumer);
+    }
+
+    @Override
+    public void putVertex(final V vertex) {
+        Objects.requireNonNull(vertex);
+        synchronized (writeLock) {
+            if (current.getVertices().contains(vertex)) {
+                return;
+            }
+            begin();
+            attach(index.putVertex(vertex));
+            publish();
+        }
+    }
+
+    @Override
+    public void putEdge(final V a, final V b, final W weight) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        synchronized (writeLock) {
+            begin();
+            store(a, b, weight);
+            publish();
+        }
+    }
+
+    /**
+     * Add all specified edges as a single new version, readers see either none or all of them.
+     *
+     * @param edges edges to add
+     * @throws NullPointerException if an edge or a vertex of an edge is null, then nothing is added
+     */
+    @Override
+    public void putEdges(final Stream<? extends WeightedEdge<V, W>> edges) {
+        final List<? extends WeightedEdge<V, W>> batch = edges.collect(Collectors.toList());
+        for (final WeightedEdge<V, W> edge : batch) {
+            Objects.requireNonNull(edge.getNodeA());
+            Objects.requireNonNull(edge.getNodeB());
+        }
+        synchronized (writeLock) {
+            begin();
+            for (final WeightedEdge<V, W> edge : batch) {
+                store(edge.getNodeA(), edge.getNodeB(), edge.getWeight());
+            }
+            publish();
+        }
+    }
+
+    /**
+     * Remove an edge as a new version, the edge stays visible in earlier versions.
+     *
+     * @param a first vertex
+     * @param b second vertex
+     * @return true if the edge was removed, false if it did not exist
+     */
+    @Override
+    public boolean removeEdge(final V a, final V b) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        synchronized (writeLock) {
+            if (current.getEdge(a, b) == null) {
+                return false;
+            }
+            begin();
+            final int source = index.indexOf(a);
+            final int target = index.indexOf(b);
+            removed(detach(source, target));
+            if (!directed && source != target) {
+                detach(target, source);
+            }
+            publish();
+            return true;
+        }
+    }
+
+    /**
+     * Remove a vertex with all its edges as a new version. A directed graph keeps no incoming edges, so they are
+     * found by scanning all adjacencies.
+     *
+     * @param vertex vertex to remove
+     * @return true if the vertex was removed, false if it did not exist
+     */
+    @Override
+    public boolean removeVertex(final V vertex) {
+        Objects.requireNonNull(vertex);
+        synchronized (writeLock) {
+            if (!current.getVertices().contains(vertex)) {
+                return false;
+            }
+            begin();
+            final int id = index.indexOf(vertex);
+            final WeightedGraphVersion.Adjacency<V, W> removed = working.get(id);
+            for (int position = 0; position < removed.size(); ++position) {
+                final int target = removed.targetAt(position);
+                if (!directed && target != id) {
+                    detach(target, id);
+                }
+                removed(removed.edgeAt(position));
+            }
+            if (directed) {
+                for (int source = 0; source < current.vertexCount; ++source) {
+                    if (source != id && working.get(source) != null) {
+                        final WeightedEdge<V, W> edge = detach(source, id);
+                        if (edge != null) {
+                            removed(edge);
+                        }
+                    }
+                }
+            }
+            working = working.set(id, null, edit);
+            --vertexCount;
+            if (events.isActive()) {
+                pending.add(GraphEvent.vertexRemoved(vertex));
+            }
+            if (index.size() - vertexCount > Math.max(vertexCount, COMPACTION_THRESHOLD)) {
+                compact();
+            }
+            publish();
+            return true;
+        }
+    }
+
+    @Override
+    public void addGraphListener(final GraphListener<V, WeightedEdge<V, W>> listener) {
+        events.addListener(listener);
+    }
+
+    @Override
+    public boolean removeGraphListener(final GraphListener<V, WeightedEdge<V, W>> listener) {
+        return events.removeListener(listener);
+    }
+
+    /**
+     * Same as the number of the latest {@link WeightedGraphVersion#getVersion() version}.
+     *
+     * @return modification count
+     */
+    @Override
+    public long getModificationCount() {
+        return current.getVersion();
+    }
+
+    /**
+     * Same as {@link #snapshot()}, versions are already immutable and need no copying.
+     *
+     * @return the latest version of the graph
+     */
+    @Override
+    public WeightedGraph<V, W> freeze() {
+        return snapshot();
+    }
+
+    private void begin() {
+        final WeightedGraphVersion<V, W> version = current;
+        working = version.adjacency;
+        vertexCount = version.liveVertexCount;
+        edgeCount = version.edgeCount;
+        edit = new Object();
+        // events of a change that failed before it was published describe nothing readers can see
+        pending.clear();
+    }
+
+    private void publish() {
+        final WeightedGraphVersion<V, W> previous = current;
+        current = new WeightedGraphVersion<>(index, working, index.size(), vertexCount, edgeCount, directed,
+                previous.getVersion() + 1);
+        // nodes owned by this token are published now and must never change again
+        working = null;
+        edit = null;
+        // listeners get events only after the version they describe can be read
+        for (final GraphEvent<V, WeightedEdge<V, W>> event : pending) {
+            events.publish(event);
+        }
+        pending.clear();
+    }
+
+    /**
+     * Renumber live vertices of the version being built under a new index, in the order of their old ids. Sorted
+     * targets of an adjacency stay sorted, so each one is copied in a single pass.
+     */
+    private void compact() {
+        final int size = index.size();
+        final VertexIndex<V> compacted = new VertexIndex<>(vertexCount);
+        final int[] ids = new int[size];
+        for (int id = 0; id < size; ++id) {
+            ids[id] = working.get(id) == null ? -1 : compacted.putVertex(index.getVertex(id));
+        }
+        PersistentVector<WeightedGraphVersion.Adjacency<V, W>> renumbered = PersistentVector.empty();
+        for (int id = 0; id < size; ++id) {
+            final WeightedGraphVersion.Adjacency<V, W> stored = working.get(id);
+            if (stored != null) {
+                final WeightedGraphVersion.Adjacency<V, W> copy = new WeightedGraphVersion.Adjacency<>(edit);
+                for (int position = 0; position < stored.size(); ++position) {
+                    copy.put(ids[stored.targetAt(position)], stored.edgeAt(position));
+                }
+                renumbered = renumbered.set(ids[id], copy, edit);
+            }
+        }
+        index = compacted;
+        working = renumbered;
+    }
+
+    private void store(final V a, final V b, final W weight) {
+        final int source = attach(index.putVertex(a));
+        final int target = attach(index.putVertex(b));
+        final WeightedEdge<V, W> edge = directed
+                ? new ImmutableDirectedWeightedEdge<>(a, b, weight)
+                : new ImmutableUndirectedWeightedEdge<>(a, b, weight);
+        final WeightedEdge<V, W> previous = insert(source, target, edge);
+        if (previous == null) {
+            ++edgeCount;
+        }
+        // an undirected edge is stored oriented out of each of its vertices
+        if (!directed && source != target) {
+            insert(target, source, new ImmutableUndirectedWeightedEdge<>(b, a, weight));
+        }
+        if (events.isActive()) {
+            pending.add(GraphEvent.edgePut(edge, previous));
+        }
+    }
+
+    /**
+     * Make a vertex present in the version being built, a present vertex always has an adjacency.
+     */
+    private int attach(final int id) {
+        if (working.get(id) == null) {
+            working = working.set(id, new WeightedGraphVersion.Adjacency<>(edit), edit);
+            ++vertexCount;
+            if (events.isActive()) {
+                pending.add(GraphEvent.vertexAdded(index.getVertex(id)));
+            }
+        }
+        return id;
+    }
+
+    private WeightedEdge<V, W> insert(final int source, final int target, final WeightedEdge<V, W> edge) {
+        return editable(source).put(target, edge);
+    }
+
+    private WeightedEdge<V, W> detach(final int source, final int target) {
+        return working.get(source).find(target) < 0 ? null : editable(source).remove(target);
+    }
+
+    private void removed(final WeightedEdge<V, W> edge) {
+        --edgeCount;
+        if (events.isActive()) {
+            pending.add(GraphEvent.edgeRemoved(edge));
+        }
+    }
+
+    private WeightedGraphVersion.Adjacency<V, W> editable(final int id) {
+        final WeightedGraphVersion.Adjacency<V, W> stored = working.get(id);
+        final WeightedGraphVersion.Adjacency<V, W> adjacency = stored.editable(edit);
+        if (adjacency != stored) {
+            working = working.set(id, adjacency, edit);
+        }
+        return adjacency;
+    }
+
+    @Override
+    public String toString() {
+        return "VersionedMutableWeightedGraph{}";
+    }
+}
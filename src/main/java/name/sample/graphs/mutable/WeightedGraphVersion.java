@@ -0,0 +1,391 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.DoubleNeighborConsumer;
+import name.sample.graphs.IndexedGraph;
+import name.sample.graphs.NeighborConsumer;
+import name.sample.graphs.VertexIndex;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.WeightedNeighborConsumer;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable version of a {@link VersionedMutableWeightedGraph}.
+ * <p/>
+ * A version never changes, so it can be traversed by any number of threads without locks while the graph it was
+ * taken from goes on changing. Versions share all unchanged adjacencies with each other.
+ * <p/>
+ * The {@link VertexIndex} is shared by all versions of a graph and may already contain vertices added after this
+ * version was taken. Such vertices have ids not less than the vertex count of this version, they have no edges here
+ * and are not reported by {@link #getVertices()}. Removed vertices keep their ids but have no adjacency, they are
+ * not reported either.
+ *
+ * @param <V> graph vertex type
+ * @param <W> graph edge weight type
+ */
+public final class WeightedGraphVersion<V, W> implements IndexedGraph<V, WeightedEdge<V, W>>, WeightedGraph<V, W> {
+
+    private final VertexIndex<V> index;
+    final PersistentVector<Adjacency<V, W>> adjacency;
+    final int vertexCount;
+    final int liveVertexCount;
+    final long edgeCount;
+    private final boolean directed;
+    private final long version;
+
+    WeightedGraphVersion(final VertexIndex<V> index, final PersistentVector<Adjacency<V, W>> adjacency,
+                         final int vertexCount, final int liveVertexCount, final long edgeCount,
+                         final boolean directed, final long version) {
+        this.index = index;
+        this.adjacency = adjacency;
+        this.vertexCount = vertexCount;
+        this.liveVertexCount = liveVertexCount;
+        this.edgeCount = edgeCount;
+        this.directed = directed;
+        this.version = version;
+    }
+
+    /**
+     * Sequential number of this version, every change of a graph creates a version with a greater number.
+     *
+     * @return version number
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Whether edges of this graph have a direction.
+     *
+     * @return true for a directed graph, false otherwise
+     */
+    public boolean isDirected() {
+        return directed;
+    }
+
+    private int idOf(final Object vertex) {
+        final int id = index.indexOf(Objects.requireNonNull(vertex));
+        return adjacencyOf(id) != null ? id : -1;
+    }
+
+    private Adjacency<V, W> adjacencyOf(final int id) {
+        return id < 0 || id >= vertexCount ? null : adjacency.get(id);
+    }
+
+    @Override
+    public VertexIndex<V> getVertexIndex() {
+        return index;
+    }
+
+    @Override
+    public Set<V> getVertices() {
+        return new AbstractSet<V>() {
+            @Override
+            public int size() {
+                return liveVertexCount;
+            }
+
+            @Override
+            public boolean contains(final Object o) {
+                return o != null && idOf(o) >= 0;
+            }
+
+            @Override
+            public Iterator<V> iterator() {
+                return IntStream.range(0, vertexCount)
+                        .filter(id -> adjacency.get(id) != null)
+                        .mapToObj(index::getVertex)
+                        .iterator();
+            }
+        };
+    }
+
+    @Override
+    public Collection<WeightedEdge<V, W>> getEdges() {
+        return new AbstractCollection<WeightedEdge<V, W>>() {
+            @Override
+            public int size() {
+                return (int) Math.min(Integer.MAX_VALUE, edgeCount);
+            }
+
+            @Override
+            public Iterator<WeightedEdge<V, W>> iterator() {
+                return stream().iterator();
+            }
+
+            @Override
+            public Spliterator<WeightedEdge<V, W>> spliterator() {
+                return stream().spliterator();
+            }
+
+            @Override
+            public Stream<WeightedEdge<V, W>> stream() {
+                return edges(IntStream.range(0, vertexCount));
+            }
+
+            @Override
+            public Stream<WeightedEdge<V, W>> parallelStream() {
+                return edges(IntStream.range(0, vertexCount).parallel());
+            }
+        };
+    }
+
+    private Stream<WeightedEdge<V, W>> edges(final IntStream sources) {
+        return sources.boxed().flatMap(source -> {
+            final Adjacency<V, W> edges = adjacency.get(source);
+            if (edges == null) {
+                return Stream.empty();
+            }
+            // an undirected edge is stored for both endpoints, report it only once
+            return IntStream.range(0, edges.size)
+                    .filter(position -> directed || source <= edges.targets[position])
+                    .mapToObj(edges::edgeAt);
+        });
+    }
+
+    @Override
+    public Collection<WeightedEdge<V, W>> getOutgoingEdges(final V vertex) {
+        final Adjacency<V, W> edges = adjacencyOf(idOf(vertex));
+        if (edges == null) {
+            return Collections.emptyList();
+        }
+        return new AbstractList<WeightedEdge<V, W>>() {
+            @Override
+            public WeightedEdge<V, W> get(final int position) {
+                if (position < 0 || position >= edges.size) {
+                    throw new IndexOutOfBoundsException("position: " + position + ", size: " + edges.size);
+                }
+                return edges.edgeAt(position);
+            }
+
+            @Override
+            public int size() {
+                return edges.size;
+            }
+        };
+    }
+
+    /**
+     * An undirected version finds incoming edges through adjacency of the vertex, a directed one scans all vertices.
+     */
+    @Override
+    public Collection<WeightedEdge<V, W>> getIncomingEdges(final V vertex) {
+        if (directed) {
+            return WeightedGraph.super.getIncomingEdges(vertex);
+        }
+        final int id = idOf(vertex);
+        final Adjacency<V, W> edges = adjacencyOf(id);
+        if (edges == null) {
+            return Collections.emptyList();
+        }
+        final List<WeightedEdge<V, W>> result = new ArrayList<>(edges.size);
+        for (int position = 0; position < edges.size; ++position) {
+            // each side stores its own oriented copy of an undirected edge
+            final Adjacency<V, W> reverse = adjacency.get(edges.targets[position]);
+            result.add(reverse.edgeAt(reverse.find(id)));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean hasIncomingEdgeIndex() {
+        return !directed;
+    }
+
+    @Override
+    public WeightedEdge<V, W> getEdge(final V a, final V b) {
+        final Adjacency<V, W> edges = adjacencyOf(idOf(a));
+        final int target = idOf(Objects.requireNonNull(b));
+        if (edges == null || target < 0) {
+            return null;
+        }
+        final int position = edges.find(target);
+        return position < 0 ? null : edges.edgeAt(position);
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final NeighborConsumer<? super V> consumer) {
+        final Adjacency<V, W> edges = adjacencyOf(idOf(vertex));
+        if (edges != null) {
+            for (int position = 0; position < edges.size; ++position) {
+                consumer.accept(edges.edgeAt(position).getNodeB());
+            }
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final WeightedNeighborConsumer<? super V, ? super W> consumer) {
+        final Adjacency<V, W> edges = adjacencyOf(idOf(vertex));
+        if (edges != null) {
+            for (int position = 0; position < edges.size; ++position) {
+                final WeightedEdge<V, W> edge = edges.edgeAt(position);
+                consumer.accept(edge.getNodeB(), edge.getWeight());
+            }
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(final V vertex, final ToDoubleFunction<? super W> weight,
+                                final DoubleNeighborConsumer<? super V> consumer) {
+        final Adjacency<V, W> edges = adjacencyOf(idOf(vertex));
+        if (edges != null) {
+            for (int position = 0; position < edges.size; ++position) {
+                final WeightedEdge<V, W> edge = edges.edgeAt(position);
+                consumer.accept(edge.getNodeB(), weight.applyAsDouble(edge.getWeight()));
+            }
+        }
+    }
+
+    @Override
+    public int getOutDegree(final int id) {
+        final Adjacency<V, W> edges = adjacencyOf(id);
+        return edges == null ? 0 : edges.size;
+    }
+
+    @Override
+    public void forEachNeighborId(final int id, final IntConsumer consumer) {
+        final Adjacency<V, W> edges = adjacencyOf(id);
+        if (edges != null) {
+            for (int position = 0; position < edges.size; ++position) {
+                consumer.accept(edges.targets[position]);
+            }
+        }
+    }
+
+    /**
+     * Only an undirected version keeps incoming edges, the same ones as outgoing.
+     */
+    @Override
+    public boolean hasIncomingNeighborIds() {
+        return !directed;
+    }
+
+    @Override
+    public int findIncomingNeighborId(final int id, final IntPredicate predicate) {
+        if (directed) {
+            throw new UnsupportedOperationException("a directed version keeps no incoming edges");
+        }
+        final Adjacency<V, W> edges = adjacencyOf(id);
+        if (edges != null) {
+            for (int position = 0; position < edges.size; ++position) {
+                if (predicate.test(edges.targets[position])) {
+                    return edges.targets[position];
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return "WeightedGraphVersion{" + version + "}";
+    }
+
+    /**
+     * Outgoing edges of a vertex sorted by ids of their target vertices.
+     * <p/>
+     * An adjacency is changed in place only by the writer owning its edit token and only before the version holding
+     * it is published.
+     *
+     * @param <V> graph vertex type
+     * @param <W> graph edge weight type
+     */
+    static final class Adjacency<V, W> {
+
+        private final Object edit;
+        private int size;
+        private int[] targets;
+        private Object[] edges;
+
+        Adjacency(final Object edit) {
+            this(edit, 0, new int[2], new Object[2]);
+        }
+
+        private Adjacency(final Object edit, final int size, final int[] targets, final Object[] edges) {
+            this.edit = edit;
+            this.size = size;
+            this.targets = targets;
+            this.edges = edges;
+        }
+
+        /**
+         * @return this adjacency if it belongs to specified writer, a copy with room for one more edge otherwise
+         */
+        Adjacency<V, W> editable(final Object edit) {
+            if (this.edit == edit) {
+                return this;
+            }
+            return new Adjacency<>(edit, size, Arrays.copyOf(targets, size + 1), Arrays.copyOf(edges, size + 1));
+        }
+
+        int size() {
+            return size;
+        }
+
+        int targetAt(final int position) {
+            return targets[position];
+        }
+
+        @SuppressWarnings("unchecked")
+        WeightedEdge<V, W> edgeAt(final int position) {
+            return (WeightedEdge<V, W>) edges[position];
+        }
+
+        /**
+         * @return position of an edge to specified target, or a negative value if there is no such edge
+         */
+        int find(final int target) {
+            return Arrays.binarySearch(targets, 0, size, target);
+        }
+
+        /**
+         * Put an edge replacing an existing edge to the same target.
+         *
+         * @return replaced edge, or null if the edge was added
+         */
+        WeightedEdge<V, W> put(final int target, final WeightedEdge<V, W> edge) {
+            final int position = find(target);
+            if (position >= 0) {
+                final WeightedEdge<V, W> previous = edgeAt(position);
+                edges[position] = edge;
+                return previous;
+            }
+            final int insertion = -position - 1;
+            if (size == targets.length) {
+                final int capacity = size + (size >> 1) + 1;
+                targets = Arrays.copyOf(targets, capacity);
+                edges = Arrays.copyOf(edges, capacity);
+            }
+            System.arraycopy(targets, insertion, targets, insertion + 1, size - insertion);
+            System.arraycopy(edges, insertion, edges, insertion + 1, size - insertion);
+            targets[insertion] = target;
+            edges[insertion] = edge;
+            ++size;
+            return null;
+        }
+
+        /**
+         * Remove an edge to specified target.
+         *
+         * @return removed edge, or null if there was no such edge
+         */
+        WeightedEdge<V, W> remove(final int target) {
+            final int position = find(target);
+            if (position < 0) {
+                return null;
+            }
+            final WeightedEdge<V, W> removed = edgeAt(position);
+            System.arraycopy(targets, position + 1, targets, position, size - position - 1);
+            System.arraycopy(edges, position + 1, edges, position, size - position - 1);
+            --size;
+            edges[size] = null;
+            return removed;
+        }
+    }
+}
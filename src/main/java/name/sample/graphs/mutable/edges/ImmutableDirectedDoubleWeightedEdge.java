@@ -0,0 +1,56 @@
+package name.sample.graphs.mutable.edges;
+
+import name.sample.graphs.DoubleWeightedEdge;
+
+import java.util.Objects;
+
+public final class ImmutableDirectedDoubleWeightedEdge<Vertex> implements DoubleWeightedEdge<Vertex> {
+
+    private final Vertex nodeA;
+    private final Vertex nodeB;
+    private final double weight;
+
+    public ImmutableDirectedDoubleWeightedEdge(Vertex nodeA, Vertex nodeB, double weight) {
+        this.nodeA = nodeA;
+        this.nodeB = nodeB;
+        this.weight = weight;
+    }
+
+    @Override
+    public double getWeightAsDouble() {
+        return weight;
+    }
+
+    @Override
+    public Vertex getNodeA() {
+        return nodeA;
+    }
+
+    @Override
+    public Vertex getNodeB() {
+        return nodeB;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ImmutableDirectedDoubleWeightedEdge<?> that = (ImmutableDirectedDoubleWeightedEdge<?>) o;
+        return Objects.equals(nodeA, that.nodeA) &&
+                Objects.equals(nodeB, that.nodeB);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nodeA, nodeB);
+    }
+
+    @Override
+    public String toString() {
+        return "ImmutableDirectedDoubleWeightedEdge{" +
+                "nodeA=" + nodeA +
+                ", nodeB=" + nodeB +
+                ", weight=" + weight +
+                '}';
+    }
+}
@@ -0,0 +1,56 @@
+package name.sample.graphs.mutable.edges;
+
+import name.sample.graphs.LongWeightedEdge;
+
+import java.util.Objects;
+
+public final class ImmutableDirectedLongWeightedEdge<Vertex> implements LongWeightedEdge<Vertex> {
+
+    private final Vertex nodeA;
+    private final Vertex nodeB;
+    private final long weight;
+
+    public ImmutableDirectedLongWeightedEdge(Vertex nodeA, Vertex nodeB, long weight) {
+        this.nodeA = nodeA;
+        this.nodeB = nodeB;
+        this.weight = weight;
+    }
+
+    @Override
+    public long getWeightAsLong() {
+        return weight;
+    }
+
+    @Override
+    public Vertex getNodeA() {
+        return nodeA;
+    }
+
+    @Override
+    public Vertex getNodeB() {
+        return nodeB;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ImmutableDirectedLongWeightedEdge<?> that = (ImmutableDirectedLongWeightedEdge<?>) o;
+        return Objects.equals(nodeA, that.nodeA) &&
+                Objects.equals(nodeB, that.nodeB);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nodeA, nodeB);
+    }
+
+    @Override
+    public String toString() {
+        return "ImmutableDirectedLongWeightedEdge{" +
+                "nodeA=" + nodeA +
+                ", nodeB=" + nodeB +
+                ", weight=" + weight +
+                '}';
+    }
+}
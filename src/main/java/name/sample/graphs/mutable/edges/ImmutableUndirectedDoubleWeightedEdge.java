@@ -0,0 +1,58 @@
+package name.sample.graphs.mutable.edges;
+
+import name.sample.graphs.DoubleWeightedEdge;
+
+import java.util.Objects;
+
+public final class ImmutableUndirectedDoubleWeightedEdge<Vertex> implements DoubleWeightedEdge<Vertex> {
+
+    private final Vertex nodeA;
+    private final Vertex nodeB;
+    private final double weight;
+
+    public ImmutableUndirectedDoubleWeightedEdge(Vertex nodeA, Vertex nodeB, double weight) {
+        this.nodeA = nodeA;
+        this.nodeB = nodeB;
+        this.weight = weight;
+    }
+
+    @Override
+    public double getWeightAsDouble() {
+        return weight;
+    }
+
+    @Override
+    public Vertex getNodeA() {
+        return nodeA;
+    }
+
+    @Override
+    public Vertex getNodeB() {
+        return nodeB;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ImmutableUndirectedDoubleWeightedEdge<?> that = (ImmutableUndirectedDoubleWeightedEdge<?>) o;
+        return (Objects.equals(nodeA, that.nodeA) &&
+                Objects.equals(nodeB, that.nodeB)) ||
+                (Objects.equals(nodeA, that.nodeB) &&
+                        Objects.equals(nodeB, that.nodeA));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nodeA, nodeB) + Objects.hash(nodeB, nodeA);
+    }
+
+    @Override
+    public String toString() {
+        return "ImmutableUndirectedDoubleWeightedEdge{" +
+                "nodeA=" + nodeA +
+                ", nodeB=" + nodeB +
+                ", weight=" + weight +
+                '}';
+    }
+}
@@ -0,0 +1,58 @@
+package name.sample.graphs.mutable.edges;
+
+import name.sample.graphs.LongWeightedEdge;
+
+import java.util.Objects;
+
+public final class ImmutableUndirectedLongWeightedEdge<Vertex> implements LongWeightedEdge<Vertex> {
+
+    private final Vertex nodeA;
+    private final Vertex nodeB;
+    private final long weight;
+
+    public ImmutableUndirectedLongWeightedEdge(Vertex nodeA, Vertex nodeB, long weight) {
+        this.nodeA = nodeA;
+        this.nodeB = nodeB;
+        this.weight = weight;
+    }
+
+    @Override
+    public long getWeightAsLong() {
+        return weight;
+    }
+
+    @Override
+    public Vertex getNodeA() {
+        return nodeA;
+    }
+
+    @Override
+    public Vertex getNodeB() {
+        return nodeB;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ImmutableUndirectedLongWeightedEdge<?> that = (ImmutableUndirectedLongWeightedEdge<?>) o;
+        return (Objects.equals(nodeA, that.nodeA) &&
+                Objects.equals(nodeB, that.nodeB)) ||
+                (Objects.equals(nodeA, that.nodeB) &&
+                        Objects.equals(nodeB, that.nodeA));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nodeA, nodeB) + Objects.hash(nodeB, nodeA);
+    }
+
+    @Override
+    public String toString() {
+        return "ImmutableUndirectedLongWeightedEdge{" +
+                "nodeA=" + nodeA +
+                ", nodeB=" + nodeB +
+                ", weight=" + weight +
+                '}';
+    }
+}
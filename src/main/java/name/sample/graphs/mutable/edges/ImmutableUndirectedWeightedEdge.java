@@ -44,7 +44,7 @@ public final class ImmutableUndirectedWeightedEdge<Vertex, Weight> implements We
 
     @Override
     public int hashCode() {
-        return Objects.hash(nodeA, nodeB);
+        return Objects.hash(nodeA, nodeB) + Objects.hash(nodeB, nodeA);
     }
 
     @Override
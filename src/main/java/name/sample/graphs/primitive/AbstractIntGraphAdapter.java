@@ -0,0 +1,96 @@
+package name.sample.graphs.primitive;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.Graph;
+import name.sample.graphs.NeighborConsumer;
+
+import java.util.*;
+
+/**
+ * A base class for views presenting an {@link IntGraph} as a generic {@link Graph} of {@link Integer} vertices.
+ * <p/>
+ * Views are backed by the primitive graph, vertices are boxed and edges are allocated only when requested.
+ *
+ * @param <G> type of adapted graph
+ * @param <E> type of graph edge
+ */
+abstract class AbstractIntGraphAdapter<G extends IntGraph, E extends Edge<Integer>> implements Graph<Integer, E> {
+
+    final G graph;
+
+    AbstractIntGraphAdapter(final G graph) {
+        this.graph = Objects.requireNonNull(graph);
+    }
+
+    /**
+     * Creates an edge from vertex A to vertex B of the adapted graph.
+     *
+     * @param a first vertex
+     * @param b second vertex
+     * @return a new edge instance
+     */
+    abstract E edge(int a, int b);
+
+    @Override
+    public Set<Integer> getVertices() {
+        return new AbstractSet<Integer>() {
+            @Override
+            public boolean contains(final Object o) {
+                return o instanceof Integer && graph.containsVertex((Integer) o);
+            }
+
+            @Override
+            public Iterator<Integer> iterator() {
+                return Arrays.stream(graph.getVertices()).iterator();
+            }
+
+            @Override
+            public int size() {
+                return graph.getVertexCount();
+            }
+        };
+    }
+
+    @Override
+    public Collection<E> getEdges() {
+        final List<E> result = new ArrayList<>();
+        graph.forEachVertex(a -> graph.forEachNeighbor(a, b -> {
+            // an undirected edge is stored for both endpoints, report it only once
+            if (graph.isDirected() || a <= b) {
+                result.add(edge(a, b));
+            }
+        }));
+        return result;
+    }
+
+    @Override
+    public Collection<E> getOutgoingEdges(final Integer vertex) {
+        Objects.requireNonNull(vertex);
+        final int a = vertex;
+        final List<E> result = new ArrayList<>(graph.getOutDegree(a));
+        graph.forEachNeighbor(a, b -> result.add(edge(a, b)));
+        return result;
+    }
+
+    @Override
+    public E getEdge(final Integer a, final Integer b) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        return graph.containsEdge(a, b) ? edge(a, b) : null;
+    }
+
+    @Override
+    public void forEachNeighbor(final Integer vertex, final NeighborConsumer<? super Integer> consumer) {
+        Objects.requireNonNull(vertex);
+        graph.forEachNeighbor(vertex, (int neighbor) -> consumer.accept(neighbor));
+    }
+
+    /**
+     * Retrieves adapted primitive graph.
+     *
+     * @return graph instance backing this view
+     */
+    public G unwrap() {
+        return graph;
+    }
+}
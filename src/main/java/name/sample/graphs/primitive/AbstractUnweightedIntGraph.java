@@ -0,0 +1,76 @@
+package name.sample.graphs.primitive;
+
+import java.util.function.IntConsumer;
+
+/**
+ * A base class for unweighted int graphs storing adjacency of each vertex in an {@link IntOpenHashSet}.
+ */
+abstract class AbstractUnweightedIntGraph implements MutableIntGraph {
+
+    private final IntObjectOpenHashMap<IntOpenHashSet> data = new IntObjectOpenHashMap<>();
+
+    @Override
+    public int getVertexCount() {
+        return data.size();
+    }
+
+    @Override
+    public int[] getVertices() {
+        return data.keys();
+    }
+
+    @Override
+    public boolean containsVertex(final int vertex) {
+        return data.containsKey(vertex);
+    }
+
+    @Override
+    public boolean containsEdge(final int a, final int b) {
+        final IntOpenHashSet neighbors = data.get(a);
+        return neighbors != null && neighbors.contains(b);
+    }
+
+    @Override
+    public int getOutDegree(final int vertex) {
+        final IntOpenHashSet neighbors = data.get(vertex);
+        return neighbors == null ? 0 : neighbors.size();
+    }
+
+    @Override
+    public int[] getNeighbors(final int vertex) {
+        final IntOpenHashSet neighbors = data.get(vertex);
+        return neighbors == null ? new int[0] : neighbors.toArray();
+    }
+
+    @Override
+    public void forEachVertex(final IntConsumer consumer) {
+        data.forEachKey(consumer);
+    }
+
+    @Override
+    public void forEachNeighbor(final int vertex, final IntConsumer consumer) {
+        final IntOpenHashSet neighbors = data.get(vertex);
+        if (neighbors != null) {
+            neighbors.forEach(consumer);
+        }
+    }
+
+    @Override
+    public void putVertex(final int vertex) {
+        adjacency(vertex);
+    }
+
+    @Override
+    public void putEdge(final int a, final int b) {
+        final IntOpenHashSet fromA = adjacency(a);
+        final IntOpenHashSet fromB = adjacency(b);
+        fromA.add(b);
+        if (!isDirected()) {
+            fromB.add(a);
+        }
+    }
+
+    private IntOpenHashSet adjacency(final int vertex) {
+        return data.computeIfAbsent(vertex, (k) -> new IntOpenHashSet());
+    }
+}
@@ -0,0 +1,90 @@
+package name.sample.graphs.primitive;
+
+import java.util.function.IntConsumer;
+
+/**
+ * A base class for weighted int graphs storing adjacency of each vertex in an {@link IntDoubleOpenHashMap}.
+ */
+abstract class AbstractWeightedIntGraph implements MutableWeightedIntGraph {
+
+    private final IntObjectOpenHashMap<IntDoubleOpenHashMap> data = new IntObjectOpenHashMap<>();
+
+    @Override
+    public int getVertexCount() {
+        return data.size();
+    }
+
+    @Override
+    public int[] getVertices() {
+        return data.keys();
+    }
+
+    @Override
+    public boolean containsVertex(final int vertex) {
+        return data.containsKey(vertex);
+    }
+
+    @Override
+    public boolean containsEdge(final int a, final int b) {
+        final IntDoubleOpenHashMap neighbors = data.get(a);
+        return neighbors != null && neighbors.containsKey(b);
+    }
+
+    @Override
+    public double getWeight(final int a, final int b) {
+        final IntDoubleOpenHashMap neighbors = data.get(a);
+        return neighbors == null ? Double.NaN : neighbors.getOrDefault(b, Double.NaN);
+    }
+
+    @Override
+    public int getOutDegree(final int vertex) {
+        final IntDoubleOpenHashMap neighbors = data.get(vertex);
+        return neighbors == null ? 0 : neighbors.size();
+    }
+
+    @Override
+    public int[] getNeighbors(final int vertex) {
+        final IntDoubleOpenHashMap neighbors = data.get(vertex);
+        return neighbors == null ? new int[0] : neighbors.keys();
+    }
+
+    @Override
+    public void forEachVertex(final IntConsumer consumer) {
+        data.forEachKey(consumer);
+    }
+
+    @Override
+    public void forEachNeighbor(final int vertex, final IntConsumer consumer) {
+        final IntDoubleOpenHashMap neighbors = data.get(vertex);
+        if (neighbors != null) {
+            neighbors.forEachKey(consumer);
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(final int vertex, final IntDoubleConsumer consumer) {
+        final IntDoubleOpenHashMap neighbors = data.get(vertex);
+        if (neighbors != null) {
+            neighbors.forEach(consumer);
+        }
+    }
+
+    @Override
+    public void putVertex(final int vertex) {
+        adjacency(vertex);
+    }
+
+    @Override
+    public void putEdge(final int a, final int b, final double weight) {
+        final IntDoubleOpenHashMap fromA = adjacency(a);
+        final IntDoubleOpenHashMap fromB = adjacency(b);
+        fromA.put(b, weight);
+        if (!isDirected()) {
+            fromB.put(a, weight);
+        }
+    }
+
+    private IntDoubleOpenHashMap adjacency(final int vertex) {
+        return data.computeIfAbsent(vertex, (k) -> new IntDoubleOpenHashMap());
+    }
+}
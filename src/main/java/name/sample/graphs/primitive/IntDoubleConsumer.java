@@ -0,0 +1,16 @@
+package name.sample.graphs.primitive;
+
+/**
+ * An operation that accepts an {@code int} and a {@code double} argument, a primitive specialization of
+ * {@link java.util.function.BiConsumer}.
+ */
+@FunctionalInterface
+public interface IntDoubleConsumer {
+    /**
+     * Performs this operation on given arguments.
+     *
+     * @param key   first argument
+     * @param value second argument
+     */
+    void accept(int key, double value);
+}
@@ -0,0 +1,176 @@
+package name.sample.graphs.primitive;
+
+import java.util.function.IntConsumer;
+
+/**
+ * A map from primitive {@code int} keys to primitive {@code double} values based on open addressing with linear
+ * probing.
+ * <p/>
+ * Neither keys nor values are boxed, they are kept in two parallel arrays. This class is not thread safe.
+ */
+public final class IntDoubleOpenHashMap {
+
+    private static final int FREE = 0;
+
+    private int[] keys;
+    private double[] values;
+    private boolean containsFree;
+    private double freeValue;
+    private int size;
+    private int mask;
+    private int maxFill;
+
+    public IntDoubleOpenHashMap() {
+        this(4);
+    }
+
+    public IntDoubleOpenHashMap(final int expectedSize) {
+        allocate(IntOpenHashSet.capacityFor(expectedSize));
+    }
+
+    /**
+     * Associates a value with a key, replacing previous value if any.
+     *
+     * @param key   key to associate value with
+     * @param value value to store
+     * @return true if key was not present in the map before
+     */
+    public boolean put(final int key, final double value) {
+        if (key == FREE) {
+            freeValue = value;
+            if (containsFree) {
+                return false;
+            }
+            containsFree = true;
+            ++size;
+            return true;
+        }
+        int slot = IntOpenHashSet.mix(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= maxFill) {
+            rehash(keys.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves a value associated with a key.
+     *
+     * @param key          key to look up
+     * @param defaultValue value to return if there is no such key
+     * @return associated value or default value
+     */
+    public double getOrDefault(final int key, final double defaultValue) {
+        if (key == FREE) {
+            return containsFree ? freeValue : defaultValue;
+        }
+        int slot = IntOpenHashSet.mix(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    public boolean containsKey(final int key) {
+        if (key == FREE) {
+            return containsFree;
+        }
+        int slot = IntOpenHashSet.mix(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Performs an action for each key of the map, no objects are allocated.
+     *
+     * @param consumer action to perform
+     */
+    public void forEachKey(final IntConsumer consumer) {
+        if (containsFree) {
+            consumer.accept(FREE);
+        }
+        for (final int key : keys) {
+            if (key != FREE) {
+                consumer.accept(key);
+            }
+        }
+    }
+
+    /**
+     * Performs an action for each key and value pair of the map, no objects are allocated.
+     *
+     * @param consumer action to perform
+     */
+    public void forEach(final IntDoubleConsumer consumer) {
+        if (containsFree) {
+            consumer.accept(FREE, freeValue);
+        }
+        for (int slot = 0; slot < keys.length; ++slot) {
+            if (keys[slot] != FREE) {
+                consumer.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    public int[] keys() {
+        final int[] result = new int[size];
+        int index = 0;
+        if (containsFree) {
+            result[index++] = FREE;
+        }
+        for (final int key : keys) {
+            if (key != FREE) {
+                result[index++] = key;
+            }
+        }
+        return result;
+    }
+
+    private void rehash(final int capacity) {
+        final int[] oldKeys = keys;
+        final double[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; ++i) {
+            if (oldKeys[i] != FREE) {
+                int slot = IntOpenHashSet.mix(oldKeys[i]) & mask;
+                while (keys[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new int[capacity];
+        values = new double[capacity];
+        mask = capacity - 1;
+        maxFill = capacity * 3 / 4;
+    }
+
+    @Override
+    public String toString() {
+        return "IntDoubleOpenHashMap{size=" + size + "}";
+    }
+}
@@ -0,0 +1,82 @@
+package name.sample.graphs.primitive;
+
+import java.util.function.IntConsumer;
+
+/**
+ * A graph whose vertices are primitive {@code int} values.
+ * <p/>
+ * Unlike {@link name.sample.graphs.Graph} it never boxes vertices and never allocates {@link name.sample.graphs.Edge}
+ * objects, which makes it suitable for graphs with dense integer vertex ids. Use {@link IntGraphs} to adapt it to the
+ * generic graph interfaces.
+ */
+public interface IntGraph {
+
+    /**
+     * Whether edges of this graph have a direction.
+     *
+     * @return true for a directed graph, false otherwise
+     */
+    boolean isDirected();
+
+    /**
+     * Retrieve number of vertices in the graph.
+     *
+     * @return number of vertices
+     */
+    int getVertexCount();
+
+    /**
+     * Retrieve all vertices in the graph.
+     *
+     * @return a new array of vertices in no particular order
+     */
+    int[] getVertices();
+
+    /**
+     * Check whether a vertex exists in the graph.
+     *
+     * @param vertex vertex to look up
+     * @return true if vertex exists
+     */
+    boolean containsVertex(int vertex);
+
+    /**
+     * Check whether an edge from vertex A to vertex B exists in the graph.
+     *
+     * @param a first vertex
+     * @param b second vertex
+     * @return true if edge exists
+     */
+    boolean containsEdge(int a, int b);
+
+    /**
+     * Retrieve number of edges going out of specified vertex.
+     *
+     * @param vertex vertex to look up
+     * @return number of outgoing edges, zero if vertex does not exist
+     */
+    int getOutDegree(int vertex);
+
+    /**
+     * Retrieve all vertices adjacent to specified vertex through an outgoing edge.
+     *
+     * @param vertex vertex to look up
+     * @return a new array of adjacent vertices
+     */
+    int[] getNeighbors(int vertex);
+
+    /**
+     * Perform an action for each vertex in the graph.
+     *
+     * @param consumer action to perform
+     */
+    void forEachVertex(IntConsumer consumer);
+
+    /**
+     * Perform an action for each vertex adjacent to specified vertex through an outgoing edge.
+     *
+     * @param vertex   vertex to look up
+     * @param consumer action to perform
+     */
+    void forEachNeighbor(int vertex, IntConsumer consumer);
+}
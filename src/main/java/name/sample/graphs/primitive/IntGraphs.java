@@ -0,0 +1,37 @@
+package name.sample.graphs.primitive;
+
+import name.sample.graphs.UnweightedGraph;
+import name.sample.graphs.WeightedGraph;
+
+/**
+ * Static utility methods for {@link IntGraph} instances.
+ */
+public final class IntGraphs {
+
+    private IntGraphs() {
+    }
+
+    /**
+     * Presents a primitive graph as a generic one, e.g. to use it with path finding algorithms.
+     * <p/>
+     * Returned view is backed by the primitive graph, so changes to the graph are visible through it.
+     *
+     * @param graph primitive graph to adapt
+     * @return an unweighted graph view of {@link Integer} vertices
+     */
+    public static UnweightedGraph<Integer> asUnweightedGraph(final IntGraph graph) {
+        return new UnweightedIntGraphAdapter(graph);
+    }
+
+    /**
+     * Presents a primitive weighted graph as a generic one, e.g. to use it with path finding algorithms.
+     * <p/>
+     * Returned view is backed by the primitive graph, so changes to the graph are visible through it.
+     *
+     * @param graph primitive graph to adapt
+     * @return a weighted graph view of {@link Integer} vertices and {@link Double} weights
+     */
+    public static WeightedGraph<Integer, Double> asWeightedGraph(final WeightedIntGraph graph) {
+        return new WeightedIntGraphAdapter(graph);
+    }
+}
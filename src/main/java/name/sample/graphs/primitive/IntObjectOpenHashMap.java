@@ -0,0 +1,169 @@
+package name.sample.graphs.primitive;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * A map from primitive {@code int} keys to objects based on open addressing with linear probing.
+ * <p/>
+ * Keys are never boxed and no entry objects are allocated. This class is not thread safe.
+ *
+ * @param <T> type of values
+ */
+public final class IntObjectOpenHashMap<T> {
+
+    private static final int FREE = 0;
+
+    private int[] keys;
+    private Object[] values;
+    private boolean containsFree;
+    private Object freeValue;
+    private int size;
+    private int mask;
+    private int maxFill;
+
+    public IntObjectOpenHashMap() {
+        this(16);
+    }
+
+    public IntObjectOpenHashMap(final int expectedSize) {
+        allocate(IntOpenHashSet.capacityFor(expectedSize));
+    }
+
+    /**
+     * Retrieves a value associated with a key.
+     *
+     * @param key key to look up
+     * @return associated value or null if there is no such key
+     */
+    @SuppressWarnings("unchecked")
+    public T get(final int key) {
+        if (key == FREE) {
+            return (T) freeValue;
+        }
+        int slot = IntOpenHashSet.mix(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return (T) values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves a value associated with a key, creating it if there is no such key.
+     *
+     * @param key     key to look up
+     * @param factory creates a value for a new key, must not return null
+     * @return existing or newly created value
+     */
+    public T computeIfAbsent(final int key, final IntFunction<? extends T> factory) {
+        final T existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        final T value = factory.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Associates a value with a key, replacing previous value if any.
+     *
+     * @param key   key to associate value with
+     * @param value value to store, must not be null
+     */
+    public void put(final int key, final T value) {
+        if (value == null) {
+            throw new NullPointerException("null values are not supported");
+        }
+        if (key == FREE) {
+            if (!containsFree) {
+                containsFree = true;
+                ++size;
+            }
+            freeValue = value;
+            return;
+        }
+        int slot = IntOpenHashSet.mix(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= maxFill) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    public boolean containsKey(final int key) {
+        return get(key) != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Performs an action for each key of the map, no objects are allocated.
+     *
+     * @param consumer action to perform
+     */
+    public void forEachKey(final IntConsumer consumer) {
+        if (containsFree) {
+            consumer.accept(FREE);
+        }
+        for (final int key : keys) {
+            if (key != FREE) {
+                consumer.accept(key);
+            }
+        }
+    }
+
+    public int[] keys() {
+        final int[] result = new int[size];
+        int index = 0;
+        if (containsFree) {
+            result[index++] = FREE;
+        }
+        for (final int key : keys) {
+            if (key != FREE) {
+                result[index++] = key;
+            }
+        }
+        return result;
+    }
+
+    private void rehash(final int capacity) {
+        final int[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; ++i) {
+            if (oldKeys[i] != FREE) {
+                int slot = IntOpenHashSet.mix(oldKeys[i]) & mask;
+                while (keys[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        maxFill = capacity * 3 / 4;
+    }
+
+    @Override
+    public String toString() {
+        return "IntObjectOpenHashMap{size=" + size + "}";
+    }
+}
@@ -0,0 +1,163 @@
+package name.sample.graphs.primitive;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of primitive {@code int} values based on open addressing with linear probing.
+ * <p/>
+ * Values are never boxed, all of them are kept in a single {@code int} array. This class is not thread safe.
+ */
+public final class IntOpenHashSet {
+
+    private static final int FREE = 0;
+
+    private int[] keys;
+    private boolean containsFree;
+    private int size;
+    private int mask;
+    private int maxFill;
+
+    public IntOpenHashSet() {
+        this(4);
+    }
+
+    public IntOpenHashSet(final int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Adds a value to the set.
+     *
+     * @param key value to add
+     * @return true if value was not present in the set before
+     */
+    public boolean add(final int key) {
+        if (key == FREE) {
+            if (containsFree) {
+                return false;
+            }
+            containsFree = true;
+            ++size;
+            return true;
+        }
+        int slot = mix(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        if (++size >= maxFill) {
+            rehash(keys.length * 2);
+        }
+        return true;
+    }
+
+    public boolean contains(final int key) {
+        if (key == FREE) {
+            return containsFree;
+        }
+        int slot = mix(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Performs an action for each value of the set, no objects are allocated.
+     *
+     * @param consumer action to perform
+     */
+    public void forEach(final IntConsumer consumer) {
+        if (containsFree) {
+            consumer.accept(FREE);
+        }
+        final int[] keys = this.keys;
+        for (final int key : keys) {
+            if (key != FREE) {
+                consumer.accept(key);
+            }
+        }
+    }
+
+    public int[] toArray() {
+        final int[] result = new int[size];
+        int index = 0;
+        if (containsFree) {
+            result[index++] = FREE;
+        }
+        for (final int key : keys) {
+            if (key != FREE) {
+                result[index++] = key;
+            }
+        }
+        return result;
+    }
+
+    private void rehash(final int capacity) {
+        final int[] old = keys;
+        allocate(capacity);
+        for (final int key : old) {
+            if (key != FREE) {
+                int slot = mix(key) & mask;
+                while (keys[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+        maxFill = capacity * 3 / 4;
+    }
+
+    @Override
+    public String toString() {
+        return "IntOpenHashSet" + Arrays.toString(toArray());
+    }
+
+    /**
+     * Scrambles bits of a key so that sequential keys do not form long probing chains.
+     *
+     * @param key key to scramble
+     * @return hash of the key
+     */
+    static int mix(final int key) {
+        final int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Calculates power of two table capacity able to hold specified number of keys.
+     *
+     * @param expectedSize number of keys to hold
+     * @return table capacity
+     */
+    static int capacityFor(final int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expected size must not be negative: " + expectedSize);
+        }
+        final long required = Math.max(4L, (long) expectedSize * 4 / 3 + 1);
+        if (required > 1 << 30) {
+            throw new IllegalArgumentException("expected size is too large: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) required - 1) << 1;
+    }
+}
@@ -0,0 +1,23 @@
+package name.sample.graphs.primitive;
+
+/**
+ * A directed unweighted graph implementation with primitive {@code int} vertices.
+ * <p/>
+ * In a directed graph all edges have a direction from vertex A to vertex B.
+ * <p/>
+ * In an unweighted graph edges do not have an associated weight.
+ * <p/>
+ * This implementation is not thread safe.
+ */
+public class MutableDirectedUnweightedIntGraph extends AbstractUnweightedIntGraph {
+
+    @Override
+    public boolean isDirected() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "MutableDirectedUnweightedIntGraph{}";
+    }
+}
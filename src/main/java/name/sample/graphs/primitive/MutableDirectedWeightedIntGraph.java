@@ -0,0 +1,23 @@
+package name.sample.graphs.primitive;
+
+/**
+ * A directed weighted graph implementation with primitive {@code int} vertices.
+ * <p/>
+ * In a directed graph all edges have a direction from vertex A to vertex B.
+ * <p/>
+ * In a weighted graph each edge has an associated primitive weight.
+ * <p/>
+ * This implementation is not thread safe.
+ */
+public class MutableDirectedWeightedIntGraph extends AbstractWeightedIntGraph {
+
+    @Override
+    public boolean isDirected() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "MutableDirectedWeightedIntGraph{}";
+    }
+}
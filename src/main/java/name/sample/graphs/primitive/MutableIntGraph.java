@@ -0,0 +1,22 @@
+package name.sample.graphs.primitive;
+
+/**
+ * A mutable {@link IntGraph} structure.
+ */
+public interface MutableIntGraph extends IntGraph {
+
+    /**
+     * Add a vertex to a graph if not exists. If exists, vertex will not be added again.
+     *
+     * @param vertex new vertex to add.
+     */
+    void putVertex(int vertex);
+
+    /**
+     * Add an edge between vertexes A and B.
+     *
+     * @param a first vertex
+     * @param b second vertex
+     */
+    void putEdge(int a, int b);
+}
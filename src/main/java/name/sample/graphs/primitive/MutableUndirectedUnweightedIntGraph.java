@@ -0,0 +1,23 @@
+package name.sample.graphs.primitive;
+
+/**
+ * An undirected unweighted graph implementation with primitive {@code int} vertices.
+ * <p/>
+ * In an undirected graph all edges connect vertex A to vertex B both ways.
+ * <p/>
+ * In an unweighted graph edges do not have an associated weight.
+ * <p/>
+ * This implementation is not thread safe.
+ */
+public class MutableUndirectedUnweightedIntGraph extends AbstractUnweightedIntGraph {
+
+    @Override
+    public boolean isDirected() {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "MutableUndirectedUnweightedIntGraph{}";
+    }
+}
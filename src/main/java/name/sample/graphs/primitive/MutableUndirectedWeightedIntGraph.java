@@ -0,0 +1,23 @@
+package name.sample.graphs.primitive;
+
+/**
+ * An undirected weighted graph implementation with primitive {@code int} vertices.
+ * <p/>
+ * In an undirected graph all edges connect vertex A to vertex B both ways.
+ * <p/>
+ * In a weighted graph each edge has an associated primitive weight.
+ * <p/>
+ * This implementation is not thread safe.
+ */
+public class MutableUndirectedWeightedIntGraph extends AbstractWeightedIntGraph {
+
+    @Override
+    public boolean isDirected() {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "MutableUndirectedWeightedIntGraph{}";
+    }
+}
@@ -0,0 +1,23 @@
+package name.sample.graphs.primitive;
+
+/**
+ * A mutable {@link WeightedIntGraph} structure.
+ */
+public interface MutableWeightedIntGraph extends WeightedIntGraph {
+
+    /**
+     * Add a vertex to a graph if not exists. If exists, vertex will not be added again.
+     *
+     * @param vertex new vertex to add.
+     */
+    void putVertex(int vertex);
+
+    /**
+     * Add an edge between vertexes 'a' and 'b' with specified weight, replacing weight of an existing edge.
+     *
+     * @param a      first vertex
+     * @param b      second vertex
+     * @param weight edge weight
+     */
+    void putEdge(int a, int b, double weight);
+}
@@ -0,0 +1,28 @@
+package name.sample.graphs.primitive;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.UnweightedGraph;
+import name.sample.graphs.mutable.edges.ImmutableDirectedUnweightedEdge;
+import name.sample.graphs.mutable.edges.ImmutableUndirectedUnweightedEdge;
+
+/**
+ * A view presenting an {@link IntGraph} as an {@link UnweightedGraph}.
+ */
+final class UnweightedIntGraphAdapter extends AbstractIntGraphAdapter<IntGraph, Edge<Integer>>
+        implements UnweightedGraph<Integer> {
+
+    UnweightedIntGraphAdapter(final IntGraph graph) {
+        super(graph);
+    }
+
+    @Override
+    Edge<Integer> edge(final int a, final int b) {
+        return graph.isDirected() ? new ImmutableDirectedUnweightedEdge<>(a, b)
+                : new ImmutableUndirectedUnweightedEdge<>(a, b);
+    }
+
+    @Override
+    public String toString() {
+        return "UnweightedIntGraphAdapter{" + graph.toString() + "}";
+    }
+}
@@ -0,0 +1,24 @@
+package name.sample.graphs.primitive;
+
+/**
+ * An {@link IntGraph} in which each edge has an associated primitive {@code double} weight.
+ */
+public interface WeightedIntGraph extends IntGraph {
+
+    /**
+     * Retrieve weight of an edge from vertex A to vertex B.
+     *
+     * @param a first vertex
+     * @param b second vertex
+     * @return edge weight or {@link Double#NaN} if there is no such edge
+     */
+    double getWeight(int a, int b);
+
+    /**
+     * Perform an action for each vertex adjacent to specified vertex through an outgoing edge.
+     *
+     * @param vertex   vertex to look up
+     * @param consumer action to perform, accepts adjacent vertex and weight of the edge leading to it
+     */
+    void forEachNeighbor(int vertex, IntDoubleConsumer consumer);
+}
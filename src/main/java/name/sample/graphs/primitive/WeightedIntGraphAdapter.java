@@ -0,0 +1,64 @@
+package name.sample.graphs.primitive;
+
+import name.sample.graphs.DoubleNeighborConsumer;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.WeightedNeighborConsumer;
+import name.sample.graphs.mutable.edges.ImmutableDirectedWeightedEdge;
+import name.sample.graphs.mutable.edges.ImmutableUndirectedWeightedEdge;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A view presenting a {@link WeightedIntGraph} as a {@link WeightedGraph} with {@link Double} weights.
+ */
+final class WeightedIntGraphAdapter extends AbstractIntGraphAdapter<WeightedIntGraph, WeightedEdge<Integer, Double>>
+        implements WeightedGraph<Integer, Double> {
+
+    WeightedIntGraphAdapter(final WeightedIntGraph graph) {
+        super(graph);
+    }
+
+    @Override
+    WeightedEdge<Integer, Double> edge(final int a, final int b) {
+        return edge(a, b, graph.getWeight(a, b));
+    }
+
+    private WeightedEdge<Integer, Double> edge(final int a, final int b, final double weight) {
+        return graph.isDirected() ? new ImmutableDirectedWeightedEdge<>(a, b, weight)
+                : new ImmutableUndirectedWeightedEdge<>(a, b, weight);
+    }
+
+    @Override
+    public Collection<WeightedEdge<Integer, Double>> getOutgoingEdges(final Integer vertex) {
+        Objects.requireNonNull(vertex);
+        final int a = vertex;
+        final List<WeightedEdge<Integer, Double>> result = new ArrayList<>(graph.getOutDegree(a));
+        graph.forEachNeighbor(a, (int b, double weight) -> result.add(edge(a, b, weight)));
+        return result;
+    }
+
+    @Override
+    public void forEachNeighbor(final Integer vertex,
+                                final WeightedNeighborConsumer<? super Integer, ? super Double> consumer) {
+        Objects.requireNonNull(vertex);
+        graph.forEachNeighbor(vertex, (int neighbor, double weight) -> consumer.accept(neighbor, weight));
+    }
+
+    @Override
+    public void forEachNeighbor(final Integer vertex, final ToDoubleFunction<? super Double> weight,
+                                final DoubleNeighborConsumer<? super Integer> consumer) {
+        Objects.requireNonNull(vertex);
+        graph.forEachNeighbor(vertex,
+                (int neighbor, double value) -> consumer.accept(neighbor, weight.applyAsDouble(value)));
+    }
+
+    @Override
+    public String toString() {
+        return "WeightedIntGraphAdapter{" + graph.toString() + "}";
+    }
+}
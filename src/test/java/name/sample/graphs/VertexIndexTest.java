@@ -0,0 +1,77 @@
+package name.sample.graphs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VertexIndexTest {
+
+    private final VertexIndex<String> index = new VertexIndex<>(1);
+
+    @DisplayName("Test ids are dense and stable")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} vertices")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testDenseIds(int count) {
+        for (int i = 0; i < count; ++i) {
+            assertEquals(i, index.putVertex("vertex-" + i));
+        }
+        for (int i = 0; i < count; ++i) {
+            assertEquals(i, index.putVertex("vertex-" + i));
+            assertEquals(i, index.indexOf("vertex-" + i));
+            assertEquals("vertex-" + i, index.getVertex(i));
+        }
+        assertEquals(count, index.size());
+        assertEquals(count, index.getVertices().size());
+    }
+
+    @Test
+    @DisplayName("Test unknown vertex lookups")
+    void testUnknownVertex() {
+        index.putVertex("a");
+        assertEquals(-1, index.indexOf("b"));
+        assertEquals(-1, index.indexOf(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.getVertex(1));
+    }
+
+    @Test
+    @DisplayName("Test thread safety")
+    void testConcurrentExecution() throws Exception {
+        final int vertexCount = 1000;
+        final int threads = 10;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final List<Future<?>> futures =
+                Stream.generate(() -> executorService.submit(
+                        () -> {
+                            try {
+                                latch.await();
+                                for (int i = 0; i < vertexCount; ++i) {
+                                    final int id = index.putVertex("vertex-" + i);
+                                    assertEquals("vertex-" + i, index.getVertex(id));
+                                }
+                            } catch (InterruptedException e) {
+                                throw new AssertionFailedError("thread was interrupted", e);
+                            }
+                        }
+                )).limit(threads).collect(Collectors.toList());
+        latch.countDown();
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10000, TimeUnit.MILLISECONDS);
+        assertEquals(vertexCount, index.size());
+        for (int id = 0; id < vertexCount; ++id) {
+            assertEquals(id, index.indexOf(index.getVertex(id)));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.mutable.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+
+import static name.sample.graphs.algorithm.BidirectionalBfsPathFinderTest.assertContinuous;
+import static name.sample.graphs.algorithm.BidirectionalDijkstraPathFinderTest.distances;
+import static name.sample.graphs.algorithm.BidirectionalDijkstraPathFinderTest.weight;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AStarPathFinderTest {
+
+    private static final int SIDE = 30;
+
+    private static final Heuristic<Integer> GRID = Heuristic.euclidean(v -> v % SIDE, v -> v / SIDE);
+
+    /**
+     * A grid with random holes, vertex {@code y * SIDE + x} at point (x, y), edges weigh at least their length.
+     */
+    private static MutableWeightedGraph<Integer, Integer> grid(final MutableWeightedGraph<Integer, Integer> graph,
+                                                               final long seed) {
+        final Random random = new Random(seed);
+        for (int y = 0; y < SIDE; ++y) {
+            for (int x = 0; x < SIDE; ++x) {
+                final int vertex = y * SIDE + x;
+                if (x + 1 < SIDE && random.nextInt(10) > 0) {
+                    graph.putEdge(vertex, vertex + 1, 1 + random.nextInt(3));
+                }
+                if (y + 1 < SIDE && random.nextInt(10) > 0) {
+                    graph.putEdge(vertex, vertex + SIDE, 1 + random.nextInt(3));
+                }
+            }
+        }
+        return graph;
+    }
+
+    @DisplayName("Test paths have the minimum total weight")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} seed")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testMinimumWeight(int seed) {
+        final List<MutableWeightedGraph<Integer, Integer>> mutable = Arrays.asList(
+                grid(new MutableUndirectedWeightedGraph<>(), seed),
+                grid(new MutableDirectedWeightedGraph<>(), seed));
+        final List<WeightedGraph<Integer, Integer>> graphs = new ArrayList<>(mutable);
+        mutable.forEach(graph -> graphs.add(graph.freeze()));
+        final Random random = new Random(seed);
+        for (final WeightedGraph<Integer, Integer> graph : graphs) {
+            final AStarPathFinder<Integer, Integer> finder =
+                    new AStarPathFinder<>(graph, Integer::doubleValue, GRID);
+            int searches = 0;
+            for (int i = 0; i < 5; ++i) {
+                final int source = random.nextInt(SIDE * SIDE);
+                final Map<Integer, Double> expected = distances(graph, source);
+                for (int j = 0; j < 20; ++j) {
+                    final int destination = random.nextInt(SIDE * SIDE);
+                    final List<Edge<Integer>> path = finder.getPath(source, destination);
+                    assertContinuous(source, destination, path);
+                    if (destination != source && graph.getVertices().contains(source)
+                            && graph.getVertices().contains(destination)) {
+                        ++searches;
+                    }
+                    if (destination == source || !expected.containsKey(destination)) {
+                        assertTrue(path.isEmpty());
+                    } else {
+                        assertEquals(expected.get(destination), weight(path), 1e-9,
+                                graph + " from " + source + " to " + destination);
+                    }
+                }
+            }
+            assertEquals(searches, finder.getSearchCount());
+        }
+    }
+
+    @DisplayName("Test a heuristic reduces the number of expanded vertices")
+    @Test
+    void testExpandedCount() {
+        final MutableWeightedGraph<Integer, Integer> graph = grid(new MutableUndirectedWeightedGraph<>(), 7);
+        final AStarPathFinder<Integer, Integer> guided = new AStarPathFinder<>(graph, Integer::doubleValue, GRID);
+        final AStarPathFinder<Integer, Integer> blind =
+                new AStarPathFinder<>(graph, Integer::doubleValue, Heuristic.zero());
+        assertEquals(0, guided.getExpandedCount());
+        final int source = SIDE / 2 * SIDE;
+        final int destination = source + SIDE / 2;
+        assertEquals(weight(blind.getPath(source, destination)), weight(guided.getPath(source, destination)));
+        assertTrue(guided.getExpandedCount() > 0);
+        assertTrue(guided.getExpandedCount() < blind.getExpandedCount(),
+                guided.getExpandedCount() + " vs " + blind.getExpandedCount());
+        assertEquals(1, guided.getSearchCount());
+    }
+
+    @DisplayName("Test an admissible but inconsistent heuristic still finds the lightest path")
+    @Test
+    void testInconsistentHeuristic() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<>();
+        graph.putEdge(0, 1, 1);
+        graph.putEdge(0, 2, 4);
+        graph.putEdge(1, 2, 1);
+        graph.putEdge(2, 3, 4);
+        // the estimate for 1 drops by more than the edge to 2, so 2 is expanded before its lightest path is known
+        final Map<Integer, Double> estimates = new HashMap<>();
+        estimates.put(0, 0.0);
+        estimates.put(1, 6.0);
+        estimates.put(2, 0.0);
+        estimates.put(3, 0.0);
+        final AStarPathFinder<Integer, Integer> finder =
+                new AStarPathFinder<>(graph, Integer::doubleValue, (vertex, destination) -> estimates.get(vertex));
+        assertEquals(6.0, weight(finder.getPath(0, 3)));
+    }
+
+    @DisplayName("Test negative weights are rejected")
+    @Test
+    void testNegativeWeight() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableUndirectedWeightedGraph<>();
+        graph.putEdge(0, 1, -1);
+        graph.putEdge(1, 2, 1);
+        final AStarPathFinder<Integer, Integer> finder =
+                new AStarPathFinder<>(graph, Integer::doubleValue, Heuristic.zero());
+        assertThrows(IllegalArgumentException.class, () -> finder.getPath(0, 2));
+        assertEquals(1, finder.getSearchCount());
+    }
+}
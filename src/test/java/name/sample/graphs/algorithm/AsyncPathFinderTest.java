@@ -0,0 +1,110 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.mutable.MutableDirectedUnweightedGraph;
+import name.sample.graphs.mutable.MutableUnweightedGraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncPathFinderTest {
+
+    private final MutableUnweightedGraph<Integer> graph = new MutableDirectedUnweightedGraph<>();
+
+    AsyncPathFinderTest() {
+        for (int i = 0; i < 10; ++i) {
+            graph.putEdge(i, i + 1);
+        }
+        graph.putVertex(100);
+    }
+
+    @DisplayName("Test path found asynchronously")
+    @Test
+    void testGetPathAsync() throws Exception {
+        try (AsyncPathFinder<Integer> finder = new AsyncPathFinder<>(new DftPathFinder<>(graph))) {
+            assertEquals(10, finder.getPathAsync(0, 10).get(10, TimeUnit.SECONDS).size());
+            assertTrue(finder.getPathAsync(0, 100).get(10, TimeUnit.SECONDS).isEmpty());
+        }
+    }
+
+    @DisplayName("Test queries sharing a source are answered by one traversal")
+    @Test
+    void testGetPathsBatchesBySource() throws Exception {
+        final AtomicInteger singleCalls = new AtomicInteger();
+        final AtomicInteger batchCalls = new AtomicInteger();
+        final PathFinder<Integer> dft = new DftPathFinder<>(graph);
+        final PathFinder<Integer> counting = new PathFinder<Integer>() {
+            @Override
+            public List<Edge<Integer>> getPath(final Integer source, final Integer destination) {
+                singleCalls.incrementAndGet();
+                return dft.getPath(source, destination);
+            }
+
+            @Override
+            public Map<Integer, List<Edge<Integer>>> getPaths(final Integer source,
+                                                               final Collection<? extends Integer> destinations) {
+                batchCalls.incrementAndGet();
+                return dft.getPaths(source, destinations);
+            }
+        };
+        final List<PathQuery<Integer>> queries = Arrays.asList(PathQuery.of(0, 5), PathQuery.of(0, 10),
+                PathQuery.of(0, 100), PathQuery.of(3, 4), PathQuery.of(0, 5));
+        try (AsyncPathFinder<Integer> finder = new AsyncPathFinder<>(counting, ForkJoinPool.commonPool())) {
+            final Map<PathQuery<Integer>, CompletableFuture<List<Edge<Integer>>>> futures = finder.getPaths(queries);
+            assertEquals(4, futures.size());
+            assertEquals(5, futures.get(PathQuery.of(0, 5)).get(10, TimeUnit.SECONDS).size());
+            assertEquals(10, futures.get(PathQuery.of(0, 10)).get(10, TimeUnit.SECONDS).size());
+            assertTrue(futures.get(PathQuery.of(0, 100)).get(10, TimeUnit.SECONDS).isEmpty());
+            assertEquals(1, futures.get(PathQuery.of(3, 4)).get(10, TimeUnit.SECONDS).size());
+            assertThrows(UnsupportedOperationException.class, futures::clear);
+        }
+        assertEquals(1, batchCalls.get());
+        assertEquals(1, singleCalls.get());
+    }
+
+    @DisplayName("Test query fails when its deadline passes")
+    @Test
+    void testDeadline() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final PathFinder<Integer> slow = (source, destination) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Collections.emptyList();
+        };
+        try (AsyncPathFinder<Integer> finder = new AsyncPathFinder<>(slow, executor)) {
+            final CompletableFuture<List<Edge<Integer>>> late =
+                    finder.getPathAsync(PathQuery.of(0, 1, 10, TimeUnit.MILLISECONDS));
+            final ExecutionException error = assertThrows(ExecutionException.class,
+                    () -> late.get(10, TimeUnit.SECONDS));
+            assertTrue(error.getCause() instanceof TimeoutException);
+            release.countDown();
+            final CompletableFuture<List<Edge<Integer>>> inTime =
+                    finder.getPathAsync(PathQuery.of(0, 1, 10, TimeUnit.SECONDS));
+            assertTrue(inTime.get(10, TimeUnit.SECONDS).isEmpty());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @DisplayName("Test failure of a path finder fails the query")
+    @Test
+    void testFailure() {
+        final PathFinder<Integer> failing = (source, destination) -> {
+            throw new IllegalStateException("failed");
+        };
+        try (AsyncPathFinder<Integer> finder = new AsyncPathFinder<>(failing, Runnable::run)) {
+            final ExecutionException error = assertThrows(ExecutionException.class,
+                    () -> finder.getPathAsync(0, 1).get());
+            assertTrue(error.getCause() instanceof IllegalStateException);
+        }
+    }
+}
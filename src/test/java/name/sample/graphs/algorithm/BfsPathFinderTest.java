@@ -0,0 +1,135 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.Graph;
+import name.sample.graphs.IndexedGraph;
+import name.sample.graphs.mutable.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BfsPathFinderTest {
+
+    @DisplayName("Test path has the minimum number of edges")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} vertices in a chain")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testShortestHops(int count) {
+        final MutableUnweightedGraph<Integer> graph = new MutableDirectedUnweightedGraph<>();
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(i, i + 1);
+        }
+        // a shortcut skipping the middle of the chain, depth first search may still walk the chain
+        graph.putEdge(0, count / 2);
+        graph.putVertex(-1);
+        final int expected = count == 0 ? 0 : 1 + count - count / 2;
+        for (final Graph<Integer, ? extends Edge<Integer>> tested : Arrays.asList(graph, graph.freeze())) {
+            final PathFinder<Integer> finder = new BfsPathFinder<>(tested);
+            final List<Edge<Integer>> path = finder.getPath(0, count);
+            assertEquals(count == 0 ? 0 : Math.min(count, expected), path.size());
+            for (int i = 1; i < path.size(); ++i) {
+                assertEquals(path.get(i - 1).getNodeB(), path.get(i).getNodeA());
+            }
+            assertTrue(finder.getPath(0, -1).isEmpty());
+            assertTrue(finder.getPath(-2, 0).isEmpty());
+        }
+    }
+
+    @DisplayName("Test top-down, bottom-up and switching searches agree with reference distances")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} vertices")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50, 500})
+    void testSearchModesAgree(int count) {
+        final Random random = new Random(count);
+        final MutableUnweightedGraph<Integer> directed = new MutableDirectedUnweightedGraph<>();
+        final MutableUnweightedGraph<Integer> undirected = new MutableUndirectedUnweightedGraph<>();
+        final VersionedMutableWeightedGraph<Integer, Integer> versioned = new VersionedMutableWeightedGraph<>(false);
+        for (int i = 0; i < count; ++i) {
+            directed.putVertex(i);
+            undirected.putVertex(i);
+            versioned.putVertex(i);
+        }
+        for (int i = 0; i < count * 3; ++i) {
+            final int a = random.nextInt(count);
+            final int b = random.nextInt(count);
+            directed.putEdge(a, b);
+            undirected.putEdge(a, b);
+            versioned.putEdge(a, b, 1);
+        }
+        final List<Graph<Integer, ? extends Edge<Integer>>> graphs = Arrays.asList(directed.freeze(),
+                undirected.freeze(), versioned.snapshot());
+        for (final Graph<Integer, ? extends Edge<Integer>> graph : graphs) {
+            final Map<Integer, Integer> distances = distances(graph, 0);
+            for (final PathFinder<Integer> finder : Arrays.<PathFinder<Integer>>asList(
+                    new BfsPathFinder<>(graph),
+                    new BfsPathFinder<>(graph, 0, 0),
+                    new BfsPathFinder<>(graph, Integer.MAX_VALUE, Integer.MAX_VALUE))) {
+                final Map<Integer, List<Edge<Integer>>> paths = finder.getPaths(0, graph.getVertices());
+                assertEquals(graph.getVertices(), paths.keySet());
+                for (final Map.Entry<Integer, List<Edge<Integer>>> entry : paths.entrySet()) {
+                    final List<Edge<Integer>> path = entry.getValue();
+                    assertEquals(distances.getOrDefault(entry.getKey(), 0).intValue(), path.size());
+                    for (final Edge<Integer> edge : path) {
+                        assertNotNull(edge);
+                    }
+                    if (!path.isEmpty()) {
+                        assertEquals(0, path.get(0).getNodeA());
+                        assertEquals(entry.getKey(), path.get(path.size() - 1).getNodeB());
+                    }
+                }
+            }
+        }
+    }
+
+    @DisplayName("Test bottom-up steps examine fewer edges on a dense graph")
+    @Test
+    void testBottomUpExaminesFewerEdges() {
+        final int count = 2000;
+        final Random random = new Random(0);
+        final MutableUnweightedGraph<Integer> graph = new MutableUndirectedUnweightedGraph<>();
+        for (int i = 0; i < count * 30; ++i) {
+            graph.putEdge(random.nextInt(count), random.nextInt(count));
+        }
+        final IndexedGraph<Integer, ?> frozen = (IndexedGraph<Integer, ?>) graph.freeze();
+        final int source = frozen.getVertexIndex().indexOf(0);
+        final BfsPathFinder.IdSearch optimized = new BfsPathFinder.IdSearch(frozen, source, all(count));
+        optimized.run(14, 24);
+        final BfsPathFinder.IdSearch topDown = new BfsPathFinder.IdSearch(frozen, source, all(count));
+        topDown.run(0, 0);
+        assertTrue(optimized.bottomUpSteps > 0);
+        assertEquals(0, topDown.bottomUpSteps);
+        assertTrue(optimized.examined < topDown.examined,
+                optimized.examined + " edges examined, top-down only " + topDown.examined);
+        assertEquals(optimized.visited, topDown.visited);
+    }
+
+    private static BitSet all(final int count) {
+        final BitSet targets = new BitSet(count);
+        targets.set(0, count);
+        return targets;
+    }
+
+    private static Map<Integer, Integer> distances(final Graph<Integer, ? extends Edge<Integer>> graph,
+                                                   final Integer source) {
+        final Map<Integer, Integer> distances = new HashMap<>();
+        if (!graph.getVertices().contains(source)) {
+            return distances;
+        }
+        final Deque<Integer> queue = new ArrayDeque<>();
+        distances.put(source, 0);
+        queue.add(source);
+        while (!queue.isEmpty()) {
+            final Integer current = queue.poll();
+            graph.forEachNeighbor(current, neighbor -> {
+                if (!distances.containsKey(neighbor)) {
+                    distances.put(neighbor, distances.get(current) + 1);
+                    queue.add(neighbor);
+                }
+            });
+        }
+        return distances;
+    }
+}
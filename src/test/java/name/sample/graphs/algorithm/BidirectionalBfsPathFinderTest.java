@@ -0,0 +1,100 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.Graph;
+import name.sample.graphs.mutable.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidirectionalBfsPathFinderTest {
+
+    @DisplayName("Test paths have the same number of edges as single-ended search finds")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} vertices")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50, 200})
+    void testSameLengthAsBfs(int count) {
+        final Random random = new Random(count);
+        final List<MutableWeightedGraph<Integer, Integer>> mutable = Arrays.asList(
+                new MutableDirectedWeightedGraph<>(),
+                new MutableDirectedWeightedGraph<>(true),
+                new MutableUndirectedWeightedGraph<>(),
+                new VersionedMutableWeightedGraph<>(true),
+                new VersionedMutableWeightedGraph<>(false));
+        for (int i = 0; i < count * 2; ++i) {
+            final int a = random.nextInt(count);
+            final int b = random.nextInt(count);
+            mutable.forEach(graph -> graph.putEdge(a, b, 1));
+        }
+        final List<Graph<Integer, ? extends Edge<Integer>>> graphs = new ArrayList<>(mutable);
+        mutable.forEach(graph -> graphs.add(graph.freeze()));
+        for (final Graph<Integer, ? extends Edge<Integer>> graph : graphs) {
+            final PathFinder<Integer> expected = new BfsPathFinder<>(graph);
+            final PathFinder<Integer> finder = new BidirectionalBfsPathFinder<>(graph);
+            for (int source = 0; source < Math.min(count, 10); ++source) {
+                for (int destination = 0; destination < count; ++destination) {
+                    final List<Edge<Integer>> path = finder.getPath(source, destination);
+                    assertEquals(expected.getPath(source, destination).size(), path.size(),
+                            graph + " from " + source + " to " + destination);
+                    assertContinuous(source, destination, path);
+                }
+            }
+        }
+    }
+
+    @DisplayName("Test directed edges are followed in their direction only")
+    @Test
+    void testDirected() {
+        final MutableUnweightedGraph<Integer> graph = new MutableDirectedUnweightedGraph<>();
+        for (int i = 0; i < 10; ++i) {
+            graph.putEdge(i, i + 1);
+        }
+        graph.putVertex(20);
+        for (final Graph<Integer, ? extends Edge<Integer>> tested : Arrays.asList(graph, graph.freeze())) {
+            final PathFinder<Integer> finder = new BidirectionalBfsPathFinder<>(tested);
+            assertEquals(10, finder.getPath(0, 10).size());
+            assertContinuous(0, 10, finder.getPath(0, 10));
+            assertTrue(finder.getPath(10, 0).isEmpty());
+            assertTrue(finder.getPath(0, 20).isEmpty());
+            assertTrue(finder.getPath(0, 0).isEmpty());
+            assertTrue(finder.getPath(0, 30).isEmpty());
+        }
+    }
+
+    @DisplayName("Test a directed graph without incoming edges is searched forward only")
+    @Test
+    void testWithoutIncomingEdgeIndex() {
+        final MutableUnweightedGraph<Integer> graph = new MutableDirectedUnweightedGraph<Integer>() {
+            @Override
+            public Collection<Edge<Integer>> getIncomingEdges(final Integer vertex) {
+                throw new AssertionError("incoming edges of " + vertex + " scanned");
+            }
+        };
+        for (int i = 0; i < 10; ++i) {
+            graph.putEdge(i, i + 1);
+        }
+        assertFalse(graph.hasIncomingEdgeIndex());
+        assertTrue(new MutableDirectedUnweightedGraph<Integer>(true).hasIncomingEdgeIndex());
+        assertTrue(new MutableUndirectedUnweightedGraph<Integer>().hasIncomingEdgeIndex());
+        assertFalse(new VersionedMutableWeightedGraph<Integer, Integer>(true).hasIncomingEdgeIndex());
+        final PathFinder<Integer> finder = new BidirectionalBfsPathFinder<>(graph);
+        assertEquals(10, finder.getPath(0, 10).size());
+        assertContinuous(0, 10, finder.getPath(0, 10));
+        assertTrue(finder.getPath(10, 0).isEmpty());
+    }
+
+    static void assertContinuous(final Integer source, final Integer destination, final List<Edge<Integer>> path) {
+        if (path.isEmpty()) {
+            return;
+        }
+        assertEquals(source, path.get(0).getNodeA());
+        assertEquals(destination, path.get(path.size() - 1).getNodeB());
+        for (int i = 1; i < path.size(); ++i) {
+            assertEquals(path.get(i - 1).getNodeB(), path.get(i).getNodeA());
+        }
+    }
+}
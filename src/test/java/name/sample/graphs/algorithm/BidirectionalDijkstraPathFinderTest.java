@@ -0,0 +1,130 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.mutable.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+
+import static name.sample.graphs.algorithm.BidirectionalBfsPathFinderTest.assertContinuous;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidirectionalDijkstraPathFinderTest {
+
+    @DisplayName("Test paths have the minimum total weight")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} vertices")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50, 200})
+    void testMinimumWeight(int count) {
+        final Random random = new Random(count);
+        final List<MutableWeightedGraph<Integer, Integer>> mutable = Arrays.asList(
+                new MutableDirectedWeightedGraph<>(),
+                new MutableDirectedWeightedGraph<>(true),
+                new MutableUndirectedWeightedGraph<>(),
+                new VersionedMutableWeightedGraph<>(false));
+        for (int i = 0; i < count * 3; ++i) {
+            final int a = random.nextInt(count);
+            final int b = random.nextInt(count);
+            final int weight = random.nextInt(10);
+            mutable.forEach(graph -> graph.putEdge(a, b, weight));
+        }
+        final List<WeightedGraph<Integer, Integer>> graphs = new ArrayList<>(mutable);
+        mutable.forEach(graph -> graphs.add(graph.freeze()));
+        for (final WeightedGraph<Integer, Integer> graph : graphs) {
+            final PathFinder<Integer> finder = new BidirectionalDijkstraPathFinder<>(graph, Integer::doubleValue);
+            for (int source = 0; source < Math.min(count, 10); ++source) {
+                final Map<Integer, Double> expected = distances(graph, source);
+                for (int destination = 0; destination < count; ++destination) {
+                    final List<Edge<Integer>> path = finder.getPath(source, destination);
+                    assertContinuous(source, destination, path);
+                    if (destination == source || !expected.containsKey(destination)) {
+                        assertTrue(path.isEmpty());
+                    } else {
+                        assertFalse(path.isEmpty());
+                        assertEquals(expected.get(destination), weight(path), 1e-9,
+                                graph + " from " + source + " to " + destination);
+                    }
+                }
+            }
+        }
+    }
+
+    @DisplayName("Test a longer path with a smaller weight is preferred")
+    @Test
+    void testLighterDetour() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<>(true);
+        graph.putEdge(0, 5, 100);
+        for (int i = 0; i < 5; ++i) {
+            graph.putEdge(i, i + 1, 1);
+        }
+        final List<Edge<Integer>> path = new BidirectionalDijkstraPathFinder<>(graph, Integer::doubleValue)
+                .getPath(0, 5);
+        assertEquals(5, path.size());
+        assertTrue(new BidirectionalDijkstraPathFinder<>(graph, Integer::doubleValue).getPath(5, 0).isEmpty());
+    }
+
+    @DisplayName("Test a directed graph without incoming edges is searched forward only")
+    @Test
+    void testWithoutIncomingEdgeIndex() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<Integer, Integer>() {
+            @Override
+            public Collection<WeightedEdge<Integer, Integer>> getIncomingEdges(final Integer vertex) {
+                throw new AssertionError("incoming edges of " + vertex + " scanned");
+            }
+        };
+        graph.putEdge(0, 5, 100);
+        for (int i = 0; i < 5; ++i) {
+            graph.putEdge(i, i + 1, 1);
+        }
+        final PathFinder<Integer> finder = new BidirectionalDijkstraPathFinder<>(graph, Integer::doubleValue);
+        assertEquals(5, finder.getPath(0, 5).size());
+        assertEquals(5, weight(finder.getPath(0, 5)));
+        assertTrue(finder.getPath(5, 0).isEmpty());
+    }
+
+    @DisplayName("Test negative weights are rejected")
+    @Test
+    void testNegativeWeight() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableUndirectedWeightedGraph<>();
+        graph.putEdge(0, 1, -1);
+        graph.putEdge(1, 2, 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> new BidirectionalDijkstraPathFinder<>(graph, Integer::doubleValue).getPath(0, 2));
+    }
+
+    @SuppressWarnings("unchecked")
+    static double weight(final List<Edge<Integer>> path) {
+        double result = 0;
+        for (final Edge<Integer> edge : path) {
+            result += ((WeightedEdge<Integer, Integer>) edge).getWeight();
+        }
+        return result;
+    }
+
+    static Map<Integer, Double> distances(final WeightedGraph<Integer, Integer> graph, final int source) {
+        final Map<Integer, Double> distances = new HashMap<>();
+        final Set<Integer> settled = new HashSet<>();
+        distances.put(source, 0.0);
+        while (true) {
+            Integer current = null;
+            for (final Map.Entry<Integer, Double> entry : distances.entrySet()) {
+                if (!settled.contains(entry.getKey())
+                        && (current == null || entry.getValue() < distances.get(current))) {
+                    current = entry.getKey();
+                }
+            }
+            if (current == null) {
+                return distances;
+            }
+            settled.add(current);
+            final double base = distances.get(current);
+            for (final WeightedEdge<Integer, Integer> edge : graph.getOutgoingEdges(current)) {
+                distances.merge(edge.getNodeB(), base + edge.getWeight(), Math::min);
+            }
+        }
+    }
+}
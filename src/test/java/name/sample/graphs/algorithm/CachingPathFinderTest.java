@@ -0,0 +1,138 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.mutable.MutableDirectedWeightedGraph;
+import name.sample.graphs.mutable.MutableWeightedGraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingPathFinderTest {
+
+    private static MutableWeightedGraph<Integer, Integer> chain(final int count) {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<>();
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(i, i + 1, 1);
+        }
+        return graph;
+    }
+
+    @DisplayName("Test repeated queries are served from the cache")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} capacity")
+    @ValueSource(ints = {1, 2, 3, 4, 5, 10, 20, 50})
+    void testHits(int capacity) {
+        final MutableWeightedGraph<Integer, Integer> graph = chain(100);
+        final AtomicInteger searches = new AtomicInteger();
+        final PathFinder<Integer> dijkstra = new DijkstraPathFinder<>(graph, Integer::doubleValue);
+        final CachingPathFinder<Integer> finder = new CachingPathFinder<>((source, destination) -> {
+            searches.incrementAndGet();
+            return dijkstra.getPath(source, destination);
+        }, graph::getModificationCount, capacity);
+        for (int round = 0; round < 3; ++round) {
+            for (int destination = 1; destination <= capacity; ++destination) {
+                assertEquals(destination, finder.getPath(0, destination).size());
+            }
+        }
+        assertEquals(capacity, searches.get());
+        assertEquals(capacity, finder.getMissCount());
+        assertEquals(capacity * 2, finder.getHitCount());
+        assertEquals(capacity, finder.size());
+        assertEquals(0, finder.getEvictionCount());
+        // twice as many distinct queries do not fit
+        for (int destination = 1; destination <= capacity * 2; ++destination) {
+            finder.getPath(0, destination);
+        }
+        assertEquals(capacity, finder.size());
+        assertTrue(finder.getEvictionCount() >= capacity);
+    }
+
+    @DisplayName("Test the least recently used path is evicted")
+    @Test
+    void testEviction() {
+        final MutableWeightedGraph<Integer, Integer> graph = chain(10);
+        final CachingPathFinder<Integer> finder = new CachingPathFinder<>(
+                new DijkstraPathFinder<>(graph, Integer::doubleValue), graph::getModificationCount, 2);
+        finder.getPath(0, 1);
+        finder.getPath(0, 2);
+        finder.getPath(0, 1);
+        finder.getPath(0, 3);
+        assertEquals(1, finder.getEvictionCount());
+        finder.getPath(0, 1);
+        assertEquals(2, finder.getHitCount());
+        finder.getPath(0, 2);
+        assertEquals(4, finder.getMissCount());
+    }
+
+    @DisplayName("Test any change of the graph invalidates cached paths")
+    @Test
+    void testInvalidation() {
+        final MutableWeightedGraph<Integer, Integer> graph = chain(10);
+        final CachingPathFinder<Integer> finder = new CachingPathFinder<>(
+                new DijkstraPathFinder<>(graph, Integer::doubleValue), graph::getModificationCount, 100);
+        assertEquals(10, finder.getPath(0, 10).size());
+        assertTrue(finder.getPath(10, 0).isEmpty());
+        graph.putEdge(0, 10, 1);
+        assertEquals(1, finder.getPath(0, 10).size());
+        graph.putEdge(10, 0, 1);
+        assertEquals(1, finder.getPath(10, 0).size());
+        graph.removeEdge(0, 10);
+        assertEquals(10, finder.getPath(0, 10).size());
+        assertEquals(0, finder.getHitCount());
+        assertEquals(10, finder.getPath(0, 10).size());
+        assertEquals(1, finder.getHitCount());
+        finder.invalidateAll();
+        assertEquals(0, finder.size());
+        assertEquals(10, finder.getPath(0, 10).size());
+        assertEquals(1, finder.getHitCount());
+    }
+
+    @DisplayName("Test cached paths cannot be modified")
+    @Test
+    void testUnmodifiable() {
+        final MutableWeightedGraph<Integer, Integer> graph = chain(2);
+        final CachingPathFinder<Integer> finder = new CachingPathFinder<>(
+                new DijkstraPathFinder<>(graph, Integer::doubleValue), () -> 0, 10);
+        final List<Edge<Integer>> path = finder.getPath(0, 2);
+        assertThrows(UnsupportedOperationException.class, path::clear);
+        assertSame(path, finder.getPath(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> new CachingPathFinder<>(finder, () -> 0, 0));
+    }
+
+    @DisplayName("Test concurrent queries and changes")
+    @Test
+    void testConcurrentQueries() throws InterruptedException, ExecutionException {
+        final MutableWeightedGraph<Integer, Integer> graph = chain(20);
+        final CachingPathFinder<Integer> finder = new CachingPathFinder<>(
+                new DijkstraPathFinder<>(graph, Integer::doubleValue), graph::getModificationCount, 64);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; ++thread) {
+                final int seed = thread;
+                futures.add(executor.submit(() -> {
+                    final Random random = new Random(seed);
+                    for (int i = 0; i < 2000; ++i) {
+                        final int destination = 1 + random.nextInt(20);
+                        assertEquals(destination, finder.getPath(0, destination).size());
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+            assertEquals(8000, finder.getHitCount() + finder.getMissCount());
+            // a shortcut added after all those queries must be seen by the next one
+            graph.putEdge(0, 20, 1);
+            assertEquals(1, finder.getPath(0, 20).size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.mutable.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+
+import static name.sample.graphs.algorithm.BidirectionalBfsPathFinderTest.assertContinuous;
+import static name.sample.graphs.algorithm.BidirectionalDijkstraPathFinderTest.distances;
+import static name.sample.graphs.algorithm.BidirectionalDijkstraPathFinderTest.weight;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContractionHierarchyTest {
+
+    @DisplayName("Test paths have the minimum total weight")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} vertices")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50, 200})
+    void testMinimumWeight(int count) {
+        final Random random = new Random(count);
+        final List<MutableWeightedGraph<Integer, Integer>> mutable = Arrays.asList(
+                new MutableDirectedWeightedGraph<>(),
+                new MutableUndirectedWeightedGraph<>());
+        for (int i = 0; i < count * 3; ++i) {
+            final int a = random.nextInt(count);
+            final int b = random.nextInt(count);
+            final int weight = random.nextInt(10);
+            mutable.forEach(graph -> graph.putEdge(a, b, weight));
+        }
+        final List<WeightedGraph<Integer, Integer>> graphs = new ArrayList<>(mutable);
+        mutable.forEach(graph -> graphs.add(graph.freeze()));
+        for (final WeightedGraph<Integer, Integer> graph : graphs) {
+            final PathFinder<Integer> finder = ContractionHierarchy.build(graph, Integer::doubleValue);
+            for (int source = 0; source < Math.min(count, 20); ++source) {
+                final Map<Integer, Double> expected = distances(graph, source);
+                for (int destination = 0; destination < count; ++destination) {
+                    final List<Edge<Integer>> path = finder.getPath(source, destination);
+                    assertContinuous(source, destination, path);
+                    if (destination == source || !expected.containsKey(destination)) {
+                        assertTrue(path.isEmpty());
+                    } else {
+                        assertFalse(path.isEmpty());
+                        assertEquals(expected.get(destination), weight(path), 1e-9,
+                                graph + " from " + source + " to " + destination);
+                    }
+                }
+            }
+        }
+    }
+
+    @DisplayName("Test shortcuts of a grid are unpacked into edges of the graph")
+    @Test
+    void testGrid() {
+        final int side = 20;
+        final Random random = new Random(side);
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableUndirectedWeightedGraph<>();
+        for (int y = 0; y < side; ++y) {
+            for (int x = 0; x < side; ++x) {
+                if (x + 1 < side) {
+                    graph.putEdge(y * side + x, y * side + x + 1, 1 + random.nextInt(5));
+                }
+                if (y + 1 < side) {
+                    graph.putEdge(y * side + x, (y + 1) * side + x, 1 + random.nextInt(5));
+                }
+            }
+        }
+        final ContractionHierarchy<Integer, Integer> hierarchy =
+                ContractionHierarchy.build(graph, Integer::doubleValue);
+        assertTrue(hierarchy.getShortcutCount() > 0);
+        final Map<Integer, Double> expected = distances(graph, 0);
+        for (int destination = 1; destination < side * side; ++destination) {
+            final List<Edge<Integer>> path = hierarchy.getPath(0, destination);
+            assertContinuous(0, destination, path);
+            assertEquals(expected.get(destination), weight(path), 1e-9);
+            for (final Edge<Integer> edge : path) {
+                assertEquals(weightOf(edge), graph.getEdge(edge.getNodeA(), edge.getNodeB()).getWeight());
+            }
+        }
+    }
+
+    @DisplayName("Test the hierarchy is a snapshot of the graph")
+    @Test
+    void testSnapshot() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<>();
+        graph.putEdge(0, 1, 1);
+        graph.putEdge(1, 2, 1);
+        final ContractionHierarchy<Integer, Integer> hierarchy =
+                ContractionHierarchy.build(graph, Integer::doubleValue);
+        graph.removeEdge(1, 2);
+        assertEquals(2, hierarchy.getPath(0, 2).size());
+        assertTrue(hierarchy.getPath(2, 0).isEmpty());
+        assertTrue(hierarchy.getPath(0, 3).isEmpty());
+    }
+
+    @DisplayName("Test negative weights are rejected")
+    @Test
+    void testNegativeWeight() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableUndirectedWeightedGraph<>();
+        graph.putEdge(0, 1, -1);
+        assertThrows(IllegalArgumentException.class, () -> ContractionHierarchy.build(graph, Integer::doubleValue));
+    }
+
+    /**
+     * Weight object of a path edge, which the hierarchy returns as stored in the graph.
+     */
+    private static Object weightOf(final Edge<Integer> edge) {
+        return ((WeightedEdge<?, ?>) edge).getWeight();
+    }
+}
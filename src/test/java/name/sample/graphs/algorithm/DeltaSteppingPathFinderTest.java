@@ -0,0 +1,102 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.mutable.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static name.sample.graphs.algorithm.BidirectionalBfsPathFinderTest.assertContinuous;
+import static name.sample.graphs.algorithm.BidirectionalDijkstraPathFinderTest.distances;
+import static name.sample.graphs.algorithm.BidirectionalDijkstraPathFinderTest.weight;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeltaSteppingPathFinderTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdown();
+    }
+
+    @DisplayName("Test distances and paths match Dijkstra search")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} vertices")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50, 200, 1000})
+    void testShortestPathTree(int count) {
+        final Random random = new Random(count);
+        final List<MutableWeightedGraph<Integer, Integer>> mutable = Arrays.asList(
+                new MutableDirectedWeightedGraph<>(),
+                new MutableUndirectedWeightedGraph<>());
+        for (int i = 0; i < count * 3; ++i) {
+            final int a = random.nextInt(count);
+            final int b = random.nextInt(count);
+            // zero weights make ties, where parents must still form a tree
+            final int weight = random.nextInt(10);
+            mutable.forEach(graph -> graph.putEdge(a, b, weight));
+        }
+        final List<WeightedGraph<Integer, Integer>> graphs = new ArrayList<>(mutable);
+        mutable.forEach(graph -> graphs.add(graph.freeze()));
+        for (final WeightedGraph<Integer, Integer> graph : graphs) {
+            for (final double delta : new double[]{Double.NaN, 0.5, 3, 100}) {
+                final DeltaSteppingPathFinder<Integer, Integer> finder =
+                        new DeltaSteppingPathFinder<>(graph, Integer::doubleValue, delta, POOL);
+                for (int source = 0; source < Math.min(count, 3); ++source) {
+                    final Map<Integer, Double> expected = distances(graph, source);
+                    final ShortestPathTree<Integer> tree = finder.getShortestPathTree(source);
+                    for (int vertex = 0; vertex < count; ++vertex) {
+                        final List<Edge<Integer>> path = tree.getPath(vertex);
+                        assertContinuous(source, vertex, path);
+                        if (expected.containsKey(vertex)) {
+                            assertEquals(expected.get(vertex), tree.getDistance(vertex), 1e-9);
+                            assertEquals(expected.get(vertex), weight(path), 1e-9,
+                                    graph + " from " + source + " to " + vertex + " by " + delta);
+                        } else {
+                            assertFalse(tree.isReachable(vertex));
+                            assertTrue(path.isEmpty());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @DisplayName("Test paths to several destinations found by one search")
+    @Test
+    void testPaths() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<>();
+        graph.putEdge(0, 5, 100);
+        for (int i = 0; i < 5; ++i) {
+            graph.putEdge(i, i + 1, 1);
+        }
+        final DeltaSteppingPathFinder<Integer, Integer> finder =
+                new DeltaSteppingPathFinder<>(graph, Integer::doubleValue);
+        final Map<Integer, List<Edge<Integer>>> paths = finder.getPaths(0, Arrays.asList(0, 3, 5, 7));
+        assertTrue(paths.get(0).isEmpty());
+        assertEquals(3, paths.get(3).size());
+        assertEquals(5, paths.get(5).size());
+        assertTrue(paths.get(7).isEmpty());
+        assertEquals(5, finder.getPath(0, 5).size());
+        assertTrue(finder.getPath(5, 0).isEmpty());
+        assertFalse(finder.getShortestPathTree(9).isReachable(0));
+    }
+
+    @DisplayName("Test negative weights and illegal deltas are rejected")
+    @Test
+    void testIllegalArguments() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableUndirectedWeightedGraph<>();
+        graph.putEdge(0, 1, -1);
+        assertThrows(IllegalArgumentException.class,
+                () -> new DeltaSteppingPathFinder<>(graph, Integer::doubleValue).getPath(0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DeltaSteppingPathFinder<>(graph, Integer::doubleValue, 0, POOL));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DeltaSteppingPathFinder<>(graph, Integer::doubleValue, Double.POSITIVE_INFINITY, POOL));
+    }
+}
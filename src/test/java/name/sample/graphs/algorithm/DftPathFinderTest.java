@@ -10,7 +10,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -22,12 +24,16 @@ class DftPathFinderTest {
     private static final List<MutableWeightedGraph<Integer, Integer>> MUTABLE_WEIGHTED_GRAPHS = Arrays.asList(
             new MutableDirectedWeightedGraph<>(),
             new MutableUndirectedWeightedGraph<>(),
-            new ConcurrentMutableWeightedGraph<>(new MutableDirectedWeightedGraph<>())
+            new ConcurrentMutableWeightedGraph<>(new MutableDirectedWeightedGraph<>()),
+            new StripedMutableWeightedGraph<>(new MutableUndirectedWeightedGraph<>()),
+            new VersionedMutableWeightedGraph<>(true),
+            new VersionedMutableWeightedGraph<>(false)
     );
 
     private static final List<MutableUnweightedGraph<Integer>> MUTABLE_UNWEIGHTED_GRAPHS = Arrays.asList(
             new MutableDirectedUnweightedGraph<>(),
-            new MutableUndirectedUnweightedGraph<>()
+            new MutableUndirectedUnweightedGraph<>(),
+            new StripedMutableUnweightedGraph<>(new MutableDirectedUnweightedGraph<>())
     );
 
     private static final List<Graph<Integer, ? extends Edge<Integer>>> GRAPHS = Stream.concat(MUTABLE_UNWEIGHTED_GRAPHS.stream(),
@@ -81,6 +87,49 @@ class DftPathFinderTest {
         assertTrue(result.isEmpty());
     }
 
+    @ParameterizedTest
+    @DisplayName("Test path finding to several destinations at once")
+    @MethodSource("getGraphsMethod")
+    void testGetPaths(Graph<Integer, ? extends Edge<Integer>> graph) {
+        assertPaths(graph);
+        assertPaths(freeze(graph));
+    }
+
+    /**
+     * Immutable snapshot of a test graph, taken through the typed list holding it.
+     */
+    private static Graph<Integer, ? extends Edge<Integer>> freeze(final Graph<Integer, ? extends Edge<Integer>> graph) {
+        for (final MutableWeightedGraph<Integer, Integer> weighted : MUTABLE_WEIGHTED_GRAPHS) {
+            if (weighted == graph) {
+                return weighted.freeze();
+            }
+        }
+        for (final MutableUnweightedGraph<Integer> unweighted : MUTABLE_UNWEIGHTED_GRAPHS) {
+            if (unweighted == graph) {
+                return unweighted.freeze();
+            }
+        }
+        throw new IllegalArgumentException("not a test graph: " + graph);
+    }
+
+    private static void assertPaths(Graph<Integer, ? extends Edge<Integer>> graph) {
+        final PathFinder<Integer> pathFinder = new DftPathFinder<>(graph);
+        final Map<Integer, List<Edge<Integer>>> result = pathFinder.getPaths(0, Arrays.asList(4, 5, 0, 3, 42));
+        assertEquals(5, result.size());
+        assertTrue(result.get(5).isEmpty());
+        assertTrue(result.get(0).isEmpty());
+        assertTrue(result.get(42).isEmpty());
+        for (final int destination : new int[]{3, 4}) {
+            final List<Edge<Integer>> path = result.get(destination);
+            assertEquals(0, path.get(0).getNodeA());
+            assertEquals(destination, path.get(path.size() - 1).getNodeB());
+            for (int i = 1; i < path.size(); ++i) {
+                assertEquals(path.get(i - 1).getNodeB(), path.get(i).getNodeA());
+            }
+        }
+        assertTrue(pathFinder.getPaths(0, Collections.singleton(0)).get(0).isEmpty());
+    }
+
     // since this method is received using reflection it is required to be non-private
     @SuppressWarnings("WeakerAccess")
     static Collection<Graph<Integer, ? extends Edge<Integer>>> getGraphsMethod() {
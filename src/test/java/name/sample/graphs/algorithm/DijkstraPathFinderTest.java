@@ -0,0 +1,214 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.DoubleNeighborConsumer;
+import name.sample.graphs.DoubleWeightedGraph;
+import name.sample.graphs.Edge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.mutable.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+
+import static name.sample.graphs.algorithm.BidirectionalBfsPathFinderTest.assertContinuous;
+import static name.sample.graphs.algorithm.BidirectionalDijkstraPathFinderTest.distances;
+import static name.sample.graphs.algorithm.BidirectionalDijkstraPathFinderTest.weight;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DijkstraPathFinderTest {
+
+    private static List<WeightedGraph<Integer, Integer>> randomGraphs(final int count) {
+        final Random random = new Random(count);
+        final List<MutableWeightedGraph<Integer, Integer>> mutable = Arrays.asList(
+                new MutableDirectedWeightedGraph<>(),
+                new MutableUndirectedWeightedGraph<>(),
+                new VersionedMutableWeightedGraph<>(true));
+        for (int i = 0; i < count * 3; ++i) {
+            final int a = random.nextInt(count);
+            final int b = random.nextInt(count);
+            final int weight = random.nextInt(10);
+            mutable.forEach(graph -> graph.putEdge(a, b, weight));
+        }
+        final List<WeightedGraph<Integer, Integer>> graphs = new ArrayList<>(mutable);
+        mutable.forEach(graph -> graphs.add(graph.freeze()));
+        return graphs;
+    }
+
+    @DisplayName("Test paths have the minimum total weight")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} vertices")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50, 200})
+    void testMinimumWeight(int count) {
+        for (final WeightedGraph<Integer, Integer> graph : randomGraphs(count)) {
+            final PathFinder<Integer> finder = new DijkstraPathFinder<>(graph, Integer::doubleValue);
+            for (int source = 0; source < Math.min(count, 10); ++source) {
+                final Map<Integer, Double> expected = distances(graph, source);
+                for (int destination = 0; destination < count; ++destination) {
+                    final List<Edge<Integer>> path = finder.getPath(source, destination);
+                    assertContinuous(source, destination, path);
+                    if (destination == source || !expected.containsKey(destination)) {
+                        assertTrue(path.isEmpty());
+                    } else {
+                        assertFalse(path.isEmpty());
+                        assertEquals(expected.get(destination), weight(path), 1e-9,
+                                graph + " from " + source + " to " + destination);
+                    }
+                }
+            }
+        }
+    }
+
+    @DisplayName("Test paths to several destinations found by one search")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} vertices")
+    @ValueSource(ints = {1, 2, 3, 4, 5, 10, 20, 50})
+    void testPaths(int count) {
+        for (final WeightedGraph<Integer, Integer> graph : randomGraphs(count)) {
+            final PathFinder<Integer> finder = new DijkstraPathFinder<>(graph, Integer::doubleValue);
+            final List<Integer> destinations = Arrays.asList(0, count / 2, count - 1, count);
+            final Map<Integer, Double> expected = distances(graph, 0);
+            final Map<Integer, List<Edge<Integer>>> paths = finder.getPaths(0, destinations);
+            assertEquals(new HashSet<>(destinations), paths.keySet());
+            for (final Integer destination : destinations) {
+                final List<Edge<Integer>> path = paths.get(destination);
+                assertContinuous(0, destination, path);
+                if (destination == 0 || !expected.containsKey(destination)) {
+                    assertTrue(path.isEmpty());
+                } else {
+                    assertEquals(expected.get(destination), weight(path), 1e-9);
+                }
+            }
+        }
+    }
+
+    @DisplayName("Test shortest path tree holds distances and paths to all vertices")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} vertices")
+    @ValueSource(ints = {1, 2, 3, 4, 5, 10, 20, 50, 200})
+    void testShortestPathTree(int count) {
+        for (final WeightedGraph<Integer, Integer> graph : randomGraphs(count)) {
+            final DijkstraPathFinder<Integer, Integer> finder = new DijkstraPathFinder<>(graph, Integer::doubleValue);
+            final int source = count / 2;
+            final Map<Integer, Double> expected = distances(graph, source);
+            final ShortestPathTree<Integer> tree = finder.getShortestPathTree(source);
+            assertEquals(source, tree.getSource().intValue());
+            for (int vertex = -1; vertex <= count; ++vertex) {
+                final List<Edge<Integer>> path = tree.getPath(vertex);
+                assertContinuous(source, vertex, path);
+                if (expected.containsKey(vertex)) {
+                    assertTrue(tree.isReachable(vertex));
+                    assertEquals(expected.get(vertex), tree.getDistance(vertex), 1e-9);
+                    assertEquals(expected.get(vertex), weight(path), 1e-9);
+                } else {
+                    assertFalse(tree.isReachable(vertex));
+                    assertEquals(Double.POSITIVE_INFINITY, tree.getDistance(vertex));
+                    assertTrue(path.isEmpty());
+                }
+            }
+        }
+    }
+
+    @DisplayName("Test shortest path tree of a vertex not in the graph")
+    @Test
+    void testShortestPathTreeOfMissingVertex() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<>();
+        graph.putEdge(0, 1, 1);
+        final ShortestPathTree<Integer> tree =
+                new DijkstraPathFinder<>(graph, Integer::doubleValue).getShortestPathTree(5);
+        assertEquals(5, tree.getSource().intValue());
+        assertTrue(tree.isReachable(5));
+        assertEquals(0, tree.getDistance(5));
+        assertFalse(tree.isReachable(0));
+        assertTrue(tree.getPath(1).isEmpty());
+    }
+
+    @DisplayName("Test shortest path tree keeps its paths after the graph changes")
+    @Test
+    void testShortestPathTreeAfterChanges() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<>();
+        for (int i = 0; i < 5; ++i) {
+            graph.putEdge(i, i + 1, 1);
+        }
+        final ShortestPathTree<Integer> tree =
+                new DijkstraPathFinder<>(graph, Integer::doubleValue).getShortestPathTree(0);
+        graph.removeEdge(2, 3);
+        graph.putEdge(3, 4, 10);
+        final List<Edge<Integer>> path = tree.getPath(5);
+        assertEquals(5, path.size());
+        assertContinuous(0, 5, path);
+        assertEquals(tree.getDistance(5), weight(path), 1e-9);
+    }
+
+    @DisplayName("Test a search started from inside another one on the same thread")
+    @Test
+    void testNestedSearch() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<>();
+        for (int i = 0; i < 10; ++i) {
+            graph.putEdge(i, i + 1, 1);
+        }
+        final List<Integer> nested = new ArrayList<>();
+        final DijkstraPathFinder<Integer, Integer> inner = new DijkstraPathFinder<>(graph, Integer::doubleValue);
+        final DijkstraPathFinder<Integer, Integer> outer = new DijkstraPathFinder<>(graph, weight -> {
+            nested.add(inner.getPath(0, 10).size());
+            return weight;
+        });
+        assertEquals(10, outer.getPath(0, 10).size());
+        assertEquals(Collections.nCopies(10, 10), nested);
+        assertEquals(10, inner.getShortestPathTree(0).getDistance(10));
+    }
+
+    @DisplayName("Test a longer path with a smaller weight is preferred")
+    @Test
+    void testLighterDetour() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<>();
+        graph.putEdge(0, 5, 100);
+        for (int i = 0; i < 5; ++i) {
+            graph.putEdge(i, i + 1, 1);
+        }
+        final DijkstraPathFinder<Integer, Integer> finder = new DijkstraPathFinder<>(graph, Integer::doubleValue);
+        assertEquals(5, finder.getPath(0, 5).size());
+        assertTrue(finder.getPath(5, 0).isEmpty());
+        assertEquals(5, finder.getShortestPathTree(0).getDistance(5));
+    }
+
+    @DisplayName("Test negative weights are rejected")
+    @Test
+    void testNegativeWeight() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableUndirectedWeightedGraph<>();
+        graph.putEdge(0, 1, -1);
+        graph.putEdge(1, 2, 1);
+        final DijkstraPathFinder<Integer, Integer> finder = new DijkstraPathFinder<>(graph, Integer::doubleValue);
+        assertThrows(IllegalArgumentException.class, () -> finder.getPath(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> finder.getShortestPathTree(0));
+        // scratch space is released after a failed search
+        graph.putEdge(0, 1, 1);
+        assertEquals(2, finder.getPath(0, 2).size());
+    }
+
+    @DisplayName("Test primitive weights are read from a double weighted graph")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} vertices")
+    @ValueSource(ints = {2, 5, 20, 50})
+    void testPrimitiveWeights(int count) {
+        final int[] reads = new int[1];
+        final MutableDirectedDoubleWeightedGraph<Integer> graph = new MutableDirectedDoubleWeightedGraph<Integer>() {
+            @Override
+            public void forEachNeighborAsDouble(final Integer vertex,
+                                                final DoubleNeighborConsumer<? super Integer> consumer) {
+                ++reads[0];
+                super.forEachNeighborAsDouble(vertex, consumer);
+            }
+        };
+        final Random random = new Random(count);
+        for (int i = 0; i < count * 3; ++i) {
+            graph.putEdgeAsDouble(random.nextInt(count), random.nextInt(count), random.nextInt(10) * 0.5);
+        }
+        final ShortestPathTree<Integer> boxed = new DijkstraPathFinder<>(graph, Double::doubleValue)
+                .getShortestPathTree(0);
+        assertEquals(0, reads[0]);
+        final ShortestPathTree<Integer> primitive = new DijkstraPathFinder<>(graph, DoubleWeightedGraph.WEIGHT)
+                .getShortestPathTree(0);
+        assertTrue(reads[0] > 0);
+        for (int vertex = 0; vertex < count; ++vertex) {
+            assertEquals(boxed.getDistance(vertex), primitive.getDistance(vertex));
+        }
+    }
+}
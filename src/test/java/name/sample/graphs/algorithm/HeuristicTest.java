@@ -0,0 +1,40 @@
+package name.sample.graphs.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeuristicTest {
+
+    @DisplayName("Test straight line distance on a plane")
+    @Test
+    void testEuclidean() {
+        final Heuristic<double[]> heuristic = Heuristic.euclidean(point -> point[0], point -> point[1]);
+        assertEquals(5, heuristic.estimate(new double[]{1, 1}, new double[]{4, 5}), 1e-12);
+        assertEquals(0, heuristic.estimate(new double[]{1, 1}, new double[]{1, 1}));
+    }
+
+    @DisplayName("Test great circle distance on the Earth")
+    @Test
+    void testHaversine() {
+        final Heuristic<double[]> heuristic = Heuristic.haversine(point -> point[0], point -> point[1]);
+        final double[] paris = {48.8566, 2.3522};
+        final double[] london = {51.5074, -0.1278};
+        assertEquals(343_500, heuristic.estimate(paris, london), 1_000);
+        assertEquals(heuristic.estimate(paris, london), heuristic.estimate(london, paris), 1e-6);
+        // half of the equator
+        assertEquals(Math.PI * Heuristic.EARTH_RADIUS_METERS,
+                heuristic.estimate(new double[]{0, 0}, new double[]{0, 180}), 1e-3);
+        assertEquals(Math.PI, Heuristic.<double[]>haversine(point -> point[0], point -> point[1], 1)
+                .estimate(new double[]{90, 0}, new double[]{-90, 0}), 1e-12);
+        assertThrows(IllegalArgumentException.class,
+                () -> Heuristic.<double[]>haversine(point -> point[0], point -> point[1], 0));
+    }
+
+    @DisplayName("Test zero estimate")
+    @Test
+    void testZero() {
+        assertEquals(0, Heuristic.zero().estimate(1, 2));
+    }
+}
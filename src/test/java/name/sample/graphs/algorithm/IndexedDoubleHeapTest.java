@@ -0,0 +1,59 @@
+package name.sample.graphs.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedDoubleHeapTest {
+
+    @DisplayName("Test ids are polled in order of their smallest key")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} ids")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50, 1000})
+    void testOrder(int count) {
+        final Random random = new Random(count);
+        final IndexedDoubleHeap heap = new IndexedDoubleHeap(0);
+        final Map<Integer, Double> expected = new HashMap<>();
+        for (int i = 0; i < count * 3; ++i) {
+            final int id = random.nextInt(count * 2 + 1);
+            final double key = random.nextDouble();
+            final Double known = expected.get(id);
+            assertEquals(known == null || key < known, heap.insertOrDecrease(id, key));
+            expected.merge(id, key, Math::min);
+            assertTrue(heap.contains(id));
+        }
+        assertEquals(expected.size(), heap.size());
+        final List<Map.Entry<Integer, Double>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort(Map.Entry.comparingByValue());
+        for (final Map.Entry<Integer, Double> entry : sorted) {
+            assertFalse(heap.isEmpty());
+            assertEquals(entry.getValue(), heap.peekKey());
+            assertEquals(entry.getKey().intValue(), heap.poll());
+            assertFalse(heap.contains(entry.getKey()));
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @DisplayName("Test clear removes all ids")
+    @Test
+    void testClear() {
+        final IndexedDoubleHeap heap = new IndexedDoubleHeap(4);
+        for (int id = 0; id < 100; ++id) {
+            heap.insertOrDecrease(id, 100 - id);
+        }
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        for (int id = 0; id < 100; ++id) {
+            assertFalse(heap.contains(id));
+        }
+        heap.insertOrDecrease(7, 1);
+        heap.insertOrDecrease(3, 2);
+        assertEquals(7, heap.poll());
+        assertEquals(3, heap.poll());
+        assertTrue(heap.isEmpty());
+    }
+}
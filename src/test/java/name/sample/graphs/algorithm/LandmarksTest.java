@@ -0,0 +1,126 @@
+package name.sample.graphs.algorithm;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.mutable.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static name.sample.graphs.algorithm.BidirectionalBfsPathFinderTest.assertContinuous;
+import static name.sample.graphs.algorithm.BidirectionalDijkstraPathFinderTest.distances;
+import static name.sample.graphs.algorithm.BidirectionalDijkstraPathFinderTest.weight;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LandmarksTest {
+
+    @DisplayName("Test bounds enclose distances and paths have the minimum total weight")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} vertices")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50, 200})
+    void testMinimumWeight(int count) {
+        final Random random = new Random(count);
+        final List<MutableWeightedGraph<Integer, Integer>> mutable = Arrays.asList(
+                new MutableDirectedWeightedGraph<>(),
+                new MutableUndirectedWeightedGraph<>());
+        for (int i = 0; i < count * 2; ++i) {
+            final int a = random.nextInt(count);
+            final int b = random.nextInt(count);
+            final int weight = random.nextInt(10);
+            mutable.forEach(graph -> graph.putEdge(a, b, weight));
+        }
+        final List<WeightedGraph<Integer, Integer>> graphs = new ArrayList<>(mutable);
+        mutable.forEach(graph -> graphs.add(graph.freeze()));
+        for (final WeightedGraph<Integer, Integer> graph : graphs) {
+            final Landmarks<Integer, Integer> landmarks = Landmarks.build(graph, Integer::doubleValue, 4);
+            assertEquals(Math.min(4, graph.getVertices().size()), new HashSet<>(landmarks.getLandmarks()).size());
+            for (int source = 0; source < Math.min(count, 10); ++source) {
+                final Map<Integer, Double> expected = distances(graph, source);
+                for (int destination = 0; destination < count; ++destination) {
+                    final double distance = expected.getOrDefault(destination, Double.POSITIVE_INFINITY);
+                    final double lower = landmarks.getLowerBound(source, destination);
+                    final double upper = landmarks.getUpperBound(source, destination);
+                    if (graph.getVertices().contains(source) && graph.getVertices().contains(destination)) {
+                        assertTrue(lower <= distance && distance <= upper,
+                                lower + " <= " + distance + " <= " + upper);
+                    }
+                    final List<Edge<Integer>> path = landmarks.getPath(source, destination);
+                    assertContinuous(source, destination, path);
+                    if (destination == source || !expected.containsKey(destination)) {
+                        assertTrue(path.isEmpty());
+                    } else {
+                        assertEquals(distance, weight(path), 1e-9,
+                                graph + " from " + source + " to " + destination);
+                    }
+                }
+            }
+        }
+    }
+
+    @DisplayName("Test bounds of a landmark are exact and guide the search")
+    @Test
+    void testPath() throws InterruptedException {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableUndirectedWeightedGraph<>();
+        for (int i = 0; i < 100; ++i) {
+            graph.putEdge(i, i + 1, 1 + i % 3);
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Landmarks<Integer, Integer> landmarks = Landmarks.build(graph, Integer::doubleValue, 2, executor);
+            // ends of a path are as far apart as vertices get
+            assertEquals(new HashSet<>(Arrays.asList(0, 100)), new HashSet<>(landmarks.getLandmarks()));
+            final double distance = weight(landmarks.getPath(10, 60));
+            assertEquals(distance, landmarks.getLowerBound(10, 60));
+            assertTrue(distance < landmarks.getUpperBound(10, 60));
+            assertEquals(weight(landmarks.getPath(0, 60)), landmarks.getUpperBound(0, 60));
+            // only vertices on the paths are expanded
+            assertEquals(50 + 60, landmarks.getExpandedCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @DisplayName("Test unreachable destinations are rejected by the lower bound")
+    @Test
+    void testUnreachable() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<>();
+        graph.putEdge(0, 1, 1);
+        graph.putEdge(1, 2, 1);
+        graph.putEdge(5, 6, 1);
+        final Landmarks<Integer, Integer> landmarks = Landmarks.build(graph, Integer::doubleValue, 3);
+        assertEquals(Double.POSITIVE_INFINITY, landmarks.getLowerBound(2, 0));
+        assertEquals(Double.POSITIVE_INFINITY, landmarks.getUpperBound(0, 5));
+        assertTrue(landmarks.getPath(2, 0).isEmpty());
+        assertEquals(0, landmarks.getExpandedCount());
+        assertEquals(0, landmarks.getLowerBound(0, 9));
+        assertEquals(0, landmarks.getUpperBound(9, 9));
+    }
+
+    @DisplayName("Test negative weights and counts are rejected")
+    @Test
+    void testIllegalArguments() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableUndirectedWeightedGraph<>();
+        graph.putEdge(0, 1, -1);
+        assertThrows(IllegalArgumentException.class, () -> Landmarks.build(graph, Integer::doubleValue, 1));
+        assertThrows(IllegalArgumentException.class, () -> Landmarks.build(graph, Math::abs, -1));
+    }
+
+    @DisplayName("Test every vertex is picked at most once")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} landmarks")
+    @ValueSource(ints = {1, 5, 6, 7, 100})
+    void testDistinctLandmarks(int count) {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<>();
+        graph.putEdge(0, 1, 1);
+        graph.putEdge(0, 2, 0);
+        graph.putEdge(2, 3, 0);
+        graph.putVertex(4);
+        graph.putVertex(5);
+        final List<Integer> picked = Landmarks.build(graph, Integer::doubleValue, count).getLandmarks();
+        assertEquals(Math.min(count, 6), picked.size());
+        assertEquals(picked.size(), new HashSet<>(picked).size());
+    }
+}
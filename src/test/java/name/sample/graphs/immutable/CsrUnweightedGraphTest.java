@@ -0,0 +1,56 @@
+package name.sample.graphs.immutable;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.UnweightedGraph;
+import name.sample.graphs.mutable.MutableDirectedUnweightedGraph;
+import name.sample.graphs.mutable.MutableUndirectedUnweightedGraph;
+import name.sample.graphs.mutable.MutableUnweightedGraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsrUnweightedGraphTest {
+
+    @DisplayName("Test frozen directed graph has same vertices and edges")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testFreezeDirected(int count) {
+        final MutableUnweightedGraph<Integer> graph = new MutableDirectedUnweightedGraph<>();
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(i, i + 1);
+            graph.putEdge(i + 1, i);
+        }
+        graph.putVertex(-1);
+        final UnweightedGraph<Integer> frozen = graph.freeze();
+        assertEquals(graph.getVertices(), frozen.getVertices());
+        assertEquals(new HashSet<>(graph.getEdges()), new HashSet<>(frozen.getEdges()));
+        assertEquals(count * 2, frozen.getEdges().size());
+        for (final Integer vertex : graph.getVertices()) {
+            assertEquals(graph.getOutgoingEdges(vertex).size(), frozen.getOutgoingEdges(vertex).size());
+            for (final Edge<Integer> edge : frozen.getOutgoingEdges(vertex)) {
+                assertEquals(vertex, edge.getNodeA());
+            }
+        }
+    }
+
+    @DisplayName("Test frozen undirected graph has same vertices and edges")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testFreezeUndirected(int count) {
+        final MutableUnweightedGraph<Integer> graph = new MutableUndirectedUnweightedGraph<>();
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(i, i + 1);
+        }
+        final UnweightedGraph<Integer> frozen = graph.freeze();
+        assertEquals(graph.getVertices(), frozen.getVertices());
+        assertEquals(new HashSet<>(graph.getEdges()), new HashSet<>(frozen.getEdges()));
+        assertEquals(count, frozen.getEdges().size());
+        for (final Integer vertex : graph.getVertices()) {
+            assertEquals(graph.getOutgoingEdges(vertex).size(), frozen.getOutgoingEdges(vertex).size());
+        }
+    }
+}
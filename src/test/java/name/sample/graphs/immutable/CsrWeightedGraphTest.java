@@ -0,0 +1,90 @@
+package name.sample.graphs.immutable;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.algorithm.DftPathFinder;
+import name.sample.graphs.mutable.MutableDirectedWeightedGraph;
+import name.sample.graphs.mutable.MutableUndirectedWeightedGraph;
+import name.sample.graphs.mutable.MutableWeightedGraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsrWeightedGraphTest {
+
+    @DisplayName("Test frozen directed graph has same vertices and edges")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testFreezeDirected(int count) {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<>();
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(i, i + 1, i);
+            graph.putEdge(i, i + 2, -i);
+        }
+        final WeightedGraph<Integer, Integer> frozen = graph.freeze();
+        assertEquals(graph.getVertices(), frozen.getVertices());
+        assertEquals(new HashSet<>(graph.getEdges()), new HashSet<>(frozen.getEdges()));
+        assertEquals(graph.getEdges().size(), frozen.getEdges().size());
+        for (final Integer vertex : graph.getVertices()) {
+            final Collection<WeightedEdge<Integer, Integer>> outgoing = frozen.getOutgoingEdges(vertex);
+            assertEquals(graph.getOutgoingEdges(vertex).size(), outgoing.size());
+            for (final WeightedEdge<Integer, Integer> edge : outgoing) {
+                assertEquals(vertex, edge.getNodeA());
+                assertEquals(edge.getNodeB() == vertex + 1 ? vertex : -vertex, edge.getWeight());
+            }
+        }
+    }
+
+    @DisplayName("Test frozen undirected graph reports each edge once")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testFreezeUndirected(int count) {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableUndirectedWeightedGraph<>();
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(i, i + 1, i);
+        }
+        final WeightedGraph<Integer, Integer> frozen = graph.freeze();
+        assertEquals(graph.getVertices(), frozen.getVertices());
+        assertEquals(count, frozen.getEdges().size());
+        for (final Integer vertex : graph.getVertices()) {
+            assertEquals(graph.getOutgoingEdges(vertex).size(), frozen.getOutgoingEdges(vertex).size());
+        }
+    }
+
+    @Test
+    @DisplayName("Test snapshot does not reflect later changes")
+    void testSnapshotIsIsolated() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<>();
+        graph.putEdge(0, 1, 1);
+        final WeightedGraph<Integer, Integer> frozen = graph.freeze();
+        graph.putEdge(1, 2, 1);
+        assertEquals(2, frozen.getVertices().size());
+        assertEquals(1, frozen.getEdges().size());
+        assertTrue(frozen.getOutgoingEdges(2).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> frozen.getVertices().add(3));
+    }
+
+    @Test
+    @DisplayName("Test path finding on a frozen graph")
+    void testPathFinding() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<>();
+        graph.putEdge(0, 1, 1);
+        graph.putEdge(1, 2, 1);
+        graph.putEdge(2, 3, 1);
+        graph.putVertex(4);
+        final WeightedGraph<Integer, Integer> frozen = graph.freeze();
+        final List<Edge<Integer>> path = new DftPathFinder<>(frozen).getPath(0, 3);
+        assertEquals(3, path.size());
+        assertEquals(0, path.get(0).getNodeA());
+        assertEquals(3, path.get(2).getNodeB());
+        assertTrue(new DftPathFinder<>(frozen).getPath(0, 4).isEmpty());
+    }
+}
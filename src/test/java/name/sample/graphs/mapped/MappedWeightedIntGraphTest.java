@@ -0,0 +1,96 @@
+package name.sample.graphs.mapped;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.algorithm.DftPathFinder;
+import name.sample.graphs.primitive.IntGraphs;
+import name.sample.graphs.primitive.MutableDirectedWeightedIntGraph;
+import name.sample.graphs.primitive.MutableUndirectedWeightedIntGraph;
+import name.sample.graphs.primitive.MutableWeightedIntGraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedWeightedIntGraphTest {
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("Test mapped graph has same edges that were written")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} vertices")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50, 1000})
+    void testWriteAndOpen(int count) throws IOException {
+        final MutableWeightedIntGraph source = new MutableDirectedWeightedIntGraph();
+        for (int i = 0; i < count; ++i) {
+            source.putVertex(i);
+            for (int j = 1; j <= 3; ++j) {
+                source.putEdge(i, (i * 7 + j * 13) % count, i + j * 0.25);
+            }
+        }
+        final Path path = directory.resolve("graph.bin");
+        // small chunks make regions span several mappings
+        MappedWeightedIntGraph.write(path, source, 6);
+        try (MappedWeightedIntGraph graph = MappedWeightedIntGraph.open(path, 6)) {
+            assertTrue(graph.isDirected());
+            assertEquals(count, graph.getVertexCount());
+            for (int i = 0; i < count; ++i) {
+                final int vertex = i;
+                assertEquals(source.getOutDegree(i), graph.getOutDegree(i));
+                graph.forEachNeighbor(i, (int target, double weight) -> {
+                    assertTrue(source.containsEdge(vertex, target));
+                    assertEquals(source.getWeight(vertex, target), weight);
+                    assertEquals(weight, graph.getWeight(vertex, target));
+                });
+            }
+            assertFalse(graph.containsVertex(count));
+            assertFalse(graph.containsEdge(count, 0));
+        }
+    }
+
+    @Test
+    @DisplayName("Test path finding over a mapped graph")
+    void testPathFinding() throws IOException {
+        final MutableWeightedIntGraph source = new MutableUndirectedWeightedIntGraph();
+        source.putEdge(0, 1, 1.0);
+        source.putEdge(1, 2, 1.0);
+        source.putEdge(4, 4, 1.0);
+        final Path path = directory.resolve("graph.bin");
+        MappedWeightedIntGraph.write(path, source);
+        try (MappedWeightedIntGraph graph = MappedWeightedIntGraph.open(path)) {
+            assertFalse(graph.isDirected());
+            // vertex 3 fills a gap in vertex ids
+            assertEquals(5, graph.getVertexCount());
+            assertEquals(0, graph.getOutDegree(3));
+            final WeightedGraph<Integer, Double> adapter = IntGraphs.asWeightedGraph(graph);
+            final List<Edge<Integer>> result = new DftPathFinder<>(adapter).getPath(2, 0);
+            assertEquals(2, result.size());
+            assertTrue(new DftPathFinder<>(adapter).getPath(0, 3).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Test opening a file of unexpected format")
+    void testOpenCorruptedFile() throws IOException {
+        final Path path = directory.resolve("garbage.bin");
+        Files.write(path, new byte[128]);
+        assertThrows(IOException.class, () -> MappedWeightedIntGraph.open(path));
+    }
+
+    @Test
+    @DisplayName("Test writing a vertex too large to be stored")
+    void testWriteLargestVertex() {
+        final MutableWeightedIntGraph source = new MutableDirectedWeightedIntGraph();
+        source.putVertex(Integer.MAX_VALUE);
+        final Path path = directory.resolve("large.bin");
+        assertThrows(IllegalArgumentException.class, () -> MappedWeightedIntGraph.write(path, source));
+    }
+}
@@ -0,0 +1,155 @@
+package name.sample.graphs.mutable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingGraphWriterTest {
+
+    private final MutableWeightedGraph<Integer, Integer> graph = new MutableUndirectedWeightedGraph<>();
+
+    @DisplayName("Test flushed edges are visible in the graph")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testFlush(int count) throws InterruptedException {
+        try (CoalescingGraphWriter<Integer, Integer> writer = new CoalescingGraphWriter<>(graph)) {
+            for (int i = 0; i < count; ++i) {
+                writer.putEdge(i, i + 1, i);
+            }
+            writer.flush();
+            assertEquals(count, graph.getEdges().size());
+            for (int i = 0; i < count; ++i) {
+                assertEquals(i, graph.getEdge(i + 1, i).getWeight());
+            }
+        }
+    }
+
+    @DisplayName("Test last update of the same pair wins")
+    @Test
+    void testCoalescing() throws InterruptedException {
+        // the only executor thread is busy until the latch is released, so edges stay queued
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.execute(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                throw new AssertionFailedError("thread was interrupted", e);
+            }
+        });
+        try {
+            final CoalescingGraphWriter<Integer, Integer> writer = new CoalescingGraphWriter<>(graph, executor, 100);
+            for (int i = 0; i < 10; ++i) {
+                writer.putEdge(0, 1, i);
+            }
+            writer.putEdge(1, 0, 100);
+            writer.putEdge(0, 1, 200);
+            assertEquals(12, writer.getPendingCount());
+            start.countDown();
+            writer.flush();
+            assertEquals(10, writer.getCoalescedCount());
+            assertEquals(1, graph.getEdges().size());
+            assertEquals(200, graph.getEdge(1, 0).getWeight());
+            assertEquals(0, writer.getPendingCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @DisplayName("Test full queue rejects and blocks producers")
+    @Test
+    void testBackpressure() throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.execute(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                throw new AssertionFailedError("thread was interrupted", e);
+            }
+        });
+        try {
+            final CoalescingGraphWriter<Integer, Integer> writer = new CoalescingGraphWriter<>(graph, executor, 2);
+            assertTrue(writer.tryPutEdge(0, 1, 1));
+            assertTrue(writer.tryPutEdge(1, 2, 1));
+            assertFalse(writer.tryPutEdge(2, 3, 1));
+            assertFalse(writer.flush(10, TimeUnit.MILLISECONDS));
+            start.countDown();
+            writer.putEdge(2, 3, 1);
+            writer.flush();
+            assertEquals(3, graph.getEdges().size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @DisplayName("Test many producers")
+    @Test
+    void testConcurrentProducers() throws Exception {
+        final int threads = 8;
+        final int edgesPerThread = 10_000;
+        final ExecutorService producers = Executors.newFixedThreadPool(threads);
+        final CoalescingGraphWriter<Integer, Integer> writer = new CoalescingGraphWriter<>(graph,
+                ForkJoinPool.commonPool(), 1000);
+        try {
+            final List<Future<?>> futures = IntStream.range(0, threads)
+                    .mapToObj(thread -> producers.submit(() -> {
+                        for (int i = 0; i < edgesPerThread; ++i) {
+                            writer.putEdge(i % 500, 500 + thread, i);
+                        }
+                        return null;
+                    })).collect(Collectors.toList());
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+            writer.flush();
+        } finally {
+            producers.shutdown();
+        }
+        assertEquals(500 * threads, graph.getEdges().size());
+        for (int thread = 0; thread < threads; ++thread) {
+            // each producer writes its pairs in order, so the last weight of each pair is known
+            assertEquals(edgesPerThread - 500, graph.getEdge(0, 500 + thread).getWeight());
+        }
+    }
+
+    @DisplayName("Test closed writer rejects edges")
+    @Test
+    void testClose() {
+        final CoalescingGraphWriter<Integer, Integer> writer = new CoalescingGraphWriter<>(graph);
+        writer.close();
+        assertThrows(IllegalStateException.class, () -> writer.putEdge(0, 1, 1));
+    }
+
+    @DisplayName("Test rejected drain task drops queued edges and the writer keeps working")
+    @Test
+    void testRejectedDrain() throws InterruptedException {
+        final boolean[] reject = {true};
+        final Executor executor = task -> {
+            if (reject[0]) {
+                throw new RejectedExecutionException("rejected");
+            }
+            task.run();
+        };
+        final CoalescingGraphWriter<Integer, Integer> writer = new CoalescingGraphWriter<>(graph, executor, 4);
+        assertThrows(RejectedExecutionException.class, () -> writer.putEdge(0, 1, 1));
+        assertEquals(0, writer.getPendingCount());
+        // the drop is reported once, flush does not wait for the dropped edge
+        assertThrows(IllegalStateException.class, () -> writer.flush(1, TimeUnit.SECONDS));
+        reject[0] = false;
+        writer.putEdge(1, 2, 2);
+        writer.flush();
+        assertNull(graph.getEdge(0, 1));
+        assertEquals(2, graph.getEdge(1, 2).getWeight());
+        writer.close();
+    }
+}
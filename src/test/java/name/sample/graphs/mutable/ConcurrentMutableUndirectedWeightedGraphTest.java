@@ -17,6 +17,7 @@ import java.util.Set;
 import java.util.concurrent.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
@@ -54,7 +55,9 @@ class ConcurrentMutableUndirectedWeightedGraphTest {
         }
         Assertions.assertEquals(count == 0 ? 0 : count + 1, graph.getVertices().size());
         assertIterableEquals(expectedVertices, graph.getVertices());
-        assertIterableEquals(expectedEdges, graph.getEdges());
+        // each undirected edge is reported once, in no particular order
+        assertEquals(count, graph.getEdges().size());
+        assertEquals(expectedEdges, new HashSet<>(graph.getEdges()));
     }
 
     @DisplayName("Test get correct outgoing edges")
@@ -141,4 +144,40 @@ class ConcurrentMutableUndirectedWeightedGraphTest {
         Assertions.assertEquals(vertexCount + 1, graph.getVertices().size());
     }
 
-}
\ No newline at end of file
+
+    @DisplayName("Test readers see a bulk put either entirely or not at all")
+    @Test
+    void testPutEdgesIsAtomic() throws Exception {
+        final int count = 10_000;
+        final List<WeightedEdge<Integer, Integer>> edges = IntStream.range(0, count)
+                .mapToObj(i -> new ImmutableUndirectedWeightedEdge<>(i, i + 1, i))
+                .collect(Collectors.toList());
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> writer = executor.submit(() -> graph.putEdges(edges.parallelStream()));
+            while (!writer.isDone()) {
+                final int size = graph.getEdges().size();
+                Assertions.assertTrue(size == 0 || size == count, () -> "partial batch of " + size);
+            }
+            writer.get();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(count, graph.getEdges().size());
+        assertEquals(count + 1, graph.getVertices().size());
+    }
+
+    @DisplayName("Test incoming edges of an indexed graph are a copy")
+    @Test
+    void testIncomingEdgesCopy() {
+        final MutableWeightedGraph<Integer, Integer> indexed =
+                new ConcurrentMutableWeightedGraph<>(new MutableDirectedWeightedGraph<>(true));
+        indexed.putEdge(1, 0, 1);
+        final Collection<WeightedEdge<Integer, Integer>> incoming = indexed.getIncomingEdges(0);
+        indexed.putEdge(2, 0, 2);
+        indexed.removeEdge(1, 0);
+        assertEquals(1, incoming.size());
+        assertEquals(1, incoming.iterator().next().getNodeA());
+        assertEquals(1, indexed.getIncomingEdges(0).size());
+    }
+}
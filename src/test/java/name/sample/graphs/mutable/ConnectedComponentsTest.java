@@ -0,0 +1,239 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.mutable.edges.ImmutableUndirectedUnweightedEdge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectedComponentsTest {
+
+    private final MutableUndirectedUnweightedGraph<Integer> graph = new MutableUndirectedUnweightedGraph<>(true);
+    private final ConnectedComponents<Integer> components = graph.getConnectedComponents();
+
+    /**
+     * Components found by a breadth first search from each vertex not visited yet, keyed by each of their vertices.
+     */
+    private static Map<Integer, Set<Integer>> search(final MutableUnweightedGraph<Integer> graph) {
+        final Map<Integer, Set<Integer>> result = new HashMap<>();
+        for (final Integer start : graph.getVertices()) {
+            if (result.containsKey(start)) {
+                continue;
+            }
+            final Set<Integer> component = new HashSet<>();
+            final Deque<Integer> queue = new ArrayDeque<>();
+            component.add(start);
+            queue.add(start);
+            while (!queue.isEmpty()) {
+                for (final Edge<Integer> edge : graph.getOutgoingEdges(queue.poll())) {
+                    if (component.add(edge.getNodeB())) {
+                        queue.add(edge.getNodeB());
+                    }
+                }
+            }
+            component.forEach(vertex -> result.put(vertex, component));
+        }
+        return result;
+    }
+
+    private void assertMatchesSearch() {
+        final Map<Integer, Set<Integer>> expected = search(graph);
+        assertEquals(new HashSet<>(expected.values()).size(), components.getComponentCount());
+        for (final Integer a : graph.getVertices()) {
+            assertEquals(expected.get(a).size(), components.getComponentSize(a));
+            assertTrue(expected.get(a).contains(components.componentOf(a)));
+            for (final Integer b : graph.getVertices()) {
+                assertEquals(expected.get(a).contains(b), components.connected(a, b));
+                assertEquals(expected.get(a).contains(b), graph.mayHavePath(a, b));
+            }
+        }
+        final Map<Integer, Integer> sizes = components.getComponentSizes();
+        assertEquals(components.getComponentCount(), sizes.size());
+        sizes.forEach((representative, size) -> {
+            assertEquals(representative, components.componentOf(representative));
+            assertEquals(expected.get(representative).size(), size);
+        });
+    }
+
+    @DisplayName("Test each vertex is a component of its own")
+    @Test
+    void testSingleVertices() {
+        assertEquals(0, components.getComponentCount());
+        graph.putVertex(1);
+        graph.putVertex(2);
+        graph.putVertex(2);
+        assertEquals(2, components.getComponentCount());
+        assertTrue(components.connected(1, 1));
+        assertFalse(components.connected(1, 2));
+        assertEquals(1, components.componentOf(1));
+        assertEquals(1, components.getComponentSize(2));
+    }
+
+    @DisplayName("Test unknown vertices are not connected")
+    @Test
+    void testUnknownVertices() {
+        graph.putEdge(1, 2);
+        assertFalse(components.connected(1, 3));
+        assertFalse(components.connected(3, 3));
+        assertFalse(graph.mayHavePath(3, 3));
+        assertNull(components.componentOf(3));
+        assertEquals(0, components.getComponentSize(3));
+        assertThrows(NullPointerException.class, () -> components.connected(1, null));
+    }
+
+    @DisplayName("Test components match a search after random edges are put")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 5, 10, 20, 40, 80})
+    void testRandomEdges(int count) {
+        final Random random = new Random(count);
+        IntStream.range(0, 50).forEach(graph::putVertex);
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(random.nextInt(50), random.nextInt(50));
+            if (i % 10 == 0) {
+                assertMatchesSearch();
+            }
+        }
+        assertMatchesSearch();
+    }
+
+    @DisplayName("Test components match a search after a batch of edges is put")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 5, 10, 20, 40, 80})
+    void testBatchOfEdges(int count) {
+        final Random random = new Random(count);
+        final List<Edge<Integer>> edges = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            edges.add(new ImmutableUndirectedUnweightedEdge<>(random.nextInt(50), random.nextInt(50)));
+        }
+        graph.putEdges(edges.stream());
+        assertMatchesSearch();
+    }
+
+    @DisplayName("Test components are split after edges and vertices are removed")
+    @Test
+    void testRemovals() {
+        for (int i = 0; i < 10; ++i) {
+            graph.putEdge(i, i + 1);
+        }
+        assertEquals(1, components.getComponentCount());
+        assertEquals(11, components.getComponentSize(0));
+        graph.removeEdge(5, 4);
+        assertFalse(components.connected(0, 10));
+        assertEquals(2, components.getComponentCount());
+        assertEquals(5, components.getComponentSize(0));
+        graph.removeVertex(8);
+        assertEquals(3, components.getComponentCount());
+        assertEquals(3, components.getComponentSize(5));
+        assertMatchesSearch();
+        // components rebuilt after removals keep growing with new edges
+        graph.putEdge(0, 10);
+        assertTrue(components.connected(4, 9));
+        assertEquals(2, components.getComponentCount());
+        assertMatchesSearch();
+    }
+
+    @DisplayName("Test stale components let any query through until they are rebuilt")
+    @Test
+    void testStaleComponents() throws InterruptedException {
+        graph.putEdge(0, 1);
+        graph.putEdge(1, 2);
+        graph.putVertex(3);
+        assertFalse(graph.mayHavePath(0, 3));
+        graph.removeEdge(1, 2);
+        // the first query after a removal never waits for a rebuild
+        assertTrue(graph.mayHavePath(0, 3));
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (graph.mayHavePath(0, 2) && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertFalse(graph.mayHavePath(0, 2));
+        assertTrue(graph.mayHavePath(0, 1));
+        assertFalse(graph.mayHavePath(0, 3));
+    }
+
+    @DisplayName("Test edges put during rebuilds are kept")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {10, 100, 1000})
+    void testEdgesPutDuringRebuild(int count) throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < count; ++i) {
+                    graph.putEdge(i, i + 1);
+                    // a removal far from the chain keeps components stale
+                    graph.putEdge(-1, -2);
+                    graph.removeEdge(-1, -2);
+                }
+            });
+            while (!writer.isDone()) {
+                components.getComponentCount();
+            }
+            writer.get();
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(components.connected(0, count));
+        assertMatchesSearch();
+    }
+
+    @DisplayName("Test graphs do not track components unless asked to")
+    @Test
+    void testUntracked() {
+        final MutableUndirectedUnweightedGraph<Integer> untracked = new MutableUndirectedUnweightedGraph<>();
+        untracked.putVertex(1);
+        untracked.putVertex(2);
+        assertNull(untracked.getConnectedComponents());
+        assertTrue(untracked.mayHavePath(1, 2));
+        assertNull(new MutableUndirectedWeightedGraph<Integer, Integer>().getConnectedComponents());
+        assertNotNull(new MutableUndirectedDoubleWeightedGraph<Integer>(true).getConnectedComponents());
+        assertNotNull(new MutableUndirectedLongWeightedGraph<Integer>(true).getConnectedComponents());
+    }
+
+    @DisplayName("Test concurrently put edges")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} threads")
+    @ValueSource(ints = {1, 2, 4, 8})
+    void testConcurrentEdges(int threads) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; ++t) {
+                final Random random = new Random(t);
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 200; ++i) {
+                        graph.putEdge(random.nextInt(300), random.nextInt(300));
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        final Map<Integer, Set<Integer>> expected = search(graph);
+        assertEquals(new HashSet<>(expected.values()).size(), components.getComponentCount());
+        assertEquals(components.getComponentCount(), components.getComponentSizes().size());
+        for (final Integer vertex : graph.getVertices()) {
+            assertEquals(expected.get(vertex).size(), components.getComponentSize(vertex));
+        }
+    }
+
+    @DisplayName("Test a directed graph never rules a path out")
+    @Test
+    void testDirectedGraph() {
+        final MutableDirectedUnweightedGraph<Integer> directed = new MutableDirectedUnweightedGraph<>();
+        directed.putVertex(1);
+        directed.putVertex(2);
+        assertTrue(directed.mayHavePath(1, 2));
+    }
+}
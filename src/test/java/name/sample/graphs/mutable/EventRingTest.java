@@ -0,0 +1,74 @@
+package name.sample.graphs.mutable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventRingTest {
+
+    @DisplayName("Test elements are drained in order they were put")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} elements")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testDrainInOrder(int count) {
+        final EventRing<Integer> ring = new EventRing<>(64);
+        for (int i = 0; i < count; ++i) {
+            ring.put(i);
+        }
+        assertEquals(count > 0, ring.isReadable());
+        final List<Integer> drained = new ArrayList<>();
+        assertEquals(Math.min(count, 10), ring.drain(drained::add, 10));
+        assertEquals(count - Math.min(count, 10), ring.drain(drained::add, Integer.MAX_VALUE));
+        assertEquals(IntStream.range(0, count).boxed().collect(Collectors.toList()), drained);
+        assertFalse(ring.isReadable());
+    }
+
+    @DisplayName("Test capacity is rounded up to a power of two")
+    @Test
+    void testCapacity() {
+        assertEquals(1, new EventRing<>(1).capacity());
+        assertEquals(8, new EventRing<>(5).capacity());
+        assertEquals(64, new EventRing<>(64).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new EventRing<>(0));
+    }
+
+    @DisplayName("Test producers wait for room and keep their own order")
+    @Test
+    void testConcurrentProducers() throws Exception {
+        final int producers = 4;
+        final int count = 5000;
+        final EventRing<int[]> ring = new EventRing<>(256);
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            final List<Future<?>> futures = IntStream.range(0, producers).mapToObj(producer -> executor.submit(() -> {
+                for (int i = 0; i < count; ++i) {
+                    ring.put(new int[]{producer, i});
+                }
+            })).collect(Collectors.toList());
+            final int[] next = new int[producers];
+            int drained = 0;
+            while (drained < producers * count) {
+                drained += ring.drain(element -> assertEquals(next[element[0]]++, element[1]), 7);
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+            for (int producer = 0; producer < producers; ++producer) {
+                assertEquals(count, next[producer]);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertFalse(ring.isReadable());
+    }
+}
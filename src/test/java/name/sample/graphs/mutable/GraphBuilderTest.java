@@ -0,0 +1,87 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.mutable.edges.ImmutableDirectedWeightedEdge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GraphBuilderTest {
+
+    @DisplayName("Test build a graph with edges put one by one and in streams")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testBuild(int count) {
+        final GraphBuilder<Integer, Integer> builder = new GraphBuilder<>(MutableDirectedWeightedGraph::new);
+        for (int i = 0; i < count; ++i) {
+            builder.putEdge(i, i + 1, i);
+        }
+        builder.putEdges(IntStream.range(0, count).parallel()
+                .mapToObj(i -> new ImmutableDirectedWeightedEdge<>(i + 1, i, -i)));
+        builder.putVertex(-1);
+        final MutableWeightedGraph<Integer, Integer> graph = builder.build();
+        assertEquals(count == 0 ? 1 : count + 2, graph.getVertices().size());
+        assertEquals(2 * count, graph.getEdges().size());
+        for (int i = 0; i < count; ++i) {
+            assertEquals(i, graph.getEdge(i, i + 1).getWeight());
+            assertEquals(-i, graph.getEdge(i + 1, i).getWeight());
+        }
+    }
+
+    @DisplayName("Test last edge put between the same vertices wins")
+    @Test
+    void testLastEdgeWins() {
+        final MutableWeightedGraph<Integer, Integer> graph = new GraphBuilder<Integer, Integer>(
+                MutableUndirectedWeightedGraph::new)
+                .putEdge(0, 1, 1)
+                .putEdge(1, 0, 2)
+                .putEdges(IntStream.range(3, 1000).mapToObj(i -> new ImmutableDirectedWeightedEdge<>(0, 1, i)))
+                .build();
+        assertEquals(1, graph.getEdges().size());
+        final WeightedEdge<Integer, Integer> edge = graph.getEdge(1, 0);
+        assertEquals(999, edge.getWeight());
+        assertEquals(1, edge.getNodeA());
+        assertEquals(999, graph.getEdge(0, 1).getWeight());
+    }
+
+    @DisplayName("Test edges put after a stream win over the stream")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} streams")
+    @ValueSource(ints = {1, 2, 10, 1000})
+    void testEdgeAfterStream(int streams) {
+        final GraphBuilder<Integer, Integer> builder = new GraphBuilder<>(MutableDirectedWeightedGraph::new);
+        builder.putEdge(0, 1, -1);
+        for (int i = 0; i < streams; ++i) {
+            builder.putEdges(IntStream.range(0, 100).parallel()
+                    .mapToObj(j -> new ImmutableDirectedWeightedEdge<>(0, 1, j)));
+            builder.putEdge(0, 2, i);
+        }
+        builder.putEdge(0, 1, streams);
+        final MutableWeightedGraph<Integer, Integer> graph = builder.build();
+        assertEquals(streams, graph.getEdge(0, 1).getWeight());
+        assertEquals(streams - 1, graph.getEdge(0, 2).getWeight());
+        assertEquals(2, graph.getEdges().size());
+    }
+
+    @DisplayName("Test build in a custom pool")
+    @Test
+    void testBuildInPool() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final GraphBuilder<Integer, Integer> builder = new GraphBuilder<Integer, Integer>(
+                    MutableDirectedWeightedGraph::new).withPool(pool);
+            builder.putEdges(IntStream.range(0, 10_000).parallel()
+                    .mapToObj(i -> new ImmutableDirectedWeightedEdge<>(i % 100, i, i)));
+            final MutableWeightedGraph<Integer, Integer> graph = builder.build();
+            assertEquals(10_000, graph.getEdges().size());
+            assertEquals(100, graph.getOutgoingEdges(0).size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.mutable.edges.ImmutableDirectedWeightedEdge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static name.sample.graphs.mutable.GraphEvent.Type.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GraphEventBusTest {
+
+    @DisplayName("Test events of a directed graph in order of changes")
+    @Test
+    void testDirectedEvents() throws InterruptedException {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<>(true);
+        final Recorder<Integer, WeightedEdge<Integer, Integer>> recorder = new Recorder<>();
+        graph.addGraphListener(recorder);
+        graph.putVertex(0);
+        graph.putVertex(0);
+        graph.putEdge(0, 1, 1);
+        graph.putEdge(0, 1, 2);
+        graph.putEdge(2, 0, 3);
+        graph.removeEdge(0, 1);
+        graph.removeEdge(0, 1);
+        graph.removeVertex(0);
+        final List<GraphEvent<Integer, WeightedEdge<Integer, Integer>>> events = recorder.await(9);
+        assertEquals(Arrays.asList(VERTEX_ADDED, VERTEX_ADDED, EDGE_ADDED, EDGE_UPDATED, VERTEX_ADDED, EDGE_ADDED,
+                EDGE_REMOVED, EDGE_REMOVED, VERTEX_REMOVED),
+                events.stream().map(GraphEvent::getType).collect(Collectors.toList()));
+        assertEquals(0, events.get(0).getVertex());
+        assertEquals(new ImmutableDirectedWeightedEdge<>(0, 1, 2), events.get(3).getEdge());
+        assertEquals(1, events.get(3).getPreviousEdge().getWeight());
+        assertEquals(2, events.get(6).getEdge().getWeight());
+        assertEquals(new ImmutableDirectedWeightedEdge<>(2, 0, 3), events.get(7).getEdge());
+        assertEquals(0, events.get(8).getVertex());
+    }
+
+    @DisplayName("Test an undirected edge produces a single event")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testUndirectedEvents(int count) throws InterruptedException {
+        final MutableUnweightedGraph<Integer> graph = new MutableUndirectedUnweightedGraph<>();
+        final Recorder<Integer, Edge<Integer>> recorder = new Recorder<>();
+        graph.addGraphListener(recorder);
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(i, i + 1);
+        }
+        graph.putEdges(IntStream.range(0, count)
+                .mapToObj(i -> new ImmutableDirectedWeightedEdge<>(-i - 1, i, 0)));
+        final int vertices = (count == 0 ? 0 : count + 1) + count;
+        final List<GraphEvent<Integer, Edge<Integer>>> events = recorder.await(vertices + 2 * count);
+        assertEquals(vertices, events.stream().filter(event -> event.getType() == VERTEX_ADDED).count());
+        assertEquals(2 * count, events.stream().filter(event -> event.getType() == EDGE_ADDED).count());
+        assertEquals(vertices + 2 * count, events.size());
+    }
+
+    @DisplayName("Test versioned graph delivers events of published versions")
+    @Test
+    void testVersionedEvents() throws InterruptedException {
+        final VersionedMutableWeightedGraph<Integer, Integer> graph = new VersionedMutableWeightedGraph<>(false);
+        final Recorder<Integer, WeightedEdge<Integer, Integer>> recorder = new Recorder<>();
+        graph.addGraphListener(recorder);
+        graph.putEdge(0, 1, 1);
+        graph.putEdge(1, 0, 2);
+        graph.putEdge(1, 2, 3);
+        graph.removeVertex(1);
+        final List<GraphEvent<Integer, WeightedEdge<Integer, Integer>>> events = recorder.await(9);
+        assertEquals(Arrays.asList(VERTEX_ADDED, VERTEX_ADDED, EDGE_ADDED, EDGE_UPDATED, VERTEX_ADDED, EDGE_ADDED,
+                EDGE_REMOVED, EDGE_REMOVED, VERTEX_REMOVED),
+                events.stream().map(GraphEvent::getType).collect(Collectors.toList()));
+        assertEquals(1, events.get(3).getEdge().getNodeA());
+        assertEquals(1, events.get(3).getPreviousEdge().getWeight());
+        for (final GraphEvent<Integer, WeightedEdge<Integer, Integer>> event : events.subList(6, 8)) {
+            assertEquals(1, event.getEdge().getNodeA());
+        }
+    }
+
+    @DisplayName("Test versioned graph delivers no events of a rejected batch")
+    @Test
+    void testVersionedRejectedBatch() throws InterruptedException {
+        final VersionedMutableWeightedGraph<Integer, Integer> graph = new VersionedMutableWeightedGraph<>(true);
+        final Recorder<Integer, WeightedEdge<Integer, Integer>> recorder = new Recorder<>();
+        graph.addGraphListener(recorder);
+        assertThrows(NullPointerException.class, () -> graph.putEdges(Stream.of(
+                new ImmutableDirectedWeightedEdge<>(0, 1, 1), new ImmutableDirectedWeightedEdge<>(null, 1, 2))));
+        assertTrue(graph.getVertices().isEmpty());
+        graph.putEdge(2, 3, 3);
+        final List<GraphEvent<Integer, WeightedEdge<Integer, Integer>>> events = recorder.await(3);
+        assertEquals(Arrays.asList(VERTEX_ADDED, VERTEX_ADDED, EDGE_ADDED),
+                events.stream().map(GraphEvent::getType).collect(Collectors.toList()));
+        assertEquals(new ImmutableDirectedWeightedEdge<>(2, 3, 3), events.get(2).getEdge());
+    }
+
+    @DisplayName("Test all events of concurrent writers are delivered in order of each writer")
+    @Test
+    void testConcurrentWriters() throws Exception {
+        final int writers = 4;
+        final int count = 5000;
+        final MutableWeightedGraph<Integer, Integer> graph =
+                new StripedMutableWeightedGraph<>(new MutableDirectedWeightedGraph<>(), 8);
+        final Recorder<Integer, WeightedEdge<Integer, Integer>> recorder = new Recorder<>();
+        graph.addGraphListener(recorder);
+        final ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            final List<Future<?>> futures = IntStream.range(0, writers).mapToObj(writer -> executor.submit(() -> {
+                for (int i = 0; i < count; ++i) {
+                    graph.putEdge(-writer - 1, i, i);
+                }
+            })).collect(Collectors.toList());
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        final List<GraphEvent<Integer, WeightedEdge<Integer, Integer>>> events =
+                recorder.await(writers + count + writers * count);
+        final int[] next = new int[writers];
+        for (final GraphEvent<Integer, WeightedEdge<Integer, Integer>> event : events) {
+            if (event.getType() == EDGE_ADDED) {
+                assertEquals(next[-event.getEdge().getNodeA() - 1]++, event.getEdge().getNodeB());
+            }
+        }
+        assertArrayEquals(new int[]{count, count, count, count}, next);
+    }
+
+    @DisplayName("Test events of the same edges replay to the final graph")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} graph")
+    @ValueSource(booleans = {true, false})
+    void testSameEdgeOrder(boolean directed) throws Exception {
+        final int writers = 4;
+        final int count = 2000;
+        final MutableWeightedGraph<Integer, Integer> graph = directed
+                ? new MutableDirectedWeightedGraph<>(true) : new MutableUndirectedWeightedGraph<>();
+        final Recorder<Integer, WeightedEdge<Integer, Integer>> recorder = new Recorder<>();
+        graph.addGraphListener(recorder);
+        final AtomicInteger changes = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            final List<Future<?>> futures = IntStream.range(0, writers).mapToObj(writer -> executor.submit(() -> {
+                final Random random = new Random(writer);
+                for (int i = 0; i < count; ++i) {
+                    // writers of an undirected graph also change edges through their reverses
+                    final int a = random.nextInt(3);
+                    final int b = random.nextInt(3);
+                    if (random.nextBoolean()) {
+                        graph.putEdge(a, b, i);
+                        changes.incrementAndGet();
+                    } else if (graph.removeEdge(a, b)) {
+                        changes.incrementAndGet();
+                    }
+                }
+            })).collect(Collectors.toList());
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        final Map<List<Integer>, Integer> replayed = new HashMap<>();
+        for (final GraphEvent<Integer, WeightedEdge<Integer, Integer>> event
+                : recorder.await(graph.getVertices().size() + changes.get())) {
+            if (event.getType() == VERTEX_ADDED) {
+                continue;
+            }
+            final List<Integer> key = key(event.getEdge(), directed);
+            if (event.getType() == EDGE_REMOVED) {
+                assertNotNull(replayed.remove(key), event::toString);
+            } else {
+                assertEquals(event.getType() == EDGE_UPDATED, replayed.containsKey(key), event::toString);
+                replayed.put(key, event.getEdge().getWeight());
+            }
+        }
+        final Map<List<Integer>, Integer> expected = new HashMap<>();
+        for (final WeightedEdge<Integer, Integer> edge : graph.getEdges()) {
+            expected.put(key(edge, directed), edge.getWeight());
+        }
+        assertEquals(expected, replayed);
+    }
+
+    private static List<Integer> key(final Edge<Integer> edge, final boolean directed) {
+        final int a = edge.getNodeA();
+        final int b = edge.getNodeB();
+        return directed || a <= b ? Arrays.asList(a, b) : Arrays.asList(b, a);
+    }
+
+    @DisplayName("Test removed listener receives no more events")
+    @Test
+    void testRemoveListener() throws InterruptedException {
+        final MutableWeightedGraph<Integer, Integer> graph =
+                new ConcurrentMutableWeightedGraph<>(new MutableUndirectedWeightedGraph<>());
+        final Recorder<Integer, WeightedEdge<Integer, Integer>> removed = new Recorder<>();
+        final Recorder<Integer, WeightedEdge<Integer, Integer>> kept = new Recorder<>();
+        graph.addGraphListener(removed);
+        graph.addGraphListener(kept);
+        graph.putVertex(0);
+        kept.await(1);
+        removed.await(1);
+        assertTrue(graph.removeGraphListener(removed));
+        assertFalse(graph.removeGraphListener(removed));
+        graph.putVertex(1);
+        kept.await(2);
+        assertEquals(1, removed.await(1).size());
+    }
+
+    /**
+     * A listener collecting all events it receives.
+     */
+    private static final class Recorder<V, E extends Edge<V>> implements GraphListener<V, E> {
+
+        private final List<GraphEvent<V, E>> events = new ArrayList<>();
+
+        @Override
+        public synchronized void onEvents(final List<GraphEvent<V, E>> batch) {
+            events.addAll(batch);
+            notifyAll();
+        }
+
+        synchronized List<GraphEvent<V, E>> await(final int count) throws InterruptedException {
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (events.size() < count) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    fail("received " + events.size() + " of " + count + " events");
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return new ArrayList<>(events);
+        }
+    }
+}
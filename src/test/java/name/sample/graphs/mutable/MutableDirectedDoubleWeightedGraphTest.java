@@ -0,0 +1,64 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.DoubleWeightedEdge;
+import name.sample.graphs.Edge;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.mutable.edges.ImmutableDirectedDoubleWeightedEdge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MutableDirectedDoubleWeightedGraphTest {
+
+    private final MutableDoubleWeightedGraph<Integer> graph = new MutableDirectedDoubleWeightedGraph<>();
+
+    @DisplayName("Test get same edges that were put")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testGetSameEdgesThatWerePut(int count) {
+        final Set<Edge<Integer>> expectedEdges = new HashSet<>();
+        for (int i = 0; i < count; ++i) {
+            graph.putEdgeAsDouble(i, i + 1, i * 0.5);
+            expectedEdges.add(new ImmutableDirectedDoubleWeightedEdge<>(i, i + 1, i * 0.5));
+        }
+        assertEquals(count == 0 ? 0 : count + 1, graph.getVertices().size());
+        assertEquals(expectedEdges, new HashSet<>(graph.getEdges()));
+        for (final WeightedEdge<Integer, Double> edge : graph.getEdges()) {
+            assertEquals(edge.getNodeA() * 0.5, ((DoubleWeightedEdge<Integer>) edge).getWeightAsDouble());
+            assertEquals(edge.getNodeA() * 0.5, edge.getWeight());
+        }
+    }
+
+    @DisplayName("Test primitive neighbor cursor")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testForEachNeighborAsDouble(int count) {
+        for (int i = 0; i < count; ++i) {
+            graph.putEdgeAsDouble(0, i + 1, i + 0.25);
+        }
+        final Set<Integer> neighbors = new HashSet<>();
+        graph.forEachNeighborAsDouble(0, (neighbor, weight) -> {
+            assertEquals(neighbor - 0.75, weight);
+            neighbors.add(neighbor);
+        });
+        assertEquals(count, neighbors.size());
+    }
+
+    @Test
+    @DisplayName("Test boxed and primitive weights are interchangeable")
+    void testBoxedWeight() {
+        graph.putEdge(0, 1, Double.valueOf(2.5));
+        assertEquals(2.5, graph.getWeightAsDouble(0, 1, Double.NaN));
+        graph.putEdgeAsDouble(0, 1, 3.5);
+        assertEquals(3.5, graph.getWeightAsDouble(0, 1, Double.NaN));
+        assertEquals(1, graph.getOutgoingEdges(0).size());
+        assertTrue(Double.isNaN(graph.getWeightAsDouble(1, 0, Double.NaN)));
+        assertThrows(NullPointerException.class, () -> graph.putEdge(0, 1, (Double) null));
+    }
+}
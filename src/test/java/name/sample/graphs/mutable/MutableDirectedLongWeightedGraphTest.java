@@ -0,0 +1,64 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.LongWeightedEdge;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.mutable.edges.ImmutableDirectedLongWeightedEdge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MutableDirectedLongWeightedGraphTest {
+
+    private final MutableLongWeightedGraph<Integer> graph = new MutableDirectedLongWeightedGraph<>();
+
+    @DisplayName("Test get same edges that were put")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testGetSameEdgesThatWerePut(int count) {
+        final Set<Edge<Integer>> expectedEdges = new HashSet<>();
+        for (int i = 0; i < count; ++i) {
+            graph.putEdgeAsLong(i, i + 1, i * 3L);
+            expectedEdges.add(new ImmutableDirectedLongWeightedEdge<>(i, i + 1, i * 3L));
+        }
+        assertEquals(count == 0 ? 0 : count + 1, graph.getVertices().size());
+        assertEquals(expectedEdges, new HashSet<>(graph.getEdges()));
+        for (final WeightedEdge<Integer, Long> edge : graph.getEdges()) {
+            assertEquals(edge.getNodeA() * 3L, ((LongWeightedEdge<Integer>) edge).getWeightAsLong());
+            assertEquals(Long.valueOf(edge.getNodeA() * 3L), edge.getWeight());
+        }
+    }
+
+    @DisplayName("Test primitive neighbor cursor")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testForEachNeighborAsLong(int count) {
+        for (int i = 0; i < count; ++i) {
+            graph.putEdgeAsLong(0, i + 1, i + 10L);
+        }
+        final Set<Integer> neighbors = new HashSet<>();
+        graph.forEachNeighborAsLong(0, (neighbor, weight) -> {
+            assertEquals(neighbor + 9L, weight);
+            neighbors.add(neighbor);
+        });
+        assertEquals(count, neighbors.size());
+    }
+
+    @Test
+    @DisplayName("Test boxed and primitive weights are interchangeable")
+    void testBoxedWeight() {
+        graph.putEdge(0, 1, Long.valueOf(Long.MIN_VALUE));
+        assertEquals(Long.MIN_VALUE, graph.getWeightAsLong(0, 1, -1));
+        graph.putEdgeAsLong(0, 1, 7);
+        assertEquals(7, graph.getWeightAsLong(0, 1, -1));
+        assertEquals(1, graph.getOutgoingEdges(0).size());
+        assertEquals(-1, graph.getWeightAsLong(1, 0, -1));
+        assertThrows(NullPointerException.class, () -> graph.putEdge(0, 1, (Long) null));
+    }
+}
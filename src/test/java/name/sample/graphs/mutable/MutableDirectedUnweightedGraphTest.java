@@ -45,7 +45,8 @@ class MutableDirectedUnweightedGraphTest {
         }
         assertEquals(count == 0 ? 0 : count + 1, graph.getVertices().size());
         assertIterableEquals(expectedVertices, graph.getVertices());
-        assertIterableEquals(expectedEdges, graph.getEdges());
+        assertEquals(count, graph.getEdges().size());
+        assertEquals(expectedEdges, graph.copyEdges());
     }
 
     @DisplayName("Test get correct outgoing edges")
@@ -82,4 +83,19 @@ class MutableDirectedUnweightedGraphTest {
         assertEquals(1, graph.getOutgoingEdges(0).size());
         assertEquals(0, graph.getOutgoingEdges(1).size());
     }
-}
\ No newline at end of file
+
+    @DisplayName("Test put edges in bulk")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testPutEdges(int count) {
+        final Set<Edge<Integer>> expectedEdges = new HashSet<>();
+        for (int i = 0; i < count; ++i) {
+            expectedEdges.add(new ImmutableDirectedUnweightedEdge<>(i, i + 1));
+            expectedEdges.add(new ImmutableDirectedUnweightedEdge<>(i + 1, i));
+        }
+        graph.putEdges(expectedEdges.parallelStream());
+        assertEquals(count == 0 ? 0 : count + 1, graph.getVertices().size());
+        assertEquals(2 * count, graph.getEdges().size());
+        assertEquals(expectedEdges, graph.copyEdges());
+    }
+}
@@ -9,12 +9,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.opentest4j.AssertionFailedError;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class MutableDirectedWeightedGraphTest {
 
@@ -47,7 +44,8 @@ class MutableDirectedWeightedGraphTest {
         }
         assertEquals(count == 0 ? 0 : count + 1, graph.getVertices().size());
         assertIterableEquals(expectedVertices, graph.getVertices());
-        assertIterableEquals(expectedEdges, graph.getEdges());
+        assertEquals(count, graph.getEdges().size());
+        assertEquals(expectedEdges, graph.copyEdges());
     }
 
     @DisplayName("Test get correct outgoing edges")
@@ -97,4 +95,138 @@ class MutableDirectedWeightedGraphTest {
         assertEquals(weight, edge.getWeight());
     }
 
-}
\ No newline at end of file
+    @DisplayName("Test neighbor cursor visits same neighbors as outgoing edges")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testForEachNeighbor(int count) {
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(0, i + 1, i);
+        }
+        final Set<Integer> neighbors = new HashSet<>();
+        graph.forEachNeighbor(0, neighbors::add);
+        assertEquals(count, neighbors.size());
+        graph.forEachNeighbor(0, (Integer neighbor, Integer weight) -> assertEquals(neighbor - 1, weight));
+        graph.forEachNeighbor(0, Integer::doubleValue,
+                (Integer neighbor, double weight) -> assertEquals(neighbor - 1.0, weight));
+        graph.forEachNeighbor(count + 1, neighbor -> fail("vertex does not exist"));
+    }
+
+    @Test
+    @DisplayName("Test get edge between vertices")
+    void testGetEdge() {
+        graph.putEdge(0, 1, 5);
+        assertEquals(new ImmutableDirectedWeightedEdge<>(0, 1, 5), graph.getEdge(0, 1));
+        assertEquals(5, graph.getEdge(0, 1).getWeight());
+        assertNull(graph.getEdge(1, 0));
+        assertNull(graph.getEdge(2, 0));
+    }
+
+    @DisplayName("Test edges view reflects later changes")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testEdgesView(int count) {
+        final Collection<WeightedEdge<Integer, Integer>> edges = graph.getEdges();
+        final Set<WeightedEdge<Integer, Integer>> copy = graph.copyEdges();
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(i, i + 1, i);
+            graph.putEdge(i, i + 1, i + 1);
+        }
+        assertEquals(count, edges.size());
+        assertEquals(count == 0, edges.isEmpty());
+        assertEquals(count, edges.parallelStream().count());
+        assertEquals(count, edges.stream().map(WeightedEdge::getNodeA).distinct().count());
+        for (int i = 0; i < count; ++i) {
+            assertTrue(edges.contains(new ImmutableDirectedWeightedEdge<>(i, i + 1, i + 1)));
+            assertFalse(edges.contains(new ImmutableDirectedWeightedEdge<>(i + 1, i, i + 1)));
+        }
+        assertTrue(copy.isEmpty());
+    }
+
+    @DisplayName("Test incoming edges with and without the index")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testGetIncomingEdges(int count) {
+        for (final MutableWeightedGraph<Integer, Integer> graph : Arrays.<MutableWeightedGraph<Integer, Integer>>asList(
+                new MutableDirectedWeightedGraph<>(false), new MutableDirectedWeightedGraph<>(true))) {
+            final Set<WeightedEdge<Integer, Integer>> expected = new HashSet<>();
+            for (int i = 0; i < count; ++i) {
+                graph.putEdge(i + 1, 0, i);
+                graph.putEdge(0, i + 1, i);
+                expected.add(new ImmutableDirectedWeightedEdge<>(i + 1, 0, i));
+            }
+            assertEquals(expected, new HashSet<>(graph.getIncomingEdges(0)));
+            for (int i = 0; i < count; ++i) {
+                assertEquals(Collections.singletonList(new ImmutableDirectedWeightedEdge<>(0, i + 1, i)),
+                        new ArrayList<>(graph.getIncomingEdges(i + 1)));
+            }
+            assertTrue(graph.getIncomingEdges(count + 1).isEmpty());
+        }
+    }
+
+    @DisplayName("Test removed vertex takes its incoming and outgoing edges")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testRemoveVertex(int count) {
+        for (final MutableWeightedGraph<Integer, Integer> graph : Arrays.<MutableWeightedGraph<Integer, Integer>>asList(
+                new MutableDirectedWeightedGraph<>(false), new MutableDirectedWeightedGraph<>(true))) {
+            for (int i = 0; i < count; ++i) {
+                graph.putEdge(i + 1, 0, i);
+                graph.putEdge(0, i + 1, i);
+                graph.putEdge(i + 1, i + 2, i);
+            }
+            graph.putEdge(0, 0, -1);
+            assertTrue(graph.removeVertex(0));
+            assertFalse(graph.removeVertex(0));
+            assertFalse(graph.getVertices().contains(0));
+            assertEquals(count, graph.getEdges().size());
+            assertEquals(count, graph.getEdges().stream().count());
+            for (int i = 0; i < count; ++i) {
+                assertNull(graph.getEdge(i + 1, 0));
+                assertEquals(1, graph.getOutgoingEdges(i + 1).size());
+                assertEquals(i == 0 ? 0 : 1, graph.getIncomingEdges(i + 1).size());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test removed edge is gone in one direction only")
+    void testRemoveEdge() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<>(true);
+        graph.putEdge(0, 1, 1);
+        graph.putEdge(1, 0, 2);
+        assertTrue(graph.removeEdge(0, 1));
+        assertFalse(graph.removeEdge(0, 1));
+        assertFalse(graph.removeEdge(0, 2));
+        assertNull(graph.getEdge(0, 1));
+        assertEquals(2, graph.getEdge(1, 0).getWeight());
+        assertEquals(1, graph.getEdges().size());
+        assertTrue(graph.getIncomingEdges(1).isEmpty());
+        assertEquals(1, graph.getIncomingEdges(0).size());
+        assertEquals(2, graph.getVertices().size());
+    }
+
+    @Test
+    @DisplayName("Test modification count grows with every change")
+    void testModificationCount() {
+        final MutableWeightedGraph<Integer, Integer> graph = new MutableDirectedWeightedGraph<>(true);
+        long count = graph.getModificationCount();
+        graph.putEdge(0, 1, 1);
+        assertTrue(graph.getModificationCount() > count);
+        count = graph.getModificationCount();
+        graph.putVertex(0);
+        assertFalse(graph.removeEdge(1, 0));
+        assertEquals(count, graph.getModificationCount());
+        graph.putEdge(0, 1, 2);
+        assertTrue(graph.getModificationCount() > count);
+        count = graph.getModificationCount();
+        graph.putEdges(Arrays.asList(new ImmutableDirectedWeightedEdge<>(1, 2, 1),
+                new ImmutableDirectedWeightedEdge<>(2, 3, 1)));
+        assertTrue(graph.getModificationCount() > count);
+        count = graph.getModificationCount();
+        assertTrue(graph.removeEdge(0, 1));
+        assertTrue(graph.getModificationCount() > count);
+        count = graph.getModificationCount();
+        assertTrue(graph.removeVertex(2));
+        assertTrue(graph.getModificationCount() > count);
+    }
+}
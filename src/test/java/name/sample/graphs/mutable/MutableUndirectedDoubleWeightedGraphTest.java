@@ -0,0 +1,52 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.DoubleWeightedEdge;
+import name.sample.graphs.WeightedEdge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MutableUndirectedDoubleWeightedGraphTest {
+
+    private final MutableDoubleWeightedGraph<Integer> graph = new MutableUndirectedDoubleWeightedGraph<>();
+
+    @DisplayName("Test get correct outgoing edges")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testGetOutgoingEdges(int count) {
+        for (int i = 0; i < count; ++i) {
+            for (int j = count + 1; j < count * 2 + 1; ++j) {
+                graph.putEdgeAsDouble(i, j, i * 0.5 + j);
+            }
+        }
+        for (int i = 0; i < count; ++i) {
+            final Collection<WeightedEdge<Integer, Double>> outgoingEdges = graph.getOutgoingEdges(i);
+            assertEquals(count, outgoingEdges.size());
+            for (final WeightedEdge<Integer, Double> edge : outgoingEdges) {
+                assertEquals(edge.getNodeA() * 0.5 + edge.getNodeB(),
+                        ((DoubleWeightedEdge<Integer>) edge).getWeightAsDouble());
+            }
+            assertEquals(count, graph.getOutgoingEdges(count + i + 1).size());
+        }
+        assertEquals(count * count, graph.getEdges().size());
+    }
+
+    @Test
+    @DisplayName("Test reversed edge has same weight")
+    void testReverseEdgeWeight() {
+        graph.putEdgeAsDouble(0, 1, -0.125);
+        assertEquals(-0.125, graph.getWeightAsDouble(0, 1, Double.NaN));
+        assertEquals(-0.125, graph.getWeightAsDouble(1, 0, Double.NaN));
+        assertTrue(Double.isNaN(graph.getWeightAsDouble(1, 2, Double.NaN)));
+        graph.forEachNeighborAsDouble(1, (neighbor, weight) -> {
+            assertEquals(0, neighbor);
+            assertEquals(-0.125, weight);
+        });
+    }
+}
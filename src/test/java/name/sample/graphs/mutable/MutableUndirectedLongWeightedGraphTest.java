@@ -0,0 +1,50 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.LongWeightedEdge;
+import name.sample.graphs.WeightedEdge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MutableUndirectedLongWeightedGraphTest {
+
+    private final MutableLongWeightedGraph<Integer> graph = new MutableUndirectedLongWeightedGraph<>();
+
+    @DisplayName("Test get correct outgoing edges")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testGetOutgoingEdges(int count) {
+        for (int i = 0; i < count; ++i) {
+            for (int j = count + 1; j < count * 2 + 1; ++j) {
+                graph.putEdgeAsLong(i, j, (long) i * j);
+            }
+        }
+        for (int i = 0; i < count; ++i) {
+            final Collection<WeightedEdge<Integer, Long>> outgoingEdges = graph.getOutgoingEdges(i);
+            assertEquals(count, outgoingEdges.size());
+            for (final WeightedEdge<Integer, Long> edge : outgoingEdges) {
+                assertEquals((long) edge.getNodeA() * edge.getNodeB(),
+                        ((LongWeightedEdge<Integer>) edge).getWeightAsLong());
+            }
+            assertEquals(count, graph.getOutgoingEdges(count + i + 1).size());
+        }
+    }
+
+    @Test
+    @DisplayName("Test reversed edge has same weight")
+    void testReverseEdgeWeight() {
+        graph.putEdgeAsLong(0, 1, Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, graph.getWeightAsLong(0, 1, -1));
+        assertEquals(Long.MAX_VALUE, graph.getWeightAsLong(1, 0, -1));
+        assertEquals(-1, graph.getWeightAsLong(1, 2, -1));
+        graph.forEachNeighborAsLong(1, (neighbor, weight) -> {
+            assertEquals(0, neighbor);
+            assertEquals(Long.MAX_VALUE, weight);
+        });
+    }
+}
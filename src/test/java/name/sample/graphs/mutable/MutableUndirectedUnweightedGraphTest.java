@@ -7,12 +7,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class MutableUndirectedUnweightedGraphTest {
 
@@ -45,7 +43,9 @@ class MutableUndirectedUnweightedGraphTest {
         }
         assertEquals(count == 0 ? 0 : count + 1, graph.getVertices().size());
         assertIterableEquals(expectedVertices, graph.getVertices());
-        assertIterableEquals(expectedEdges, graph.getEdges());
+        // each undirected edge is reported once, in no particular order
+        assertEquals(count, graph.getEdges().size());
+        assertEquals(expectedEdges, new HashSet<>(graph.getEdges()));
     }
 
     @DisplayName("Test get correct outgoing edges")
@@ -79,4 +79,146 @@ class MutableUndirectedUnweightedGraphTest {
         assertEquals(1, graph.getOutgoingEdges(0).size());
         assertEquals(1, graph.getOutgoingEdges(1).size());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test neighbor cursor visits both directions")
+    void testForEachNeighbor() {
+        graph.putEdge(0, 1);
+        graph.putEdge(0, 2);
+        final Set<Integer> neighbors = new HashSet<>();
+        graph.forEachNeighbor(0, neighbors::add);
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), neighbors);
+        neighbors.clear();
+        graph.forEachNeighbor(2, neighbors::add);
+        assertEquals(Collections.singleton(0), neighbors);
+        assertEquals(2, graph.getEdge(2, 0).getNodeA());
+        assertEquals(0, graph.getEdge(2, 0).getNodeB());
+    }
+
+    @DisplayName("Test incoming edges are edges oriented towards the vertex")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testGetIncomingEdges(int count) {
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(0, i + 1);
+        }
+        assertEquals(count, graph.getIncomingEdges(0).size());
+        for (final Edge<Integer> edge : graph.getIncomingEdges(0)) {
+            assertEquals(0, edge.getNodeB());
+        }
+        for (int i = 0; i < count; ++i) {
+            assertEquals(0, graph.getIncomingEdges(i + 1).iterator().next().getNodeA());
+        }
+    }
+
+    @DisplayName("Test removed vertex takes edges of both directions")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testRemoveVertex(int count) {
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(i + 1, 0);
+            graph.putEdge(i + 1, i + 2);
+        }
+        graph.putEdge(0, 0);
+        assertTrue(graph.removeVertex(0));
+        assertFalse(graph.removeVertex(0));
+        assertEquals(count, graph.getEdges().size());
+        assertEquals(count, graph.getEdges().stream().count());
+        for (int i = 0; i < count; ++i) {
+            assertNull(graph.getEdge(i + 1, 0));
+            assertFalse(graph.getOutgoingEdges(i + 1).stream().anyMatch(edge -> edge.getNodeB() == 0));
+        }
+    }
+
+    @Test
+    @DisplayName("Test removed edge is gone in both directions")
+    void testRemoveEdge() {
+        graph.putEdge(0, 1);
+        graph.putEdge(1, 2);
+        assertTrue(graph.removeEdge(1, 0));
+        assertFalse(graph.removeEdge(0, 1));
+        assertNull(graph.getEdge(0, 1));
+        assertNull(graph.getEdge(1, 0));
+        assertEquals(1, graph.getEdges().size());
+        assertEquals(3, graph.getVertices().size());
+    }
+
+    @DisplayName("Test concurrently put edges and their reverses are stored once")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} rounds")
+    @ValueSource(ints = {1, 10, 100})
+    void testConcurrentReverseEdges(int rounds) throws Exception {
+        final int count = 200;
+        for (int round = 0; round < rounds; ++round) {
+            final MutableUnweightedGraph<Integer> shared = new MutableUndirectedUnweightedGraph<>();
+            final CountDownLatch start = new CountDownLatch(1);
+            final Thread forward = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < count; ++i) {
+                    shared.putEdge(i, i + 1);
+                }
+            });
+            final Thread backward = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < count; ++i) {
+                    shared.putEdge(i + 1, i);
+                }
+            });
+            forward.start();
+            backward.start();
+            start.countDown();
+            forward.join();
+            backward.join();
+            // size is counted on put, iteration skips an edge stored with mismatched sides
+            assertEquals(count, shared.getEdges().size());
+            assertEquals(count, new HashSet<>(shared.getEdges()).size());
+        }
+    }
+
+    @DisplayName("Test edges put while their vertices are removed are counted as stored")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} rounds")
+    @ValueSource(ints = {1, 10, 100})
+    void testConcurrentPutAndRemove(int rounds) throws Exception {
+        final int count = 20;
+        for (int round = 0; round < rounds; ++round) {
+            final MutableUnweightedGraph<Integer> shared = new MutableUndirectedUnweightedGraph<>();
+            final CountDownLatch start = new CountDownLatch(1);
+            final Random seeds = new Random(round);
+            final List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 3; ++t) {
+                final Random random = new Random(seeds.nextLong());
+                final boolean remover = t == 0;
+                threads.add(new Thread(() -> {
+                    awaitQuietly(start);
+                    for (int i = 0; i < 500; ++i) {
+                        if (remover) {
+                            shared.removeVertex(random.nextInt(count));
+                        } else {
+                            shared.putEdge(random.nextInt(count), random.nextInt(count));
+                        }
+                    }
+                }));
+            }
+            threads.forEach(Thread::start);
+            start.countDown();
+            for (final Thread thread : threads) {
+                thread.join();
+            }
+            final Set<Edge<Integer>> present = new HashSet<>(shared.getEdges());
+            assertEquals(present.size(), shared.getEdges().size());
+            for (final Integer vertex : shared.getVertices()) {
+                for (final Edge<Integer> edge : shared.getOutgoingEdges(vertex)) {
+                    assertTrue(shared.getVertices().contains(edge.getNodeB()), edge::toString);
+                    assertNotNull(shared.getEdge(edge.getNodeB(), vertex), edge::toString);
+                }
+            }
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
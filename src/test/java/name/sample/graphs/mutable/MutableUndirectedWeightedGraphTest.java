@@ -12,6 +12,8 @@ import org.opentest4j.AssertionFailedError;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
@@ -48,7 +50,9 @@ class MutableUndirectedWeightedGraphTest {
         }
         assertEquals(count == 0 ? 0 : count + 1, graph.getVertices().size());
         assertIterableEquals(expectedVertices, graph.getVertices());
-        assertIterableEquals(expectedEdges, graph.getEdges());
+        // each undirected edge is reported once, in no particular order
+        assertEquals(count, graph.getEdges().size());
+        assertEquals(expectedEdges, new HashSet<>(graph.getEdges()));
     }
 
     @DisplayName("Test get correct outgoing edges")
@@ -98,4 +102,43 @@ class MutableUndirectedWeightedGraphTest {
         assertEquals(weight, from1to0.getWeight());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Test shared edge is oriented from the requested vertex")
+    void testSharedEdgeOrientation() {
+        graph.putEdge(0, 1, 1);
+        final WeightedEdge<Integer, Integer> from1to0 = graph.getOutgoingEdges(1).iterator().next();
+        assertEquals(1, from1to0.getNodeA());
+        assertEquals(0, from1to0.getNodeB());
+        assertEquals(1, graph.getEdge(1, 0).getNodeA());
+        // putting reversed edge replaces the shared one for both vertices
+        graph.putEdge(1, 0, 2);
+        assertEquals(2, graph.getEdge(0, 1).getWeight());
+        assertEquals(0, graph.getEdge(0, 1).getNodeA());
+        assertEquals(1, graph.getEdges().size());
+    }
+
+    @DisplayName("Test put edges in bulk")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testPutEdges(int count) {
+        final List<WeightedEdge<Integer, Integer>> edges = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            edges.add(new ImmutableUndirectedWeightedEdge<>(i, i + 1, i));
+            // reversed duplicate put later replaces the first one
+            edges.add(new ImmutableUndirectedWeightedEdge<>(i + 1, i, i + 1));
+            edges.add(new ImmutableUndirectedWeightedEdge<>(i, i, i));
+        }
+        graph.putEdges(edges.stream());
+        assertEquals(count == 0 ? 0 : count + 1, graph.getVertices().size());
+        assertEquals(2 * count, graph.getEdges().size());
+        for (int i = 0; i < count; ++i) {
+            assertEquals(i + 1, graph.getEdge(i, i + 1).getWeight());
+            assertEquals(i + 1, graph.getEdge(i + 1, i).getWeight());
+            assertEquals(i + 1, graph.getEdge(i + 1, i).getNodeA());
+            assertEquals(i, graph.getEdge(i, i).getWeight());
+        }
+        // putting the same batch again does not add edges
+        graph.putEdges(edges);
+        assertEquals(2 * count, graph.getEdges().size());
+    }
+}
@@ -0,0 +1,50 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.mutable.edges.ImmutableUndirectedUnweightedEdge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimisticMutableUnweightedGraphTest {
+
+    private final OptimisticMutableUnweightedGraph<Integer> graph =
+            new OptimisticMutableUnweightedGraph<>(new MutableUndirectedUnweightedGraph<>());
+
+    @DisplayName("Test get same edges that were put")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testGetSameEdgesThatWerePut(int count) {
+        final Set<Edge<Integer>> expectedEdges = new HashSet<>();
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(i, i + 1);
+            expectedEdges.add(new ImmutableUndirectedUnweightedEdge<>(i, i + 1));
+        }
+        assertEquals(count == 0 ? 0 : count + 1, graph.getVertices().size());
+        assertEquals(expectedEdges, new HashSet<>(graph.getEdges()));
+        for (int i = 0; i < count; ++i) {
+            assertEquals(i + 1, graph.getEdge(i + 1, i).getNodeA());
+            assertEquals(i == 0 ? 1 : 2, graph.getOutgoingEdges(i).size());
+        }
+    }
+
+    @DisplayName("Test returned collections do not change with the graph")
+    @Test
+    void testReturnedCollectionsAreCopies() {
+        graph.putVertex(0);
+        final Set<Integer> vertices = graph.getVertices();
+        final Collection<Edge<Integer>> outgoing = graph.getOutgoingEdges(0);
+        graph.putEdge(0, 1);
+        assertEquals(1, vertices.size());
+        assertTrue(outgoing.isEmpty());
+        final List<Integer> neighbors = new ArrayList<>();
+        graph.forEachNeighbor(1, neighbors::add);
+        assertEquals(Collections.singletonList(0), neighbors);
+        assertEquals(Integer.valueOf(2), graph.<Integer>read(g -> g.getVertices().size()));
+    }
+}
@@ -0,0 +1,97 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.algorithm.DftPathFinder;
+import name.sample.graphs.mutable.edges.ImmutableDirectedWeightedEdge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimisticMutableWeightedGraphTest {
+
+    private final OptimisticMutableWeightedGraph<Integer, Integer> graph =
+            new OptimisticMutableWeightedGraph<>(new MutableDirectedWeightedGraph<>());
+
+    @DisplayName("Test get same edges that were put")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testGetSameEdgesThatWerePut(int count) {
+        final Set<Integer> expectedVertices = new HashSet<>();
+        final Set<WeightedEdge<Integer, Integer>> expectedEdges = new HashSet<>();
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(i, i + 1, i);
+            expectedVertices.add(i);
+            expectedVertices.add(i + 1);
+            expectedEdges.add(new ImmutableDirectedWeightedEdge<>(i, i + 1, i));
+        }
+        assertEquals(expectedVertices, graph.getVertices());
+        assertEquals(expectedEdges, new HashSet<>(graph.getEdges()));
+        for (int i = 0; i < count; ++i) {
+            assertEquals(i, graph.getEdge(i, i + 1).getWeight());
+            assertEquals(1, graph.getOutgoingEdges(i).size());
+        }
+        assertEquals(count, graph.freeze().getEdges().size());
+    }
+
+    @DisplayName("Test traversal callbacks")
+    @Test
+    void testForEachNeighbor() {
+        graph.putEdge(0, 1, 1);
+        graph.putEdge(0, 2, 2);
+        final Map<Integer, Integer> neighbors = new HashMap<>();
+        graph.forEachNeighbor(0, (neighbor, weight) -> neighbors.put(neighbor, weight));
+        assertEquals(2, neighbors.size());
+        final double[] sum = new double[1];
+        graph.forEachNeighbor(0, Integer::doubleValue, (neighbor, weight) -> sum[0] += weight);
+        assertEquals(3, sum[0]);
+        final List<Integer> ids = new ArrayList<>();
+        graph.forEachNeighbor(0, neighbor -> ids.add(neighbor));
+        assertEquals(2, ids.size());
+    }
+
+    @DisplayName("Test whole traversal under a single stamp")
+    @Test
+    void testRead() {
+        graph.putEdges(Stream.of(new ImmutableDirectedWeightedEdge<>(0, 1, 1),
+                new ImmutableDirectedWeightedEdge<>(1, 2, 1)));
+        final List<Edge<Integer>> path = graph.read(g -> new DftPathFinder<>(g).getPath(0, 2));
+        assertEquals(2, path.size());
+    }
+
+    @DisplayName("Test reads never observe a half applied batch")
+    @Test
+    void testReadDuringWrites() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < 2000; i += 2) {
+                    graph.putEdges(Stream.of(new ImmutableDirectedWeightedEdge<>(i, i + 1, i),
+                            new ImmutableDirectedWeightedEdge<>(i + 1, i + 2, i)));
+                }
+            });
+            final List<Future<?>> readers = IntStream.range(0, 3).mapToObj(reader -> executor.submit(() -> {
+                while (!writer.isDone()) {
+                    final int size = graph.read(g -> g.getEdges().size());
+                    assertEquals(0, size % 2);
+                }
+            })).collect(Collectors.toList());
+            writer.get();
+            for (final Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(Integer.valueOf(2000), graph.<Integer>read(g -> g.getEdges().size()));
+    }
+}
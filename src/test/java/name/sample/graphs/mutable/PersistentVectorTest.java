@@ -0,0 +1,55 @@
+package name.sample.graphs.mutable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentVectorTest {
+
+    @DisplayName("Test get same elements that were set")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} elements")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50, 1000, 40000})
+    void testGetSameElementsThatWereSet(int count) {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < count; ++i) {
+            vector = vector.set(i, i, new Object());
+        }
+        for (int i = 0; i < count; ++i) {
+            assertEquals(i, vector.get(i));
+        }
+        assertNull(vector.get(count));
+        assertNull(vector.get(-1));
+    }
+
+    @DisplayName("Test previous versions do not change")
+    @Test
+    void testPreviousVersionsDoNotChange() {
+        final PersistentVector<String> empty = PersistentVector.empty();
+        final PersistentVector<String> first = empty.set(5, "a", new Object());
+        final PersistentVector<String> second = first.set(5, "b", new Object());
+        final PersistentVector<String> third = second.set(1 << 20, "c", new Object());
+        assertNull(empty.get(5));
+        assertEquals("a", first.get(5));
+        assertEquals("b", second.get(5));
+        assertNull(second.get(1 << 20));
+        assertEquals("b", third.get(5));
+        assertEquals("c", third.get(1 << 20));
+        assertEquals("c", third.set(Integer.MAX_VALUE, "d", new Object()).get(1 << 20));
+    }
+
+    @DisplayName("Test nodes of the same edit token are changed in place")
+    @Test
+    void testSameTokenChangesInPlace() {
+        final Object edit = new Object();
+        final PersistentVector<Integer> first = PersistentVector.<Integer>empty().set(0, 0, edit);
+        assertSame(first, first.set(1, 1, edit));
+        assertEquals(1, first.get(1));
+        final PersistentVector<Integer> second = first.set(2, 2, new Object());
+        assertNotSame(first, second);
+        assertNull(first.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> first.set(-1, 0, edit));
+    }
+}
@@ -0,0 +1,90 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.mutable.edges.ImmutableDirectedUnweightedEdge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedMutableUnweightedGraphTest {
+
+    private final MutableUnweightedGraph<Integer> graph =
+            new StripedMutableUnweightedGraph<>(new MutableDirectedUnweightedGraph<>());
+
+    @DisplayName("Test get same edges that were put")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testGetSameEdgesThatWerePut(int count) {
+        final Set<Integer> expectedVertices = new HashSet<>();
+        final Set<Edge<Integer>> expectedEdges = new HashSet<>();
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(i, i + 1);
+            expectedVertices.add(i);
+            expectedVertices.add(i + 1);
+            expectedEdges.add(new ImmutableDirectedUnweightedEdge<>(i, i + 1));
+        }
+        assertEquals(expectedVertices, graph.getVertices());
+        assertEquals(expectedEdges, new HashSet<>(graph.getEdges()));
+        for (int i = 0; i < count; ++i) {
+            assertNotNull(graph.getEdge(i, i + 1));
+            assertNull(graph.getEdge(i + 1, i));
+            assertEquals(1, graph.getOutgoingEdges(i).size());
+        }
+        assertEquals(count, graph.freeze().getEdges().size());
+    }
+
+    @DisplayName("Test put vertex")
+    @Test
+    void testPutVertex() {
+        graph.putVertex(0);
+        graph.putVertex(0);
+        assertEquals(Collections.singleton(0), graph.getVertices());
+        assertTrue(graph.getOutgoingEdges(0).isEmpty());
+        final List<Integer> neighbors = new ArrayList<>();
+        graph.putEdge(0, 1);
+        graph.forEachNeighbor(0, neighbors::add);
+        assertEquals(Collections.singletonList(1), neighbors);
+    }
+
+    @Test
+    @DisplayName("Test many threads putting edges in both directions")
+    void testConcurrentExecution() throws Exception {
+        final int threads = 32;
+        final int vertexCount = 100;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final List<Future<?>> futures = IntStream.range(0, threads)
+                .mapToObj(thread -> executorService.submit(() -> {
+                    try {
+                        latch.await();
+                        for (int i = 0; i < vertexCount; ++i) {
+                            // opposite lock order in odd threads must not deadlock
+                            if (thread % 2 == 0) {
+                                graph.putEdge(i, (i + 1) % vertexCount);
+                            } else {
+                                graph.putEdge((i + 1) % vertexCount, i);
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        throw new AssertionFailedError("thread was interrupted", e);
+                    }
+                })).collect(Collectors.toList());
+        latch.countDown();
+        for (final Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10000, TimeUnit.MILLISECONDS));
+        assertEquals(vertexCount, graph.getVertices().size());
+        assertEquals(2 * vertexCount, graph.getEdges().size());
+    }
+}
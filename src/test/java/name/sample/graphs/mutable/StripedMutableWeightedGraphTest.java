@@ -0,0 +1,142 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.mutable.edges.ImmutableUndirectedWeightedEdge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedMutableWeightedGraphTest {
+
+    private final MutableWeightedGraph<Integer, Integer> graph =
+            new StripedMutableWeightedGraph<>(new MutableUndirectedWeightedGraph<>(), 4);
+
+    @DisplayName("Test get same edges that were put")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testGetSameEdgesThatWerePut(int count) {
+        final Set<Integer> expectedVertices = new HashSet<>();
+        final Set<WeightedEdge<Integer, Integer>> expectedEdges = new HashSet<>();
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(i, i + 1, i);
+            expectedVertices.add(i);
+            expectedVertices.add(i + 1);
+            expectedEdges.add(new ImmutableUndirectedWeightedEdge<>(i, i + 1, i));
+        }
+        assertEquals(expectedVertices, graph.getVertices());
+        assertEquals(count, graph.getEdges().size());
+        assertEquals(expectedEdges, new HashSet<>(graph.getEdges()));
+        for (int i = 0; i < count; ++i) {
+            assertEquals(i, graph.getEdge(i + 1, i).getWeight());
+            assertEquals(i == 0 ? 1 : 2, graph.getOutgoingEdges(i).size());
+        }
+    }
+
+    @DisplayName("Test returned collections do not change with the graph")
+    @Test
+    void testReturnedCollectionsAreCopies() {
+        graph.putEdge(0, 1, 1);
+        final Set<Integer> vertices = graph.getVertices();
+        final Collection<WeightedEdge<Integer, Integer>> edges = graph.getEdges();
+        final Collection<WeightedEdge<Integer, Integer>> outgoing = graph.getOutgoingEdges(0);
+        graph.putEdge(0, 2, 2);
+        assertEquals(2, vertices.size());
+        assertEquals(1, edges.size());
+        assertEquals(1, outgoing.size());
+        assertEquals(2, graph.getOutgoingEdges(0).size());
+    }
+
+    @DisplayName("Test traversal callbacks")
+    @Test
+    void testForEachNeighbor() {
+        graph.putEdge(0, 1, 1);
+        graph.putEdge(2, 0, 2);
+        final Map<Integer, Integer> neighbors = new HashMap<>();
+        graph.forEachNeighbor(0, (neighbor, weight) -> neighbors.put(neighbor, weight));
+        assertEquals(2, neighbors.size());
+        assertEquals(2, neighbors.get(2));
+        final double[] sum = new double[1];
+        graph.forEachNeighbor(0, Integer::doubleValue, (neighbor, weight) -> sum[0] += weight);
+        assertEquals(3, sum[0]);
+        assertEquals(2, graph.freeze().getOutgoingEdges(0).size());
+    }
+
+    @Test
+    @DisplayName("Test many threads putting edges of different vertices")
+    void testConcurrentExecution() throws Exception {
+        final int threads = 32;
+        final int edgesPerThread = 1000;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final List<Future<?>> futures = IntStream.range(0, threads)
+                .mapToObj(thread -> executorService.submit(() -> {
+                    try {
+                        latch.await();
+                        for (int i = 0; i < edgesPerThread; ++i) {
+                            // every edge also touches a vertex shared by all threads
+                            graph.putEdge(thread * edgesPerThread + i, -1 - i % 10, i);
+                            graph.getOutgoingEdges(-1 - i % 10);
+                        }
+                    } catch (InterruptedException e) {
+                        throw new AssertionFailedError("thread was interrupted", e);
+                    }
+                })).collect(Collectors.toList());
+        latch.countDown();
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10000, TimeUnit.MILLISECONDS));
+        assertEquals(threads * edgesPerThread + 10, graph.getVertices().size());
+        assertEquals(threads * edgesPerThread, graph.getEdges().size());
+        assertEquals(threads * edgesPerThread / 10, graph.getOutgoingEdges(-1).size());
+    }
+
+    @DisplayName("Test put edges in bulk")
+    @Test
+    void testPutEdges() {
+        graph.putEdges(Stream.of(new ImmutableUndirectedWeightedEdge<>(0, 1, 1),
+                new ImmutableUndirectedWeightedEdge<>(1, 2, 2)));
+        assertEquals(2, graph.getEdges().size());
+        assertEquals(2, graph.getOutgoingEdges(1).size());
+    }
+
+    @DisplayName("Test removals from many threads")
+    @Test
+    void testConcurrentRemovals() throws Exception {
+        final int count = 1000;
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(i, count, i);
+            graph.putEdge(i, count + 1, i);
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = IntStream.range(0, 4).mapToObj(thread -> executor.submit(() -> {
+                for (int i = thread; i < count; i += 4) {
+                    assertTrue(graph.removeEdge(count, i));
+                    if (i % 2 == 0) {
+                        assertTrue(graph.removeVertex(i));
+                    }
+                }
+            })).collect(Collectors.toList());
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(count / 2, graph.getIncomingEdges(count + 1).size());
+        assertEquals(count / 2, graph.getEdges().size());
+        assertEquals(count / 2 + 2, graph.getVertices().size());
+    }
+}
@@ -0,0 +1,225 @@
+package name.sample.graphs.mutable;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.algorithm.DftPathFinder;
+import name.sample.graphs.mutable.edges.ImmutableDirectedWeightedEdge;
+import name.sample.graphs.mutable.edges.ImmutableUndirectedWeightedEdge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionedMutableWeightedGraphTest {
+
+    private final VersionedMutableWeightedGraph<Integer, Integer> directed = new VersionedMutableWeightedGraph<>(true);
+    private final VersionedMutableWeightedGraph<Integer, Integer> undirected =
+            new VersionedMutableWeightedGraph<>(false);
+
+    @DisplayName("Test get same edges that were put")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testGetSameEdgesThatWerePut(int count) {
+        final Set<Integer> expectedVertices = new HashSet<>();
+        final Set<Edge<Integer>> expectedEdges = new HashSet<>();
+        for (int i = 0; i < count; ++i) {
+            directed.putEdge(i, i + 1, i);
+            expectedVertices.add(i);
+            expectedVertices.add(i + 1);
+            expectedEdges.add(new ImmutableDirectedWeightedEdge<>(i, i + 1, i));
+        }
+        assertEquals(expectedVertices, directed.getVertices());
+        assertEquals(count, directed.getEdges().size());
+        assertEquals(expectedEdges, new HashSet<>(directed.getEdges()));
+        assertEquals(count, directed.getEdges().parallelStream().count());
+        for (int i = 0; i < count; ++i) {
+            assertEquals(i, directed.getEdge(i, i + 1).getWeight());
+            assertNull(directed.getEdge(i + 1, i));
+            assertEquals(1, directed.getOutgoingEdges(i).size());
+        }
+    }
+
+    @DisplayName("Test undirected edges are reported once and oriented out of the vertex")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testUndirectedEdges(int count) {
+        final Set<Edge<Integer>> expectedEdges = new HashSet<>();
+        for (int i = 0; i < count; ++i) {
+            undirected.putEdge(i + 1, i, i);
+            expectedEdges.add(new ImmutableUndirectedWeightedEdge<>(i, i + 1, i));
+        }
+        undirected.putEdge(0, 0, -1);
+        expectedEdges.add(new ImmutableUndirectedWeightedEdge<>(0, 0, -1));
+        assertEquals(count + 1, undirected.getEdges().size());
+        assertEquals(expectedEdges, new HashSet<>(undirected.getEdges()));
+        for (int i = 0; i < count; ++i) {
+            final WeightedEdge<Integer, Integer> edge = undirected.getEdge(i, i + 1);
+            assertEquals(i, edge.getNodeA());
+            assertEquals(i, edge.getWeight());
+            assertEquals(i + 1, undirected.getEdge(i + 1, i).getNodeA());
+        }
+        final Map<Integer, Integer> neighbors = new HashMap<>();
+        undirected.forEachNeighbor(0, (neighbor, weight) -> neighbors.put(neighbor, weight));
+        assertEquals(count == 0 ? Collections.singletonMap(0, -1) : new HashMap<Integer, Integer>() {{
+            put(0, -1);
+            put(1, 0);
+        }}, neighbors);
+    }
+
+    @DisplayName("Test snapshot does not change after it was taken")
+    @Test
+    void testSnapshotIsolation() {
+        directed.putEdge(0, 1, 1);
+        final WeightedGraphVersion<Integer, Integer> before = directed.snapshot();
+        directed.putEdge(0, 2, 2);
+        directed.putEdge(0, 1, 3);
+        directed.putVertex(7);
+        final WeightedGraphVersion<Integer, Integer> after = directed.snapshot();
+        assertTrue(after.getVersion() > before.getVersion());
+        assertEquals(2, before.getVertices().size());
+        assertFalse(before.getVertices().contains(7));
+        assertEquals(1, before.getOutgoingEdges(0).size());
+        assertEquals(1, before.getEdge(0, 1).getWeight());
+        assertNull(before.getEdge(0, 2));
+        assertTrue(before.getOutgoingEdges(2).isEmpty());
+        assertEquals(4, after.getVertices().size());
+        assertEquals(3, after.getEdge(0, 1).getWeight());
+        assertEquals(2, after.getOutgoingEdges(0).size());
+        assertSame(after, directed.freeze());
+    }
+
+    @DisplayName("Test batch is published as a single version")
+    @Test
+    void testPutEdges() {
+        final long version = undirected.snapshot().getVersion();
+        undirected.putEdges(IntStream.range(0, 5000)
+                .mapToObj(i -> new ImmutableDirectedWeightedEdge<>(i % 100, i, i)));
+        assertEquals(version + 1, undirected.snapshot().getVersion());
+        assertEquals(5000, undirected.getEdges().size());
+        assertEquals(5000, undirected.getVertices().size());
+    }
+
+    @DisplayName("Test path finding on snapshots while edges are being put")
+    @Test
+    void testTraversalDuringWrites() throws Exception {
+        final int count = 2000;
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < count; ++i) {
+                    directed.putEdge(i, i + 1, i);
+                }
+            });
+            final List<Future<?>> readers = IntStream.range(0, 3).mapToObj(reader -> executor.submit(() -> {
+                while (!writer.isDone()) {
+                    final WeightedGraphVersion<Integer, Integer> snapshot = directed.snapshot();
+                    final int last = snapshot.getVertices().size() - 1;
+                    if (last > 0) {
+                        // every published version holds a complete chain
+                        final List<Edge<Integer>> path = new DftPathFinder<>(snapshot).getPath(0, last);
+                        assertEquals(last, path.size());
+                        assertEquals(last, snapshot.getEdges().size());
+                    }
+                }
+            })).collect(Collectors.toList());
+            writer.get();
+            for (final Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(count, new DftPathFinder<>(directed.snapshot()).getPath(0, count).size());
+    }
+
+    @DisplayName("Test removals create new versions and keep earlier ones intact")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testRemove(int count) {
+        for (final VersionedMutableWeightedGraph<Integer, Integer> graph : Arrays.asList(directed, undirected)) {
+            for (int i = 0; i < count; ++i) {
+                graph.putEdge(i + 1, 0, i);
+                graph.putEdge(i + 1, i + 2, i);
+            }
+            graph.putEdge(0, 0, -1);
+            final WeightedGraphVersion<Integer, Integer> before = graph.snapshot();
+            assertTrue(graph.removeVertex(0));
+            assertFalse(graph.removeVertex(0));
+            assertEquals(2 * count + 1, before.getEdges().size());
+            assertTrue(before.getVertices().contains(0));
+            assertFalse(graph.getVertices().contains(0));
+            assertEquals(count == 0 ? 0 : count + 1, graph.getVertices().size());
+            assertEquals(graph.getVertices().size(), graph.getVertices().stream().count());
+            assertEquals(count, graph.getEdges().size());
+            assertEquals(count, graph.getEdges().stream().count());
+            for (int i = 0; i < count; ++i) {
+                assertNull(graph.getEdge(i + 1, 0));
+                assertNull(graph.getEdge(0, i + 1));
+                assertTrue(graph.removeEdge(i + 1, i + 2));
+                assertFalse(graph.removeEdge(i + 1, i + 2));
+            }
+            assertEquals(0, graph.getEdges().size());
+            graph.putEdge(0, 1, 1);
+            assertTrue(graph.getVertices().contains(0));
+            assertEquals(1, graph.getEdges().size());
+            assertEquals(directed == graph ? 0 : 1, graph.getIncomingEdges(0).size());
+        }
+    }
+
+    @DisplayName("Test ids of removed vertices are reclaimed")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} rounds")
+    @ValueSource(ints = {1, 10, 100})
+    void testCompaction(int rounds) {
+        for (final VersionedMutableWeightedGraph<Integer, Integer> graph : Arrays.asList(directed, undirected)) {
+            WeightedGraphVersion<Integer, Integer> earlier = graph.snapshot();
+            for (int round = 0; round < rounds; ++round) {
+                // a chain of 20 vertices moving on, each round drops the oldest 10
+                final int first = round * 10;
+                for (int vertex = first; vertex < first + 20; ++vertex) {
+                    graph.putEdge(vertex, vertex + 1, vertex);
+                }
+                if (round == rounds / 2) {
+                    earlier = graph.snapshot();
+                }
+                for (int vertex = first; vertex < first + 10; ++vertex) {
+                    assertTrue(graph.removeVertex(vertex));
+                }
+                final int live = graph.getVertices().size();
+                assertEquals(11, live);
+                assertTrue(graph.snapshot().getVertexIndex().size() <= 2 * Math.max(live, 64) + 1);
+                for (int vertex = first + 10; vertex < first + 20; ++vertex) {
+                    assertEquals(vertex, graph.getEdge(vertex, vertex + 1).getWeight().intValue());
+                    assertEquals(graph == undirected, graph.getEdge(vertex + 1, vertex) != null);
+                }
+                assertEquals(10, graph.getEdges().size());
+                assertEquals(10, new DftPathFinder<>(graph.snapshot()).getPath(first + 10, first + 20).size());
+            }
+            final int middle = rounds / 2 * 10;
+            for (int vertex = middle; vertex < middle + 20; ++vertex) {
+                assertEquals(vertex, earlier.getEdge(vertex, vertex + 1).getWeight().intValue());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test modification count follows published versions")
+    void testModificationCount() {
+        final VersionedMutableWeightedGraph<Integer, Integer> graph = new VersionedMutableWeightedGraph<>(true);
+        assertEquals(0, graph.getModificationCount());
+        graph.putEdge(0, 1, 1);
+        assertEquals(graph.snapshot().getVersion(), graph.getModificationCount());
+        final long count = graph.getModificationCount();
+        graph.putVertex(0);
+        assertFalse(graph.removeEdge(1, 0));
+        assertEquals(count, graph.getModificationCount());
+        assertTrue(graph.removeVertex(1));
+        assertTrue(graph.getModificationCount() > count);
+    }
+}
@@ -0,0 +1,35 @@
+package name.sample.graphs.primitive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntOpenHashSetTest {
+
+    @DisplayName("Test set contains same values that were added")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} values")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50, 10000})
+    void testAddContains(int count) {
+        final IntOpenHashSet set = new IntOpenHashSet();
+        final Set<Integer> expected = new HashSet<>();
+        final Random random = new Random(count);
+        for (int i = 0; i < count; ++i) {
+            final int value = i % 3 == 0 ? i : random.nextInt();
+            assertEquals(expected.add(value), set.add(value));
+        }
+        assertEquals(expected.size(), set.size());
+        for (final int value : expected) {
+            assertTrue(set.contains(value));
+        }
+        final Set<Integer> actual = new HashSet<>();
+        set.forEach(actual::add);
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), set.toArray().length);
+    }
+}
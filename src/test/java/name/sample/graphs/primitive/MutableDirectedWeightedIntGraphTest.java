@@ -0,0 +1,92 @@
+package name.sample.graphs.primitive;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.WeightedEdge;
+import name.sample.graphs.WeightedGraph;
+import name.sample.graphs.algorithm.DftPathFinder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MutableDirectedWeightedIntGraphTest {
+
+    private final MutableWeightedIntGraph graph = new MutableDirectedWeightedIntGraph();
+
+    @DisplayName("Test get same vertices that were put")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} vertices")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50, 1000})
+    void testGetSameVerticesThatWerePut(int count) {
+        for (int i = 0; i < count; ++i) {
+            graph.putVertex(i - count / 2);
+        }
+        assertEquals(count, graph.getVertexCount());
+        final Set<Integer> expected = IntStream.range(0, count).map(i -> i - count / 2).boxed()
+                .collect(Collectors.toSet());
+        assertEquals(expected, Arrays.stream(graph.getVertices()).boxed().collect(Collectors.toSet()));
+        for (int vertex : expected) {
+            assertTrue(graph.containsVertex(vertex));
+        }
+        assertFalse(graph.containsVertex(count));
+    }
+
+    @DisplayName("Test get correct outgoing edges and weights")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testGetOutgoingEdges(int count) {
+        for (int i = 0; i < count; ++i) {
+            for (int j = count + 1; j < count * 2 + 1; ++j) {
+                graph.putEdge(i, j, i * 0.5);
+            }
+        }
+        for (int i = 0; i < count; ++i) {
+            final int source = i;
+            assertEquals(count, graph.getOutDegree(i));
+            assertEquals(count, graph.getNeighbors(i).length);
+            graph.forEachNeighbor(i, (int target, double weight) -> {
+                assertTrue(target > count);
+                assertEquals(source * 0.5, weight);
+                assertEquals(weight, graph.getWeight(source, target));
+            });
+            assertEquals(0, graph.getOutDegree(count + i + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Test edge weight is replaced")
+    void testReplaceWeight() {
+        graph.putEdge(0, 1, 1.0);
+        graph.putEdge(0, 1, 2.0);
+        assertEquals(1, graph.getOutDegree(0));
+        assertEquals(2.0, graph.getWeight(0, 1));
+        assertTrue(Double.isNaN(graph.getWeight(1, 0)));
+        assertFalse(graph.containsEdge(1, 0));
+    }
+
+    @Test
+    @DisplayName("Test adapter exposes same graph")
+    void testAdapter() {
+        graph.putEdge(0, 1, 1.5);
+        graph.putEdge(1, 2, 2.5);
+        graph.putVertex(3);
+        final WeightedGraph<Integer, Double> adapter = IntGraphs.asWeightedGraph(graph);
+        assertEquals(new HashSet<>(Arrays.asList(0, 1, 2, 3)), adapter.getVertices());
+        assertEquals(2, adapter.getEdges().size());
+        final WeightedEdge<Integer, Double> edge = adapter.getOutgoingEdges(1).iterator().next();
+        assertEquals(1, edge.getNodeA());
+        assertEquals(2, edge.getNodeB());
+        assertEquals(2.5, edge.getWeight());
+        final List<Edge<Integer>> path = new DftPathFinder<>(adapter).getPath(0, 2);
+        assertEquals(2, path.size());
+        assertTrue(new DftPathFinder<>(adapter).getPath(0, 3).isEmpty());
+    }
+}
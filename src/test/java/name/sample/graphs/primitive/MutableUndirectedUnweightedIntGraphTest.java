@@ -0,0 +1,63 @@
+package name.sample.graphs.primitive;
+
+import name.sample.graphs.Edge;
+import name.sample.graphs.UnweightedGraph;
+import name.sample.graphs.algorithm.DftPathFinder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MutableUndirectedUnweightedIntGraphTest {
+
+    private final MutableIntGraph graph = new MutableUndirectedUnweightedIntGraph();
+
+    @DisplayName("Test get correct outgoing edges")
+    @ParameterizedTest(name = "[{index}] with {argumentsWithNames} edges")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 10, 20, 50})
+    void testGetOutgoingEdges(int count) {
+        // add outgoing edges
+        for (int i = 0; i < count; ++i) {
+            for (int j = count + 1; j < count * 2 + 1; ++j) {
+                graph.putEdge(i, j);
+            }
+        }
+        // add incoming edges
+        for (int i = 0; i < count; ++i) {
+            graph.putEdge(count + i + 1, i);
+        }
+        for (int i = 0; i < count; ++i) {
+            assertEquals(count, graph.getOutDegree(i));
+            assertEquals(count, graph.getOutDegree(count + i + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Test reversed edge does exist")
+    void testReverseEdgeDoesExist() {
+        graph.putEdge(0, 1);
+        assertTrue(graph.containsEdge(0, 1));
+        assertTrue(graph.containsEdge(1, 0));
+        assertArrayEquals(new int[]{0}, graph.getNeighbors(1));
+    }
+
+    @Test
+    @DisplayName("Test adapter reports each edge once")
+    void testAdapter() {
+        graph.putEdge(0, 1);
+        graph.putEdge(1, 2);
+        graph.putEdge(2, 2);
+        final UnweightedGraph<Integer> adapter = IntGraphs.asUnweightedGraph(graph);
+        assertEquals(3, adapter.getVertices().size());
+        assertEquals(3, adapter.getEdges().size());
+        assertEquals(2, adapter.getOutgoingEdges(1).size());
+        final List<Edge<Integer>> path = new DftPathFinder<>(adapter).getPath(2, 0);
+        assertEquals(2, path.size());
+        assertEquals(2, path.get(0).getNodeA());
+        assertEquals(0, path.get(1).getNodeB());
+    }
+}